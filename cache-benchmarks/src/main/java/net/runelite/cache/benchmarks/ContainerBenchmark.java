@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Store;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class ContainerBenchmark
+{
+	private static final int[] KEYS = {0x12345678, 0x9abcdef0, 0x0fedcba9, 0x87654321};
+	private static final int ARCHIVES = 64;
+
+	@Param({"0", "1", "2"})
+	public int compression;
+
+	@Param({"false", "true"})
+	public boolean encrypted;
+
+	private byte[][] archives;
+	private int next;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		File folder = Files.createTempDirectory("cache").toFile();
+		try (Store store = new SyntheticCache(ARCHIVES, 0, 0, compression).create(folder))
+		{
+			List<Archive> models = store.getIndex(IndexType.MODELS).getArchives();
+			archives = new byte[models.size()][];
+			for (int i = 0; i < archives.length; ++i)
+			{
+				byte[] data = store.getStorage().loadArchive(models.get(i));
+				if (encrypted)
+				{
+					Container container = Container.decompress(data, null);
+					Container encryptedContainer = new Container(compression, -1);
+					encryptedContainer.compress(container.data, KEYS);
+					data = encryptedContainer.data;
+				}
+				archives[i] = data;
+			}
+		}
+		finally
+		{
+			SyntheticCache.delete(folder);
+		}
+	}
+
+	@Benchmark
+	public Container decompress() throws IOException
+	{
+		byte[] data = archives[next];
+		next = (next + 1) % archives.length;
+		return Container.decompress(data, encrypted ? KEYS : null);
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.dbtable.DBQueryEngine;
+import net.runelite.cache.definitions.DBRowDefinition;
+import net.runelite.cache.definitions.DBTableIndex;
+import net.runelite.cache.util.BaseVarType;
+import net.runelite.cache.util.ScriptVarType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link DBQueryEngine} against looking rows up directly in the
+ * {@link DBTableIndex} maps, the way the cache exposes them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class DBTableQueryBenchmark
+{
+	private static final int TABLE = 1;
+
+	@Param({"1000", "50000"})
+	public int rows;
+
+	private DBQueryEngine engine;
+	private Map<Integer, DBTableIndex> indexes;
+	private int[] intKeys;
+	private String[] stringKeys;
+	private int next;
+
+	@Setup
+	public void setup()
+	{
+		Random random = new Random(42);
+		List<DBRowDefinition> definitions = new ArrayList<>(rows);
+		for (int i = 0; i < rows; ++i)
+		{
+			DBRowDefinition row = new DBRowDefinition(i);
+			row.setTableId(TABLE);
+			row.setColumnTypes(new ScriptVarType[][]{{ScriptVarType.INTEGER}, {ScriptVarType.STRING}});
+			row.setColumnValues(new Object[][]{{random.nextInt(rows / 10)}, {"value" + random.nextInt(50)}});
+			definitions.add(row);
+		}
+
+		indexes = new HashMap<>();
+		indexes.put(0, index(definitions, 0, BaseVarType.INTEGER));
+		indexes.put(1, index(definitions, 1, BaseVarType.STRING));
+		engine = new DBQueryEngine(definitions, indexes.values());
+
+		intKeys = new int[1024];
+		stringKeys = new String[1024];
+		for (int i = 0; i < intKeys.length; ++i)
+		{
+			intKeys[i] = random.nextInt(rows / 10);
+			stringKeys[i] = "value" + random.nextInt(50);
+		}
+	}
+
+	private static DBTableIndex index(List<DBRowDefinition> rows, int column, BaseVarType type)
+	{
+		Map<Object, List<Integer>> map = new HashMap<>();
+		for (DBRowDefinition row : rows)
+		{
+			map.computeIfAbsent(row.getColumnValues()[column][0], k -> new ArrayList<>()).add(row.getId());
+		}
+
+		DBTableIndex index = new DBTableIndex(TABLE, column);
+		index.setTupleTypes(new BaseVarType[]{type});
+		List<Map<Object, List<Integer>>> tupleIndexes = new ArrayList<>();
+		tupleIndexes.add(map);
+		index.setTupleIndexes(tupleIndexes);
+		return index;
+	}
+
+	@Benchmark
+	public int singleColumnMap()
+	{
+		int key = intKeys[next++ & 1023];
+		List<Integer> ids = indexes.get(0).getTupleIndexes().get(0).get(key);
+		int sum = 0;
+		if (ids != null)
+		{
+			for (int id : ids)
+			{
+				sum += id;
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int singleColumnEngine()
+	{
+		return engine.query(TABLE).where(0, intKeys[next++ & 1023]).rowIds().sum();
+	}
+
+	@Benchmark
+	public int twoColumnsMap()
+	{
+		int i = next++ & 1023;
+		List<Integer> a = indexes.get(0).getTupleIndexes().get(0).get(intKeys[i]);
+		List<Integer> b = indexes.get(1).getTupleIndexes().get(0).get(stringKeys[i]);
+		if (a == null || b == null)
+		{
+			return 0;
+		}
+
+		Set<Integer> set = new HashSet<>(b);
+		int sum = 0;
+		for (int id : a)
+		{
+			if (set.contains(id))
+			{
+				sum += id;
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int twoColumnsEngine()
+	{
+		int i = next++ & 1023;
+		return engine.query(TABLE).where(0, intKeys[i]).where(1, stringKeys[i]).rowIds().sum();
+	}
+}
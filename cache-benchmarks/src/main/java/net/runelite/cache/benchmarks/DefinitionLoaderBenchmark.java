@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.ObjectDefinition;
+import net.runelite.cache.definitions.loaders.ItemLoader;
+import net.runelite.cache.definitions.loaders.ObjectLoader;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures decoding of all of the item and object definitions of a config
+ * archive, including unpacking the archive
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class DefinitionLoaderBenchmark
+{
+	private static final int DEFINITIONS = 20000;
+
+	private final ItemLoader itemLoader = new ItemLoader();
+	private final ObjectLoader objectLoader = new ObjectLoader();
+	private Archive itemArchive;
+	private byte[] itemData;
+	private Archive objectArchive;
+	private byte[] objectData;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		File folder = Files.createTempDirectory("cache").toFile();
+		try (Store store = new SyntheticCache(1, DEFINITIONS, DEFINITIONS, CompressionType.GZ).create(folder))
+		{
+			Index configs = store.getIndex(IndexType.CONFIGS);
+			itemArchive = configs.getArchive(ConfigType.ITEM.getId());
+			itemData = store.getStorage().loadArchive(itemArchive);
+			objectArchive = configs.getArchive(ConfigType.OBJECT.getId());
+			objectData = store.getStorage().loadArchive(objectArchive);
+		}
+		finally
+		{
+			SyntheticCache.delete(folder);
+		}
+	}
+
+	@Benchmark
+	public void items(Blackhole bh) throws IOException
+	{
+		ArchiveFiles files = itemArchive.getFiles(itemData);
+		for (FSFile file : files.getFiles())
+		{
+			ItemDefinition def = itemLoader.load(file.getFileId(), file.getContents());
+			bh.consume(def);
+		}
+	}
+
+	@Benchmark
+	public void objects(Blackhole bh) throws IOException
+	{
+		ArchiveFiles files = objectArchive.getFiles(objectData);
+		for (FSFile file : files.getFiles())
+		{
+			ObjectDefinition def = objectLoader.load(file.getFileId(), file.getContents());
+			bh.consume(def);
+		}
+	}
+}
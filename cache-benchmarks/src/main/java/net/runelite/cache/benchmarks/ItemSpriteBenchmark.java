@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.ItemManager;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.TextureDefinition;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.item.ItemSpriteFactory;
+import net.runelite.cache.item.ItemSpriteRenderer;
+import net.runelite.cache.item.ItemSpriteRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures item sprite throughput, in sprites per second, of rendering
+ * every item one at a time with {@link ItemSpriteFactory} compared to
+ * rendering them as a batch with {@link ItemSpriteRenderer}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class ItemSpriteBenchmark
+{
+	private static final int ITEMS = 2000;
+	private static final int MODELS = 128;
+
+	@Param({"1", "4"})
+	public int threads;
+
+	private ItemManager itemManager;
+	private final Map<Integer, byte[]> models = new HashMap<>();
+	private final ModelProvider modelProvider = modelId ->
+	{
+		byte[] data = models.get(modelId);
+		return data == null ? null : new ModelLoader().load(modelId, data);
+	};
+	private final TextureProvider textureProvider = () -> new TextureDefinition[0];
+	private final List<ItemSpriteRequest> requests = new ArrayList<>();
+	private ExecutorService executor;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		File folder = Files.createTempDirectory("cache").toFile();
+		try (Store store = new SyntheticCache(MODELS, ITEMS, 0, CompressionType.GZ).create(folder))
+		{
+			itemManager = new ItemManager(store);
+			itemManager.load();
+			itemManager.link();
+
+			for (Archive archive : store.getIndex(IndexType.MODELS).getArchives())
+			{
+				models.put(archive.getArchiveId(), archive.decompress(store.getStorage().loadArchive(archive)));
+			}
+		}
+		finally
+		{
+			SyntheticCache.delete(folder);
+		}
+
+		for (ItemDefinition item : itemManager.getItems())
+		{
+			requests.add(new ItemSpriteRequest(item.id, 1, 1, 0x302020, false));
+		}
+
+		executor = Executors.newFixedThreadPool(threads);
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		executor.shutdown();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ITEMS)
+	public void single(Blackhole bh) throws IOException
+	{
+		for (ItemSpriteRequest request : requests)
+		{
+			BufferedImage image = ItemSpriteFactory.createSprite(itemManager, modelProvider, null, textureProvider,
+				request.getItemId(), request.getQuantity(), request.getBorder(), request.getShadowColor(), request.isNoted());
+			bh.consume(image);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ITEMS)
+	public List<BufferedImage> batch() throws IOException
+	{
+		ItemSpriteRenderer renderer = new ItemSpriteRenderer(itemManager, modelProvider, null, textureProvider);
+		return renderer.render(requests, executor);
+	}
+}
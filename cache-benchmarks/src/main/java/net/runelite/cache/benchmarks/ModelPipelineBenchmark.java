@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmarks;
+
+import java.io.File;
+import com.sun.management.ThreadMXBean;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.models.ModelPipeline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decodes every model of a synthetic cache, reporting models per second. The
+ * bytes allocated per model by the benchmark and worker threads are printed
+ * at the end of each trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class ModelPipelineBenchmark
+{
+	private static final int MODELS = 1024;
+
+	@Param({"1", "4"})
+	public int workers;
+
+	@Param({"false", "true"})
+	public boolean pooled;
+
+	private File folder;
+	private Store store;
+	private ModelPipeline pipeline;
+	private ExecutorService executor;
+	private final LongAdder sink = new LongAdder();
+	private final LongAdder models = new LongAdder();
+	private final List<Thread> threads = new CopyOnWriteArrayList<>();
+	private long allocatedAtStart;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		folder = Files.createTempDirectory("cache").toFile();
+		new SyntheticCache(MODELS, 0, 0, CompressionType.GZ).create(folder).close();
+
+		store = new Store(folder);
+		store.load();
+
+		pipeline = new ModelPipeline(store);
+		pipeline.setWorkers(workers);
+		pipeline.setPooled(pooled);
+		executor = Executors.newFixedThreadPool(workers, r ->
+		{
+			Thread thread = new Thread(r);
+			thread.setDaemon(true);
+			threads.add(thread);
+			return thread;
+		});
+
+		threads.add(Thread.currentThread());
+		allocatedAtStart = allocatedBytes();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		System.out.printf("%nbytes allocated per model: %d%n", (allocatedBytes() - allocatedAtStart) / Math.max(models.sum(), 1));
+
+		executor.shutdown();
+		store.close();
+		SyntheticCache.delete(folder);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(MODELS)
+	public long pipeline() throws IOException
+	{
+		pipeline.forEach(executor, this::consume);
+		return sink.sum();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(MODELS)
+	public long sequential() throws IOException
+	{
+		ModelLoader loader = new ModelLoader();
+		for (Archive archive : store.getIndex(IndexType.MODELS).getArchives())
+		{
+			byte[] contents = archive.decompress(store.getStorage().loadArchive(archive));
+			consume(loader.load(archive.getArchiveId(), contents));
+		}
+		return sink.sum();
+	}
+
+	private void consume(ModelDefinition model)
+	{
+		// a stand in for a consumer which reads the geometry, such as an exporter
+		long sum = 0;
+		for (int i = 0; i < model.faceCount; ++i)
+		{
+			sum += model.vertexX[model.faceIndices1[i]] + model.vertexNormals[model.faceIndices2[i]].y;
+		}
+		sink.add(sum);
+		models.increment();
+	}
+
+	private long allocatedBytes()
+	{
+		ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long total = 0;
+		for (Thread thread : threads)
+		{
+			total += Math.max(threadMXBean.getThreadAllocatedBytes(thread.getId()), 0);
+		}
+		return total;
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.fs.pack.ContentPack;
+import net.runelite.cache.fs.pack.PackStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Loads random archives of a synthetic cache from a {@link DiskStorage} and
+ * from a {@link PackStorage} revision imported from it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class PackStorageBenchmark
+{
+	private static final int MODELS = 4096;
+
+	@Param({"disk", "pack"})
+	public String storage;
+
+	private File cacheFolder;
+	private File packFolder;
+	private ContentPack pack;
+	private Store store;
+	private List<Archive> archives;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		cacheFolder = Files.createTempDirectory("cache").toFile();
+		new SyntheticCache(MODELS, 0, 0, CompressionType.GZ).create(cacheFolder).close();
+
+		packFolder = Files.createTempDirectory("pack").toFile();
+		pack = new ContentPack(packFolder);
+
+		if (storage.equals("pack"))
+		{
+			ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+			try (Store from = new Store(new DiskStorage(cacheFolder, true));
+				Store to = new Store(new PackStorage(pack, "synthetic")))
+			{
+				from.load();
+				from.copyTo(to, executor);
+			}
+			finally
+			{
+				executor.shutdown();
+			}
+
+			store = new Store(new PackStorage(pack, "synthetic"));
+		}
+		else
+		{
+			store = new Store(new DiskStorage(cacheFolder, true));
+		}
+
+		store.load();
+		archives = store.getIndex(IndexType.MODELS).getArchives();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		store.close();
+		pack.close();
+		SyntheticCache.delete(cacheFolder);
+		SyntheticCache.delete(packFolder);
+	}
+
+	@Benchmark
+	public byte[] load() throws IOException
+	{
+		Archive archive = archives.get(ThreadLocalRandom.current().nextInt(archives.size()));
+		return store.getStorage().loadArchive(archive);
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.definitions.ScriptDefinition;
+import net.runelite.cache.script.Instructions;
+import net.runelite.cache.script.assembler.Assembler;
+import net.runelite.cache.script.engine.ScriptEngine;
+import net.runelite.cache.script.engine.ScriptState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class ScriptEngineBenchmark
+{
+	// sums i * i % 7 for i in [0, n)
+	private static final String SCRIPT = String.join("\n",
+		".id 1",
+		".int_arg_count 1",
+		".obj_arg_count 0",
+		"   iconst 0",
+		"   istore 1",
+		"   iconst 0",
+		"   istore 2",
+		"LOOP:",
+		"   iload 2",
+		"   iload 0",
+		"   if_icmpge END",
+		"   iload 1",
+		"   iload 2",
+		"   iload 2",
+		"   multiply",
+		"   iconst 7",
+		"   mod",
+		"   add",
+		"   istore 1",
+		"   iload 2",
+		"   iconst 1",
+		"   add",
+		"   istore 2",
+		"   jump LOOP",
+		"END:",
+		"   iload 1",
+		"   return",
+		"");
+
+	@Param({"interpreted", "compiled"})
+	public String tier;
+
+	private ScriptEngine engine;
+	private final ScriptState state = new ScriptState();
+
+	@Setup
+	public void setup() throws IOException
+	{
+		Instructions instructions = new Instructions();
+		instructions.init();
+		ScriptDefinition script = new Assembler(instructions).assemble(new ByteArrayInputStream(SCRIPT.getBytes(StandardCharsets.UTF_8)));
+
+		engine = new ScriptEngine(id -> script);
+		engine.setCompileThreshold(tier.equals("compiled") ? 0 : -1);
+	}
+
+	@Benchmark
+	public int loop()
+	{
+		engine.execute(state, 1, 1000);
+		return state.popInt();
+	}
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.io.OutputStream;
+
+/**
+ * Generates a small cache with random, but deterministic, models and item
+ * and object definitions, so the benchmarks do not depend on game data.
+ */
+public class SyntheticCache
+{
+	private final Random random = new Random(42L);
+
+	private final int models;
+	private final int items;
+	private final int objects;
+	private final int compression;
+
+	/**
+	 * @param models number of models to generate
+	 * @param items number of item definitions to generate
+	 * @param objects number of object definitions to generate
+	 * @param compression compression type of the archives
+	 */
+	public SyntheticCache(int models, int items, int objects, int compression)
+	{
+		this.models = models;
+		this.items = items;
+		this.objects = objects;
+		this.compression = compression;
+	}
+
+	/**
+	 * Write the cache to a folder. The folder should be empty.
+	 *
+	 * @param folder
+	 * @return the saved store
+	 * @throws IOException
+	 */
+	public Store create(File folder) throws IOException
+	{
+		Store store = new Store(folder);
+
+		Index configs = store.addIndex(IndexType.CONFIGS.getNumber());
+		Index modelIndex = store.addIndex(IndexType.MODELS.getNumber());
+		configs.setCompression(compression);
+		modelIndex.setCompression(compression);
+
+		ArchiveFiles itemFiles = new ArchiveFiles();
+		for (int i = 0; i < items; ++i)
+		{
+			itemFiles.addFile(file(i, item(i)));
+		}
+		save(store, configs.addArchive(ConfigType.ITEM.getId()), itemFiles);
+
+		ArchiveFiles objectFiles = new ArchiveFiles();
+		for (int i = 0; i < objects; ++i)
+		{
+			objectFiles.addFile(file(i, object(i)));
+		}
+		save(store, configs.addArchive(ConfigType.OBJECT.getId()), objectFiles);
+
+		for (int i = 0; i < models; ++i)
+		{
+			ArchiveFiles files = new ArchiveFiles();
+			files.addFile(file(0, model(50 + random.nextInt(500), 50 + random.nextInt(800))));
+			save(store, modelIndex.addArchive(i), files);
+		}
+
+		store.save();
+		return store;
+	}
+
+	/**
+	 * Generate model data to use as a compression input
+	 *
+	 * @param length length of the data
+	 * @return
+	 */
+	public byte[] sample(int length)
+	{
+		byte[] data = new byte[length];
+		for (int offset = 0; offset < length; )
+		{
+			byte[] model = model(50 + random.nextInt(500), 50 + random.nextInt(800));
+			int len = Math.min(model.length, length - offset);
+			System.arraycopy(model, 0, data, offset, len);
+			offset += len;
+		}
+		return data;
+	}
+
+	/**
+	 * Delete a folder created for a synthetic cache
+	 *
+	 * @param folder
+	 * @throws IOException
+	 */
+	public static void delete(File folder) throws IOException
+	{
+		try (Stream<Path> paths = Files.walk(folder.toPath()))
+		{
+			for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator)
+			{
+				Files.delete(path);
+			}
+		}
+	}
+
+	private static FSFile file(int id, byte[] contents)
+	{
+		FSFile file = new FSFile(id);
+		file.setContents(contents);
+		return file;
+	}
+
+	private void save(Store store, Archive archive, ArchiveFiles files) throws IOException
+	{
+		FileData[] fileData = new FileData[files.getFiles().size()];
+		int i = 0;
+		for (FSFile file : files.getFiles())
+		{
+			FileData fd = fileData[i++] = new FileData();
+			fd.setId(file.getFileId());
+		}
+		archive.setFileData(fileData);
+		archive.setCompression(compression);
+
+		Container container = new Container(compression, -1);
+		container.compress(files.saveContents(), null);
+		archive.setCrc(container.crc);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+
+	private byte[] item(int id)
+	{
+		OutputStream out = new OutputStream();
+		out.writeByte(1);
+		out.writeShort(random.nextInt(models));
+		out.writeByte(2);
+		out.writeString("Item " + id);
+		out.writeByte(4);
+		out.writeShort(1000 + random.nextInt(1000));
+		out.writeByte(5);
+		out.writeShort(random.nextInt(2048));
+		out.writeByte(6);
+		out.writeShort(random.nextInt(2048));
+		out.writeByte(12);
+		out.writeInt(random.nextInt(100000));
+		if (random.nextBoolean())
+		{
+			out.writeByte(11); // stackable
+		}
+		out.writeByte(30 + random.nextInt(5));
+		out.writeString("Use");
+		out.writeByte(35);
+		out.writeString("Drop");
+		int recolors = random.nextInt(4);
+		if (recolors > 0)
+		{
+			out.writeByte(40);
+			out.writeByte(recolors);
+			for (int i = 0; i < recolors; ++i)
+			{
+				out.writeShort(random.nextInt(0x10000));
+				out.writeShort(random.nextInt(0x10000));
+			}
+		}
+		out.writeByte(0);
+		return out.flip();
+	}
+
+	private byte[] object(int id)
+	{
+		OutputStream out = new OutputStream();
+		int count = 1 + random.nextInt(3);
+		out.writeByte(1);
+		out.writeByte(count);
+		for (int i = 0; i < count; ++i)
+		{
+			out.writeShort(random.nextInt(models));
+			out.writeByte(10 + i);
+		}
+		out.writeByte(2);
+		out.writeString("Object " + id);
+		out.writeByte(14);
+		out.writeByte(1 + random.nextInt(3));
+		out.writeByte(15);
+		out.writeByte(1 + random.nextInt(3));
+		out.writeByte(30);
+		out.writeString("Open");
+		if (random.nextBoolean())
+		{
+			out.writeByte(17); // not solid
+		}
+		out.writeByte(0);
+		return out.flip();
+	}
+
+	/**
+	 * Encode a model in the original model format, with random vertices and
+	 * faces
+	 */
+	private byte[] model(int vertexCount, int faceCount)
+	{
+		int[] vertexX = new int[vertexCount];
+		int[] vertexY = new int[vertexCount];
+		int[] vertexZ = new int[vertexCount];
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			vertexX[i] = random.nextInt(512) - 256;
+			vertexY[i] = random.nextInt(512) - 256;
+			vertexZ[i] = random.nextInt(512) - 256;
+		}
+
+		OutputStream faceData = new OutputStream();
+		int previous = 0;
+		for (int i = 0; i < faceCount; ++i)
+		{
+			// compression type 1, three vertices each relative to the previous
+			int a = random.nextInt(vertexCount);
+			int b = random.nextInt(vertexCount);
+			int c = random.nextInt(vertexCount);
+			writeShortSmart(faceData, a - previous);
+			writeShortSmart(faceData, b - a);
+			writeShortSmart(faceData, c - b);
+			previous = c;
+		}
+
+		OutputStream[] vertexData = {new OutputStream(), new OutputStream(), new OutputStream()};
+		int[][] vertices = {vertexX, vertexY, vertexZ};
+		for (int axis = 0; axis < 3; ++axis)
+		{
+			int last = 0;
+			for (int i = 0; i < vertexCount; ++i)
+			{
+				writeShortSmart(vertexData[axis], vertices[axis][i] - last);
+				last = vertices[axis][i];
+			}
+		}
+
+		byte[] faces = faceData.flip();
+		byte[] x = vertexData[0].flip();
+		byte[] y = vertexData[1].flip();
+		byte[] z = vertexData[2].flip();
+
+		OutputStream out = new OutputStream();
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			out.writeByte(7); // x, y, and z deltas present
+		}
+		for (int i = 0; i < faceCount; ++i)
+		{
+			out.writeByte(1);
+		}
+		out.writeBytes(faces);
+		for (int i = 0; i < faceCount; ++i)
+		{
+			out.writeShort(random.nextInt(0x10000));
+		}
+		out.writeBytes(x);
+		out.writeBytes(y);
+		out.writeBytes(z);
+
+		out.writeShort(vertexCount);
+		out.writeShort(faceCount);
+		out.writeByte(0); // texture count
+		out.writeByte(0); // textured
+		out.writeByte(0); // priority
+		out.writeByte(0); // transparencies
+		out.writeByte(0); // transparency groups
+		out.writeByte(0); // vertex groups
+		out.writeShort(x.length);
+		out.writeShort(y.length);
+		out.writeShort(z.length);
+		out.writeShort(faces.length);
+		return out.flip();
+	}
+
+	private static void writeShortSmart(OutputStream out, int value)
+	{
+		if (value >= -64 && value < 64)
+		{
+			out.writeByte(value + 64);
+		}
+		else
+		{
+			out.writeShort(value + 0xC000);
+		}
+	}
+}
@@ -24,9 +24,24 @@
  */
 package net.runelite.cache;
 
+import com.google.gson.GsonBuilder;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CacheVerifier;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.fs.jagex.VerificationReport;
+import net.runelite.cache.fs.patch.CacheDiff;
+import net.runelite.cache.fs.patch.CachePatch;
+import net.runelite.cache.fs.patch.CachePatcher;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -45,6 +60,10 @@ public class Cache
 		options.addOption(null, "npcs", true, "directory to dump npcs to");
 		options.addOption(null, "objects", true, "directory to dump objects to");
 		options.addOption(null, "sprites", true, "directory to dump sprites to");
+		options.addOption(null, "compact", true, "directory to write a compacted copy of the cache to");
+		options.addOption(null, "diff", true, "older cache to diff the cache against, the patch is written to --patch");
+		options.addOption(null, "patch", true, "patch file to write with --diff, or to apply to the cache");
+		options.addOption(null, "verify", false, "verify the archives against the reference tables and print the mismatches as json");
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -61,6 +80,45 @@ public class Cache
 
 		String cache = cmd.getOptionValue("cache");
 
+		if (cmd.hasOption("compact"))
+		{
+			String compactdir = cmd.getOptionValue("compact");
+
+			System.out.println("Compacting cache to " + compactdir);
+			compact(new File(cache), new File(compactdir));
+			return;
+		}
+
+		if (cmd.hasOption("patch"))
+		{
+			File patchFile = new File(cmd.getOptionValue("patch"));
+
+			if (cmd.hasOption("diff"))
+			{
+				String fromdir = cmd.getOptionValue("diff");
+
+				System.out.println("Writing patch from " + fromdir + " to " + patchFile);
+				diff(new File(fromdir), new File(cache), patchFile);
+			}
+			else
+			{
+				System.out.println("Applying patch " + patchFile);
+				patch(new File(cache), patchFile);
+			}
+			return;
+		}
+
+		if (cmd.hasOption("verify"))
+		{
+			VerificationReport report = verify(new File(cache));
+			System.out.println(new GsonBuilder().setPrettyPrinting().create().toJson(report));
+			if (!report.isValid())
+			{
+				System.exit(1);
+			}
+			return;
+		}
+
 		Store store = loadStore(cache);
 
 		if (cmd.hasOption("items"))
@@ -128,6 +186,59 @@ public class Cache
 		return store;
 	}
 
+	private static void compact(File cache, File compactdir) throws IOException
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		try (DiskStorage storage = new DiskStorage(cache, true))
+		{
+			compactdir.mkdirs();
+			storage.compact(compactdir, executor);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	private static void diff(File fromdir, File cache, File patchFile) throws IOException
+	{
+		try (Store from = loadStore(fromdir.getPath());
+			Store to = loadStore(cache.getPath());
+			OutputStream out = new BufferedOutputStream(new FileOutputStream(patchFile)))
+		{
+			CachePatch patch = CacheDiff.diff(from, to);
+			patch.write(out);
+			System.out.println("Patch has " + patch.getIndexes().size() + " indexes and " + patch.getArchiveCount() + " archives");
+		}
+	}
+
+	private static void patch(File cache, File patchFile) throws IOException
+	{
+		CachePatch patch;
+		try (InputStream in = new BufferedInputStream(new FileInputStream(patchFile)))
+		{
+			patch = CachePatch.read(in);
+		}
+
+		try (Store store = loadStore(cache.getPath()))
+		{
+			CachePatcher.apply(patch, store);
+		}
+	}
+
+	private static VerificationReport verify(File cache) throws IOException
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		try (DiskStorage storage = new DiskStorage(cache, true))
+		{
+			return new CacheVerifier(storage).verify(executor);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
 	private static void dumpItems(Store store, File itemdir) throws IOException
 	{
 		ItemManager dumper = new ItemManager(store);
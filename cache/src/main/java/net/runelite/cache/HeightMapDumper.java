@@ -27,6 +27,7 @@ package net.runelite.cache;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.util.concurrent.Executor;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
@@ -56,6 +57,19 @@ public class HeightMapDumper
 		regionLoader.calculateBounds();
 	}
 
+	/**
+	 * Load the regions, decoding them on the given executor
+	 *
+	 * @param keyProvider
+	 * @param executor
+	 */
+	public void load(KeyProvider keyProvider, Executor executor)
+	{
+		regionLoader = new RegionLoader(store, keyProvider);
+		regionLoader.loadRegions(executor);
+		regionLoader.calculateBounds();
+	}
+
 	public BufferedImage drawHeightMap(int z)
 	{
 		int minX = regionLoader.getLowestX().getBaseX();
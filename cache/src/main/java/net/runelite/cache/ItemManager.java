@@ -26,9 +26,11 @@ package net.runelite.cache;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import net.runelite.cache.definitions.ItemDefinition;
 import net.runelite.cache.definitions.exporters.ItemExporter;
@@ -46,6 +48,8 @@ public class ItemManager implements ItemProvider
 {
 	private final Store store;
 	private final Map<Integer, ItemDefinition> items = new HashMap<>();
+	private LazyDefinitions<ItemDefinition> lazyItems;
+	private boolean linked;
 
 	public ItemManager(Store store)
 	{
@@ -70,8 +74,51 @@ public class ItemManager implements ItemProvider
 		}
 	}
 
+	/**
+	 * Prepare to decode items on demand instead of all up front. Decoded
+	 * items are cached, up to cacheSize of them.
+	 *
+	 * @param cacheSize maximum number of decoded items to keep
+	 * @throws IOException
+	 */
+	public void loadLazy(int cacheSize) throws IOException
+	{
+		ItemLoader loader = new ItemLoader();
+
+		Storage storage = store.getStorage();
+		Index index = store.getIndex(IndexType.CONFIGS);
+		Archive archive = index.getArchive(ConfigType.ITEM.getId());
+
+		byte[] archiveData = storage.loadArchive(archive);
+		lazyItems = new LazyDefinitions<>(archive.getFileTable(archiveData), (id, data) ->
+		{
+			ItemDefinition def = loader.load(id, data);
+			if (linked)
+			{
+				link(def);
+			}
+			return def;
+		}, cacheSize);
+	}
+
+	/**
+	 * @return the lazily decoded items, or null if the items were not loaded with {@link #loadLazy(int)}
+	 */
+	public LazyDefinitions<ItemDefinition> getLazyItems()
+	{
+		return lazyItems;
+	}
+
 	public void link()
 	{
+		if (lazyItems != null)
+		{
+			// items are linked as they are decoded
+			linked = true;
+			lazyItems.invalidate();
+			return;
+		}
+
 		for (ItemDefinition oc : items.values())
 		{
 			link(oc);
@@ -94,13 +141,32 @@ public class ItemManager implements ItemProvider
 		}
 	}
 
+	/**
+	 * Get all items. If loaded lazily, every item is decoded, without
+	 * being cached.
+	 */
 	public Collection<ItemDefinition> getItems()
 	{
+		if (lazyItems != null)
+		{
+			List<ItemDefinition> defs = new ArrayList<>(lazyItems.size());
+			for (int id : lazyItems.getIds())
+			{
+				defs.add(lazyItems.decode(id));
+			}
+			return Collections.unmodifiableList(defs);
+		}
+
 		return Collections.unmodifiableCollection(items.values());
 	}
 
 	public ItemDefinition getItem(int itemId)
 	{
+		if (lazyItems != null)
+		{
+			return lazyItems.get(itemId);
+		}
+
 		return items.get(itemId);
 	}
 
@@ -108,7 +174,7 @@ public class ItemManager implements ItemProvider
 	{
 		out.mkdirs();
 
-		for (ItemDefinition def : items.values())
+		for (ItemDefinition def : getItems())
 		{
 			ItemExporter exporter = new ItemExporter(def);
 
@@ -123,7 +189,7 @@ public class ItemManager implements ItemProvider
 		try (IDClass ids = IDClass.create(java, "ItemID");
 			IDClass nulls = IDClass.create(java, "NullItemID"))
 		{
-			for (ItemDefinition def : items.values())
+			for (ItemDefinition def : getItems())
 			{
 				if (def.name.equalsIgnoreCase("NULL"))
 				{
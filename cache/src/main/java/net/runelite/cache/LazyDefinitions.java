@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.runelite.cache.fs.ArchiveFileTable;
+
+/**
+ * Definitions of a config archive which are only decoded when they are
+ * first requested. The archive is kept in its decompressed form, and
+ * decoded definitions are held in a size bounded cache.
+ */
+public class LazyDefinitions<T>
+{
+	public interface Decoder<T>
+	{
+		T decode(int id, byte[] data);
+	}
+
+	private final ArchiveFileTable files;
+	private final Decoder<T> decoder;
+	private final Cache<Integer, T> cache;
+
+	public LazyDefinitions(ArchiveFileTable files, Decoder<T> decoder, int cacheSize)
+	{
+		this.files = files;
+		this.decoder = decoder;
+		this.cache = CacheBuilder.newBuilder()
+			.maximumSize(cacheSize)
+			.recordStats()
+			.build();
+	}
+
+	/**
+	 * @param id
+	 * @return the definition, or null if there is none with the id
+	 */
+	public T get(int id)
+	{
+		T def = cache.getIfPresent(id);
+		if (def != null)
+		{
+			return def;
+		}
+
+		byte[] data = files.getContents(id);
+		if (data == null)
+		{
+			return null;
+		}
+
+		// decode outside of the cache, decoders may look up other definitions
+		def = decoder.decode(id, data);
+		cache.put(id, def);
+		return def;
+	}
+
+	/**
+	 * Decode a definition without caching it
+	 *
+	 * @param id
+	 * @return the definition, or null if there is none with the id
+	 */
+	public T decode(int id)
+	{
+		byte[] data = files.getContents(id);
+		return data == null ? null : decoder.decode(id, data);
+	}
+
+	public int[] getIds()
+	{
+		return files.getFileIds();
+	}
+
+	public int size()
+	{
+		return files.getFileCount();
+	}
+
+	/**
+	 * Drop all cached definitions
+	 */
+	public void invalidate()
+	{
+		cache.invalidateAll();
+	}
+
+	/**
+	 * @return the number of definitions currently cached
+	 */
+	public int getCacheSize()
+	{
+		return (int) cache.size();
+	}
+
+	public long getHits()
+	{
+		return cache.stats().hitCount();
+	}
+
+	public long getMisses()
+	{
+		return cache.stats().missCount();
+	}
+}
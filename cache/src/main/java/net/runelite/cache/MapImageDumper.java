@@ -50,6 +50,7 @@ import net.runelite.cache.definitions.WorldMapElementDefinition;
 import net.runelite.cache.definitions.loaders.OverlayLoader;
 import net.runelite.cache.definitions.loaders.SpriteLoader;
 import net.runelite.cache.definitions.loaders.UnderlayLoader;
+import net.runelite.cache.definitions.providers.ObjectProvider;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
 import net.runelite.cache.fs.FSFile;
@@ -97,6 +98,10 @@ public class MapImageDumper
 	private final WorldMapManager worldMapManager;
 	private RSTextureProvider rsTextureProvider;
 	private final ObjectManager objectManager;
+	private final ObjectProvider objectProvider;
+	// providers such as ColumnarObjectStore decode a new definition on every call, and each
+	// region looks its objects up once per pass, so keep the ones already decoded
+	private final Map<Integer, ObjectDefinition> objects = new HashMap<>();
 
 	@Getter
 	@Setter
@@ -144,6 +149,18 @@ public class MapImageDumper
 	}
 
 	public MapImageDumper(Store store, RegionLoader regionLoader)
+	{
+		this(store, regionLoader, null);
+	}
+
+	/**
+	 * @param store
+	 * @param regionLoader
+	 * @param objectProvider object definitions to use, such as a
+	 * {@link net.runelite.cache.definitions.columnar.ColumnarObjectStore}, or
+	 * null to load them from the store
+	 */
+	public MapImageDumper(Store store, RegionLoader regionLoader, ObjectProvider objectProvider)
 	{
 		this.store = store;
 		this.regionLoader = regionLoader;
@@ -151,7 +168,8 @@ public class MapImageDumper
 		this.sprites = new SpriteManager(store);
 		this.fonts = new FontManager(store);
 		this.worldMapManager = new WorldMapManager(store);
-		this.objectManager = new ObjectManager(store);
+		this.objectManager = objectProvider == null ? new ObjectManager(store) : null;
+		this.objectProvider = objectProvider == null ? objectManager : objectProvider;
 	}
 
 	public static void main(String[] args) throws IOException
@@ -217,7 +235,10 @@ public class MapImageDumper
 	{
 		loadUnderlays(store);
 		loadOverlays(store);
-		objectManager.load();
+		if (objectManager != null)
+		{
+			objectManager.load();
+		}
 
 		TextureManager textureManager = new TextureManager(store);
 		textureManager.load();
@@ -230,9 +251,45 @@ public class MapImageDumper
 		fonts.load();
 		worldMapManager.load();
 
+		prepareSharedState();
+
 		return this;
 	}
 
+	/**
+	 * Initialize state which would otherwise be lazily modified while
+	 * drawing, so that tiles can be drawn concurrently
+	 */
+	private void prepareSharedState()
+	{
+		if (TILE_SHAPE_2D == null)
+		{
+			generateTileShapes();
+		}
+
+		for (SpriteDefinition sprite : mapDecorations)
+		{
+			if (sprite != null)
+			{
+				sprite.normalize();
+			}
+		}
+
+		for (AreaDefinition area : areas.getAreas())
+		{
+			SpriteDefinition sprite = sprites.findSprite(area.spriteId, 0);
+			if (sprite != null)
+			{
+				sprite.normalize();
+			}
+		}
+	}
+
+	public RegionLoader getRegionLoader()
+	{
+		return regionLoader;
+	}
+
 	public BufferedImage drawMap(int z)
 	{
 		int minX = regionLoader.getLowestX().getBaseX();
@@ -264,7 +321,57 @@ public class MapImageDumper
 		drawMap(image, z);
 		drawObjects(image, z);
 		drawMapIcons(image, z);
-		drawMapLabels(image, z);
+		drawMapLabels(image, z, regionLoader.getLowestX().getBaseX(), regionLoader.getHighestY().getBaseY(), null);
+
+		return image;
+	}
+
+	/**
+	 * Draw a single region as a tile of the map. Unlike {@link #drawRegion(Region, int)}, objects, icons
+	 * and labels which overhang from the neighboring regions are included, so the tiles of all regions
+	 * can be drawn independently and put side by side to form the map. This is safe to call concurrently
+	 * once {@link #load()} has completed.
+	 *
+	 * @param regionX region x coordinate
+	 * @param regionY region y coordinate
+	 * @param z plane
+	 * @return the tile, or null if there is no region at the given coordinates
+	 */
+	public BufferedImage drawTile(int regionX, int regionY, int z)
+	{
+		Region region = regionLoader.findRegionForRegionCoordinates(regionX, regionY);
+		if (region == null)
+		{
+			return null;
+		}
+
+		BufferedImage image = new BufferedImage(Region.X * MAP_SCALE, Region.Y * MAP_SCALE, transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+		drawMap(image, 0, 0, z, region);
+
+		drawNeighborObjects(image, regionX, regionY, -1, -1, z);
+		drawNeighborObjects(image, regionX, regionY, -1, 0, z);
+		drawNeighborObjects(image, regionX, regionY, -1, 1, z);
+		drawNeighborObjects(image, regionX, regionY, 0, -1, z);
+		drawObjects(image, 0, 0, region, z);
+		drawNeighborObjects(image, regionX, regionY, 0, 1, z);
+		drawNeighborObjects(image, regionX, regionY, 1, -1, z);
+		drawNeighborObjects(image, regionX, regionY, 1, 0, z);
+		drawNeighborObjects(image, regionX, regionY, 1, 1, z);
+
+		for (int dx = -1; dx <= 1; ++dx)
+		{
+			for (int dy = -1; dy <= 1; ++dy)
+			{
+				Region neighbor = regionLoader.findRegionForRegionCoordinates(regionX + dx, regionY + dy);
+				if (neighbor != null)
+				{
+					drawMapIcons(image, Region.X * dx, Region.Y * -dy, neighbor, z);
+				}
+			}
+		}
+
+		drawMapLabels(image, z, region.getBaseX(), region.getBaseY(), region);
 
 		return image;
 	}
@@ -1581,7 +1688,14 @@ public class MapImageDumper
 		}
 	}
 
-	private void drawMapLabels(BufferedImage image, int z)
+	/**
+	 * @param image image to draw to
+	 * @param z plane
+	 * @param baseX world x coordinate of the left of the image
+	 * @param baseY world y coordinate of the bottom of the top most region of the image
+	 * @param near if not null, only draw the labels within one region of this region
+	 */
+	private void drawMapLabels(BufferedImage image, int z, int baseX, int baseY, Region near)
 	{
 		if (!renderLabels)
 		{
@@ -1599,6 +1713,12 @@ public class MapImageDumper
 				continue;
 			}
 
+			if (near != null && (Math.abs(worldPosition.getX() / Region.X - near.getRegionX()) > 1
+				|| Math.abs(worldPosition.getY() / Region.Y - near.getRegionY()) > 1))
+			{
+				continue;
+			}
+
 			FontName fontSize = fontSizes[area.getTextScale()];
 			FontDefinition font = fonts.findFontByName(fontSize.getName());
 			String areaLabel = area.getName();
@@ -1615,8 +1735,8 @@ public class MapImageDumper
 					SpriteDefinition sprite = sprites.findSpriteByArchiveName(fontSize.getName(), c);
 					if (sprite.getWidth() != 0 && sprite.getHeight() != 0)
 					{
-						int drawX = worldPosition.getX() - regionLoader.getLowestX().getBaseX();
-						int drawY = regionLoader.getHighestY().getBaseY() - worldPosition.getY() + Region.Y - 2;
+						int drawX = worldPosition.getX() - baseX;
+						int drawY = baseY - worldPosition.getY() + Region.Y - 2;
 						blitGlyph(image,
 							(drawX * MAP_SCALE) + advance - (stringWidth / 2),
 							(drawY * MAP_SCALE) + ascent - (font.getAscent() / 2),
@@ -1634,7 +1754,7 @@ public class MapImageDumper
 
 	private ObjectDefinition findObject(int id)
 	{
-		return objectManager.getObject(id);
+		return objects.computeIfAbsent(id, objectProvider::provide);
 	}
 
 	private int packHslFull(int hue, int saturation, int light)
@@ -1904,24 +2024,31 @@ public class MapImageDumper
 
 	private void blitGlyph(BufferedImage dst, int x, int y, int color, SpriteDefinition glyph)
 	{
+		// the glyph is shared between threads drawing tiles, so color a copy of it
 		int[] pixels = glyph.getPixels();
+		int[] colorPixels = new int[pixels.length];
 		int[] shadowPixels = new int[pixels.length];
 		for (int i = 0; i < pixels.length; ++i)
 		{
 			if (pixels[i] != 0)
 			{
-				pixels[i] = color;
+				colorPixels[i] = color;
 				shadowPixels[i] = 0xFF000000;
 			}
 		}
-		SpriteDefinition shadow = new SpriteDefinition();
-		shadow.setPixels(shadowPixels);
-		shadow.setOffsetX(glyph.getOffsetX());
-		shadow.setOffsetY(glyph.getOffsetY());
-		shadow.setWidth(glyph.getWidth());
-		shadow.setHeight(glyph.getHeight());
 
-		blitGlyphIcon(dst, x + 1, y + 1, shadow);
-		blitGlyphIcon(dst, x, y, glyph);
+		blitGlyphIcon(dst, x + 1, y + 1, copyGlyph(glyph, shadowPixels));
+		blitGlyphIcon(dst, x, y, copyGlyph(glyph, colorPixels));
+	}
+
+	private static SpriteDefinition copyGlyph(SpriteDefinition glyph, int[] pixels)
+	{
+		SpriteDefinition copy = new SpriteDefinition();
+		copy.setPixels(pixels);
+		copy.setOffsetX(glyph.getOffsetX());
+		copy.setOffsetY(glyph.getOffsetY());
+		copy.setWidth(glyph.getWidth());
+		copy.setHeight(glyph.getHeight());
+		return copy;
 	}
 }
@@ -0,0 +1,448 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.imageio.ImageIO;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.region.Region;
+import net.runelite.cache.util.XteaKeyManager;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+/**
+ * Dumps the map as a pyramid of tiles instead of as one image.
+ * <p>
+ * Zoom level 0 has one tile per region, drawn with {@link MapImageDumper#drawTile(int, int, int)}.
+ * Each following level halves the resolution, with tile (x, y) made from tiles (2x, 2y) to
+ * (2x + 1, 2y + 1) of the previous level. Tile coordinates are region coordinates shifted by the
+ * zoom level, so y increases northward. Tiles are written to {@code <z>/<level>/<x>_<y>.png}, and
+ * each thread only holds the few tiles it is working on in memory.
+ */
+@Slf4j
+public class MapTileDumper
+{
+	private static final String MANIFEST = "tiles.manifest";
+
+	private final MapImageDumper dumper;
+
+	public MapTileDumper(MapImageDumper dumper)
+	{
+		this.dumper = dumper;
+	}
+
+	public static void main(String[] args) throws IOException
+	{
+		Options options = new Options();
+		options.addOption(Option.builder().longOpt("cachedir").hasArg().required().build());
+		options.addOption(Option.builder().longOpt("xteapath").hasArg().required().build());
+		options.addOption(Option.builder().longOpt("outputdir").hasArg().required().build());
+		options.addOption(Option.builder().longOpt("threads").hasArg().build());
+		options.addOption(Option.builder().longOpt("zoomlevels").hasArg().build());
+		options.addOption(Option.builder().longOpt("incremental").build());
+
+		CommandLineParser parser = new DefaultParser();
+		CommandLine cmd;
+		try
+		{
+			cmd = parser.parse(options, args);
+		}
+		catch (ParseException ex)
+		{
+			System.err.println("Error parsing command line options: " + ex.getMessage());
+			System.exit(-1);
+			return;
+		}
+
+		final String cacheDirectory = cmd.getOptionValue("cachedir");
+		final String xteaJSONPath = cmd.getOptionValue("xteapath");
+		final String outputDirectory = cmd.getOptionValue("outputdir");
+		final int threads = Integer.parseInt(cmd.getOptionValue("threads", Integer.toString(Runtime.getRuntime().availableProcessors())));
+		final int zoomLevels = Integer.parseInt(cmd.getOptionValue("zoomlevels", "4"));
+		final boolean incremental = cmd.hasOption("incremental");
+
+		XteaKeyManager xteaKeyManager = new XteaKeyManager();
+		try (FileInputStream fin = new FileInputStream(xteaJSONPath))
+		{
+			xteaKeyManager.loadKeys(fin);
+		}
+
+		File base = new File(cacheDirectory);
+		File outDir = new File(outputDirectory);
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			MapImageDumper dumper = new MapImageDumper(store, xteaKeyManager);
+			dumper.load();
+
+			MapTileDumper tileDumper = new MapTileDumper(dumper);
+			MapTileInputs inputs = null;
+			if (incremental)
+			{
+				inputs = tileDumper.createInputs(store);
+			}
+
+			for (int z = 0; z < Region.Z; ++z)
+			{
+				tileDumper.dumpTiles(z, zoomLevels, outDir, executor, inputs);
+				log.info("Wrote tiles for plane {}", z);
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Create and load the tile inputs for incremental dumps with the current settings of the dumper
+	 */
+	public MapTileInputs createInputs(Store store) throws IOException
+	{
+		String settings = "labelRegions=" + dumper.isLabelRegions()
+			+ ",outlineRegions=" + dumper.isOutlineRegions()
+			+ ",renderMap=" + dumper.isRenderMap()
+			+ ",renderObjects=" + dumper.isRenderObjects()
+			+ ",renderIcons=" + dumper.isRenderIcons()
+			+ ",renderWalls=" + dumper.isRenderWalls()
+			+ ",renderOverlays=" + dumper.isRenderOverlays()
+			+ ",renderLabels=" + dumper.isRenderLabels()
+			+ ",transparency=" + dumper.isTransparency();
+
+		MapTileInputs inputs = new MapTileInputs(store, dumper.getRegionLoader());
+		inputs.load(settings);
+		return inputs;
+	}
+
+	/**
+	 * Draw and write all tiles of a plane
+	 *
+	 * @param z plane
+	 * @param zoomLevels number of zoom levels above the full resolution level
+	 * @param outDir directory to write tiles to
+	 * @param executor executor to draw tiles on
+	 * @throws IOException
+	 */
+	public void dumpTiles(int z, int zoomLevels, File outDir, Executor executor) throws IOException
+	{
+		dumpTiles(z, zoomLevels, outDir, executor, null);
+	}
+
+	/**
+	 * Draw and write the tiles of a plane. If tile inputs are given, the fingerprint of each tile is
+	 * recorded in a manifest next to the tiles, and only tiles whose fingerprint changed since the
+	 * previous run are redrawn, along with the tiles of the higher zoom levels which contain them.
+	 *
+	 * @param z plane
+	 * @param zoomLevels number of zoom levels above the full resolution level
+	 * @param outDir directory to write tiles to
+	 * @param executor executor to draw tiles on
+	 * @param inputs loaded tile inputs, or null to redraw every tile
+	 * @throws IOException
+	 */
+	public void dumpTiles(int z, int zoomLevels, File outDir, Executor executor, MapTileInputs inputs) throws IOException
+	{
+		TreeSet<Long> tiles = new TreeSet<>();
+		for (Region region : dumper.getRegionLoader().getRegions())
+		{
+			tiles.add(pack(region.getRegionX(), region.getRegionY()));
+		}
+
+		File manifestFile = new File(outDir, z + File.separator + MANIFEST);
+		Map<Long, Long> previous = inputs != null ? readManifest(manifestFile) : Collections.emptyMap();
+		Map<Long, Long> current = new ConcurrentHashMap<>();
+
+		File levelDir = levelDir(outDir, z, 0);
+		levelDir.mkdirs();
+
+		// tiles which have been redrawn or removed
+		Set<Long> dirty = ConcurrentHashMap.newKeySet();
+		for (long tile : previous.keySet())
+		{
+			if (!tiles.contains(tile))
+			{
+				Files.deleteIfExists(tileFile(levelDir, unpackX(tile), unpackY(tile)).toPath());
+				dirty.add(tile);
+			}
+		}
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>(tiles.size());
+		for (long tile : tiles)
+		{
+			int x = unpackX(tile);
+			int y = unpackY(tile);
+			File file = tileFile(levelDir, x, y);
+			futures.add(CompletableFuture.runAsync(() ->
+			{
+				if (inputs != null)
+				{
+					long fingerprint = inputs.fingerprint(x, y);
+					current.put(tile, fingerprint);
+
+					Long previousFingerprint = previous.get(tile);
+					if (previousFingerprint != null && previousFingerprint == fingerprint && file.exists())
+					{
+						return;
+					}
+				}
+
+				BufferedImage image = dumper.drawTile(x, y, z);
+				write(image, file);
+				dirty.add(tile);
+			}, executor));
+		}
+		join(futures);
+
+		log.debug("Drew {} of {} tiles for plane {}", dirty.size(), tiles.size(), z);
+
+		Set<Long> allTiles = new TreeSet<>(tiles);
+		allTiles.addAll(dirty);
+		for (int level = 1; level <= zoomLevels; ++level)
+		{
+			TreeSet<Long> parents = new TreeSet<>();
+			for (long tile : tiles)
+			{
+				parents.add(pack(unpackX(tile) >> 1, unpackY(tile) >> 1));
+			}
+
+			Set<Long> dirtyParents = new TreeSet<>();
+			for (long tile : allTiles)
+			{
+				long parent = pack(unpackX(tile) >> 1, unpackY(tile) >> 1);
+				if (inputs == null || dirty.contains(tile) || !tileFile(levelDir(outDir, z, level), unpackX(parent), unpackY(parent)).exists())
+				{
+					dirtyParents.add(parent);
+				}
+			}
+
+			File childDir = levelDir;
+			levelDir = levelDir(outDir, z, level);
+			levelDir.mkdirs();
+
+			final File parentDir = levelDir;
+			futures.clear();
+			for (long tile : dirtyParents)
+			{
+				int x = unpackX(tile);
+				int y = unpackY(tile);
+				File file = tileFile(parentDir, x, y);
+				if (!parents.contains(tile))
+				{
+					// all of the children of this tile have been removed
+					Files.deleteIfExists(file.toPath());
+					continue;
+				}
+
+				futures.add(CompletableFuture.runAsync(() -> write(downscale(childDir, x, y), file), executor));
+			}
+			join(futures);
+
+			allTiles = new TreeSet<>(parents);
+			allTiles.addAll(dirtyParents);
+			tiles = parents;
+			dirty.clear();
+			dirty.addAll(dirtyParents);
+		}
+
+		if (inputs != null)
+		{
+			writeManifest(manifestFile, current);
+		}
+	}
+
+	private static Map<Long, Long> readManifest(File file) throws IOException
+	{
+		Map<Long, Long> manifest = new HashMap<>();
+		if (!file.exists())
+		{
+			return manifest;
+		}
+
+		for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8))
+		{
+			// x_y=fingerprint
+			int under = line.indexOf('_');
+			int eq = line.indexOf('=');
+			if (under == -1 || eq == -1)
+			{
+				continue;
+			}
+
+			int x = Integer.parseInt(line.substring(0, under));
+			int y = Integer.parseInt(line.substring(under + 1, eq));
+			long fingerprint = Long.parseUnsignedLong(line.substring(eq + 1), 16);
+			manifest.put(pack(x, y), fingerprint);
+		}
+		return manifest;
+	}
+
+	private static void writeManifest(File file, Map<Long, Long> manifest) throws IOException
+	{
+		List<String> lines = new ArrayList<>(manifest.size());
+		for (Map.Entry<Long, Long> entry : new TreeMap<>(manifest).entrySet())
+		{
+			long tile = entry.getKey();
+			lines.add(unpackX(tile) + "_" + unpackY(tile) + "=" + Long.toHexString(entry.getValue()));
+		}
+
+		File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+		Files.write(tmp.toPath(), lines, StandardCharsets.UTF_8);
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private BufferedImage downscale(File childDir, int x, int y)
+	{
+		BufferedImage[][] children = new BufferedImage[2][2];
+		int size = 0;
+		for (int dx = 0; dx < 2; ++dx)
+		{
+			for (int dy = 0; dy < 2; ++dy)
+			{
+				File file = tileFile(childDir, x * 2 + dx, y * 2 + dy);
+				if (file.exists())
+				{
+					children[dx][dy] = read(file);
+					size = children[dx][dy].getWidth();
+				}
+			}
+		}
+
+		BufferedImage image = new BufferedImage(size, size, dumper.isTransparency() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+
+		int half = size / 2;
+		for (int dx = 0; dx < 2; ++dx)
+		{
+			for (int dy = 0; dy < 2; ++dy)
+			{
+				if (children[dx][dy] != null)
+				{
+					// y increases northward, so the child with the greater y is drawn at the top
+					graphics.drawImage(children[dx][dy], dx * half, (1 - dy) * half, half, half, null);
+				}
+			}
+		}
+
+		graphics.dispose();
+		return image;
+	}
+
+	private static void join(List<CompletableFuture<Void>> futures) throws IOException
+	{
+		try
+		{
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+		}
+		catch (CompletionException ex)
+		{
+			if (ex.getCause() instanceof UncheckedIOException)
+			{
+				throw ((UncheckedIOException) ex.getCause()).getCause();
+			}
+			throw ex;
+		}
+	}
+
+	private static BufferedImage read(File file)
+	{
+		try
+		{
+			return ImageIO.read(file);
+		}
+		catch (IOException ex)
+		{
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static void write(BufferedImage image, File file)
+	{
+		try
+		{
+			ImageIO.write(image, "png", file);
+		}
+		catch (IOException ex)
+		{
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static File levelDir(File outDir, int z, int level)
+	{
+		return new File(outDir, z + File.separator + level);
+	}
+
+	private static File tileFile(File dir, int x, int y)
+	{
+		return new File(dir, x + "_" + y + ".png");
+	}
+
+	private static long pack(int x, int y)
+	{
+		return ((long) x << 32) | (y & 0xFFFFFFFFL);
+	}
+
+	private static int unpackX(long tile)
+	{
+		return (int) (tile >> 32);
+	}
+
+	private static int unpackY(long tile)
+	{
+		return (int) tile;
+	}
+}
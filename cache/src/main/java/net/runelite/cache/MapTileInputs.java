@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.region.Location;
+import net.runelite.cache.region.Region;
+import net.runelite.cache.region.RegionLoader;
+
+/**
+ * Fingerprints the cache data a map tile is drawn from, so that tiles can
+ * be redrawn only when their inputs change.
+ * <p>
+ * A tile's fingerprint covers the crcs of the map and location archives of
+ * its region and the neighboring regions, the underlay, overlay and object
+ * definitions referenced by those regions, and a global part covering the
+ * sprites, textures, fonts, areas and world map data used by every tile.
+ */
+public class MapTileInputs
+{
+	// bump when the way tiles are drawn changes
+	private static final int VERSION = 1;
+
+	private final Store store;
+	private final RegionLoader regionLoader;
+	private final Index maps;
+	private final Map<Integer, Integer> underlayCrcs = new HashMap<>();
+	private final Map<Integer, Integer> overlayCrcs = new HashMap<>();
+	private final Map<Integer, Integer> objectCrcs = new HashMap<>();
+	private long globalFingerprint;
+
+	public MapTileInputs(Store store, RegionLoader regionLoader)
+	{
+		this.store = store;
+		this.regionLoader = regionLoader;
+		this.maps = store.getIndex(IndexType.MAPS);
+	}
+
+	/**
+	 * @param settings the render settings of the dumper, which are included in the fingerprint of every tile
+	 */
+	public void load(String settings) throws IOException
+	{
+		loadCrcs(ConfigType.UNDERLAY, underlayCrcs);
+		loadCrcs(ConfigType.OVERLAY, overlayCrcs);
+		loadCrcs(ConfigType.OBJECT, objectCrcs);
+
+		Index configs = store.getIndex(IndexType.CONFIGS);
+		Hasher hasher = Hashing.murmur3_128().newHasher()
+			.putInt(VERSION)
+			.putUnencodedChars(settings)
+			.putInt(configs.getArchive(ConfigType.AREA.getId()).getCrc());
+		for (IndexType type : new IndexType[]{IndexType.SPRITES, IndexType.TEXTURES, IndexType.FONTS, IndexType.WORLDMAP, IndexType.CLIENTSCRIPT})
+		{
+			Index index = store.getIndex(type);
+			hasher.putInt(index == null ? 0 : index.getCrc());
+		}
+		globalFingerprint = hasher.hash().asLong();
+	}
+
+	private void loadCrcs(ConfigType type, Map<Integer, Integer> crcs) throws IOException
+	{
+		Index configs = store.getIndex(IndexType.CONFIGS);
+		Archive archive = configs.getArchive(type.getId());
+		ArchiveFiles files = archive.getFiles(store.getStorage().loadArchive(archive));
+
+		CRC32 crc32 = new CRC32();
+		for (FSFile file : files.getFiles())
+		{
+			crc32.reset();
+			crc32.update(file.getContents());
+			crcs.put(file.getFileId(), (int) crc32.getValue());
+		}
+	}
+
+	/**
+	 * Compute the fingerprint of the tile of the given region. Safe to call concurrently after {@link #load(String)}.
+	 *
+	 * @param regionX region x coordinate
+	 * @param regionY region y coordinate
+	 * @return
+	 */
+	public long fingerprint(int regionX, int regionY)
+	{
+		Hasher hasher = Hashing.murmur3_128().newHasher()
+			.putLong(globalFingerprint);
+
+		for (int dx = -1; dx <= 1; ++dx)
+		{
+			for (int dy = -1; dy <= 1; ++dy)
+			{
+				int x = regionX + dx;
+				int y = regionY + dy;
+				Region region = regionLoader.findRegionForRegionCoordinates(x, y);
+				if (region == null)
+				{
+					hasher.putInt(-1);
+					continue;
+				}
+
+				Archive map = maps.findArchiveByName("m" + x + "_" + y);
+				Archive land = maps.findArchiveByName("l" + x + "_" + y);
+				hasher.putInt(map == null ? 0 : map.getCrc());
+				hasher.putInt(land == null ? 0 : land.getCrc());
+				hasher.putInt(region.getLocations().size());
+
+				// the map archive crc covers the ids, so only the definitions used need to be hashed
+				BitSet underlays = new BitSet();
+				BitSet overlays = new BitSet();
+				for (int z = 0; z < Region.Z; ++z)
+				{
+					for (int lx = 0; lx < Region.X; ++lx)
+					{
+						for (int ly = 0; ly < Region.Y; ++ly)
+						{
+							underlays.set(region.getUnderlayId(z, lx, ly));
+							overlays.set(region.getOverlayId(z, lx, ly));
+						}
+					}
+				}
+
+				for (int id = underlays.nextSetBit(1); id >= 0; id = underlays.nextSetBit(id + 1))
+				{
+					hasher.putInt(underlayCrcs.getOrDefault(id - 1, 0));
+				}
+
+				for (int id = overlays.nextSetBit(1); id >= 0; id = overlays.nextSetBit(id + 1))
+				{
+					hasher.putInt(overlayCrcs.getOrDefault(id - 1, 0));
+				}
+
+				for (Location location : region.getLocations())
+				{
+					hasher.putInt(objectCrcs.getOrDefault(location.getId(), 0));
+				}
+			}
+		}
+
+		return hasher.hash().asLong();
+	}
+}
@@ -26,13 +26,16 @@ package net.runelite.cache;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import net.runelite.cache.definitions.NpcDefinition;
 import net.runelite.cache.definitions.exporters.NpcExporter;
 import net.runelite.cache.definitions.loaders.NpcLoader;
+import net.runelite.cache.definitions.providers.NpcProvider;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
 import net.runelite.cache.fs.FSFile;
@@ -41,10 +44,11 @@ import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.IDClass;
 
-public class NpcManager
+public class NpcManager implements NpcProvider
 {
 	private final Store store;
 	private final Map<Integer, NpcDefinition> npcs = new HashMap<>();
+	private LazyDefinitions<NpcDefinition> lazyNpcs;
 
 	public NpcManager(Store store)
 	{
@@ -71,13 +75,61 @@ public class NpcManager
 		}
 	}
 
+	/**
+	 * Prepare to decode npcs on demand instead of all up front. Decoded
+	 * npcs are cached, up to cacheSize of them.
+	 *
+	 * @param cacheSize maximum number of decoded npcs to keep
+	 * @throws IOException
+	 */
+	public void loadLazy(int cacheSize) throws IOException
+	{
+		NpcLoader loader = new NpcLoader();
+
+		Storage storage = store.getStorage();
+		Index index = store.getIndex(IndexType.CONFIGS);
+		Archive archive = index.getArchive(ConfigType.NPC.getId());
+
+		loader.configureForRevision(archive.getRevision());
+
+		byte[] archiveData = storage.loadArchive(archive);
+		lazyNpcs = new LazyDefinitions<>(archive.getFileTable(archiveData), loader::load, cacheSize);
+	}
+
+	/**
+	 * @return the lazily decoded npcs, or null if the npcs were not loaded with {@link #loadLazy(int)}
+	 */
+	public LazyDefinitions<NpcDefinition> getLazyNpcs()
+	{
+		return lazyNpcs;
+	}
+
+	/**
+	 * Get all npcs. If loaded lazily, every npc is decoded, without
+	 * being cached.
+	 */
 	public Collection<NpcDefinition> getNpcs()
 	{
+		if (lazyNpcs != null)
+		{
+			List<NpcDefinition> defs = new ArrayList<>(lazyNpcs.size());
+			for (int id : lazyNpcs.getIds())
+			{
+				defs.add(lazyNpcs.decode(id));
+			}
+			return Collections.unmodifiableList(defs);
+		}
+
 		return Collections.unmodifiableCollection(npcs.values());
 	}
 
 	public NpcDefinition get(int npcId)
 	{
+		if (lazyNpcs != null)
+		{
+			return lazyNpcs.get(npcId);
+		}
+
 		return npcs.get(npcId);
 	}
 
@@ -85,7 +137,7 @@ public class NpcManager
 	{
 		out.mkdirs();
 
-		for (NpcDefinition def : npcs.values())
+		for (NpcDefinition def : getNpcs())
 		{
 			NpcExporter exporter = new NpcExporter(def);
 
@@ -100,7 +152,7 @@ public class NpcManager
 		try (IDClass ids = IDClass.create(java, "NpcID");
 			IDClass nulls = IDClass.create(java, "NullNpcID"))
 		{
-			for (NpcDefinition def : npcs.values())
+			for (NpcDefinition def : getNpcs())
 			{
 				if (def.name.equalsIgnoreCase("NULL"))
 				{
@@ -113,4 +165,10 @@ public class NpcManager
 			}
 		}
 	}
+
+	@Override
+	public NpcDefinition provide(int npcId)
+	{
+		return get(npcId);
+	}
 }
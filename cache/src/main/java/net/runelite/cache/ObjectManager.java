@@ -26,13 +26,16 @@ package net.runelite.cache;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import net.runelite.cache.definitions.ObjectDefinition;
 import net.runelite.cache.definitions.exporters.ObjectExporter;
 import net.runelite.cache.definitions.loaders.ObjectLoader;
+import net.runelite.cache.definitions.providers.ObjectProvider;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.ArchiveFiles;
 import net.runelite.cache.fs.FSFile;
@@ -41,10 +44,11 @@ import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.util.IDClass;
 
-public class ObjectManager
+public class ObjectManager implements ObjectProvider
 {
 	private final Store store;
 	private final Map<Integer, ObjectDefinition> objects = new HashMap<>();
+	private LazyDefinitions<ObjectDefinition> lazyObjects;
 
 	public ObjectManager(Store store)
 	{
@@ -71,13 +75,61 @@ public class ObjectManager
 		}
 	}
 
+	/**
+	 * Prepare to decode objects on demand instead of all up front. Decoded
+	 * objects are cached, up to cacheSize of them.
+	 *
+	 * @param cacheSize maximum number of decoded objects to keep
+	 * @throws IOException
+	 */
+	public void loadLazy(int cacheSize) throws IOException
+	{
+		ObjectLoader loader = new ObjectLoader();
+
+		Storage storage = store.getStorage();
+		Index index = store.getIndex(IndexType.CONFIGS);
+		Archive archive = index.getArchive(ConfigType.OBJECT.getId());
+
+		loader.configureForRevision(archive.getRevision());
+
+		byte[] archiveData = storage.loadArchive(archive);
+		lazyObjects = new LazyDefinitions<>(archive.getFileTable(archiveData), loader::load, cacheSize);
+	}
+
+	/**
+	 * @return the lazily decoded objects, or null if the objects were not loaded with {@link #loadLazy(int)}
+	 */
+	public LazyDefinitions<ObjectDefinition> getLazyObjects()
+	{
+		return lazyObjects;
+	}
+
+	/**
+	 * Get all objects. If loaded lazily, every object is decoded, without
+	 * being cached.
+	 */
 	public Collection<ObjectDefinition> getObjects()
 	{
+		if (lazyObjects != null)
+		{
+			List<ObjectDefinition> defs = new ArrayList<>(lazyObjects.size());
+			for (int id : lazyObjects.getIds())
+			{
+				defs.add(lazyObjects.decode(id));
+			}
+			return Collections.unmodifiableList(defs);
+		}
+
 		return Collections.unmodifiableCollection(objects.values());
 	}
 
 	public ObjectDefinition getObject(int id)
 	{
+		if (lazyObjects != null)
+		{
+			return lazyObjects.get(id);
+		}
+
 		return objects.get(id);
 	}
 
@@ -85,7 +137,7 @@ public class ObjectManager
 	{
 		out.mkdirs();
 
-		for (ObjectDefinition def : objects.values())
+		for (ObjectDefinition def : getObjects())
 		{
 			ObjectExporter exporter = new ObjectExporter(def);
 
@@ -100,7 +152,7 @@ public class ObjectManager
 		try (IDClass ids = IDClass.create(java, "ObjectID");
 			IDClass nulls = IDClass.create(java, "NullObjectID"))
 		{
-			for (ObjectDefinition def : objects.values())
+			for (ObjectDefinition def : getObjects())
 			{
 				if ("null".equals(def.getName()))
 				{
@@ -113,4 +165,10 @@ public class ObjectManager
 			}
 		}
 	}
+
+	@Override
+	public ObjectDefinition provide(int objectId)
+	{
+		return getObject(objectId);
+	}
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.dbtable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import net.runelite.cache.definitions.DBRowDefinition;
+
+/**
+ * A query over the rows of a db table, filtered by the values of one or more
+ * columns. Filters on indexed columns are answered from the column indexes,
+ * other filters by checking the values of each candidate row.
+ * <p>
+ * Columns hold tuples, and a filter matches a row if any of the column's
+ * tuples has the value in the given field. Unindexed filters only see values
+ * set on the row itself, not the table defaults.
+ */
+public class DBQuery
+{
+	private final DBQueryEngine engine;
+	private final int tableId;
+	private final List<int[]> indexed = new ArrayList<>();
+	private final List<Predicate<DBRowDefinition>> unindexed = new ArrayList<>();
+
+	DBQuery(DBQueryEngine engine, int tableId)
+	{
+		this.engine = engine;
+		this.tableId = tableId;
+	}
+
+	public DBQuery where(int columnId, int value)
+	{
+		return where(columnId, 0, value);
+	}
+
+	public DBQuery where(int columnId, int field, int value)
+	{
+		IntColumnIndex index = engine.getIntIndex(tableId, columnId, field);
+		if (index != null)
+		{
+			indexed.add(index.get(value));
+		}
+		else
+		{
+			checkNotStringIndexed(columnId, field);
+			unindexed.add(row -> contains(row, columnId, field, value));
+		}
+		return this;
+	}
+
+	public DBQuery where(int columnId, String value)
+	{
+		return where(columnId, 0, value);
+	}
+
+	public DBQuery where(int columnId, int field, String value)
+	{
+		StringColumnIndex index = engine.getStringIndex(tableId, columnId, field);
+		if (index != null)
+		{
+			indexed.add(index.get(value));
+		}
+		else
+		{
+			if (engine.getIntIndex(tableId, columnId, field) != null)
+			{
+				throw new IllegalArgumentException("column " + columnId + " field " + field + " of table " + tableId + " holds ints");
+			}
+			unindexed.add(row -> contains(row, columnId, field, value));
+		}
+		return this;
+	}
+
+	/**
+	 * @return the ids of the matching rows, in ascending order
+	 */
+	public IntStream rowIds()
+	{
+		int[][] lists = indexed.toArray(new int[0][]);
+		// drive the query from the most selective filter
+		Arrays.sort(lists, Comparator.comparingInt(l -> l.length));
+
+		IntStream ids;
+		int first;
+		if (lists.length > 0)
+		{
+			ids = Arrays.stream(lists[0]);
+			first = 1;
+		}
+		else
+		{
+			ids = Arrays.stream(engine.getTableRows(tableId));
+			first = 0;
+		}
+
+		for (int i = first; i < lists.length; ++i)
+		{
+			int[] list = lists[i];
+			ids = ids.filter(id -> Arrays.binarySearch(list, id) >= 0);
+		}
+
+		if (!unindexed.isEmpty())
+		{
+			List<Predicate<DBRowDefinition>> predicates = new ArrayList<>(unindexed);
+			ids = ids.filter(id ->
+			{
+				DBRowDefinition row = engine.getRow(id);
+				for (Predicate<DBRowDefinition> predicate : predicates)
+				{
+					if (!predicate.test(row))
+					{
+						return false;
+					}
+				}
+				return true;
+			});
+		}
+
+		return ids;
+	}
+
+	/**
+	 * @return the matching rows, ordered by id
+	 */
+	public Stream<DBRowDefinition> rows()
+	{
+		return rowIds().mapToObj(engine::getRow);
+	}
+
+	public int count()
+	{
+		return (int) rowIds().count();
+	}
+
+	/**
+	 * @return the id of the first matching row, or -1 if there are none
+	 */
+	public int first()
+	{
+		return rowIds().findFirst().orElse(-1);
+	}
+
+	private void checkNotStringIndexed(int columnId, int field)
+	{
+		if (engine.getStringIndex(tableId, columnId, field) != null)
+		{
+			throw new IllegalArgumentException("column " + columnId + " field " + field + " of table " + tableId + " holds strings");
+		}
+	}
+
+	private static boolean contains(DBRowDefinition row, int columnId, int field, Object value)
+	{
+		Object[][] columnValues = row.getColumnValues();
+		if (columnValues == null || columnId >= columnValues.length || columnValues[columnId] == null)
+		{
+			return false;
+		}
+
+		Object[] values = columnValues[columnId];
+		int width = row.getColumnTypes()[columnId].length;
+		for (int i = field; i < values.length; i += width)
+		{
+			if (value.equals(values[i]))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.dbtable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.cache.DBRowManager;
+import net.runelite.cache.DBTableIndexManager;
+import net.runelite.cache.definitions.DBRowDefinition;
+import net.runelite.cache.definitions.DBTableIndex;
+import net.runelite.cache.util.BaseVarType;
+
+/**
+ * Runs queries against db tables. The db table indexes are converted once
+ * into {@link IntColumnIndex} and {@link StringColumnIndex}es holding
+ * sorted, unboxed row ids, which queries intersect.
+ * <p>
+ * The engine is immutable once built, and may be queried from multiple threads.
+ */
+public class DBQueryEngine
+{
+	private static final int[] EMPTY = new int[0];
+
+	private final DBRowDefinition[] rows;
+	private final Map<Integer, int[]> tableRows = new HashMap<>();
+	private final Map<Long, IntColumnIndex> intIndexes = new HashMap<>();
+	private final Map<Long, StringColumnIndex> stringIndexes = new HashMap<>();
+
+	public DBQueryEngine(DBRowManager rowManager, DBTableIndexManager indexManager)
+	{
+		this(rowManager.getRows(), indexManager.getIndexes());
+	}
+
+	public DBQueryEngine(Collection<DBRowDefinition> rows, Collection<DBTableIndex> indexes)
+	{
+		int maxId = -1;
+		for (DBRowDefinition row : rows)
+		{
+			maxId = Math.max(maxId, row.getId());
+		}
+
+		this.rows = new DBRowDefinition[maxId + 1];
+		Map<Integer, List<Integer>> tables = new HashMap<>();
+		for (DBRowDefinition row : rows)
+		{
+			this.rows[row.getId()] = row;
+			tables.computeIfAbsent(row.getTableId(), k -> new ArrayList<>()).add(row.getId());
+		}
+
+		for (Map.Entry<Integer, List<Integer>> entry : tables.entrySet())
+		{
+			int[] ids = toArray(entry.getValue());
+			Arrays.sort(ids);
+			tableRows.put(entry.getKey(), ids);
+		}
+
+		for (DBTableIndex index : indexes)
+		{
+			if (index.getColumnId() < 0)
+			{
+				// master index, the table rows are taken from the rows themselves
+				continue;
+			}
+
+			BaseVarType[] types = index.getTupleTypes();
+			List<Map<Object, List<Integer>>> tupleIndexes = index.getTupleIndexes();
+			for (int field = 0; field < types.length; ++field)
+			{
+				long key = key(index.getTableId(), index.getColumnId(), field);
+				Map<Object, List<Integer>> valueToRows = tupleIndexes.get(field);
+
+				if (types[field] == BaseVarType.INTEGER)
+				{
+					int[] values = new int[valueToRows.size()];
+					int[][] valueRows = new int[valueToRows.size()][];
+					int i = 0;
+					for (Map.Entry<Object, List<Integer>> entry : valueToRows.entrySet())
+					{
+						values[i] = (Integer) entry.getKey();
+						valueRows[i++] = toArray(entry.getValue());
+					}
+					intIndexes.put(key, new IntColumnIndex(values, valueRows));
+				}
+				else if (types[field] == BaseVarType.STRING)
+				{
+					Map<String, int[]> valueRows = new HashMap<>(valueToRows.size());
+					for (Map.Entry<Object, List<Integer>> entry : valueToRows.entrySet())
+					{
+						valueRows.put((String) entry.getKey(), toArray(entry.getValue()));
+					}
+					stringIndexes.put(key, new StringColumnIndex(valueRows));
+				}
+				// rows never hold long values, so long indexes are not useful to query
+			}
+		}
+	}
+
+	/**
+	 * Start a query over the rows of a table
+	 *
+	 * @param tableId
+	 * @return the query, which matches every row of the table until filtered
+	 */
+	public DBQuery query(int tableId)
+	{
+		return new DBQuery(this, tableId);
+	}
+
+	/**
+	 * @param rowId
+	 * @return the row, or null if there is none
+	 */
+	public DBRowDefinition getRow(int rowId)
+	{
+		return rowId >= 0 && rowId < rows.length ? rows[rowId] : null;
+	}
+
+	/**
+	 * @param tableId
+	 * @return the sorted ids of the rows of the table. The array must not be modified.
+	 */
+	int[] getTableRows(int tableId)
+	{
+		return tableRows.getOrDefault(tableId, EMPTY);
+	}
+
+	/**
+	 * @return the index of an int tuple field of a column, or null if it is not indexed
+	 */
+	public IntColumnIndex getIntIndex(int tableId, int columnId, int field)
+	{
+		return intIndexes.get(key(tableId, columnId, field));
+	}
+
+	/**
+	 * @return the index of a string tuple field of a column, or null if it is not indexed
+	 */
+	public StringColumnIndex getStringIndex(int tableId, int columnId, int field)
+	{
+		return stringIndexes.get(key(tableId, columnId, field));
+	}
+
+	private static long key(int tableId, int columnId, int field)
+	{
+		return (long) tableId << 32 | (long) (columnId & 0xFFFF) << 16 | field & 0xFFFF;
+	}
+
+	private static int[] toArray(List<Integer> list)
+	{
+		int[] array = new int[list.size()];
+		for (int i = 0; i < array.length; ++i)
+		{
+			array[i] = list.get(i);
+		}
+		return array;
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.dbtable;
+
+import java.util.Arrays;
+
+/**
+ * An index from int values to the sorted ids of the rows containing them,
+ * stored in an open addressed hash table without boxing.
+ */
+public class IntColumnIndex
+{
+	private static final int[] EMPTY = new int[0];
+
+	private final int[] keys;
+	// index + 1 into rows, 0 for an empty slot
+	private final int[] slots;
+	private final int[][] rows;
+	private final int mask;
+
+	IntColumnIndex(int[] values, int[][] rows)
+	{
+		int capacity = Integer.highestOneBit(Math.max(values.length, 1) * 2 - 1) << 1;
+		this.keys = new int[capacity];
+		this.slots = new int[capacity];
+		this.rows = new int[values.length][];
+		this.mask = capacity - 1;
+
+		for (int i = 0; i < values.length; ++i)
+		{
+			int[] r = rows[i].clone();
+			Arrays.sort(r);
+			this.rows[i] = r;
+
+			int slot = hash(values[i]) & mask;
+			while (slots[slot] != 0)
+			{
+				if (keys[slot] == values[i])
+				{
+					throw new IllegalArgumentException("duplicate value " + values[i]);
+				}
+				slot = (slot + 1) & mask;
+			}
+			keys[slot] = values[i];
+			slots[slot] = i + 1;
+		}
+	}
+
+	/**
+	 * @param value
+	 * @return the sorted ids of the rows with the value. The array must not
+	 * be modified.
+	 */
+	public int[] get(int value)
+	{
+		int slot = hash(value) & mask;
+		while (slots[slot] != 0)
+		{
+			if (keys[slot] == value)
+			{
+				return rows[slots[slot] - 1];
+			}
+			slot = (slot + 1) & mask;
+		}
+		return EMPTY;
+	}
+
+	/**
+	 * @return the number of distinct values in the index
+	 */
+	public int size()
+	{
+		return rows.length;
+	}
+
+	private static int hash(int value)
+	{
+		int h = value * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.dbtable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An index from string values to the sorted ids of the rows containing them
+ */
+public class StringColumnIndex
+{
+	private static final int[] EMPTY = new int[0];
+
+	private final Map<String, int[]> rows;
+
+	StringColumnIndex(Map<String, int[]> rows)
+	{
+		this.rows = new HashMap<>(rows.size() * 4 / 3 + 1);
+		for (Map.Entry<String, int[]> entry : rows.entrySet())
+		{
+			int[] r = entry.getValue().clone();
+			Arrays.sort(r);
+			this.rows.put(entry.getKey(), r);
+		}
+	}
+
+	/**
+	 * @param value
+	 * @return the sorted ids of the rows with the value. The array must not
+	 * be modified.
+	 */
+	public int[] get(String value)
+	{
+		return rows.getOrDefault(value, EMPTY);
+	}
+
+	/**
+	 * @return the number of distinct values in the index
+	 */
+	public int size()
+	{
+		return rows.size();
+	}
+}
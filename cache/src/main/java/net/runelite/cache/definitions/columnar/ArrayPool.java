@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.columnar;
+
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Packs short and int arrays end to end into a single primitive array of
+ * each type. Equal arrays are only stored once. Arrays are referred to by an
+ * int handle, with null arrays being -1.
+ */
+final class ArrayPool
+{
+	private short[] shorts = new short[256];
+	private int shortsSize;
+	private int[] shortOffsets = new int[]{0};
+	private int shortCount;
+
+	private int[] ints = new int[256];
+	private int intsSize;
+	private int[] intOffsets = new int[]{0};
+	private int intCount;
+
+	// Buffer equality compares the remaining elements
+	private Map<ShortBuffer, Integer> shortHandles = new HashMap<>();
+	private Map<IntBuffer, Integer> intHandles = new HashMap<>();
+
+	int addShorts(short[] array)
+	{
+		if (array == null)
+		{
+			return -1;
+		}
+
+		ShortBuffer key = ShortBuffer.wrap(array.clone());
+		Integer handle = shortHandles.get(key);
+		if (handle != null)
+		{
+			return handle;
+		}
+
+		if (shortsSize + array.length > shorts.length)
+		{
+			shorts = Arrays.copyOf(shorts, Math.max(shorts.length * 2, shortsSize + array.length));
+		}
+		System.arraycopy(array, 0, shorts, shortsSize, array.length);
+		shortsSize += array.length;
+
+		if (shortCount + 1 >= shortOffsets.length)
+		{
+			shortOffsets = Arrays.copyOf(shortOffsets, shortOffsets.length * 2);
+		}
+		shortOffsets[++shortCount] = shortsSize;
+
+		handle = shortCount - 1;
+		shortHandles.put(key, handle);
+		return handle;
+	}
+
+	int addInts(int[] array)
+	{
+		if (array == null)
+		{
+			return -1;
+		}
+
+		IntBuffer key = IntBuffer.wrap(array.clone());
+		Integer handle = intHandles.get(key);
+		if (handle != null)
+		{
+			return handle;
+		}
+
+		if (intsSize + array.length > ints.length)
+		{
+			ints = Arrays.copyOf(ints, Math.max(ints.length * 2, intsSize + array.length));
+		}
+		System.arraycopy(array, 0, ints, intsSize, array.length);
+		intsSize += array.length;
+
+		if (intCount + 1 >= intOffsets.length)
+		{
+			intOffsets = Arrays.copyOf(intOffsets, intOffsets.length * 2);
+		}
+		intOffsets[++intCount] = intsSize;
+
+		handle = intCount - 1;
+		intHandles.put(key, handle);
+		return handle;
+	}
+
+	/**
+	 * @return a new copy of the array, or null
+	 */
+	short[] getShorts(int handle)
+	{
+		if (handle == -1)
+		{
+			return null;
+		}
+		return Arrays.copyOfRange(shorts, shortOffsets[handle], shortOffsets[handle + 1]);
+	}
+
+	int shortsLength(int handle)
+	{
+		return handle == -1 ? 0 : shortOffsets[handle + 1] - shortOffsets[handle];
+	}
+
+	short getShort(int handle, int index)
+	{
+		if (index < 0 || index >= shortsLength(handle))
+		{
+			throw new ArrayIndexOutOfBoundsException(index);
+		}
+		return shorts[shortOffsets[handle] + index];
+	}
+
+	/**
+	 * @return a new copy of the array, or null
+	 */
+	int[] getInts(int handle)
+	{
+		if (handle == -1)
+		{
+			return null;
+		}
+		return Arrays.copyOfRange(ints, intOffsets[handle], intOffsets[handle + 1]);
+	}
+
+	int intsLength(int handle)
+	{
+		return handle == -1 ? 0 : intOffsets[handle + 1] - intOffsets[handle];
+	}
+
+	int getInt(int handle, int index)
+	{
+		if (index < 0 || index >= intsLength(handle))
+		{
+			throw new ArrayIndexOutOfBoundsException(index);
+		}
+		return ints[intOffsets[handle] + index];
+	}
+
+	/**
+	 * Trim the backing arrays and drop the lookup tables used while building.
+	 * No arrays may be added afterwards.
+	 */
+	void freeze()
+	{
+		shorts = Arrays.copyOf(shorts, shortsSize);
+		shortOffsets = Arrays.copyOf(shortOffsets, shortCount + 1);
+		ints = Arrays.copyOf(ints, intsSize);
+		intOffsets = Arrays.copyOf(intOffsets, intCount + 1);
+		shortHandles = null;
+		intHandles = null;
+	}
+
+	/**
+	 * @return the approximate size of the pool in bytes
+	 */
+	long byteSize()
+	{
+		return shorts.length * 2L + shortOffsets.length * 4L + ints.length * 4L + intOffsets.length * 4L;
+	}
+}
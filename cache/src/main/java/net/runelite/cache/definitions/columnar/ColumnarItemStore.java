@@ -0,0 +1,652 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.columnar;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.providers.ItemProvider;
+
+/**
+ * A read-only store of item definitions, laid out in columns. Fixed width
+ * fields are kept in primitive arrays indexed by id, strings, arrays and
+ * params are interned so that repeated values are only stored once, and
+ * definitions are read through lightweight views. This uses a fraction of
+ * the memory of keeping every definition decoded, as {@link net.runelite.cache.ItemManager}
+ * does.
+ * <p>
+ * The store is immutable once built, and so is safe to share between threads.
+ */
+public class ColumnarItemStore implements ItemProvider
+{
+	private static final int FLAG_IS_TRADEABLE = 1 << 0;
+	private static final int FLAG_MEMBERS = 1 << 1;
+
+	private final DefinitionPools pools = new DefinitionPools();
+	private final BitSet ids = new BitSet();
+	private final int count;
+
+	private final int[] name;
+	private final int[] examine;
+	private final int[] unknown1;
+	private final int[] resizeX;
+	private final int[] resizeY;
+	private final int[] resizeZ;
+	private final int[] xan2d;
+	private final int[] yan2d;
+	private final int[] zan2d;
+	private final int[] cost;
+	private final int[] stackable;
+	private final int[] inventoryModel;
+	private final int[] wearPos1;
+	private final int[] wearPos2;
+	private final int[] wearPos3;
+	private final int[] colorFind;
+	private final int[] colorReplace;
+	private final int[] textureFind;
+	private final int[] textureReplace;
+	private final int[] zoom2d;
+	private final int[] xOffset2d;
+	private final int[] yOffset2d;
+	private final int[] ambient;
+	private final int[] contrast;
+	private final int[] countCo;
+	private final int[] countObj;
+	private final int[] options;
+	private final int[] subops;
+	private final int[] interfaceOptions;
+	private final int[] maleModel0;
+	private final int[] maleModel1;
+	private final int[] maleModel2;
+	private final int[] maleOffset;
+	private final int[] maleHeadModel;
+	private final int[] maleHeadModel2;
+	private final int[] femaleModel0;
+	private final int[] femaleModel1;
+	private final int[] femaleModel2;
+	private final int[] femaleOffset;
+	private final int[] femaleHeadModel;
+	private final int[] femaleHeadModel2;
+	private final int[] category;
+	private final int[] notedID;
+	private final int[] notedTemplate;
+	private final int[] team;
+	private final int[] weight;
+	private final int[] shiftClickDropIndex;
+	private final int[] boughtId;
+	private final int[] boughtTemplateId;
+	private final int[] placeholderId;
+	private final int[] placeholderTemplateId;
+	private final int[] params;
+	private final byte[] flags;
+
+	public ColumnarItemStore(Collection<ItemDefinition> definitions)
+	{
+		int length = 0;
+		for (ItemDefinition def : definitions)
+		{
+			length = Math.max(length, def.id + 1);
+		}
+
+		name = new int[length];
+		examine = new int[length];
+		unknown1 = new int[length];
+		resizeX = new int[length];
+		resizeY = new int[length];
+		resizeZ = new int[length];
+		xan2d = new int[length];
+		yan2d = new int[length];
+		zan2d = new int[length];
+		cost = new int[length];
+		stackable = new int[length];
+		inventoryModel = new int[length];
+		wearPos1 = new int[length];
+		wearPos2 = new int[length];
+		wearPos3 = new int[length];
+		colorFind = new int[length];
+		colorReplace = new int[length];
+		textureFind = new int[length];
+		textureReplace = new int[length];
+		zoom2d = new int[length];
+		xOffset2d = new int[length];
+		yOffset2d = new int[length];
+		ambient = new int[length];
+		contrast = new int[length];
+		countCo = new int[length];
+		countObj = new int[length];
+		options = new int[length];
+		subops = new int[length];
+		interfaceOptions = new int[length];
+		maleModel0 = new int[length];
+		maleModel1 = new int[length];
+		maleModel2 = new int[length];
+		maleOffset = new int[length];
+		maleHeadModel = new int[length];
+		maleHeadModel2 = new int[length];
+		femaleModel0 = new int[length];
+		femaleModel1 = new int[length];
+		femaleModel2 = new int[length];
+		femaleOffset = new int[length];
+		femaleHeadModel = new int[length];
+		femaleHeadModel2 = new int[length];
+		category = new int[length];
+		notedID = new int[length];
+		notedTemplate = new int[length];
+		team = new int[length];
+		weight = new int[length];
+		shiftClickDropIndex = new int[length];
+		boughtId = new int[length];
+		boughtTemplateId = new int[length];
+		placeholderId = new int[length];
+		placeholderTemplateId = new int[length];
+		params = new int[length];
+		flags = new byte[length];
+
+		for (ItemDefinition def : definitions)
+		{
+			int id = def.id;
+			ids.set(id);
+
+			name[id] = pools.addString(def.name);
+			examine[id] = pools.addString(def.examine);
+			unknown1[id] = pools.addString(def.unknown1);
+			resizeX[id] = def.resizeX;
+			resizeY[id] = def.resizeY;
+			resizeZ[id] = def.resizeZ;
+			xan2d[id] = def.xan2d;
+			yan2d[id] = def.yan2d;
+			zan2d[id] = def.zan2d;
+			cost[id] = def.cost;
+			stackable[id] = def.stackable;
+			inventoryModel[id] = def.inventoryModel;
+			wearPos1[id] = def.wearPos1;
+			wearPos2[id] = def.wearPos2;
+			wearPos3[id] = def.wearPos3;
+			colorFind[id] = pools.arrays.addShorts(def.colorFind);
+			colorReplace[id] = pools.arrays.addShorts(def.colorReplace);
+			textureFind[id] = pools.arrays.addShorts(def.textureFind);
+			textureReplace[id] = pools.arrays.addShorts(def.textureReplace);
+			zoom2d[id] = def.zoom2d;
+			xOffset2d[id] = def.xOffset2d;
+			yOffset2d[id] = def.yOffset2d;
+			ambient[id] = def.ambient;
+			contrast[id] = def.contrast;
+			countCo[id] = pools.arrays.addInts(def.countCo);
+			countObj[id] = pools.arrays.addInts(def.countObj);
+			options[id] = pools.addStrings(def.options);
+			subops[id] = pools.addStringArrays(def.subops);
+			interfaceOptions[id] = pools.addStrings(def.interfaceOptions);
+			maleModel0[id] = def.maleModel0;
+			maleModel1[id] = def.maleModel1;
+			maleModel2[id] = def.maleModel2;
+			maleOffset[id] = def.maleOffset;
+			maleHeadModel[id] = def.maleHeadModel;
+			maleHeadModel2[id] = def.maleHeadModel2;
+			femaleModel0[id] = def.femaleModel0;
+			femaleModel1[id] = def.femaleModel1;
+			femaleModel2[id] = def.femaleModel2;
+			femaleOffset[id] = def.femaleOffset;
+			femaleHeadModel[id] = def.femaleHeadModel;
+			femaleHeadModel2[id] = def.femaleHeadModel2;
+			category[id] = def.category;
+			notedID[id] = def.notedID;
+			notedTemplate[id] = def.notedTemplate;
+			team[id] = def.team;
+			weight[id] = def.weight;
+			shiftClickDropIndex[id] = def.shiftClickDropIndex;
+			boughtId[id] = def.boughtId;
+			boughtTemplateId[id] = def.boughtTemplateId;
+			placeholderId[id] = def.placeholderId;
+			placeholderTemplateId[id] = def.placeholderTemplateId;
+			params[id] = pools.addParams(def.params);
+
+			byte flag = 0;
+			if (def.isTradeable)
+			{
+				flag |= FLAG_IS_TRADEABLE;
+			}
+			if (def.members)
+			{
+				flag |= FLAG_MEMBERS;
+			}
+			flags[id] = (byte) flag;
+		}
+
+		count = ids.cardinality();
+		pools.freeze();
+	}
+
+	/**
+	 * @return the number of definitions in the store
+	 */
+	public int size()
+	{
+		return count;
+	}
+
+	public boolean contains(int id)
+	{
+		return id >= 0 && ids.get(id);
+	}
+
+	/**
+	 * @return the ids of all definitions in the store, in ascending order
+	 */
+	public int[] getIds()
+	{
+		return ids.stream().toArray();
+	}
+
+	/**
+	 * Get a view of a definition. Views are cheap to create and read
+	 * straight from the store.
+	 *
+	 * @param id
+	 * @return the view, or null if there is no definition with the id
+	 */
+	public ItemView get(int id)
+	{
+		return contains(id) ? new ItemView(id) : null;
+	}
+
+	/**
+	 * Decode a definition into a new, modifiable {@link ItemDefinition}, for
+	 * existing code which expects one.
+	 */
+	@Override
+	public ItemDefinition provide(int itemId)
+	{
+		if (!contains(itemId))
+		{
+			return null;
+		}
+
+		int id = itemId;
+		ItemDefinition def = new ItemDefinition(id);
+		def.name = pools.getString(name[id]);
+		def.examine = pools.getString(examine[id]);
+		def.unknown1 = pools.getString(unknown1[id]);
+		def.resizeX = resizeX[id];
+		def.resizeY = resizeY[id];
+		def.resizeZ = resizeZ[id];
+		def.xan2d = xan2d[id];
+		def.yan2d = yan2d[id];
+		def.zan2d = zan2d[id];
+		def.cost = cost[id];
+		def.isTradeable = (flags[id] & FLAG_IS_TRADEABLE) != 0;
+		def.stackable = stackable[id];
+		def.inventoryModel = inventoryModel[id];
+		def.wearPos1 = wearPos1[id];
+		def.wearPos2 = wearPos2[id];
+		def.wearPos3 = wearPos3[id];
+		def.members = (flags[id] & FLAG_MEMBERS) != 0;
+		def.colorFind = pools.arrays.getShorts(colorFind[id]);
+		def.colorReplace = pools.arrays.getShorts(colorReplace[id]);
+		def.textureFind = pools.arrays.getShorts(textureFind[id]);
+		def.textureReplace = pools.arrays.getShorts(textureReplace[id]);
+		def.zoom2d = zoom2d[id];
+		def.xOffset2d = xOffset2d[id];
+		def.yOffset2d = yOffset2d[id];
+		def.ambient = ambient[id];
+		def.contrast = contrast[id];
+		def.countCo = pools.arrays.getInts(countCo[id]);
+		def.countObj = pools.arrays.getInts(countObj[id]);
+		def.options = pools.getStrings(options[id]);
+		def.subops = pools.getStringArrays(subops[id]);
+		def.interfaceOptions = pools.getStrings(interfaceOptions[id]);
+		def.maleModel0 = maleModel0[id];
+		def.maleModel1 = maleModel1[id];
+		def.maleModel2 = maleModel2[id];
+		def.maleOffset = maleOffset[id];
+		def.maleHeadModel = maleHeadModel[id];
+		def.maleHeadModel2 = maleHeadModel2[id];
+		def.femaleModel0 = femaleModel0[id];
+		def.femaleModel1 = femaleModel1[id];
+		def.femaleModel2 = femaleModel2[id];
+		def.femaleOffset = femaleOffset[id];
+		def.femaleHeadModel = femaleHeadModel[id];
+		def.femaleHeadModel2 = femaleHeadModel2[id];
+		def.category = category[id];
+		def.notedID = notedID[id];
+		def.notedTemplate = notedTemplate[id];
+		def.team = team[id];
+		def.weight = weight[id];
+		def.shiftClickDropIndex = shiftClickDropIndex[id];
+		def.boughtId = boughtId[id];
+		def.boughtTemplateId = boughtTemplateId[id];
+		def.placeholderId = placeholderId[id];
+		def.placeholderTemplateId = placeholderTemplateId[id];
+		def.params = pools.copyParams(params[id]);
+		return def;
+	}
+
+	/**
+	 * A view of one definition in the store. Arrays returned by the view are
+	 * copies, params are shared and unmodifiable.
+	 */
+	public final class ItemView
+	{
+		private final int id;
+
+		private ItemView(int id)
+		{
+			this.id = id;
+		}
+
+		public int getId()
+		{
+			return id;
+		}
+
+		public String getName()
+		{
+			return pools.getString(name[id]);
+		}
+
+		public String getExamine()
+		{
+			return pools.getString(examine[id]);
+		}
+
+		public String getUnknown1()
+		{
+			return pools.getString(unknown1[id]);
+		}
+
+		public int getResizeX()
+		{
+			return resizeX[id];
+		}
+
+		public int getResizeY()
+		{
+			return resizeY[id];
+		}
+
+		public int getResizeZ()
+		{
+			return resizeZ[id];
+		}
+
+		public int getXan2d()
+		{
+			return xan2d[id];
+		}
+
+		public int getYan2d()
+		{
+			return yan2d[id];
+		}
+
+		public int getZan2d()
+		{
+			return zan2d[id];
+		}
+
+		public int getCost()
+		{
+			return cost[id];
+		}
+
+		public boolean isTradeable()
+		{
+			return (flags[id] & FLAG_IS_TRADEABLE) != 0;
+		}
+
+		public int getStackable()
+		{
+			return stackable[id];
+		}
+
+		public int getInventoryModel()
+		{
+			return inventoryModel[id];
+		}
+
+		public int getWearPos1()
+		{
+			return wearPos1[id];
+		}
+
+		public int getWearPos2()
+		{
+			return wearPos2[id];
+		}
+
+		public int getWearPos3()
+		{
+			return wearPos3[id];
+		}
+
+		public boolean isMembers()
+		{
+			return (flags[id] & FLAG_MEMBERS) != 0;
+		}
+
+		public short[] getColorFind()
+		{
+			return pools.arrays.getShorts(colorFind[id]);
+		}
+
+		public short[] getColorReplace()
+		{
+			return pools.arrays.getShorts(colorReplace[id]);
+		}
+
+		public short[] getTextureFind()
+		{
+			return pools.arrays.getShorts(textureFind[id]);
+		}
+
+		public short[] getTextureReplace()
+		{
+			return pools.arrays.getShorts(textureReplace[id]);
+		}
+
+		public int getZoom2d()
+		{
+			return zoom2d[id];
+		}
+
+		public int getXOffset2d()
+		{
+			return xOffset2d[id];
+		}
+
+		public int getYOffset2d()
+		{
+			return yOffset2d[id];
+		}
+
+		public int getAmbient()
+		{
+			return ambient[id];
+		}
+
+		public int getContrast()
+		{
+			return contrast[id];
+		}
+
+		public int[] getCountCo()
+		{
+			return pools.arrays.getInts(countCo[id]);
+		}
+
+		public int[] getCountObj()
+		{
+			return pools.arrays.getInts(countObj[id]);
+		}
+
+		public String[] getOptions()
+		{
+			return pools.getStrings(options[id]);
+		}
+
+		public String getOption(int index)
+		{
+			return pools.getString(options[id], index);
+		}
+
+		public String[][] getSubops()
+		{
+			return pools.getStringArrays(subops[id]);
+		}
+
+		public String[] getInterfaceOptions()
+		{
+			return pools.getStrings(interfaceOptions[id]);
+		}
+
+		public String getInterfaceOption(int index)
+		{
+			return pools.getString(interfaceOptions[id], index);
+		}
+
+		public int getMaleModel0()
+		{
+			return maleModel0[id];
+		}
+
+		public int getMaleModel1()
+		{
+			return maleModel1[id];
+		}
+
+		public int getMaleModel2()
+		{
+			return maleModel2[id];
+		}
+
+		public int getMaleOffset()
+		{
+			return maleOffset[id];
+		}
+
+		public int getMaleHeadModel()
+		{
+			return maleHeadModel[id];
+		}
+
+		public int getMaleHeadModel2()
+		{
+			return maleHeadModel2[id];
+		}
+
+		public int getFemaleModel0()
+		{
+			return femaleModel0[id];
+		}
+
+		public int getFemaleModel1()
+		{
+			return femaleModel1[id];
+		}
+
+		public int getFemaleModel2()
+		{
+			return femaleModel2[id];
+		}
+
+		public int getFemaleOffset()
+		{
+			return femaleOffset[id];
+		}
+
+		public int getFemaleHeadModel()
+		{
+			return femaleHeadModel[id];
+		}
+
+		public int getFemaleHeadModel2()
+		{
+			return femaleHeadModel2[id];
+		}
+
+		public int getCategory()
+		{
+			return category[id];
+		}
+
+		public int getNotedID()
+		{
+			return notedID[id];
+		}
+
+		public int getNotedTemplate()
+		{
+			return notedTemplate[id];
+		}
+
+		public int getTeam()
+		{
+			return team[id];
+		}
+
+		public int getWeight()
+		{
+			return weight[id];
+		}
+
+		public int getShiftClickDropIndex()
+		{
+			return shiftClickDropIndex[id];
+		}
+
+		public int getBoughtId()
+		{
+			return boughtId[id];
+		}
+
+		public int getBoughtTemplateId()
+		{
+			return boughtTemplateId[id];
+		}
+
+		public int getPlaceholderId()
+		{
+			return placeholderId[id];
+		}
+
+		public int getPlaceholderTemplateId()
+		{
+			return placeholderTemplateId[id];
+		}
+
+		public Map<Integer, Object> getParams()
+		{
+			return pools.getParams(params[id]);
+		}
+
+		/**
+		 * @return a new, modifiable copy of the definition
+		 */
+		public ItemDefinition toDefinition()
+		{
+			return provide(id);
+		}
+	}
+}
@@ -0,0 +1,583 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.columnar;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import net.runelite.cache.definitions.NpcDefinition;
+import net.runelite.cache.definitions.providers.NpcProvider;
+
+/**
+ * A read-only store of npc definitions, laid out in columns. Fixed width
+ * fields are kept in primitive arrays indexed by id, strings, arrays and
+ * params are interned so that repeated values are only stored once, and
+ * definitions are read through lightweight views. This uses a fraction of
+ * the memory of keeping every definition decoded, as {@link net.runelite.cache.NpcManager}
+ * does.
+ * <p>
+ * The store is immutable once built, and so is safe to share between threads.
+ */
+public class ColumnarNpcStore implements NpcProvider
+{
+	private static final int FLAG_IS_MINIMAP_VISIBLE = 1 << 0;
+	private static final int FLAG_HAS_RENDER_PRIORITY = 1 << 1;
+	private static final int FLAG_IS_INTERACTABLE = 1 << 2;
+	private static final int FLAG_ROTATION_FLAG = 1 << 3;
+	private static final int FLAG_IS_FOLLOWER = 1 << 4;
+	private static final int FLAG_LOW_PRIORITY_FOLLOWER_OPS = 1 << 5;
+
+	private final DefinitionPools pools = new DefinitionPools();
+	private final BitSet ids = new BitSet();
+	private final int count;
+
+	private final int[] name;
+	private final int[] size;
+	private final int[] models;
+	private final int[] chatheadModels;
+	private final int[] standingAnimation;
+	private final int[] idleRotateLeftAnimation;
+	private final int[] idleRotateRightAnimation;
+	private final int[] walkingAnimation;
+	private final int[] rotate180Animation;
+	private final int[] rotateLeftAnimation;
+	private final int[] rotateRightAnimation;
+	private final int[] runAnimation;
+	private final int[] runRotate180Animation;
+	private final int[] runRotateLeftAnimation;
+	private final int[] runRotateRightAnimation;
+	private final int[] crawlAnimation;
+	private final int[] crawlRotate180Animation;
+	private final int[] crawlRotateLeftAnimation;
+	private final int[] crawlRotateRightAnimation;
+	private final int[] recolorToFind;
+	private final int[] recolorToReplace;
+	private final int[] retextureToFind;
+	private final int[] retextureToReplace;
+	private final int[] actions;
+	private final int[] combatLevel;
+	private final int[] widthScale;
+	private final int[] heightScale;
+	private final int[] ambient;
+	private final int[] contrast;
+	private final int[] headIconArchiveIds;
+	private final int[] headIconSpriteIndex;
+	private final int[] rotationSpeed;
+	private final int[] configs;
+	private final int[] varbitId;
+	private final int[] varpIndex;
+	private final int[] params;
+	private final int[] category;
+	private final int[] height;
+	private final int[] stats;
+	private final int[] footprintSize;
+	private final byte[] flags;
+
+	public ColumnarNpcStore(Collection<NpcDefinition> definitions)
+	{
+		int length = 0;
+		for (NpcDefinition def : definitions)
+		{
+			length = Math.max(length, def.id + 1);
+		}
+
+		name = new int[length];
+		size = new int[length];
+		models = new int[length];
+		chatheadModels = new int[length];
+		standingAnimation = new int[length];
+		idleRotateLeftAnimation = new int[length];
+		idleRotateRightAnimation = new int[length];
+		walkingAnimation = new int[length];
+		rotate180Animation = new int[length];
+		rotateLeftAnimation = new int[length];
+		rotateRightAnimation = new int[length];
+		runAnimation = new int[length];
+		runRotate180Animation = new int[length];
+		runRotateLeftAnimation = new int[length];
+		runRotateRightAnimation = new int[length];
+		crawlAnimation = new int[length];
+		crawlRotate180Animation = new int[length];
+		crawlRotateLeftAnimation = new int[length];
+		crawlRotateRightAnimation = new int[length];
+		recolorToFind = new int[length];
+		recolorToReplace = new int[length];
+		retextureToFind = new int[length];
+		retextureToReplace = new int[length];
+		actions = new int[length];
+		combatLevel = new int[length];
+		widthScale = new int[length];
+		heightScale = new int[length];
+		ambient = new int[length];
+		contrast = new int[length];
+		headIconArchiveIds = new int[length];
+		headIconSpriteIndex = new int[length];
+		rotationSpeed = new int[length];
+		configs = new int[length];
+		varbitId = new int[length];
+		varpIndex = new int[length];
+		params = new int[length];
+		category = new int[length];
+		height = new int[length];
+		stats = new int[length];
+		footprintSize = new int[length];
+		flags = new byte[length];
+
+		for (NpcDefinition def : definitions)
+		{
+			int id = def.id;
+			ids.set(id);
+
+			name[id] = pools.addString(def.name);
+			size[id] = def.size;
+			models[id] = pools.arrays.addInts(def.models);
+			chatheadModels[id] = pools.arrays.addInts(def.chatheadModels);
+			standingAnimation[id] = def.standingAnimation;
+			idleRotateLeftAnimation[id] = def.idleRotateLeftAnimation;
+			idleRotateRightAnimation[id] = def.idleRotateRightAnimation;
+			walkingAnimation[id] = def.walkingAnimation;
+			rotate180Animation[id] = def.rotate180Animation;
+			rotateLeftAnimation[id] = def.rotateLeftAnimation;
+			rotateRightAnimation[id] = def.rotateRightAnimation;
+			runAnimation[id] = def.runAnimation;
+			runRotate180Animation[id] = def.runRotate180Animation;
+			runRotateLeftAnimation[id] = def.runRotateLeftAnimation;
+			runRotateRightAnimation[id] = def.runRotateRightAnimation;
+			crawlAnimation[id] = def.crawlAnimation;
+			crawlRotate180Animation[id] = def.crawlRotate180Animation;
+			crawlRotateLeftAnimation[id] = def.crawlRotateLeftAnimation;
+			crawlRotateRightAnimation[id] = def.crawlRotateRightAnimation;
+			recolorToFind[id] = pools.arrays.addShorts(def.recolorToFind);
+			recolorToReplace[id] = pools.arrays.addShorts(def.recolorToReplace);
+			retextureToFind[id] = pools.arrays.addShorts(def.retextureToFind);
+			retextureToReplace[id] = pools.arrays.addShorts(def.retextureToReplace);
+			actions[id] = pools.addStrings(def.actions);
+			combatLevel[id] = def.combatLevel;
+			widthScale[id] = def.widthScale;
+			heightScale[id] = def.heightScale;
+			ambient[id] = def.ambient;
+			contrast[id] = def.contrast;
+			headIconArchiveIds[id] = pools.arrays.addInts(def.headIconArchiveIds);
+			headIconSpriteIndex[id] = pools.arrays.addShorts(def.headIconSpriteIndex);
+			rotationSpeed[id] = def.rotationSpeed;
+			configs[id] = pools.arrays.addInts(def.configs);
+			varbitId[id] = def.varbitId;
+			varpIndex[id] = def.varpIndex;
+			params[id] = pools.addParams(def.params);
+			category[id] = def.category;
+			height[id] = def.height;
+			stats[id] = pools.arrays.addInts(def.stats);
+			footprintSize[id] = def.footprintSize;
+
+			byte flag = 0;
+			if (def.isMinimapVisible)
+			{
+				flag |= FLAG_IS_MINIMAP_VISIBLE;
+			}
+			if (def.hasRenderPriority)
+			{
+				flag |= FLAG_HAS_RENDER_PRIORITY;
+			}
+			if (def.isInteractable)
+			{
+				flag |= FLAG_IS_INTERACTABLE;
+			}
+			if (def.rotationFlag)
+			{
+				flag |= FLAG_ROTATION_FLAG;
+			}
+			if (def.isFollower)
+			{
+				flag |= FLAG_IS_FOLLOWER;
+			}
+			if (def.lowPriorityFollowerOps)
+			{
+				flag |= FLAG_LOW_PRIORITY_FOLLOWER_OPS;
+			}
+			flags[id] = (byte) flag;
+		}
+
+		count = ids.cardinality();
+		pools.freeze();
+	}
+
+	/**
+	 * @return the number of definitions in the store
+	 */
+	public int size()
+	{
+		return count;
+	}
+
+	public boolean contains(int id)
+	{
+		return id >= 0 && ids.get(id);
+	}
+
+	/**
+	 * @return the ids of all definitions in the store, in ascending order
+	 */
+	public int[] getIds()
+	{
+		return ids.stream().toArray();
+	}
+
+	/**
+	 * Get a view of a definition. Views are cheap to create and read
+	 * straight from the store.
+	 *
+	 * @param id
+	 * @return the view, or null if there is no definition with the id
+	 */
+	public NpcView get(int id)
+	{
+		return contains(id) ? new NpcView(id) : null;
+	}
+
+	/**
+	 * Decode a definition into a new, modifiable {@link NpcDefinition}, for
+	 * existing code which expects one.
+	 */
+	@Override
+	public NpcDefinition provide(int npcId)
+	{
+		if (!contains(npcId))
+		{
+			return null;
+		}
+
+		int id = npcId;
+		NpcDefinition def = new NpcDefinition(id);
+		def.name = pools.getString(name[id]);
+		def.size = size[id];
+		def.models = pools.arrays.getInts(models[id]);
+		def.chatheadModels = pools.arrays.getInts(chatheadModels[id]);
+		def.standingAnimation = standingAnimation[id];
+		def.idleRotateLeftAnimation = idleRotateLeftAnimation[id];
+		def.idleRotateRightAnimation = idleRotateRightAnimation[id];
+		def.walkingAnimation = walkingAnimation[id];
+		def.rotate180Animation = rotate180Animation[id];
+		def.rotateLeftAnimation = rotateLeftAnimation[id];
+		def.rotateRightAnimation = rotateRightAnimation[id];
+		def.runAnimation = runAnimation[id];
+		def.runRotate180Animation = runRotate180Animation[id];
+		def.runRotateLeftAnimation = runRotateLeftAnimation[id];
+		def.runRotateRightAnimation = runRotateRightAnimation[id];
+		def.crawlAnimation = crawlAnimation[id];
+		def.crawlRotate180Animation = crawlRotate180Animation[id];
+		def.crawlRotateLeftAnimation = crawlRotateLeftAnimation[id];
+		def.crawlRotateRightAnimation = crawlRotateRightAnimation[id];
+		def.recolorToFind = pools.arrays.getShorts(recolorToFind[id]);
+		def.recolorToReplace = pools.arrays.getShorts(recolorToReplace[id]);
+		def.retextureToFind = pools.arrays.getShorts(retextureToFind[id]);
+		def.retextureToReplace = pools.arrays.getShorts(retextureToReplace[id]);
+		def.actions = pools.getStrings(actions[id]);
+		def.isMinimapVisible = (flags[id] & FLAG_IS_MINIMAP_VISIBLE) != 0;
+		def.combatLevel = combatLevel[id];
+		def.widthScale = widthScale[id];
+		def.heightScale = heightScale[id];
+		def.hasRenderPriority = (flags[id] & FLAG_HAS_RENDER_PRIORITY) != 0;
+		def.ambient = ambient[id];
+		def.contrast = contrast[id];
+		def.headIconArchiveIds = pools.arrays.getInts(headIconArchiveIds[id]);
+		def.headIconSpriteIndex = pools.arrays.getShorts(headIconSpriteIndex[id]);
+		def.rotationSpeed = rotationSpeed[id];
+		def.configs = pools.arrays.getInts(configs[id]);
+		def.varbitId = varbitId[id];
+		def.varpIndex = varpIndex[id];
+		def.isInteractable = (flags[id] & FLAG_IS_INTERACTABLE) != 0;
+		def.rotationFlag = (flags[id] & FLAG_ROTATION_FLAG) != 0;
+		def.isFollower = (flags[id] & FLAG_IS_FOLLOWER) != 0;
+		def.lowPriorityFollowerOps = (flags[id] & FLAG_LOW_PRIORITY_FOLLOWER_OPS) != 0;
+		def.params = pools.copyParams(params[id]);
+		def.category = category[id];
+		def.height = height[id];
+		def.stats = pools.arrays.getInts(stats[id]);
+		def.footprintSize = footprintSize[id];
+		return def;
+	}
+
+	/**
+	 * A view of one definition in the store. Arrays returned by the view are
+	 * copies, params are shared and unmodifiable.
+	 */
+	public final class NpcView
+	{
+		private final int id;
+
+		private NpcView(int id)
+		{
+			this.id = id;
+		}
+
+		public int getId()
+		{
+			return id;
+		}
+
+		public String getName()
+		{
+			return pools.getString(name[id]);
+		}
+
+		public int getSize()
+		{
+			return size[id];
+		}
+
+		public int[] getModels()
+		{
+			return pools.arrays.getInts(models[id]);
+		}
+
+		public int[] getChatheadModels()
+		{
+			return pools.arrays.getInts(chatheadModels[id]);
+		}
+
+		public int getStandingAnimation()
+		{
+			return standingAnimation[id];
+		}
+
+		public int getIdleRotateLeftAnimation()
+		{
+			return idleRotateLeftAnimation[id];
+		}
+
+		public int getIdleRotateRightAnimation()
+		{
+			return idleRotateRightAnimation[id];
+		}
+
+		public int getWalkingAnimation()
+		{
+			return walkingAnimation[id];
+		}
+
+		public int getRotate180Animation()
+		{
+			return rotate180Animation[id];
+		}
+
+		public int getRotateLeftAnimation()
+		{
+			return rotateLeftAnimation[id];
+		}
+
+		public int getRotateRightAnimation()
+		{
+			return rotateRightAnimation[id];
+		}
+
+		public int getRunAnimation()
+		{
+			return runAnimation[id];
+		}
+
+		public int getRunRotate180Animation()
+		{
+			return runRotate180Animation[id];
+		}
+
+		public int getRunRotateLeftAnimation()
+		{
+			return runRotateLeftAnimation[id];
+		}
+
+		public int getRunRotateRightAnimation()
+		{
+			return runRotateRightAnimation[id];
+		}
+
+		public int getCrawlAnimation()
+		{
+			return crawlAnimation[id];
+		}
+
+		public int getCrawlRotate180Animation()
+		{
+			return crawlRotate180Animation[id];
+		}
+
+		public int getCrawlRotateLeftAnimation()
+		{
+			return crawlRotateLeftAnimation[id];
+		}
+
+		public int getCrawlRotateRightAnimation()
+		{
+			return crawlRotateRightAnimation[id];
+		}
+
+		public short[] getRecolorToFind()
+		{
+			return pools.arrays.getShorts(recolorToFind[id]);
+		}
+
+		public short[] getRecolorToReplace()
+		{
+			return pools.arrays.getShorts(recolorToReplace[id]);
+		}
+
+		public short[] getRetextureToFind()
+		{
+			return pools.arrays.getShorts(retextureToFind[id]);
+		}
+
+		public short[] getRetextureToReplace()
+		{
+			return pools.arrays.getShorts(retextureToReplace[id]);
+		}
+
+		public String[] getActions()
+		{
+			return pools.getStrings(actions[id]);
+		}
+
+		public String getAction(int index)
+		{
+			return pools.getString(actions[id], index);
+		}
+
+		public boolean isMinimapVisible()
+		{
+			return (flags[id] & FLAG_IS_MINIMAP_VISIBLE) != 0;
+		}
+
+		public int getCombatLevel()
+		{
+			return combatLevel[id];
+		}
+
+		public int getWidthScale()
+		{
+			return widthScale[id];
+		}
+
+		public int getHeightScale()
+		{
+			return heightScale[id];
+		}
+
+		public boolean isHasRenderPriority()
+		{
+			return (flags[id] & FLAG_HAS_RENDER_PRIORITY) != 0;
+		}
+
+		public int getAmbient()
+		{
+			return ambient[id];
+		}
+
+		public int getContrast()
+		{
+			return contrast[id];
+		}
+
+		public int[] getHeadIconArchiveIds()
+		{
+			return pools.arrays.getInts(headIconArchiveIds[id]);
+		}
+
+		public short[] getHeadIconSpriteIndex()
+		{
+			return pools.arrays.getShorts(headIconSpriteIndex[id]);
+		}
+
+		public int getRotationSpeed()
+		{
+			return rotationSpeed[id];
+		}
+
+		public int[] getConfigs()
+		{
+			return pools.arrays.getInts(configs[id]);
+		}
+
+		public int getVarbitId()
+		{
+			return varbitId[id];
+		}
+
+		public int getVarpIndex()
+		{
+			return varpIndex[id];
+		}
+
+		public boolean isInteractable()
+		{
+			return (flags[id] & FLAG_IS_INTERACTABLE) != 0;
+		}
+
+		public boolean isRotationFlag()
+		{
+			return (flags[id] & FLAG_ROTATION_FLAG) != 0;
+		}
+
+		public boolean isFollower()
+		{
+			return (flags[id] & FLAG_IS_FOLLOWER) != 0;
+		}
+
+		public boolean isLowPriorityFollowerOps()
+		{
+			return (flags[id] & FLAG_LOW_PRIORITY_FOLLOWER_OPS) != 0;
+		}
+
+		public Map<Integer, Object> getParams()
+		{
+			return pools.getParams(params[id]);
+		}
+
+		public int getCategory()
+		{
+			return category[id];
+		}
+
+		public int getHeight()
+		{
+			return height[id];
+		}
+
+		public int[] getStats()
+		{
+			return pools.arrays.getInts(stats[id]);
+		}
+
+		public int getFootprintSize()
+		{
+			return footprintSize[id];
+		}
+
+		/**
+		 * @return a new, modifiable copy of the definition
+		 */
+		public NpcDefinition toDefinition()
+		{
+			return provide(id);
+		}
+	}
+}
@@ -0,0 +1,608 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.columnar;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import net.runelite.cache.definitions.ObjectDefinition;
+import net.runelite.cache.definitions.providers.ObjectProvider;
+
+/**
+ * A read-only store of object definitions, laid out in columns. Fixed width
+ * fields are kept in primitive arrays indexed by id, strings, arrays and
+ * params are interned so that repeated values are only stored once, and
+ * definitions are read through lightweight views. This uses a fraction of
+ * the memory of keeping every definition decoded, as {@link net.runelite.cache.ObjectManager}
+ * does.
+ * <p>
+ * The store is immutable once built, and so is safe to share between threads.
+ */
+public class ColumnarObjectStore implements ObjectProvider
+{
+	private static final int FLAG_IS_HOLLOW = 1 << 0;
+	private static final int FLAG_MERGE_NORMALS = 1 << 1;
+	private static final int FLAG_SHADOW = 1 << 2;
+	private static final int FLAG_OBSTRUCTS_GROUND = 1 << 3;
+	private static final int FLAG_IS_ROTATED = 1 << 4;
+	private static final int FLAG_A_BOOL2111 = 1 << 5;
+	private static final int FLAG_BLOCKS_PROJECTILE = 1 << 6;
+	private static final int FLAG_RANDOMIZE_ANIM_START = 1 << 7;
+	private static final int FLAG_DEFER_ANIM_CHANGE = 1 << 8;
+
+	private final DefinitionPools pools = new DefinitionPools();
+	private final BitSet ids = new BitSet();
+	private final int count;
+
+	private final int[] retextureToFind;
+	private final int[] decorDisplacement;
+	private final int[] name;
+	private final int[] objectModels;
+	private final int[] objectTypes;
+	private final int[] recolorToFind;
+	private final int[] mapAreaId;
+	private final int[] textureToReplace;
+	private final int[] sizeX;
+	private final int[] sizeY;
+	private final int[] ambientSoundDistance;
+	private final int[] ambientSoundIds;
+	private final int[] ambientSoundRetain;
+	private final int[] offsetX;
+	private final int[] wallOrDoor;
+	private final int[] animationID;
+	private final int[] varbitID;
+	private final int[] ambient;
+	private final int[] contrast;
+	private final int[] actions;
+	private final int[] interactType;
+	private final int[] mapSceneID;
+	private final int[] blockingMask;
+	private final int[] recolorToReplace;
+	private final int[] modelSizeX;
+	private final int[] modelSizeHeight;
+	private final int[] modelSizeY;
+	private final int[] objectID;
+	private final int[] offsetHeight;
+	private final int[] offsetY;
+	private final int[] contouredGround;
+	private final int[] supportsItems;
+	private final int[] configChangeDest;
+	private final int[] category;
+	private final int[] varpID;
+	private final int[] ambientSoundId;
+	private final int[] ambientSoundChangeTicksMin;
+	private final int[] ambientSoundChangeTicksMax;
+	private final int[] params;
+	private final short[] flags;
+
+	public ColumnarObjectStore(Collection<ObjectDefinition> definitions)
+	{
+		int length = 0;
+		for (ObjectDefinition def : definitions)
+		{
+			length = Math.max(length, def.getId() + 1);
+		}
+
+		retextureToFind = new int[length];
+		decorDisplacement = new int[length];
+		name = new int[length];
+		objectModels = new int[length];
+		objectTypes = new int[length];
+		recolorToFind = new int[length];
+		mapAreaId = new int[length];
+		textureToReplace = new int[length];
+		sizeX = new int[length];
+		sizeY = new int[length];
+		ambientSoundDistance = new int[length];
+		ambientSoundIds = new int[length];
+		ambientSoundRetain = new int[length];
+		offsetX = new int[length];
+		wallOrDoor = new int[length];
+		animationID = new int[length];
+		varbitID = new int[length];
+		ambient = new int[length];
+		contrast = new int[length];
+		actions = new int[length];
+		interactType = new int[length];
+		mapSceneID = new int[length];
+		blockingMask = new int[length];
+		recolorToReplace = new int[length];
+		modelSizeX = new int[length];
+		modelSizeHeight = new int[length];
+		modelSizeY = new int[length];
+		objectID = new int[length];
+		offsetHeight = new int[length];
+		offsetY = new int[length];
+		contouredGround = new int[length];
+		supportsItems = new int[length];
+		configChangeDest = new int[length];
+		category = new int[length];
+		varpID = new int[length];
+		ambientSoundId = new int[length];
+		ambientSoundChangeTicksMin = new int[length];
+		ambientSoundChangeTicksMax = new int[length];
+		params = new int[length];
+		flags = new short[length];
+
+		for (ObjectDefinition def : definitions)
+		{
+			int id = def.getId();
+			ids.set(id);
+
+			retextureToFind[id] = pools.arrays.addShorts(def.getRetextureToFind());
+			decorDisplacement[id] = def.getDecorDisplacement();
+			name[id] = pools.addString(def.getName());
+			objectModels[id] = pools.arrays.addInts(def.getObjectModels());
+			objectTypes[id] = pools.arrays.addInts(def.getObjectTypes());
+			recolorToFind[id] = pools.arrays.addShorts(def.getRecolorToFind());
+			mapAreaId[id] = def.getMapAreaId();
+			textureToReplace[id] = pools.arrays.addShorts(def.getTextureToReplace());
+			sizeX[id] = def.getSizeX();
+			sizeY[id] = def.getSizeY();
+			ambientSoundDistance[id] = def.getAmbientSoundDistance();
+			ambientSoundIds[id] = pools.arrays.addInts(def.getAmbientSoundIds());
+			ambientSoundRetain[id] = def.getAmbientSoundRetain();
+			offsetX[id] = def.getOffsetX();
+			wallOrDoor[id] = def.getWallOrDoor();
+			animationID[id] = def.getAnimationID();
+			varbitID[id] = def.getVarbitID();
+			ambient[id] = def.getAmbient();
+			contrast[id] = def.getContrast();
+			actions[id] = pools.addStrings(def.getActions());
+			interactType[id] = def.getInteractType();
+			mapSceneID[id] = def.getMapSceneID();
+			blockingMask[id] = def.getBlockingMask();
+			recolorToReplace[id] = pools.arrays.addShorts(def.getRecolorToReplace());
+			modelSizeX[id] = def.getModelSizeX();
+			modelSizeHeight[id] = def.getModelSizeHeight();
+			modelSizeY[id] = def.getModelSizeY();
+			objectID[id] = def.getObjectID();
+			offsetHeight[id] = def.getOffsetHeight();
+			offsetY[id] = def.getOffsetY();
+			contouredGround[id] = def.getContouredGround();
+			supportsItems[id] = def.getSupportsItems();
+			configChangeDest[id] = pools.arrays.addInts(def.getConfigChangeDest());
+			category[id] = def.getCategory();
+			varpID[id] = def.getVarpID();
+			ambientSoundId[id] = def.getAmbientSoundId();
+			ambientSoundChangeTicksMin[id] = def.getAmbientSoundChangeTicksMin();
+			ambientSoundChangeTicksMax[id] = def.getAmbientSoundChangeTicksMax();
+			params[id] = pools.addParams(def.getParams());
+
+			short flag = 0;
+			if (def.isHollow())
+			{
+				flag |= FLAG_IS_HOLLOW;
+			}
+			if (def.isMergeNormals())
+			{
+				flag |= FLAG_MERGE_NORMALS;
+			}
+			if (def.isShadow())
+			{
+				flag |= FLAG_SHADOW;
+			}
+			if (def.isObstructsGround())
+			{
+				flag |= FLAG_OBSTRUCTS_GROUND;
+			}
+			if (def.isRotated())
+			{
+				flag |= FLAG_IS_ROTATED;
+			}
+			if (def.isABool2111())
+			{
+				flag |= FLAG_A_BOOL2111;
+			}
+			if (def.isBlocksProjectile())
+			{
+				flag |= FLAG_BLOCKS_PROJECTILE;
+			}
+			if (def.isRandomizeAnimStart())
+			{
+				flag |= FLAG_RANDOMIZE_ANIM_START;
+			}
+			if (def.isDeferAnimChange())
+			{
+				flag |= FLAG_DEFER_ANIM_CHANGE;
+			}
+			flags[id] = (short) flag;
+		}
+
+		count = ids.cardinality();
+		pools.freeze();
+	}
+
+	/**
+	 * @return the number of definitions in the store
+	 */
+	public int size()
+	{
+		return count;
+	}
+
+	public boolean contains(int id)
+	{
+		return id >= 0 && ids.get(id);
+	}
+
+	/**
+	 * @return the ids of all definitions in the store, in ascending order
+	 */
+	public int[] getIds()
+	{
+		return ids.stream().toArray();
+	}
+
+	/**
+	 * Get a view of a definition. Views are cheap to create and read
+	 * straight from the store.
+	 *
+	 * @param id
+	 * @return the view, or null if there is no definition with the id
+	 */
+	public ObjectView get(int id)
+	{
+		return contains(id) ? new ObjectView(id) : null;
+	}
+
+	/**
+	 * Decode a definition into a new, modifiable {@link ObjectDefinition}, for
+	 * existing code which expects one.
+	 */
+	@Override
+	public ObjectDefinition provide(int objectId)
+	{
+		if (!contains(objectId))
+		{
+			return null;
+		}
+
+		int id = objectId;
+		ObjectDefinition def = new ObjectDefinition();
+		def.setId(id);
+		def.setRetextureToFind(pools.arrays.getShorts(retextureToFind[id]));
+		def.setDecorDisplacement(decorDisplacement[id]);
+		def.setHollow((flags[id] & FLAG_IS_HOLLOW) != 0);
+		def.setName(pools.getString(name[id]));
+		def.setObjectModels(pools.arrays.getInts(objectModels[id]));
+		def.setObjectTypes(pools.arrays.getInts(objectTypes[id]));
+		def.setRecolorToFind(pools.arrays.getShorts(recolorToFind[id]));
+		def.setMapAreaId(mapAreaId[id]);
+		def.setTextureToReplace(pools.arrays.getShorts(textureToReplace[id]));
+		def.setSizeX(sizeX[id]);
+		def.setSizeY(sizeY[id]);
+		def.setAmbientSoundDistance(ambientSoundDistance[id]);
+		def.setAmbientSoundIds(pools.arrays.getInts(ambientSoundIds[id]));
+		def.setAmbientSoundRetain(ambientSoundRetain[id]);
+		def.setOffsetX(offsetX[id]);
+		def.setMergeNormals((flags[id] & FLAG_MERGE_NORMALS) != 0);
+		def.setWallOrDoor(wallOrDoor[id]);
+		def.setAnimationID(animationID[id]);
+		def.setVarbitID(varbitID[id]);
+		def.setAmbient(ambient[id]);
+		def.setContrast(contrast[id]);
+		def.setActions(pools.getStrings(actions[id]));
+		def.setInteractType(interactType[id]);
+		def.setMapSceneID(mapSceneID[id]);
+		def.setBlockingMask(blockingMask[id]);
+		def.setRecolorToReplace(pools.arrays.getShorts(recolorToReplace[id]));
+		def.setShadow((flags[id] & FLAG_SHADOW) != 0);
+		def.setModelSizeX(modelSizeX[id]);
+		def.setModelSizeHeight(modelSizeHeight[id]);
+		def.setModelSizeY(modelSizeY[id]);
+		def.setObjectID(objectID[id]);
+		def.setOffsetHeight(offsetHeight[id]);
+		def.setOffsetY(offsetY[id]);
+		def.setObstructsGround((flags[id] & FLAG_OBSTRUCTS_GROUND) != 0);
+		def.setContouredGround(contouredGround[id]);
+		def.setSupportsItems(supportsItems[id]);
+		def.setConfigChangeDest(pools.arrays.getInts(configChangeDest[id]));
+		def.setCategory(category[id]);
+		def.setRotated((flags[id] & FLAG_IS_ROTATED) != 0);
+		def.setVarpID(varpID[id]);
+		def.setAmbientSoundId(ambientSoundId[id]);
+		def.setABool2111((flags[id] & FLAG_A_BOOL2111) != 0);
+		def.setAmbientSoundChangeTicksMin(ambientSoundChangeTicksMin[id]);
+		def.setAmbientSoundChangeTicksMax(ambientSoundChangeTicksMax[id]);
+		def.setBlocksProjectile((flags[id] & FLAG_BLOCKS_PROJECTILE) != 0);
+		def.setRandomizeAnimStart((flags[id] & FLAG_RANDOMIZE_ANIM_START) != 0);
+		def.setDeferAnimChange((flags[id] & FLAG_DEFER_ANIM_CHANGE) != 0);
+		def.setParams(pools.copyParams(params[id]));
+		return def;
+	}
+
+	/**
+	 * A view of one definition in the store. Arrays returned by the view are
+	 * copies, params are shared and unmodifiable.
+	 */
+	public final class ObjectView
+	{
+		private final int id;
+
+		private ObjectView(int id)
+		{
+			this.id = id;
+		}
+
+		public int getId()
+		{
+			return id;
+		}
+
+		public short[] getRetextureToFind()
+		{
+			return pools.arrays.getShorts(retextureToFind[id]);
+		}
+
+		public int getDecorDisplacement()
+		{
+			return decorDisplacement[id];
+		}
+
+		public boolean isHollow()
+		{
+			return (flags[id] & FLAG_IS_HOLLOW) != 0;
+		}
+
+		public String getName()
+		{
+			return pools.getString(name[id]);
+		}
+
+		public int[] getObjectModels()
+		{
+			return pools.arrays.getInts(objectModels[id]);
+		}
+
+		public int[] getObjectTypes()
+		{
+			return pools.arrays.getInts(objectTypes[id]);
+		}
+
+		public short[] getRecolorToFind()
+		{
+			return pools.arrays.getShorts(recolorToFind[id]);
+		}
+
+		public int getMapAreaId()
+		{
+			return mapAreaId[id];
+		}
+
+		public short[] getTextureToReplace()
+		{
+			return pools.arrays.getShorts(textureToReplace[id]);
+		}
+
+		public int getSizeX()
+		{
+			return sizeX[id];
+		}
+
+		public int getSizeY()
+		{
+			return sizeY[id];
+		}
+
+		public int getAmbientSoundDistance()
+		{
+			return ambientSoundDistance[id];
+		}
+
+		public int[] getAmbientSoundIds()
+		{
+			return pools.arrays.getInts(ambientSoundIds[id]);
+		}
+
+		public int getAmbientSoundRetain()
+		{
+			return ambientSoundRetain[id];
+		}
+
+		public int getOffsetX()
+		{
+			return offsetX[id];
+		}
+
+		public boolean isMergeNormals()
+		{
+			return (flags[id] & FLAG_MERGE_NORMALS) != 0;
+		}
+
+		public int getWallOrDoor()
+		{
+			return wallOrDoor[id];
+		}
+
+		public int getAnimationID()
+		{
+			return animationID[id];
+		}
+
+		public int getVarbitID()
+		{
+			return varbitID[id];
+		}
+
+		public int getAmbient()
+		{
+			return ambient[id];
+		}
+
+		public int getContrast()
+		{
+			return contrast[id];
+		}
+
+		public String[] getActions()
+		{
+			return pools.getStrings(actions[id]);
+		}
+
+		public String getAction(int index)
+		{
+			return pools.getString(actions[id], index);
+		}
+
+		public int getInteractType()
+		{
+			return interactType[id];
+		}
+
+		public int getMapSceneID()
+		{
+			return mapSceneID[id];
+		}
+
+		public int getBlockingMask()
+		{
+			return blockingMask[id];
+		}
+
+		public short[] getRecolorToReplace()
+		{
+			return pools.arrays.getShorts(recolorToReplace[id]);
+		}
+
+		public boolean isShadow()
+		{
+			return (flags[id] & FLAG_SHADOW) != 0;
+		}
+
+		public int getModelSizeX()
+		{
+			return modelSizeX[id];
+		}
+
+		public int getModelSizeHeight()
+		{
+			return modelSizeHeight[id];
+		}
+
+		public int getModelSizeY()
+		{
+			return modelSizeY[id];
+		}
+
+		public int getObjectID()
+		{
+			return objectID[id];
+		}
+
+		public int getOffsetHeight()
+		{
+			return offsetHeight[id];
+		}
+
+		public int getOffsetY()
+		{
+			return offsetY[id];
+		}
+
+		public boolean isObstructsGround()
+		{
+			return (flags[id] & FLAG_OBSTRUCTS_GROUND) != 0;
+		}
+
+		public int getContouredGround()
+		{
+			return contouredGround[id];
+		}
+
+		public int getSupportsItems()
+		{
+			return supportsItems[id];
+		}
+
+		public int[] getConfigChangeDest()
+		{
+			return pools.arrays.getInts(configChangeDest[id]);
+		}
+
+		public int getCategory()
+		{
+			return category[id];
+		}
+
+		public boolean isRotated()
+		{
+			return (flags[id] & FLAG_IS_ROTATED) != 0;
+		}
+
+		public int getVarpID()
+		{
+			return varpID[id];
+		}
+
+		public int getAmbientSoundId()
+		{
+			return ambientSoundId[id];
+		}
+
+		public boolean isABool2111()
+		{
+			return (flags[id] & FLAG_A_BOOL2111) != 0;
+		}
+
+		public int getAmbientSoundChangeTicksMin()
+		{
+			return ambientSoundChangeTicksMin[id];
+		}
+
+		public int getAmbientSoundChangeTicksMax()
+		{
+			return ambientSoundChangeTicksMax[id];
+		}
+
+		public boolean isBlocksProjectile()
+		{
+			return (flags[id] & FLAG_BLOCKS_PROJECTILE) != 0;
+		}
+
+		public boolean isRandomizeAnimStart()
+		{
+			return (flags[id] & FLAG_RANDOMIZE_ANIM_START) != 0;
+		}
+
+		public boolean isDeferAnimChange()
+		{
+			return (flags[id] & FLAG_DEFER_ANIM_CHANGE) != 0;
+		}
+
+		public Map<Integer, Object> getParams()
+		{
+			return pools.getParams(params[id]);
+		}
+
+		/**
+		 * @return a new, modifiable copy of the definition
+		 */
+		public ObjectDefinition toDefinition()
+		{
+			return provide(id);
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.columnar;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The shared storage of the variable width fields of a columnar store
+ */
+final class DefinitionPools
+{
+	private final InternPool<String> strings = new InternPool<>();
+	private final InternPool<List<String>> stringArrays = new InternPool<>();
+	private final InternPool<Map<Integer, Object>> params = new InternPool<>();
+	final ArrayPool arrays = new ArrayPool();
+
+	int addString(String value)
+	{
+		return strings.add(value);
+	}
+
+	String getString(int handle)
+	{
+		return strings.get(handle);
+	}
+
+	int addStrings(String[] value)
+	{
+		return value == null ? -1 : stringArrays.add(Collections.unmodifiableList(Arrays.asList(value.clone())));
+	}
+
+	/**
+	 * @return a new copy of the array, or null
+	 */
+	String[] getStrings(int handle)
+	{
+		List<String> list = stringArrays.get(handle);
+		return list == null ? null : list.toArray(new String[0]);
+	}
+
+	String getString(int handle, int index)
+	{
+		List<String> list = stringArrays.get(handle);
+		if (list == null)
+		{
+			throw new ArrayIndexOutOfBoundsException(index);
+		}
+		return list.get(index);
+	}
+
+	int addStringArrays(String[][] value)
+	{
+		if (value == null)
+		{
+			return -1;
+		}
+
+		int[] handles = new int[value.length];
+		for (int i = 0; i < value.length; ++i)
+		{
+			handles[i] = addStrings(value[i]);
+		}
+		return arrays.addInts(handles);
+	}
+
+	/**
+	 * @return a new copy of the arrays, or null
+	 */
+	String[][] getStringArrays(int handle)
+	{
+		int[] handles = arrays.getInts(handle);
+		if (handles == null)
+		{
+			return null;
+		}
+
+		String[][] value = new String[handles.length][];
+		for (int i = 0; i < handles.length; ++i)
+		{
+			value[i] = getStrings(handles[i]);
+		}
+		return value;
+	}
+
+	int addParams(Map<Integer, Object> value)
+	{
+		return value == null ? -1 : params.add(Collections.unmodifiableMap(new HashMap<>(value)));
+	}
+
+	/**
+	 * @return the shared, unmodifiable params, or null
+	 */
+	Map<Integer, Object> getParams(int handle)
+	{
+		return params.get(handle);
+	}
+
+	/**
+	 * @return a new modifiable copy of the params, or null
+	 */
+	Map<Integer, Object> copyParams(int handle)
+	{
+		Map<Integer, Object> value = params.get(handle);
+		return value == null ? null : new HashMap<>(value);
+	}
+
+	void freeze()
+	{
+		strings.freeze();
+		stringArrays.freeze();
+		params.freeze();
+		arrays.freeze();
+	}
+
+	int stringCount()
+	{
+		return strings.size();
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.columnar;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interns values, so that equal values are only stored once, and refers to
+ * them by an int handle. Null is always handle -1. Values must be immutable.
+ */
+final class InternPool<T>
+{
+	private final List<T> values = new ArrayList<>();
+	private Map<T, Integer> handles = new HashMap<>();
+
+	int add(T value)
+	{
+		if (value == null)
+		{
+			return -1;
+		}
+
+		Integer handle = handles.get(value);
+		if (handle == null)
+		{
+			handle = values.size();
+			values.add(value);
+			handles.put(value, handle);
+		}
+		return handle;
+	}
+
+	T get(int handle)
+	{
+		return handle == -1 ? null : values.get(handle);
+	}
+
+	int size()
+	{
+		return values.size();
+	}
+
+	/**
+	 * Drop the lookup table used while building. No values may be added
+	 * afterwards.
+	 */
+	void freeze()
+	{
+		handles = null;
+		((ArrayList<T>) values).trimToSize();
+	}
+}
@@ -2,9 +2,28 @@ package net.runelite.cache.definitions.loaders;
 
 import net.runelite.cache.definitions.ModelDefinition;
 import net.runelite.cache.io.InputStream;
+import net.runelite.cache.models.ModelBufferPool;
 
 public class ModelLoader
 {
+	private final ModelBufferPool pool;
+
+	public ModelLoader()
+	{
+		this(null);
+	}
+
+	/**
+	 * @param pool pool to take the model arrays from, or null to allocate them.
+	 *             Models loaded from a pool should be released back to it with
+	 *             {@link ModelBufferPool#release(ModelDefinition)} once they
+	 *             are no longer used.
+	 */
+	public ModelLoader(ModelBufferPool pool)
+	{
+		this.pool = pool;
+	}
+
 	public ModelDefinition load(int modelId, byte[] b)
 	{
 		ModelDefinition def = new ModelDefinition();
@@ -29,11 +48,33 @@ public class ModelLoader
 
 		def.computeNormals();
 		def.computeTextureUVCoordinates();
+
+		// the packed groups are discarded once the animation tables are built
+		int[] packedVertexGroups = def.packedVertexGroups;
 		def.computeAnimationTables();
+		if (pool != null && packedVertexGroups != null && def.packedVertexGroups == null)
+		{
+			pool.free(packedVertexGroups);
+		}
 
 		return def;
 	}
 
+	private int[] ints(int length)
+	{
+		return pool != null ? pool.ints(length) : new int[length];
+	}
+
+	private short[] shorts(int length)
+	{
+		return pool != null ? pool.shorts(length) : new short[length];
+	}
+
+	private byte[] bytes(int length)
+	{
+		return pool != null ? pool.bytes(length) : new byte[length];
+	}
+
 	void decodeType3(ModelDefinition def, byte[] var1)
 	{
 		InputStream var2 = new InputStream(var1);
@@ -66,7 +107,7 @@ public class ModelLoader
 		int var28;
 		if (var11 > 0)
 		{
-			def.textureRenderTypes = new byte[var11];
+			def.textureRenderTypes = bytes(var11);
 			var2.setOffset(0);
 
 			for (var28 = 0; var28 < var11; ++var28)
@@ -151,25 +192,25 @@ public class ModelLoader
 		def.vertexCount = var9;
 		def.faceCount = var10;
 		def.numTextureFaces = var11;
-		def.vertexX = new int[var9];
-		def.vertexY = new int[var9];
-		def.vertexZ = new int[var9];
-		def.faceIndices1 = new int[var10];
-		def.faceIndices2 = new int[var10];
-		def.faceIndices3 = new int[var10];
+		def.vertexX = ints(var9);
+		def.vertexY = ints(var9);
+		def.vertexZ = ints(var9);
+		def.faceIndices1 = ints(var10);
+		def.faceIndices2 = ints(var10);
+		def.faceIndices3 = ints(var10);
 		if (var17 == 1)
 		{
-			def.packedVertexGroups = new int[var9];
+			def.packedVertexGroups = ints(var9);
 		}
 
 		if (var12 == 1)
 		{
-			def.faceRenderTypes = new byte[var10];
+			def.faceRenderTypes = bytes(var10);
 		}
 
 		if (var13 == 255)
 		{
-			def.faceRenderPriorities = new byte[var10];
+			def.faceRenderPriorities = bytes(var10);
 		}
 		else
 		{
@@ -178,22 +219,22 @@ public class ModelLoader
 
 		if (var14 == 1)
 		{
-			def.faceTransparencies = new byte[var10];
+			def.faceTransparencies = bytes(var10);
 		}
 
 		if (var15 == 1)
 		{
-			def.packedTransparencyVertexGroups = new int[var10];
+			def.packedTransparencyVertexGroups = ints(var10);
 		}
 
 		if (var16 == 1)
 		{
-			def.faceTextures = new short[var10];
+			def.faceTextures = shorts(var10);
 		}
 
 		if (var16 == 1 && var11 > 0)
 		{
-			def.textureCoords = new byte[var10];
+			def.textureCoords = bytes(var10);
 		}
 
 		if (var18 == 1)
@@ -202,12 +243,12 @@ public class ModelLoader
 			def.animayaScales = new int[var9][];
 		}
 
-		def.faceColors = new short[var10];
+		def.faceColors = shorts(var10);
 		if (var11 > 0)
 		{
-			def.texIndices1 = new short[var11];
-			def.texIndices2 = new short[var11];
-			def.texIndices3 = new short[var11];
+			def.texIndices1 = shorts(var11);
+			def.texIndices2 = shorts(var11);
+			def.texIndices3 = shorts(var11);
 		}
 
 		var2.setOffset(var11);
@@ -468,35 +509,35 @@ public class ModelLoader
 		def.vertexCount = var9;
 		def.faceCount = var10;
 		def.numTextureFaces = var11;
-		def.vertexX = new int[var9];
-		def.vertexY = new int[var9];
-		def.vertexZ = new int[var9];
-		def.faceIndices1 = new int[var10];
-		def.faceIndices2 = new int[var10];
-		def.faceIndices3 = new int[var10];
+		def.vertexX = ints(var9);
+		def.vertexY = ints(var9);
+		def.vertexZ = ints(var9);
+		def.faceIndices1 = ints(var10);
+		def.faceIndices2 = ints(var10);
+		def.faceIndices3 = ints(var10);
 		if (var11 > 0)
 		{
-			def.textureRenderTypes = new byte[var11];
-			def.texIndices1 = new short[var11];
-			def.texIndices2 = new short[var11];
-			def.texIndices3 = new short[var11];
+			def.textureRenderTypes = bytes(var11);
+			def.texIndices1 = shorts(var11);
+			def.texIndices2 = shorts(var11);
+			def.texIndices3 = shorts(var11);
 		}
 
 		if (var16 == 1)
 		{
-			def.packedVertexGroups = new int[var9];
+			def.packedVertexGroups = ints(var9);
 		}
 
 		if (var12 == 1)
 		{
-			def.faceRenderTypes = new byte[var10];
-			def.textureCoords = new byte[var10];
-			def.faceTextures = new short[var10];
+			def.faceRenderTypes = bytes(var10);
+			def.textureCoords = bytes(var10);
+			def.faceTextures = shorts(var10);
 		}
 
 		if (var13 == 255)
 		{
-			def.faceRenderPriorities = new byte[var10];
+			def.faceRenderPriorities = bytes(var10);
 		}
 		else
 		{
@@ -505,12 +546,12 @@ public class ModelLoader
 
 		if (var14 == 1)
 		{
-			def.faceTransparencies = new byte[var10];
+			def.faceTransparencies = bytes(var10);
 		}
 
 		if (var15 == 1)
 		{
-			def.packedTransparencyVertexGroups = new int[var10];
+			def.packedTransparencyVertexGroups = ints(var10);
 		}
 
 		if (var17 == 1)
@@ -519,7 +560,7 @@ public class ModelLoader
 			def.animayaScales = new int[var9][];
 		}
 
-		def.faceColors = new short[var10];
+		def.faceColors = shorts(var10);
 		var4.setOffset(var23);
 		var5.setOffset(var34);
 		var6.setOffset(var35);
@@ -772,7 +813,7 @@ public class ModelLoader
 		int var26;
 		if (var11 > 0)
 		{
-			def.textureRenderTypes = new byte[var11];
+			def.textureRenderTypes = bytes(var11);
 			var2.setOffset(0);
 
 			for (var26 = 0; var26 < var11; ++var26)
@@ -861,25 +902,25 @@ public class ModelLoader
 		def.vertexCount = var9;
 		def.faceCount = var10;
 		def.numTextureFaces = var11;
-		def.vertexX = new int[var9];
-		def.vertexY = new int[var9];
-		def.vertexZ = new int[var9];
-		def.faceIndices1 = new int[var10];
-		def.faceIndices2 = new int[var10];
-		def.faceIndices3 = new int[var10];
+		def.vertexX = ints(var9);
+		def.vertexY = ints(var9);
+		def.vertexZ = ints(var9);
+		def.faceIndices1 = ints(var10);
+		def.faceIndices2 = ints(var10);
+		def.faceIndices3 = ints(var10);
 		if (var17 == 1)
 		{
-			def.packedVertexGroups = new int[var9];
+			def.packedVertexGroups = ints(var9);
 		}
 
 		if (var12 == 1)
 		{
-			def.faceRenderTypes = new byte[var10];
+			def.faceRenderTypes = bytes(var10);
 		}
 
 		if (var13 == 255)
 		{
-			def.faceRenderPriorities = new byte[var10];
+			def.faceRenderPriorities = bytes(var10);
 		}
 		else
 		{
@@ -888,30 +929,30 @@ public class ModelLoader
 
 		if (var14 == 1)
 		{
-			def.faceTransparencies = new byte[var10];
+			def.faceTransparencies = bytes(var10);
 		}
 
 		if (var15 == 1)
 		{
-			def.packedTransparencyVertexGroups = new int[var10];
+			def.packedTransparencyVertexGroups = ints(var10);
 		}
 
 		if (var16 == 1)
 		{
-			def.faceTextures = new short[var10];
+			def.faceTextures = shorts(var10);
 		}
 
 		if (var16 == 1 && var11 > 0)
 		{
-			def.textureCoords = new byte[var10];
+			def.textureCoords = bytes(var10);
 		}
 
-		def.faceColors = new short[var10];
+		def.faceColors = shorts(var10);
 		if (var11 > 0)
 		{
-			def.texIndices1 = new short[var11];
-			def.texIndices2 = new short[var11];
-			def.texIndices3 = new short[var11];
+			def.texIndices1 = shorts(var11);
+			def.texIndices2 = shorts(var11);
+			def.texIndices3 = shorts(var11);
 		}
 
 		var2.setOffset(var11);
@@ -1158,35 +1199,35 @@ public class ModelLoader
 		def.vertexCount = vertexCount;
 		def.faceCount = faceCount;
 		def.numTextureFaces = textureCount;
-		def.vertexX = new int[vertexCount];
-		def.vertexY = new int[vertexCount];
-		def.vertexZ = new int[vertexCount];
-		def.faceIndices1 = new int[faceCount];
-		def.faceIndices2 = new int[faceCount];
-		def.faceIndices3 = new int[faceCount];
+		def.vertexX = ints(vertexCount);
+		def.vertexY = ints(vertexCount);
+		def.vertexZ = ints(vertexCount);
+		def.faceIndices1 = ints(faceCount);
+		def.faceIndices2 = ints(faceCount);
+		def.faceIndices3 = ints(faceCount);
 		if (textureCount > 0)
 		{
-			def.textureRenderTypes = new byte[textureCount];
-			def.texIndices1 = new short[textureCount];
-			def.texIndices2 = new short[textureCount];
-			def.texIndices3 = new short[textureCount];
+			def.textureRenderTypes = bytes(textureCount);
+			def.texIndices1 = shorts(textureCount);
+			def.texIndices2 = shorts(textureCount);
+			def.texIndices3 = shorts(textureCount);
 		}
 
 		if (hasPackedVertexGroups == 1)
 		{
-			def.packedVertexGroups = new int[vertexCount];
+			def.packedVertexGroups = ints(vertexCount);
 		}
 
 		if (isTextured == 1)
 		{
-			def.faceRenderTypes = new byte[faceCount];
-			def.textureCoords = new byte[faceCount];
-			def.faceTextures = new short[faceCount];
+			def.faceRenderTypes = bytes(faceCount);
+			def.textureCoords = bytes(faceCount);
+			def.faceTextures = shorts(faceCount);
 		}
 
 		if (faceRenderPriority == 255)
 		{
-			def.faceRenderPriorities = new byte[faceCount];
+			def.faceRenderPriorities = bytes(faceCount);
 		}
 		else
 		{
@@ -1195,15 +1236,15 @@ public class ModelLoader
 
 		if (hasFaceTransparencies == 1)
 		{
-			def.faceTransparencies = new byte[faceCount];
+			def.faceTransparencies = bytes(faceCount);
 		}
 
 		if (hasPackedTransparencyVertexGroups == 1)
 		{
-			def.packedTransparencyVertexGroups = new int[faceCount];
+			def.packedTransparencyVertexGroups = ints(faceCount);
 		}
 
-		def.faceColors = new short[faceCount];
+		def.faceColors = shorts(faceCount);
 		stream1.setOffset(offsetOfVertexFlags);
 		stream2.setOffset(offsetOfVertexXData);
 		stream3.setOffset(offsetOfVertexYData);
@@ -25,10 +25,12 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.util.Arrays;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import net.runelite.cache.index.FileData;
+import net.runelite.cache.util.Djb2;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,7 +45,6 @@ public class Archive
 	@Getter
 	private final int archiveId;
 	@Getter
-	@Setter
 	private int nameHash;
 	@Getter
 	@Setter
@@ -61,8 +62,8 @@ public class Archive
 	@Setter
 	private int compression;
 	@Getter
-	@Setter
 	private FileData[] fileData;
+	private volatile NameHashIndex<FileData> filesByName;
 
 	public Archive(Index index, int id)
 	{
@@ -70,6 +71,42 @@ public class Archive
 		this.archiveId = id;
 	}
 
+	public void setNameHash(int nameHash)
+	{
+		this.nameHash = nameHash;
+		index.invalidateArchiveNames();
+	}
+
+	public void setFileData(FileData[] fileData)
+	{
+		this.fileData = fileData;
+		filesByName = null;
+	}
+
+	/**
+	 * Find a file of this archive by name. The file data must not be
+	 * modified after being set with {@link #setFileData(FileData[])}.
+	 *
+	 * @param name
+	 * @return
+	 */
+	public FileData findFileByName(String name)
+	{
+		FileData[] files = fileData;
+		if (files == null)
+		{
+			return null;
+		}
+
+		NameHashIndex<FileData> byName = filesByName;
+		if (byName == null)
+		{
+			byName = new NameHashIndex<>(Arrays.asList(files), files.length, FileData::getNameHash);
+			filesByName = byName;
+		}
+		return byName.get(Djb2.hash(name));
+	}
+
 	public byte[] decompress(byte[] data) throws IOException
 	{
 		return decompress(data, null);
@@ -135,4 +172,19 @@ public class Archive
 		files.loadContents(decompressedData);
 		return files;
 	}
+
+	public ArchiveFileTable getFileTable(byte[] data) throws IOException
+	{
+		return getFileTable(data, null);
+	}
+
+	/**
+	 * Decompress the archive and locate its files, without splitting them
+	 * out. See {@link ArchiveFileTable}.
+	 */
+	public ArchiveFileTable getFileTable(byte[] data, int[] keys) throws IOException
+	{
+		byte[] decompressedData = decompress(data, keys);
+		return new ArchiveFileTable(fileData, decompressedData);
+	}
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.util.Arrays;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.io.InputStream;
+
+/**
+ * The location of each file within the decompressed data of an archive.
+ * Unlike {@link ArchiveFiles}, the files are not split out up front, only
+ * when their contents are requested, so this is cheap to build when only a
+ * few files of a large archive will be used.
+ */
+public class ArchiveFileTable
+{
+	private final byte[] data;
+	private final int[] fileIds;
+	private final int chunks;
+	// file * chunks + chunk
+	private final int[] chunkOffsets;
+	private final int[] chunkSizes;
+	private final int[] fileSizes;
+
+	public ArchiveFileTable(FileData[] fileData, byte[] data)
+	{
+		this.data = data;
+		this.fileIds = new int[fileData.length];
+		for (int i = 0; i < fileData.length; ++i)
+		{
+			fileIds[i] = fileData[i].getId();
+		}
+
+		int filesCount = fileIds.length;
+		if (filesCount == 1)
+		{
+			chunks = 1;
+			chunkOffsets = new int[]{0};
+			chunkSizes = new int[]{data.length};
+			fileSizes = new int[]{data.length};
+			return;
+		}
+
+		InputStream stream = new InputStream(data);
+		stream.setOffset(stream.getLength() - 1);
+		chunks = stream.readUnsignedByte();
+
+		// -1 for chunks count + one int per file slot per chunk
+		stream.setOffset(stream.getLength() - 1 - chunks * filesCount * 4);
+		chunkOffsets = new int[filesCount * chunks];
+		chunkSizes = new int[filesCount * chunks];
+		fileSizes = new int[filesCount];
+
+		// the file data is at the beginning of the stream, ordered by chunk then file
+		int offset = 0;
+		for (int chunk = 0; chunk < chunks; ++chunk)
+		{
+			int chunkSize = 0;
+
+			for (int id = 0; id < filesCount; ++id)
+			{
+				chunkSize += stream.readInt();
+
+				chunkOffsets[id * chunks + chunk] = offset;
+				chunkSizes[id * chunks + chunk] = chunkSize;
+				fileSizes[id] += chunkSize;
+				offset += chunkSize;
+			}
+		}
+	}
+
+	public int getFileCount()
+	{
+		return fileIds.length;
+	}
+
+	/**
+	 * @return the ids of the files in the archive
+	 */
+	public int[] getFileIds()
+	{
+		return fileIds.clone();
+	}
+
+	public boolean contains(int fileId)
+	{
+		return indexOf(fileId) >= 0;
+	}
+
+	/**
+	 * Copy the contents of a file out of the archive
+	 *
+	 * @param fileId
+	 * @return the contents, or null if the archive has no such file
+	 */
+	public byte[] getContents(int fileId)
+	{
+		int idx = indexOf(fileId);
+		if (idx < 0)
+		{
+			return null;
+		}
+
+		byte[] contents = new byte[fileSizes[idx]];
+		int pos = 0;
+		for (int chunk = 0; chunk < chunks; ++chunk)
+		{
+			int size = chunkSizes[idx * chunks + chunk];
+			System.arraycopy(data, chunkOffsets[idx * chunks + chunk], contents, pos, size);
+			pos += size;
+		}
+		return contents;
+	}
+
+	private int indexOf(int fileId)
+	{
+		// file ids are delta encoded in the index, and so are always ascending
+		return Arrays.binarySearch(fileIds, fileId);
+	}
+}
@@ -28,7 +28,6 @@ import static com.google.common.primitives.Bytes.concat;
 import com.google.common.primitives.Ints;
 import java.io.IOException;
 import net.runelite.cache.fs.jagex.CompressionType;
-import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
 import net.runelite.cache.util.BZip2;
 import net.runelite.cache.util.Crc32;
@@ -37,6 +36,8 @@ import net.runelite.cache.util.Xtea;
 
 public class Container
 {
+	private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[4096]);
+
 	public byte[] data;
 	public int compression; // compression
 	public int revision;
@@ -92,82 +93,89 @@ public class Container
 
 	public static Container decompress(byte[] b, int[] keys) throws IOException
 	{
-		InputStream stream = new InputStream(b);
+		return decompress(b, 0, b.length, keys);
+	}
 
-		int compression = stream.readUnsignedByte();
-		int compressedLength = stream.readInt();
+	/**
+	 * Decompress a container from a slice of an array. The input is not
+	 * modified; encrypted data is copied once into a per thread scratch
+	 * buffer and decrypted in place there, and the compressed data is
+	 * decompressed directly into the output array.
+	 *
+	 * @param b container data
+	 * @param off offset of the container
+	 * @param len length of the container
+	 * @param keys xtea keys, or null
+	 * @return
+	 * @throws IOException
+	 */
+	public static Container decompress(byte[] b, int off, int len, int[] keys) throws IOException
+	{
+		int compression = b[off] & 0xFF;
+		int compressedLength = readInt(b, off + 1);
 		if (compressedLength < 0)
 		{
 			throw new RuntimeException("Invalid data");
 		}
 
+		// the compressed data is prefixed with the decompressed length
+		int payloadLength = compression == CompressionType.NONE ? compressedLength : compressedLength + 4;
+		int payloadOffset = off + 5;
+		if (5 + payloadLength > len)
+		{
+			throw new IOException("Container data is truncated");
+		}
+
 		Crc32 crc32 = new Crc32();
-		crc32.update(b, 0, 5); // compression + length
+		crc32.update(b, off, 5 + payloadLength); // compression + length + payload
 
-		byte[] data;
 		int revision = -1;
+		if (len - 5 - payloadLength >= 2)
+		{
+			int revisionOffset = payloadOffset + payloadLength;
+			revision = ((b[revisionOffset] & 0xFF) << 8) | (b[revisionOffset + 1] & 0xFF);
+		}
+
+		byte[] data;
 		switch (compression)
 		{
 			case CompressionType.NONE:
 			{
-				byte[] encryptedData = new byte[compressedLength];
-				stream.readBytes(encryptedData, 0, compressedLength);
-
-				crc32.update(encryptedData, 0, compressedLength);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
+				data = new byte[compressedLength];
+				System.arraycopy(b, payloadOffset, data, 0, compressedLength);
+				if (keys != null)
 				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
+					new Xtea(keys).decrypt(data, 0, compressedLength);
 				}
-
-				data = decryptedData;
-
 				break;
 			}
 			case CompressionType.BZ2:
+			case CompressionType.GZ:
 			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
+				byte[] src = b;
+				int srcOffset = payloadOffset;
+				if (keys != null)
 				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
+					src = scratch(payloadLength);
+					srcOffset = 0;
+					System.arraycopy(b, payloadOffset, src, 0, payloadLength);
+					new Xtea(keys).decrypt(src, 0, payloadLength);
 				}
 
-				stream = new InputStream(decryptedData);
-
-				int decompressedLength = stream.readInt();
-				data = BZip2.decompress(stream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
-
-				break;
-			}
-			case CompressionType.GZ:
-			{
-				byte[] encryptedData = new byte[compressedLength + 4];
-				stream.readBytes(encryptedData);
-
-				crc32.update(encryptedData, 0, encryptedData.length);
-				byte[] decryptedData = decrypt(encryptedData, encryptedData.length, keys);
-
-				if (stream.remaining() >= 2)
+				int decompressedLength = readInt(src, srcOffset);
+				if (decompressedLength < 0)
 				{
-					revision = stream.readUnsignedShort();
-					assert revision != -1;
+					throw new IOException("Invalid decompressed length");
 				}
 
-				stream = new InputStream(decryptedData);
-
-				int decompressedLength = stream.readInt();
-				data = GZip.decompress(stream.getRemaining(), compressedLength);
-				assert data.length == decompressedLength;
-
+				if (compression == CompressionType.BZ2)
+				{
+					data = BZip2.decompress(src, srcOffset + 4, compressedLength, decompressedLength);
+				}
+				else
+				{
+					data = GZip.decompress(src, srcOffset + 4, compressedLength, decompressedLength);
+				}
 				break;
 			}
 			default:
@@ -180,15 +188,23 @@ public class Container
 		return container;
 	}
 
-	private static byte[] decrypt(byte[] data, int length, int[] keys)
+	private static byte[] scratch(int length)
 	{
-		if (keys == null)
+		byte[] buf = SCRATCH.get();
+		if (buf.length < length)
 		{
-			return data;
+			buf = new byte[Math.max(length, buf.length * 2)];
+			SCRATCH.set(buf);
 		}
+		return buf;
+	}
 
-		Xtea xtea = new Xtea(keys);
-		return xtea.decrypt(data, length);
+	private static int readInt(byte[] b, int off)
+	{
+		return ((b[off] & 0xFF) << 24)
+			| ((b[off + 1] & 0xFF) << 16)
+			| ((b[off + 2] & 0xFF) << 8)
+			| (b[off + 3] & 0xFF);
 	}
 
 	private static byte[] encrypt(byte[] data, int length, int[] keys)
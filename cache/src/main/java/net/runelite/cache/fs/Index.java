@@ -61,6 +61,7 @@ public class Index
 	private int compression; // compression method of this index's data in 255
 
 	private final List<Archive> archives = new ArrayList<>();
+	private volatile NameHashIndex<Archive> archivesByName;
 
 	public Index(int id)
 	{
@@ -83,6 +84,7 @@ public class Index
 		idx = -idx - 1;
 		Archive archive = new Archive(this, id);
 		this.archives.add(idx, archive);
+		archivesByName = null;
 		return archive;
 	}
 
@@ -127,20 +129,28 @@ public class Index
 
 	public boolean removeArchive(Archive archive)
 	{
+		archivesByName = null;
 		return archives.remove(archive);
 	}
 
 	public Archive findArchiveByName(String name)
 	{
 		int hash = Djb2.hash(name);
-		for (Archive a : archives)
+		NameHashIndex<Archive> byName = archivesByName;
+		if (byName == null)
 		{
-			if (a.getNameHash() == hash)
-			{
-				return a;
-			}
+			byName = new NameHashIndex<>(archives, archives.size(), Archive::getNameHash);
+			archivesByName = byName;
 		}
-		return null;
+		return byName.get(hash);
+	}
+
+	/**
+	 * Called when the name hash of an archive changes
+	 */
+	void invalidateArchiveNames()
+	{
+		archivesByName = null;
 	}
 
 	public IndexData toIndexData()
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * An open addressed map of name hash to value. If multiple values share a
+ * name hash, the first one added is kept.
+ */
+final class NameHashIndex<T>
+{
+	private final int[] hashes;
+	private final Object[] values;
+	private final int mask;
+
+	NameHashIndex(Iterable<T> values, int size, ToIntFunction<T> nameHash)
+	{
+		int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+		this.hashes = new int[capacity];
+		this.values = new Object[capacity];
+		this.mask = capacity - 1;
+
+		for (T value : values)
+		{
+			int hash = nameHash.applyAsInt(value);
+			int slot = mix(hash) & mask;
+			while (this.values[slot] != null)
+			{
+				if (hashes[slot] == hash)
+				{
+					break;
+				}
+				slot = (slot + 1) & mask;
+			}
+
+			if (this.values[slot] == null)
+			{
+				hashes[slot] = hash;
+				this.values[slot] = value;
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	T get(int hash)
+	{
+		for (int slot = mix(hash) & mask; values[slot] != null; slot = (slot + 1) & mask)
+		{
+			if (hashes[slot] == hash)
+			{
+				return (T) values[slot];
+			}
+		}
+		return null;
+	}
+
+	private static int mix(int hash)
+	{
+		// spread the bits of similar hashes across the table
+		hash *= 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads and decompresses the archives of a {@link Store} on an executor.
+ * <p>
+ * Archives are read and decompressed concurrently, but are handed to the
+ * {@link ArchiveVisitor} on the calling thread in index then archive order,
+ * so the output is the same regardless of the number of threads used. At
+ * most {@code maxPending} archives are held decoded in memory at once;
+ * once that many are pending the caller blocks on the oldest one before
+ * scheduling more.
+ */
+public class ParallelArchiveLoader
+{
+	private static final Logger logger = LoggerFactory.getLogger(ParallelArchiveLoader.class);
+
+	public interface ArchiveVisitor
+	{
+		void visit(Archive archive, ArchiveFiles files) throws IOException;
+	}
+
+	private final Store store;
+	private final Executor executor;
+	private final int maxPending;
+	private final Function<Archive, int[]> keys;
+
+	public ParallelArchiveLoader(Store store, Executor executor, int maxPending)
+	{
+		this(store, executor, maxPending, archive -> null);
+	}
+
+	/**
+	 * @param store store to load from, which must have been loaded
+	 * @param executor executor to read and decompress archives on
+	 * @param maxPending maximum number of decoded archives waiting to be visited
+	 * @param keys xtea keys for an archive, or null if the archive is not encrypted
+	 */
+	public ParallelArchiveLoader(Store store, Executor executor, int maxPending, Function<Archive, int[]> keys)
+	{
+		if (maxPending < 1)
+		{
+			throw new IllegalArgumentException("maxPending must be at least 1");
+		}
+
+		this.store = store;
+		this.executor = executor;
+		this.maxPending = maxPending;
+		this.keys = keys;
+	}
+
+	public void visit(Index index, ArchiveVisitor visitor) throws IOException
+	{
+		visit(index.getArchives(), visitor);
+	}
+
+	public void visitAll(ArchiveVisitor visitor) throws IOException
+	{
+		List<Archive> archives = new ArrayList<>();
+		for (Index index : store.getIndexes())
+		{
+			archives.addAll(index.getArchives());
+		}
+		visit(archives, visitor);
+	}
+
+	private void visit(List<Archive> archives, ArchiveVisitor visitor) throws IOException
+	{
+		Deque<PendingArchive> pending = new ArrayDeque<>(maxPending);
+
+		try
+		{
+			for (Archive archive : archives)
+			{
+				if (pending.size() >= maxPending)
+				{
+					complete(pending.poll(), visitor);
+				}
+
+				pending.add(new PendingArchive(archive, CompletableFuture.supplyAsync(() -> load(archive), executor)));
+			}
+
+			while (!pending.isEmpty())
+			{
+				complete(pending.poll(), visitor);
+			}
+		}
+		finally
+		{
+			for (PendingArchive p : pending)
+			{
+				p.files.cancel(false);
+			}
+		}
+	}
+
+	private ArchiveFiles load(Archive archive)
+	{
+		try
+		{
+			Storage storage = store.getStorage();
+			byte[] data = storage.loadArchive(archive);
+			if (data == null)
+			{
+				logger.debug("Archive {}/{} is missing", archive.getIndex().getId(), archive.getArchiveId());
+				return null;
+			}
+
+			return archive.getFiles(data, keys.apply(archive));
+		}
+		catch (IOException ex)
+		{
+			throw new CompletionException(ex);
+		}
+	}
+
+	private static void complete(PendingArchive pending, ArchiveVisitor visitor) throws IOException
+	{
+		ArchiveFiles files = ParallelBatches.join(pending.files);
+		if (files != null)
+		{
+			visitor.visit(pending.archive, files);
+		}
+	}
+
+	private static class PendingArchive
+	{
+		private final Archive archive;
+		private final CompletableFuture<ArchiveFiles> files;
+
+		private PendingArchive(Archive archive, CompletableFuture<ArchiveFiles> files)
+		{
+			this.archive = archive;
+			this.files = files;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Splits ranges of work, such as the archives of an index, into fixed size
+ * batches which are run on an executor, and waits for them to complete.
+ * Exceptions thrown from a batch are rethrown from {@link #join()}.
+ */
+public class ParallelBatches
+{
+	public interface RangeTask
+	{
+		/**
+		 * @param start first item of the batch, inclusive
+		 * @param end last item of the batch, exclusive
+		 */
+		void run(int start, int end) throws IOException;
+	}
+
+	public static final int DEFAULT_BATCH_SIZE = 256;
+
+	private final Executor executor;
+	private final int batchSize;
+	private final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+	public ParallelBatches(Executor executor)
+	{
+		this(executor, DEFAULT_BATCH_SIZE);
+	}
+
+	public ParallelBatches(Executor executor, int batchSize)
+	{
+		if (batchSize < 1)
+		{
+			throw new IllegalArgumentException("batchSize must be at least 1");
+		}
+
+		this.executor = executor;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Schedule the items {@code [0, count)} to be run in batches
+	 *
+	 * @param count number of items
+	 * @param task task to run for each batch
+	 */
+	public void submit(int count, RangeTask task)
+	{
+		for (int start = 0; start < count; start += batchSize)
+		{
+			int s = start;
+			int end = Math.min(start + batchSize, count);
+			futures.add(CompletableFuture.runAsync(() ->
+			{
+				try
+				{
+					task.run(s, end);
+				}
+				catch (IOException ex)
+				{
+					throw new CompletionException(ex);
+				}
+			}, executor));
+		}
+	}
+
+	/**
+	 * Wait for every submitted batch to complete
+	 *
+	 * @throws IOException if a batch threw one
+	 */
+	public void join() throws IOException
+	{
+		join(CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])));
+	}
+
+	/**
+	 * Wait for a future, rethrowing the {@link IOException} or unchecked
+	 * exception it completed with
+	 *
+	 * @param future
+	 * @return the result of the future
+	 * @throws IOException
+	 */
+	public static <T> T join(CompletableFuture<T> future) throws IOException
+	{
+		try
+		{
+			return future.join();
+		}
+		catch (CompletionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof IOException)
+			{
+				throw (IOException) cause;
+			}
+			if (cause instanceof RuntimeException)
+			{
+				throw (RuntimeException) cause;
+			}
+			throw ex;
+		}
+	}
+}
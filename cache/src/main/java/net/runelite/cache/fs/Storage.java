@@ -25,6 +25,8 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 public interface Storage extends AutoCloseable
 {
@@ -37,6 +39,50 @@ public interface Storage extends AutoCloseable
 
 	void save(Store store) throws IOException;
 
+	/**
+	 * Save only the given indexes of the store. Storages which can't save
+	 * indexes individually save the whole store.
+	 *
+	 * @param store store the indexes belong to
+	 * @param indexes indexes to save
+	 * @throws IOException
+	 */
+	default void save(Store store, List<Index> indexes) throws IOException
+	{
+		save(store);
+	}
+
+	/**
+	 * Save an index, storing its reference table from an encoded container
+	 * as is instead of encoding it from the index. This keeps the reference
+	 * table, and so its crc, the same as in the cache the container was taken
+	 * from. The index must already match the container. Storages which don't
+	 * store reference table containers save the index normally.
+	 *
+	 * @param store store the index belongs to
+	 * @param index index to save
+	 * @param referenceTable encoded container of the reference table
+	 * @throws IOException
+	 */
+	default void save(Store store, Index index, byte[] referenceTable) throws IOException
+	{
+		save(store, Collections.singletonList(index));
+	}
+
+	/**
+	 * Load the encoded container of the reference table of an index, as it
+	 * was last saved
+	 *
+	 * @param index index id
+	 * @return the container, or null if the storage does not store reference
+	 * table containers or the index has none
+	 * @throws IOException
+	 */
+	default byte[] loadReferenceTable(int index) throws IOException
+	{
+		return null;
+	}
+
 	byte[] load(int index, int archive) throws IOException;
 
 	void store(int index, int archive, byte[] data) throws IOException;
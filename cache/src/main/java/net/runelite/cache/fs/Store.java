@@ -29,9 +29,11 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 import lombok.EqualsAndHashCode;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
 
 @EqualsAndHashCode(of = "indexes")
 public final class Store implements Closeable
@@ -95,11 +97,120 @@ public final class Store implements Closeable
 		storage.save(this);
 	}
 
+	/**
+	 * Save only the given indexes, such as after changing a few archives
+	 *
+	 * @param indexes
+	 * @throws IOException
+	 */
+	public void save(List<Index> indexes) throws IOException
+	{
+		storage.save(this, indexes);
+	}
+
 	public List<Index> getIndexes()
 	{
 		return indexes;
 	}
 
+	/**
+	 * Copy all indexes, archives and archive contents of this store into
+	 * another store, then save it. The target store should be empty. This
+	 * can be used to convert between storage formats.
+	 *
+	 * @param to store to copy into
+	 * @throws IOException
+	 */
+	public void copyTo(Store to) throws IOException
+	{
+		for (Index index : indexes)
+		{
+			Index toIndex = copyIndex(index, to);
+			for (Archive archive : index.getArchives())
+			{
+				copyContents(archive, toIndex.getArchive(archive.getArchiveId()), to);
+			}
+		}
+
+		to.save();
+	}
+
+	/**
+	 * Copy all indexes, archives and archive contents of this store into
+	 * another store, then save it. Archive contents are copied in parallel,
+	 * so both storages must support loading and storing archives from
+	 * multiple threads, such as a memory mapped {@link DiskStorage}.
+	 *
+	 * @param to store to copy into
+	 * @param executor executor to copy archive contents on
+	 * @throws IOException
+	 */
+	public void copyTo(Store to, Executor executor) throws IOException
+	{
+		ParallelBatches batches = new ParallelBatches(executor);
+		for (Index index : indexes)
+		{
+			Index toIndex = copyIndex(index, to);
+			List<Archive> archives = index.getArchives();
+			batches.submit(archives.size(), (start, end) ->
+			{
+				for (Archive archive : archives.subList(start, end))
+				{
+					copyContents(archive, toIndex.getArchive(archive.getArchiveId()), to);
+				}
+			});
+		}
+		batches.join();
+
+		to.save();
+	}
+
+	private static Index copyIndex(Index index, Store to)
+	{
+		Index toIndex = to.addIndex(index.getId());
+		toIndex.setProtocol(index.getProtocol());
+		toIndex.setNamed(index.isNamed());
+		toIndex.setSized(index.isSized());
+		toIndex.setRevision(index.getRevision());
+		toIndex.setCrc(index.getCrc());
+		toIndex.setCompression(index.getCompression());
+
+		for (Archive archive : index.getArchives())
+		{
+			Archive toArchive = toIndex.addArchive(archive.getArchiveId());
+			toArchive.setNameHash(archive.getNameHash());
+			toArchive.setCrc(archive.getCrc());
+			toArchive.setCompressedSize(archive.getCompressedSize());
+			toArchive.setDecompressedSize(archive.getDecompressedSize());
+			toArchive.setRevision(archive.getRevision());
+			toArchive.setCompression(archive.getCompression());
+
+			FileData[] fileData = archive.getFileData();
+			if (fileData != null)
+			{
+				FileData[] toFileData = new FileData[fileData.length];
+				for (int i = 0; i < fileData.length; ++i)
+				{
+					FileData fd = new FileData();
+					fd.setId(fileData[i].getId());
+					fd.setNameHash(fileData[i].getNameHash());
+					toFileData[i] = fd;
+				}
+				toArchive.setFileData(toFileData);
+			}
+		}
+		return toIndex;
+	}
+
+	private void copyContents(Archive archive, Archive toArchive, Store to) throws IOException
+	{
+		byte[] contents = storage.loadArchive(archive);
+		if (contents != null)
+		{
+			to.getStorage().saveArchive(toArchive, contents);
+		}
+	}
+
 	public Index getIndex(IndexType type)
 	{
 		return findIndex(type.getNumber());
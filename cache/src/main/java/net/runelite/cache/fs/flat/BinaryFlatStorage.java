@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.flat;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+
+/**
+ * A binary sibling of {@link FlatStorage}. Each index is stored in a single
+ * file consisting of a fixed size header, a table of archives sorted by id,
+ * the file tables of the archives, and finally the raw archive contents.
+ * <p>
+ * The output only depends on the contents of the store, so it is stable
+ * across saves and diffs well under git. Index files are memory mapped and
+ * archive contents are only read when requested.
+ * <p>
+ * Converting from and to other storages can be done with
+ * {@link Store#copyTo(Store)}.
+ */
+@Slf4j
+public class BinaryFlatStorage implements Storage
+{
+	static final String EXTENSION = ".flatbin";
+
+	private static final int MAGIC = 0x524c4642; // RLFB
+	private static final int VERSION = 1;
+
+	private static final int FLAG_NAMED = 1;
+	private static final int FLAG_SIZED = 2;
+
+	// magic, version, protocol, revision, compression, crc, flags, archive count
+	static final int HEADER_SIZE = 8 * 4;
+	// id, name hash, revision, crc, compression, compressed size, decompressed size,
+	// file count, file table offset, contents offset, contents length
+	static final int ENTRY_SIZE = 11 * 4;
+
+	private final File directory;
+	private final Map<Integer, ByteBuffer> mapped = new ConcurrentHashMap<>();
+	private final Map<Long, byte[]> pending = new ConcurrentHashMap<>();
+
+	public BinaryFlatStorage(File directory)
+	{
+		this.directory = directory;
+	}
+
+	@Override
+	public void init(Store store) throws IOException
+	{
+		String[] idxs = directory.list((dir, name) -> name.endsWith(EXTENSION));
+		if (idxs == null)
+		{
+			throw new IOException("unable to list " + directory);
+		}
+
+		for (String idx : idxs)
+		{
+			int id = Integer.parseInt(idx.substring(0, idx.length() - EXTENSION.length()));
+			store.addIndex(id);
+		}
+		store.getIndexes().sort(Comparator.comparingInt(Index::getId));
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		mapped.clear();
+		pending.clear();
+	}
+
+	@Override
+	public void load(Store store) throws IOException
+	{
+		for (Index idx : store.getIndexes())
+		{
+			ByteBuffer buf = map(idx.getId());
+			if (buf == null)
+			{
+				continue;
+			}
+
+			int flags = buf.getInt(24);
+			idx.setProtocol(buf.getInt(8));
+			idx.setRevision(buf.getInt(12));
+			idx.setCompression(buf.getInt(16));
+			idx.setCrc(buf.getInt(20));
+			idx.setNamed((flags & FLAG_NAMED) != 0);
+			idx.setSized((flags & FLAG_SIZED) != 0);
+
+			int count = buf.getInt(28);
+			for (int i = 0; i < count; ++i)
+			{
+				int pos = HEADER_SIZE + i * ENTRY_SIZE;
+
+				Archive archive = idx.addArchive(buf.getInt(pos));
+				archive.setNameHash(buf.getInt(pos + 4));
+				archive.setRevision(buf.getInt(pos + 8));
+				archive.setCrc(buf.getInt(pos + 12));
+				archive.setCompression(buf.getInt(pos + 16));
+				archive.setCompressedSize(buf.getInt(pos + 20));
+				archive.setDecompressedSize(buf.getInt(pos + 24));
+
+				int fileCount = buf.getInt(pos + 28);
+				int fileOffset = buf.getInt(pos + 32);
+				if (fileCount < 0)
+				{
+					continue;
+				}
+
+				FileData[] fileData = new FileData[fileCount];
+				for (int j = 0; j < fileCount; ++j)
+				{
+					FileData fd = new FileData();
+					fd.setId(buf.getInt(fileOffset + j * 8));
+					fd.setNameHash(buf.getInt(fileOffset + j * 8 + 4));
+					fileData[j] = fd;
+				}
+				archive.setFileData(fileData);
+			}
+		}
+	}
+
+	@Override
+	public void save(Store store) throws IOException
+	{
+		store.getIndexes().sort(Comparator.comparingInt(Index::getId));
+		for (Index idx : store.getIndexes())
+		{
+			saveIndex(store, idx);
+		}
+	}
+
+	@Override
+	public void save(Store store, List<Index> indexes) throws IOException
+	{
+		for (Index idx : indexes)
+		{
+			saveIndex(store, idx);
+		}
+	}
+
+	private void saveIndex(Store store, Index idx) throws IOException
+	{
+		List<Archive> archives = idx.getArchives();
+
+		// read all of the contents before the file is replaced, they may be backed by it
+		byte[][] contents = new byte[archives.size()][];
+		long dataOffset = HEADER_SIZE + (long) archives.size() * ENTRY_SIZE;
+		for (int i = 0; i < archives.size(); ++i)
+		{
+			Archive archive = archives.get(i);
+			contents[i] = store.getStorage().loadArchive(archive);
+			dataOffset += Math.max(fileCount(archive), 0) * 8L;
+		}
+
+		File file = new File(directory, idx.getId() + EXTENSION);
+		File tmp = new File(directory, idx.getId() + EXTENSION + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp))))
+		{
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(idx.getProtocol());
+			out.writeInt(idx.getRevision());
+			out.writeInt(idx.getCompression());
+			out.writeInt(idx.getCrc());
+			out.writeInt((idx.isNamed() ? FLAG_NAMED : 0) | (idx.isSized() ? FLAG_SIZED : 0));
+			out.writeInt(archives.size());
+
+			long fileOffset = HEADER_SIZE + (long) archives.size() * ENTRY_SIZE;
+			for (int i = 0; i < archives.size(); ++i)
+			{
+				Archive archive = archives.get(i);
+				int fileCount = fileCount(archive);
+				byte[] data = contents[i];
+
+				if (dataOffset + (data == null ? 0 : data.length) > Integer.MAX_VALUE)
+				{
+					throw new IOException("index " + idx.getId() + " is too large");
+				}
+
+				out.writeInt(archive.getArchiveId());
+				out.writeInt(archive.getNameHash());
+				out.writeInt(archive.getRevision());
+				out.writeInt(archive.getCrc());
+				out.writeInt(archive.getCompression());
+				out.writeInt(archive.getCompressedSize());
+				out.writeInt(archive.getDecompressedSize());
+				out.writeInt(fileCount);
+				out.writeInt((int) fileOffset);
+				out.writeInt(data == null ? 0 : (int) dataOffset);
+				out.writeInt(data == null ? -1 : data.length);
+
+				fileOffset += Math.max(fileCount, 0) * 8L;
+				if (data != null)
+				{
+					dataOffset += data.length;
+				}
+			}
+
+			for (Archive archive : archives)
+			{
+				if (archive.getFileData() == null)
+				{
+					continue;
+				}
+
+				for (FileData fd : archive.getFileData())
+				{
+					out.writeInt(fd.getId());
+					out.writeInt(fd.getNameHash());
+				}
+			}
+
+			for (byte[] data : contents)
+			{
+				if (data != null)
+				{
+					out.write(data);
+				}
+			}
+		}
+
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		mapped.remove(idx.getId());
+		pending.keySet().removeIf(key -> (int) (key >>> 32) == idx.getId());
+	}
+
+	@Override
+	public byte[] load(int index, int archive) throws IOException
+	{
+		byte[] data = pending.get((long) index << 32 | archive);
+		if (data != null)
+		{
+			return data;
+		}
+
+		ByteBuffer buf = map(index);
+		if (buf == null)
+		{
+			return null;
+		}
+
+		int pos = findEntry(buf, archive);
+		if (pos < 0)
+		{
+			return null;
+		}
+
+		int offset = buf.getInt(pos + 36);
+		int length = buf.getInt(pos + 40);
+		if (length < 0)
+		{
+			return null;
+		}
+
+		data = new byte[length];
+		ByteBuffer view = buf.duplicate();
+		view.position(offset);
+		view.get(data);
+		return data;
+	}
+
+	@Override
+	public void store(int index, int archive, byte[] data)
+	{
+		pending.put((long) index << 32 | archive, data);
+	}
+
+	private ByteBuffer map(int index) throws IOException
+	{
+		ByteBuffer buf = mapped.get(index);
+		if (buf != null)
+		{
+			return buf;
+		}
+
+		File file = new File(directory, index + EXTENSION);
+		if (!file.exists())
+		{
+			return null;
+		}
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r"))
+		{
+			long length = raf.length();
+			if (length < HEADER_SIZE || length > Integer.MAX_VALUE)
+			{
+				throw new IOException("invalid length for " + file + ": " + length);
+			}
+
+			buf = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, length);
+		}
+
+		if (buf.getInt(0) != MAGIC)
+		{
+			throw new IOException("invalid magic in " + file);
+		}
+
+		int version = buf.getInt(4);
+		if (version != VERSION)
+		{
+			throw new IOException("unsupported version " + version + " in " + file);
+		}
+
+		if (HEADER_SIZE + (long) buf.getInt(28) * ENTRY_SIZE > buf.capacity())
+		{
+			throw new IOException("truncated archive table in " + file);
+		}
+
+		log.debug("Mapped {} ({} bytes)", file, buf.capacity());
+
+		ByteBuffer existing = mapped.putIfAbsent(index, buf);
+		return existing != null ? existing : buf;
+	}
+
+	private static int fileCount(Archive archive)
+	{
+		FileData[] fileData = archive.getFileData();
+		return fileData == null ? -1 : fileData.length;
+	}
+
+	private static int findEntry(ByteBuffer buf, int archive)
+	{
+		int low = 0;
+		int high = buf.getInt(28) - 1;
+		while (low <= high)
+		{
+			int mid = (low + high) >>> 1;
+			int pos = HEADER_SIZE + mid * ENTRY_SIZE;
+			int id = buf.getInt(pos);
+			if (id < archive)
+			{
+				low = mid + 1;
+			}
+			else if (id > archive)
+			{
+				high = mid - 1;
+			}
+			else
+			{
+				return pos;
+			}
+		}
+		return -1;
+	}
+}
@@ -91,6 +91,7 @@ public class FlatStorage implements Storage
 			int id = Integer.parseInt(idx.substring(0, idx.length() - EXTENSION.length()));
 			store.addIndex(id);
 		}
+		store.getIndexes().sort(Comparator.comparingInt(Index::getId));
 	}
 
 	@Override
@@ -210,35 +211,49 @@ public class FlatStorage implements Storage
 		store.getIndexes().sort(Comparator.comparingInt(Index::getId));
 		for (Index idx : store.getIndexes())
 		{
-			String file = idx.getId() + EXTENSION;
-			try (PrintStream br = new PrintStream(openWriter(file), false, StandardCharsets.UTF_8.name()))
+			saveIndex(store, idx);
+		}
+	}
+
+	@Override
+	public void save(Store store, List<Index> indexes) throws IOException
+	{
+		for (Index idx : indexes)
+		{
+			saveIndex(store, idx);
+		}
+	}
+
+	private void saveIndex(Store store, Index idx) throws IOException
+	{
+		String file = idx.getId() + EXTENSION;
+		try (PrintStream br = new PrintStream(openWriter(file), false, StandardCharsets.UTF_8.name()))
+		{
+			br.printf("protocol=%d\n", idx.getProtocol());
+			br.printf("revision=%d\n", idx.getRevision());
+			br.printf("compression=%d\n", idx.getCompression());
+			br.printf("crc=%d\n", idx.getCrc());
+			br.printf("named=%b\n", idx.isNamed());
+
+			for (Archive archive : idx.getArchives())
 			{
-				br.printf("protocol=%d\n", idx.getProtocol());
-				br.printf("revision=%d\n", idx.getRevision());
-				br.printf("compression=%d\n", idx.getCompression());
-				br.printf("crc=%d\n", idx.getCrc());
-				br.printf("named=%b\n", idx.isNamed());
+				br.printf("id=%d\n", archive.getArchiveId());
+				br.printf("namehash=%d\n", archive.getNameHash());
+				br.printf("revision=%d\n", archive.getRevision());
+				br.printf("crc=%d\n", archive.getCrc());
 
-				for (Archive archive : idx.getArchives())
+				byte[] contents = store.getStorage().loadArchive(archive);
+				if (contents != null)
 				{
-					br.printf("id=%d\n", archive.getArchiveId());
-					br.printf("namehash=%d\n", archive.getNameHash());
-					br.printf("revision=%d\n", archive.getRevision());
-					br.printf("crc=%d\n", archive.getCrc());
-
-					byte[] contents = store.getStorage().loadArchive(archive);
-					if (contents != null)
-					{
-						br.append("contents=");
-						br.write(Base64.getEncoder().encode(contents));
-						br.append("\n");
-					}
+					br.append("contents=");
+					br.write(Base64.getEncoder().encode(contents));
+					br.append("\n");
+				}
 
-					br.printf("compression=%d\n", archive.getCompression());
-					for (FileData fd : archive.getFileData())
-					{
-						br.printf("file=%d=%d\n", fd.getId(), fd.getNameHash());
-					}
+				br.printf("compression=%d\n", archive.getCompression());
+				for (FileData fd : archive.getFileData())
+				{
+					br.printf("file=%d=%d\n", fd.getId(), fd.getNameHash());
 				}
 			}
 		}
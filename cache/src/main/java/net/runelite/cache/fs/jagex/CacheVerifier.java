@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.jagex;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.ParallelBatches;
+import net.runelite.cache.fs.jagex.VerificationReport.Mismatch;
+import net.runelite.cache.fs.jagex.VerificationReport.MismatchType;
+import net.runelite.cache.index.ArchiveData;
+import net.runelite.cache.index.IndexData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Verifies the archives of a cache against its reference tables. Each
+ * archive's container crc and revision are recomputed straight from the data
+ * file and compared to the values in the reference table, without
+ * decompressing the archive.
+ * <p>
+ * When the storage is memory mapped the archives are checksummed in place in
+ * the mapping, otherwise each archive is first read into memory.
+ */
+public class CacheVerifier
+{
+	private static final Logger logger = LoggerFactory.getLogger(CacheVerifier.class);
+
+	private final DiskStorage storage;
+
+	public CacheVerifier(DiskStorage storage)
+	{
+		this.storage = storage;
+	}
+
+	/**
+	 * Verify every archive of every index
+	 *
+	 * @param executor executor to verify archives on
+	 * @return the report
+	 * @throws IOException
+	 */
+	public VerificationReport verify(Executor executor) throws IOException
+	{
+		int indexCount = storage.getIndex(255).getIndexCount();
+		ConcurrentLinkedQueue<Mismatch> mismatches = new ConcurrentLinkedQueue<>();
+		AtomicInteger archiveCount = new AtomicInteger();
+		AtomicLong byteCount = new AtomicLong();
+
+		// reference tables are read first, so that the archives of large indexes can be split up
+		List<CompletableFuture<IndexData>> tables = new ArrayList<>(indexCount);
+		for (int i = 0; i < indexCount; ++i)
+		{
+			int indexId = i;
+			tables.add(CompletableFuture.supplyAsync(() -> loadReferenceTable(indexId, mismatches), executor));
+		}
+
+		ParallelBatches batches = new ParallelBatches(executor);
+		for (int i = 0; i < indexCount; ++i)
+		{
+			IndexData table = ParallelBatches.join(tables.get(i));
+			if (table == null)
+			{
+				continue;
+			}
+
+			IndexFile indexFile = storage.getIndex(i);
+			ArchiveData[] archives = table.getArchives();
+			batches.submit(archives.length, (start, end) ->
+			{
+				long bytes = 0L;
+				for (int j = start; j < end; ++j)
+				{
+					bytes += verifyArchive(indexFile, archives[j], mismatches);
+				}
+				archiveCount.addAndGet(end - start);
+				byteCount.addAndGet(bytes);
+			});
+		}
+		batches.join();
+
+		List<Mismatch> sorted = new ArrayList<>(mismatches);
+		sorted.sort(Comparator.comparingInt(Mismatch::getIndex)
+			.thenComparingInt(Mismatch::getArchive)
+			.thenComparing(Mismatch::getType));
+
+		logger.info("Verified {} archives ({} bytes) in {} indexes, {} mismatches",
+			archiveCount.get(), byteCount.get(), indexCount, sorted.size());
+
+		return new VerificationReport(indexCount, archiveCount.get(), byteCount.get(), sorted);
+	}
+
+	private IndexData loadReferenceTable(int indexId, ConcurrentLinkedQueue<Mismatch> mismatches)
+	{
+		byte[] data;
+		try
+		{
+			data = storage.readIndex(indexId);
+		}
+		catch (IOException ex)
+		{
+			throw new CompletionException(ex);
+		}
+
+		if (data == null)
+		{
+			mismatches.add(new Mismatch(indexId, -1, MismatchType.REFERENCE_TABLE, null, null, "reference table is missing"));
+			return null;
+		}
+
+		try
+		{
+			Container container = Container.decompress(data, null);
+			IndexData table = new IndexData();
+			table.load(container.data);
+			return table;
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			mismatches.add(new Mismatch(indexId, -1, MismatchType.REFERENCE_TABLE, null, null, String.valueOf(ex.getMessage())));
+			return null;
+		}
+	}
+
+	/**
+	 * Verify a single archive
+	 *
+	 * @return the number of bytes checksummed
+	 */
+	private long verifyArchive(IndexFile indexFile, ArchiveData archive, ConcurrentLinkedQueue<Mismatch> mismatches) throws IOException
+	{
+		int indexId = indexFile.getIndexFileId();
+		int archiveId = archive.getId();
+
+		IndexEntry entry = indexFile.read(archiveId);
+		if (entry == null)
+		{
+			mismatches.add(new Mismatch(indexId, archiveId, MismatchType.MISSING, null, null, null));
+			return 0L;
+		}
+
+		int size = entry.getLength();
+		if (size < ContainerChecksum.HEADER_SIZE)
+		{
+			mismatches.add(new Mismatch(indexId, archiveId, MismatchType.CORRUPT, null, size, "archive is shorter than a container header"));
+			return 0L;
+		}
+
+		ContainerChecksum checksum = new ContainerChecksum();
+		if (!storage.getData().read(indexId, archiveId, entry.getSector(), size, checksum))
+		{
+			mismatches.add(new Mismatch(indexId, archiveId, MismatchType.CORRUPT, null, null, "invalid sector chain"));
+			return 0L;
+		}
+
+		if (checksum.compression > CompressionType.GZ)
+		{
+			mismatches.add(new Mismatch(indexId, archiveId, MismatchType.CORRUPT, null, checksum.compression, "unknown compression type"));
+			return size;
+		}
+
+		if (checksum.end < 0 || checksum.end > size)
+		{
+			mismatches.add(new Mismatch(indexId, archiveId, MismatchType.CORRUPT, size, (int) checksum.end, "container is truncated"));
+			return size;
+		}
+
+		int crc = (int) checksum.crc.getValue();
+		if (crc != archive.getCrc())
+		{
+			mismatches.add(new Mismatch(indexId, archiveId, MismatchType.CRC, archive.getCrc(), crc, null));
+		}
+
+		// the revision trailer is optional, and only holds the low 16 bits of the revision
+		if (size - checksum.end >= 2 && checksum.revision != (archive.getRevision() & 0xFFFF))
+		{
+			mismatches.add(new Mismatch(indexId, archiveId, MismatchType.REVISION, archive.getRevision() & 0xFFFF, checksum.revision, null));
+		}
+
+		return size;
+	}
+
+	/**
+	 * Computes the crc and reads the revision of a container as its blocks
+	 * are read. The crc covers the container header and payload, but not the
+	 * revision trailer, the same as {@link Container#decompress(byte[], int[])}.
+	 */
+	private static class ContainerChecksum implements DataFile.BlockConsumer
+	{
+		// compression + compressed length
+		static final int HEADER_SIZE = 5;
+
+		final CRC32 crc = new CRC32();
+		int compression;
+		/**
+		 * end of the payload in the archive, or -1 if the header is invalid
+		 */
+		long end;
+		int revision;
+
+		@Override
+		public void accept(ByteBuffer buffer, int position, int offset, int length)
+		{
+			if (offset == 0)
+			{
+				// the first block always holds the full header
+				compression = buffer.get(position) & 0xFF;
+				int compressedLength = buffer.getInt(position + 1);
+				// the compressed data is prefixed with the decompressed length
+				long payloadLength = compression == CompressionType.NONE ? compressedLength : compressedLength + 4L;
+				end = compressedLength < 0 ? -1L : HEADER_SIZE + payloadLength;
+			}
+
+			if (end < 0)
+			{
+				return;
+			}
+
+			int crcLength = (int) Math.min(length, end - offset);
+			if (crcLength > 0)
+			{
+				buffer.limit(position + crcLength);
+				buffer.position(position);
+				crc.update(buffer);
+				buffer.clear();
+			}
+
+			for (long i = Math.max(offset, end); i < Math.min(offset + length, end + 2); ++i)
+			{
+				revision = revision << 8 | buffer.get(position + (int) (i - offset)) & 0xFF;
+			}
+		}
+	}
+}
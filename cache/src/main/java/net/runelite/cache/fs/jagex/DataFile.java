@@ -30,6 +30,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.BitSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,25 +40,97 @@ public class DataFile implements Closeable
 	private static final Logger logger = LoggerFactory.getLogger(DataFile.class);
 
 	private static final int SECTOR_SIZE = 520;
+	// sector numbers are stored in 3 bytes
+	private static final int MAX_SECTOR = 0xFFFFFF;
 
 	private final RandomAccessFile dat;
+	private final boolean memoryMapped;
+	/**
+	 * read only mapping of the data file, or null if the file has not been
+	 * mapped yet. This is replaced with a larger mapping when the file grows.
+	 */
+	private volatile ByteBuffer mapped;
+	/**
+	 * sectors of superseded archives which may be reused
+	 */
+	private final BitSet freeSectors = new BitSet();
+	private volatile boolean reuseSectors;
+	/**
+	 * next sector to append at, or -1 if it has not been computed yet
+	 */
+	private int appendSector = -1;
 
 	public DataFile(File file) throws FileNotFoundException
+	{
+		this(file, false);
+	}
+
+	/**
+	 * @param file data file
+	 * @param memoryMapped if reads should go through a read only memory
+	 * mapping of the file. Mapped reads do not lock, so multiple archives can
+	 * be read concurrently.
+	 * @throws FileNotFoundException
+	 */
+	public DataFile(File file, boolean memoryMapped) throws FileNotFoundException
 	{
 		this.dat = new RandomAccessFile(file, "rw");
+		this.memoryMapped = memoryMapped;
 	}
 
 	@Override
-	public void close() throws IOException
+	public synchronized void close() throws IOException
 	{
+		mapped = null;
 		dat.close();
 	}
 
-	public void clear() throws IOException
+	public synchronized void clear() throws IOException
 	{
+		mapped = null;
+		freeSectors.clear();
+		appendSector = -1;
 		dat.setLength(0L);
 	}
 
+	/**
+	 * Get a mapping of the data file which covers at least the given length.
+	 * If the file is shorter than the length the returned mapping is too,
+	 * and the file is only remapped if it has grown since it was last mapped.
+	 *
+	 * @param length required length
+	 * @return the mapping, or null if the file is too large to be mapped
+	 * @throws IOException
+	 */
+	private ByteBuffer map(long length) throws IOException
+	{
+		ByteBuffer map = mapped;
+		if (map != null && (map.capacity() >= length || map.capacity() >= dat.length()))
+		{
+			return map;
+		}
+
+		synchronized (this)
+		{
+			long fileLength = dat.length();
+			map = mapped;
+			if (map != null && (map.capacity() >= length || map.capacity() >= fileLength))
+			{
+				return map;
+			}
+
+			if (fileLength > Integer.MAX_VALUE)
+			{
+				return null;
+			}
+
+			logger.trace("Mapping data file, length {}", fileLength);
+			map = dat.getChannel().map(FileChannel.MapMode.READ_ONLY, 0L, fileLength);
+			mapped = map;
+			return map;
+		}
+	}
+
 	/**
 	 *
 	 * @param indexId expected index of archive of contents being read
@@ -66,7 +140,151 @@ public class DataFile implements Closeable
 	 * @return
 	 * @throws IOException
 	 */
-	public synchronized byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	public byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	{
+		if (memoryMapped)
+		{
+			ByteBuffer map = map((long) SECTOR_SIZE * sector);
+			if (map != null)
+			{
+				return readMapped(map, indexId, archiveId, sector, size);
+			}
+		}
+
+		return readFile(indexId, archiveId, sector, size);
+	}
+
+	/**
+	 * Read an archive block by block, without copying it out of the data
+	 * file when it is memory mapped. The blocks are passed to the consumer
+	 * in order, and consecutive blocks are contiguous in the archive.
+	 *
+	 * @param indexId expected index of archive of contents being read
+	 * @param archiveId expected archive of contents being read
+	 * @param sector sector to start reading at
+	 * @param size size of file
+	 * @param consumer consumer of the archive's blocks
+	 * @return true if the archive was read, false if its sectors are invalid
+	 * @throws IOException
+	 */
+	public boolean read(int indexId, int archiveId, int sector, int size, BlockConsumer consumer) throws IOException
+	{
+		if (memoryMapped)
+		{
+			ByteBuffer map = map((long) SECTOR_SIZE * sector);
+			if (map != null)
+			{
+				return readMapped(map, indexId, archiveId, sector, size, consumer);
+			}
+		}
+
+		byte[] data = readFile(indexId, archiveId, sector, size);
+		if (data == null)
+		{
+			return false;
+		}
+
+		consumer.accept(ByteBuffer.wrap(data), 0, 0, size);
+		return true;
+	}
+
+	private byte[] readMapped(ByteBuffer map, int indexId, int archiveId, int sector, int size) throws IOException
+	{
+		byte[] data = new byte[size];
+		boolean read = readMapped(map, indexId, archiveId, sector, size, (buffer, position, offset, length) ->
+		{
+			buffer.position(position);
+			buffer.get(data, offset, length);
+		});
+		return read ? data : null;
+	}
+
+	private boolean readMapped(ByteBuffer map, int indexId, int archiveId, int sector, int size, BlockConsumer consumer) throws IOException
+	{
+		if (sector <= 0L || map.capacity() / SECTOR_SIZE < sector)
+		{
+			logger.warn("bad read, dat length {}, requested sector {}", map.capacity(), sector);
+			return false;
+		}
+
+		// the mapping is shared between threads, so use a private view of it
+		ByteBuffer view = map.duplicate();
+		int headerSize = archiveId > 0xFFFF ? 10 : 8;
+
+		for (int part = 0, readBytesCount = 0, nextSector;
+			size > readBytesCount;
+			sector = nextSector)
+		{
+			if (sector == 0)
+			{
+				logger.warn("Unexpected end of file");
+				return false;
+			}
+
+			int dataBlockSize = Math.min(size - readBytesCount, SECTOR_SIZE - headerSize);
+			long position = (long) SECTOR_SIZE * sector;
+			if (position + headerSize + dataBlockSize > view.capacity())
+			{
+				// the file has grown since it was mapped
+				map = map(position + headerSize + dataBlockSize);
+				if (map == null || position + headerSize + dataBlockSize > map.capacity())
+				{
+					logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
+					return false;
+				}
+
+				view = map.duplicate();
+			}
+
+			int pos = (int) position;
+			int currentIndex;
+			int currentPart;
+			int currentArchive;
+			if (headerSize == 10)
+			{
+				currentArchive = view.getInt(pos);
+				currentPart = view.getShort(pos + 4) & 0xFFFF;
+				nextSector = ((view.get(pos + 6) & 0xFF) << 16)
+					| ((view.get(pos + 7) & 0xFF) << 8)
+					| (view.get(pos + 8) & 0xFF);
+				currentIndex = view.get(pos + 9) & 0xFF;
+			}
+			else
+			{
+				currentArchive = view.getShort(pos) & 0xFFFF;
+				currentPart = view.getShort(pos + 2) & 0xFFFF;
+				nextSector = ((view.get(pos + 4) & 0xFF) << 16)
+					| ((view.get(pos + 5) & 0xFF) << 8)
+					| (view.get(pos + 6) & 0xFF);
+				currentIndex = view.get(pos + 7) & 0xFF;
+			}
+
+			if (archiveId != currentArchive || currentPart != part || indexId != currentIndex)
+			{
+				logger.warn("data mismatch {} != {}, {} != {}, {} != {}",
+					archiveId, currentArchive,
+					part, currentPart,
+					indexId, currentIndex);
+				return false;
+			}
+
+			if (nextSector < 0)
+			{
+				logger.warn("Invalid next sector");
+				return false;
+			}
+
+			consumer.accept(view, pos + headerSize, readBytesCount, dataBlockSize);
+			view.clear();
+			readBytesCount += dataBlockSize;
+
+			++part;
+		}
+
+		return true;
+	}
+
+	private synchronized byte[] readFile(int indexId, int archiveId, int sector, int size) throws IOException
 	{
 		if (sector <= 0L || dat.length() / SECTOR_SIZE < (long) sector)
 		{
@@ -169,85 +387,306 @@ public class DataFile implements Closeable
 		return buffer.array();
 	}
 
-	public synchronized DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
+	/**
+	 * Write an archive to the data file. The sectors of the archive are
+	 * reserved up front, after which the data is written without holding any
+	 * lock, so multiple archives can be written concurrently.
+	 *
+	 * @param indexId index of the archive
+	 * @param archiveId archive id
+	 * @param compressedData archive contents
+	 * @return
+	 * @throws IOException
+	 */
+	public DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
+	{
+		int headerSize = archiveId > 0xFFFF ? 10 : 8;
+		int blockSize = SECTOR_SIZE - headerSize;
+		int sectorCount = (compressedData.length + blockSize - 1) / blockSize;
+		int[] sectors = allocate(sectorCount);
+
+		FileChannel channel = dat.getChannel();
+		for (int part = 0; part < sectorCount; )
+		{
+			// write runs of consecutive sectors at once
+			int run = 1;
+			while (part + run < sectorCount && sectors[part + run] == sectors[part] + run)
+			{
+				++run;
+			}
+
+			ByteBuffer buffer = ByteBuffer.allocate(run * SECTOR_SIZE);
+			for (int i = part; i < part + run; ++i)
+			{
+				int nextSector = i + 1 < sectorCount ? sectors[i + 1] : 0;
+				int offset = i * blockSize;
+
+				if (headerSize == 10)
+				{
+					buffer.putInt(archiveId);
+				}
+				else
+				{
+					buffer.putShort((short) archiveId);
+				}
+				buffer.putShort((short) i);
+				buffer.put((byte) (nextSector >> 16));
+				buffer.put((byte) (nextSector >> 8));
+				buffer.put((byte) nextSector);
+				buffer.put((byte) indexId);
+				buffer.put(compressedData, offset, Math.min(blockSize, compressedData.length - offset));
+			}
+
+			buffer.flip();
+			long position = (long) SECTOR_SIZE * sectors[part];
+			while (buffer.hasRemaining())
+			{
+				position += channel.write(buffer, position);
+			}
+
+			part += run;
+		}
+
+		DataFileWriteResult res = new DataFileWriteResult();
+		res.sector = sectorCount > 0 ? sectors[0] : 0;
+		res.compressedLength = compressedData.length;
+		return res;
+	}
+
+	/**
+	 * Reserve sectors for an archive. Free sectors are used first if sector
+	 * reuse is enabled, and then new sectors are appended to the file.
+	 *
+	 * @param count number of sectors
+	 * @return the sectors, in chain order
+	 * @throws IOException
+	 */
+	private synchronized int[] allocate(int count) throws IOException
 	{
-		int sector;
-		int startSector;
+		if (appendSector < 0)
+		{
+			appendSector = (int) Math.max(1L, (dat.length() + (long) (SECTOR_SIZE - 1)) / (long) SECTOR_SIZE);
+		}
+
+		int[] sectors = new int[count];
+		int i = 0;
+
+		if (reuseSectors)
+		{
+			for (int sector = freeSectors.nextSetBit(0); sector >= 0 && i < count; sector = freeSectors.nextSetBit(sector + 1))
+			{
+				freeSectors.clear(sector);
+				sectors[i++] = sector;
+			}
+		}
+
+		if (appendSector + (count - i) > MAX_SECTOR)
+		{
+			// give back the free sectors taken above
+			for (int j = 0; j < i; ++j)
+			{
+				freeSectors.set(sectors[j]);
+			}
+			throw new IOException("data file is full");
+		}
 
-		byte[] writeBuffer = new byte[SECTOR_SIZE];
-		ByteBuffer data = ByteBuffer.wrap(compressedData);
+		while (i < count)
+		{
+			sectors[i++] = appendSector++;
+		}
 
-		sector = (int) ((dat.length() + (long) (SECTOR_SIZE - 1)) / (long) SECTOR_SIZE);
-		if (sector == 0)
+		return sectors;
+	}
+
+	/**
+	 * Release the sectors of an archive which has been superseded, so that
+	 * they can be reused by later writes. This does nothing unless sector
+	 * reuse is enabled. The archive must not be read after being freed.
+	 *
+	 * @param indexId index of the archive
+	 * @param archiveId archive id
+	 * @param sector first sector of the archive
+	 * @param size size of the archive
+	 * @return the number of sectors freed
+	 * @throws IOException
+	 */
+	public int free(int indexId, int archiveId, int sector, int size) throws IOException
+	{
+		if (!reuseSectors || size <= 0)
 		{
-			sector = 1;
+			return 0;
 		}
-		startSector = sector;
 
-		for (int part = 0; data.hasRemaining(); ++part)
+		int[] sectors = new int[sectorCount(archiveId, size)];
+		int sectorCount = readChain(indexId, archiveId, sector, sectors);
+		if (sectorCount != sectors.length)
 		{
-			int nextSector = sector + 1; // we always just append sectors
-			int dataToWrite;
+			logger.warn("Unable to free {}/{}: invalid sector chain", indexId, archiveId);
+			return 0;
+		}
 
-			if (0xFFFF < archiveId)
+		synchronized (this)
+		{
+			for (int s : sectors)
 			{
-				if (data.remaining() <= 510)
-				{
-					nextSector = 0;
-				}
+				freeSectors.set(s);
+			}
+		}
 
-				writeBuffer[0] = (byte) (archiveId >> 24);
-				writeBuffer[1] = (byte) (archiveId >> 16);
-				writeBuffer[2] = (byte) (archiveId >> 8);
-				writeBuffer[3] = (byte) archiveId;
-				writeBuffer[4] = (byte) (part >> 8);
-				writeBuffer[5] = (byte) part;
-				writeBuffer[6] = (byte) (nextSector >> 16);
-				writeBuffer[7] = (byte) (nextSector >> 8);
-				writeBuffer[8] = (byte) nextSector;
-				writeBuffer[9] = (byte) indexId;
-				dat.seek(SECTOR_SIZE * sector);
-				dat.write(writeBuffer, 0, 10);
-
-				dataToWrite = data.remaining();
-				if (dataToWrite > 510)
-				{
-					dataToWrite = 510;
-				}
+		logger.trace("Freed {} sectors of {}/{}", sectorCount, indexId, archiveId);
+		return sectorCount;
+	}
+
+	/**
+	 * Mark the sectors of an archive as in use, for {@link #setUsedSectors(BitSet)}.
+	 * If the sector chain of the archive is broken, only the sectors up to
+	 * the break are marked, as the rest can not be reached from the archive.
+	 *
+	 * @param indexId index of the archive
+	 * @param archiveId archive id
+	 * @param sector first sector of the archive
+	 * @param size size of the archive
+	 * @param used sectors in use
+	 * @throws IOException
+	 */
+	void markUsed(int indexId, int archiveId, int sector, int size, BitSet used) throws IOException
+	{
+		if (size <= 0)
+		{
+			return;
+		}
+
+		int[] sectors = new int[sectorCount(archiveId, size)];
+		int sectorCount = readChain(indexId, archiveId, sector, sectors);
+		if (sectorCount != sectors.length)
+		{
+			logger.debug("Archive {}/{} has an invalid sector chain", indexId, archiveId);
+		}
+
+		for (int i = 0; i < sectorCount; ++i)
+		{
+			used.set(sectors[i]);
+		}
+	}
+
+	/**
+	 * Rebuild the free sectors from the sectors which are in use. Every other
+	 * sector before the end of the file becomes free. This must not be called
+	 * while archives are being written.
+	 *
+	 * @param used sectors of every archive referenced by the index files
+	 * @throws IOException
+	 */
+	synchronized void setUsedSectors(BitSet used) throws IOException
+	{
+		if (appendSector < 0)
+		{
+			appendSector = (int) Math.max(1L, (dat.length() + (long) (SECTOR_SIZE - 1)) / (long) SECTOR_SIZE);
+		}
+
+		freeSectors.clear();
+		freeSectors.set(1, appendSector);
+		freeSectors.andNot(used);
+	}
+
+	private static int sectorCount(int archiveId, int size)
+	{
+		int blockSize = SECTOR_SIZE - (archiveId > 0xFFFF ? 10 : 8);
+		return (size + blockSize - 1) / blockSize;
+	}
+
+	/**
+	 * Follow the sector chain of an archive by reading the sector headers
+	 *
+	 * @param sectors filled with the sectors of the chain
+	 * @return the number of sectors which were read before the chain ended
+	 * or did not match the archive
+	 */
+	private int readChain(int indexId, int archiveId, int sector, int[] sectors) throws IOException
+	{
+		int headerSize = archiveId > 0xFFFF ? 10 : 8;
+		FileChannel channel = dat.getChannel();
+		ByteBuffer header = ByteBuffer.allocate(headerSize);
+		for (int part = 0; part < sectors.length; ++part)
+		{
+			if (sector <= 0 || sector >= MAX_SECTOR)
+			{
+				return part;
 			}
-			else
+
+			header.clear();
+			long position = (long) SECTOR_SIZE * sector;
+			while (header.hasRemaining())
 			{
-				if (data.remaining() <= 512)
+				int i = channel.read(header, position + header.position());
+				if (i < 0)
 				{
-					nextSector = 0;
+					return part;
 				}
+			}
 
-				writeBuffer[0] = (byte) (archiveId >> 8);
-				writeBuffer[1] = (byte) archiveId;
-				writeBuffer[2] = (byte) (part >> 8);
-				writeBuffer[3] = (byte) part;
-				writeBuffer[4] = (byte) (nextSector >> 16);
-				writeBuffer[5] = (byte) (nextSector >> 8);
-				writeBuffer[6] = (byte) nextSector;
-				writeBuffer[7] = (byte) indexId;
-				dat.seek(SECTOR_SIZE * sector);
-				dat.write(writeBuffer, 0, 8);
-
-				dataToWrite = data.remaining();
-				if (dataToWrite > 512)
-				{
-					dataToWrite = 512;
-				}
+			int currentArchive = headerSize == 10 ? header.getInt(0) : header.getShort(0) & 0xFFFF;
+			int currentPart = header.getShort(headerSize - 6) & 0xFFFF;
+			int nextSector = ((header.get(headerSize - 4) & 0xFF) << 16)
+				| ((header.get(headerSize - 3) & 0xFF) << 8)
+				| (header.get(headerSize - 2) & 0xFF);
+			int currentIndex = header.get(headerSize - 1) & 0xFF;
+
+			if (archiveId != currentArchive || currentPart != part || indexId != currentIndex)
+			{
+				return part;
 			}
 
-			data.get(writeBuffer, 0, dataToWrite);
-			dat.write(writeBuffer, 0, dataToWrite);
+			sectors[part] = sector;
 			sector = nextSector;
 		}
+		return sectors.length;
+	}
 
-		DataFileWriteResult res = new DataFileWriteResult();
-		res.sector = startSector;
-		res.compressedLength = compressedData.length;
-		return res;
+	public boolean isReuseSectors()
+	{
+		return reuseSectors;
+	}
+
+	/**
+	 * Set whether sectors released with {@link #free(int, int, int, int)}
+	 * are reused by later writes. When disabled, writes always append to the
+	 * end of the file. Sectors freed before the data file was opened are not
+	 * known here, see {@link #setUsedSectors(BitSet)}.
+	 *
+	 * @param reuseSectors
+	 */
+	public synchronized void setReuseSectors(boolean reuseSectors)
+	{
+		this.reuseSectors = reuseSectors;
+		if (!reuseSectors)
+		{
+			freeSectors.clear();
+		}
+	}
+
+	/**
+	 * @return the number of sectors which are free for reuse
+	 */
+	public synchronized int getFreeSectorCount()
+	{
+		return freeSectors.cardinality();
+	}
+
+	/**
+	 * Consumer of the blocks of an archive
+	 */
+	@FunctionalInterface
+	public interface BlockConsumer
+	{
+		/**
+		 * @param buffer buffer holding the block. The buffer may be shared
+		 * with other blocks, and only the range of this block may be read.
+		 * Its position and limit may be freely changed.
+		 * @param position position of the block in the buffer
+		 * @param offset offset of the block in the archive
+		 * @param length length of the block
+		 */
+		void accept(ByteBuffer buffer, int position, int offset, int length);
 	}
 }
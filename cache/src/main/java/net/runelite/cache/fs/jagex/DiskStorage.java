@@ -27,11 +27,14 @@ package net.runelite.cache.fs.jagex;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
 import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.ParallelBatches;
 import net.runelite.cache.fs.Storage;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.index.ArchiveData;
@@ -47,17 +50,31 @@ public class DiskStorage implements Storage
 	private static final String MAIN_FILE_CACHE_IDX = "main_file_cache.idx";
 
 	private final File folder;
+	private final boolean memoryMapped;
 
 	private final DataFile data;
 	private final IndexFile index255;
-	private final List<IndexFile> indexFiles = new ArrayList<>();
+	private final List<IndexFile> indexFiles = new CopyOnWriteArrayList<>();
 
 	public DiskStorage(File folder) throws IOException
+	{
+		this(folder, false);
+	}
+
+	/**
+	 * @param folder cache folder
+	 * @param memoryMapped if the data and index files should be read through
+	 * memory mappings. This allows {@link #load(int, int)} to be called from
+	 * multiple threads without them contending on the data file.
+	 * @throws IOException
+	 */
+	public DiskStorage(File folder, boolean memoryMapped) throws IOException
 	{
 		this.folder = folder;
+		this.memoryMapped = memoryMapped;
 
-		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT));
-		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"));
+		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT), memoryMapped);
+		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"), memoryMapped);
 	}
 
 	@Override
@@ -83,13 +100,38 @@ public class DiskStorage implements Storage
 		}
 	}
 
-	private IndexFile getIndex(int i) throws FileNotFoundException
+	IndexFile getIndex(int i) throws FileNotFoundException
 	{
 		if (i == 255)
 		{
 			return index255;
 		}
 
+		IndexFile indexFile = findIndex(i);
+		if (indexFile != null)
+		{
+			return indexFile;
+		}
+
+		synchronized (indexFiles)
+		{
+			indexFile = findIndex(i);
+			if (indexFile == null)
+			{
+				indexFile = new IndexFile(i, new File(folder, MAIN_FILE_CACHE_IDX + i), memoryMapped);
+				indexFiles.add(indexFile);
+			}
+			return indexFile;
+		}
+	}
+
+	DataFile getData()
+	{
+		return data;
+	}
+
+	private IndexFile findIndex(int i)
+	{
 		for (IndexFile indexFile : indexFiles)
 		{
 			if (indexFile.getIndexFileId() == i)
@@ -97,10 +139,7 @@ public class DiskStorage implements Storage
 				return indexFile;
 			}
 		}
-
-		IndexFile indexFile = new IndexFile(i, new File(folder, MAIN_FILE_CACHE_IDX + i));
-		indexFiles.add(indexFile);
-		return indexFile;
+		return null;
 	}
 
 	@Override
@@ -174,6 +213,31 @@ public class DiskStorage implements Storage
 		}
 	}
 
+	@Override
+	public void save(Store store, List<Index> indexes) throws IOException
+	{
+		for (Index i : indexes)
+		{
+			saveIndex(i);
+		}
+	}
+
+	@Override
+	public void save(Store store, Index index, byte[] referenceTable) throws IOException
+	{
+		Container container = Container.decompress(referenceTable, null);
+		store(255, index.getId(), referenceTable);
+
+		index.setCrc(container.crc);
+		index.setCompression(container.compression);
+	}
+
+	@Override
+	public byte[] loadReferenceTable(int index) throws IOException
+	{
+		return readIndex(index);
+	}
+
 	private void saveIndex(Index index) throws IOException
 	{
 		IndexData indexData = index.toIndexData();
@@ -217,10 +281,118 @@ public class DiskStorage implements Storage
 		IndexFile indexFile = getIndex(index);
 		assert indexFile.getIndexFileId() == index;
 
+		IndexEntry previous = data.isReuseSectors() ? indexFile.read(archive) : null;
+
 		DataFileWriteResult res = data.write(index, archive, archiveData);
 		indexFile.write(new IndexEntry(indexFile, archive, res.sector, res.compressedLength));
 
 		logger.trace("Saved archive {}/{} at sector {}, compressed length {}",
 			index, archive, res.sector, res.compressedLength);
+
+		if (previous != null)
+		{
+			// only free the old sectors once the index no longer points to them
+			data.free(index, archive, previous.getSector(), previous.getLength());
+		}
+	}
+
+	/**
+	 * Set whether the sectors of archives which are overwritten are reused
+	 * for later writes. By default archives are always appended to the data
+	 * file, which causes it to grow every time an archive is saved.
+	 * <p>
+	 * Enabling this walks the sector chains of every archive in the index
+	 * files, so that the sectors left unused by earlier saves are reused
+	 * too. This must not be done while archives are being stored.
+	 * <p>
+	 * Archives may be stored from multiple threads regardless of this
+	 * setting, as long as each archive is only stored by one thread at a time.
+	 * When enabled, an archive must not be read while it is being overwritten.
+	 *
+	 * @param reuseSectors
+	 * @throws IOException
+	 */
+	public void setReuseSectors(boolean reuseSectors) throws IOException
+	{
+		data.setReuseSectors(reuseSectors);
+		if (reuseSectors)
+		{
+			BitSet used = new BitSet();
+			int indexCount = index255.getIndexCount();
+			for (int i = -1; i < indexCount; ++i)
+			{
+				IndexFile indexFile = i == -1 ? index255 : getIndex(i);
+				int count = indexFile.getIndexCount();
+				for (int id = 0; id < count; ++id)
+				{
+					IndexEntry entry = indexFile.read(id);
+					if (entry != null)
+					{
+						data.markUsed(indexFile.getIndexFileId(), id, entry.getSector(), entry.getLength(), used);
+					}
+				}
+			}
+			data.setUsedSectors(used);
+
+			logger.debug("{} free sectors in {}", data.getFreeSectorCount(), folder);
+		}
+	}
+
+	/**
+	 * Rewrite the cache densely into another folder. Only the archives which
+	 * are referenced by the index files are copied, so space left over from
+	 * overwritten archives is reclaimed. Archive contents are copied as is.
+	 *
+	 * @param folder folder to write the compacted cache to, which must not
+	 * already contain a cache
+	 * @param executor executor to copy archives on
+	 * @throws IOException
+	 */
+	public void compact(File folder, Executor executor) throws IOException
+	{
+		File dat = new File(folder, MAIN_FILE_CACHE_DAT);
+		if (dat.length() > 0)
+		{
+			throw new IOException("a cache already exists in " + folder);
+		}
+
+		try (DiskStorage out = new DiskStorage(folder))
+		{
+			ParallelBatches batches = new ParallelBatches(executor);
+			int indexCount = index255.getIndexCount();
+			for (int i = -1; i < indexCount; ++i)
+			{
+				IndexFile from = i == -1 ? index255 : getIndex(i);
+				IndexFile to = out.getIndex(from.getIndexFileId());
+				batches.submit(from.getIndexCount(), (start, end) -> copyEntries(from, out, to, start, end));
+			}
+			batches.join();
+		}
+
+		logger.info("Compacted cache from {} to {}", this.folder, folder);
+	}
+
+	private void copyEntries(IndexFile from, DiskStorage out, IndexFile to, int start, int end) throws IOException
+	{
+		for (int id = start; id < end; ++id)
+		{
+			IndexEntry entry = from.read(id);
+			byte[] archiveData = entry == null ? null
+				: data.read(from.getIndexFileId(), id, entry.getSector(), entry.getLength());
+			if (archiveData == null)
+			{
+				if (entry != null)
+				{
+					logger.warn("Unable to read archive {}/{}, dropping it", from.getIndexFileId(), id);
+				}
+
+				// keep the index file the same length
+				to.write(new IndexEntry(to, id, 0, 0));
+				continue;
+			}
+
+			DataFileWriteResult res = out.data.write(from.getIndexFileId(), id, archiveData);
+			to.write(new IndexEntry(to, id, res.sector, res.compressedLength));
+		}
 	}
 }
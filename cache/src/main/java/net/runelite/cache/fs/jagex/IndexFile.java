@@ -29,6 +29,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.slf4j.Logger;
@@ -46,25 +48,57 @@ public class IndexFile implements Closeable
 	private final File file;
 	private final RandomAccessFile idx;
 	private final byte[] buffer = new byte[INDEX_ENTRY_LEN];
+	private final boolean memoryMapped;
+	private volatile ByteBuffer mapped;
 
 	public IndexFile(int indexFileId, File file) throws FileNotFoundException
+	{
+		this(indexFileId, file, false);
+	}
+
+	public IndexFile(int indexFileId, File file, boolean memoryMapped) throws FileNotFoundException
 	{
 		this.indexFileId = indexFileId;
 		this.file = file;
 		this.idx = new RandomAccessFile(file, "rw");
+		this.memoryMapped = memoryMapped;
 	}
 
 	@Override
-	public void close() throws IOException
+	public synchronized void close() throws IOException
 	{
+		mapped = null;
 		idx.close();
 	}
 
-	public void clear() throws IOException
+	public synchronized void clear() throws IOException
 	{
+		mapped = null;
 		idx.setLength(0L);
 	}
 
+	private ByteBuffer map(long length) throws IOException
+	{
+		// reads past the end of the file, such as of missing archives, only remap if the file has grown
+		ByteBuffer map = mapped;
+		if (map != null && (map.capacity() >= length || map.capacity() >= idx.length()))
+		{
+			return map;
+		}
+
+		synchronized (this)
+		{
+			long fileLength = idx.length();
+			map = mapped;
+			if (map == null || (map.capacity() < length && map.capacity() < fileLength))
+			{
+				map = idx.getChannel().map(FileChannel.MapMode.READ_ONLY, 0L, fileLength);
+				mapped = map;
+			}
+			return map;
+		}
+	}
+
 	public synchronized void write(IndexEntry entry) throws IOException
 	{
 		idx.seek(entry.getId() * INDEX_ENTRY_LEN);
@@ -80,7 +114,27 @@ public class IndexFile implements Closeable
 		idx.write(buffer);
 	}
 
-	public synchronized IndexEntry read(int id) throws IOException
+	public IndexEntry read(int id) throws IOException
+	{
+		if (!memoryMapped)
+		{
+			return readFile(id);
+		}
+
+		int pos = id * INDEX_ENTRY_LEN;
+		ByteBuffer map = map(pos + INDEX_ENTRY_LEN);
+		if (map.capacity() < pos + INDEX_ENTRY_LEN)
+		{
+			logger.debug("short read for id {} on index {}", id, indexFileId);
+			return null;
+		}
+
+		int length = ((map.get(pos) & 0xFF) << 16) | ((map.get(pos + 1) & 0xFF) << 8) | (map.get(pos + 2) & 0xFF);
+		int sector = ((map.get(pos + 3) & 0xFF) << 16) | ((map.get(pos + 4) & 0xFF) << 8) | (map.get(pos + 5) & 0xFF);
+		return toEntry(id, length, sector);
+	}
+
+	private synchronized IndexEntry readFile(int id) throws IOException
 	{
 		idx.seek(id * INDEX_ENTRY_LEN);
 		int i = idx.read(buffer);
@@ -92,7 +146,11 @@ public class IndexFile implements Closeable
 
 		int length = ((buffer[0] & 0xFF) << 16) | ((buffer[1] & 0xFF) << 8) | (buffer[2] & 0xFF);
 		int sector = ((buffer[3] & 0xFF) << 16) | ((buffer[4] & 0xFF) << 8) | (buffer[5] & 0xFF);
+		return toEntry(id, length, sector);
+	}
 
+	private IndexEntry toEntry(int id, int length, int sector)
+	{
 		if (length <= 0 || sector <= 0)
 		{
 			logger.debug("invalid length or sector {}/{}", length, sector);
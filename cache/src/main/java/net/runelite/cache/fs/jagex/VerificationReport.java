@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.jagex;
+
+import java.util.List;
+import lombok.Value;
+
+/**
+ * Result of verifying a cache with {@link CacheVerifier}
+ */
+@Value
+public class VerificationReport
+{
+	public enum MismatchType
+	{
+		/**
+		 * the reference table of the index is missing or can't be decoded
+		 */
+		REFERENCE_TABLE,
+		/**
+		 * the archive is in the reference table, but not in the index file
+		 */
+		MISSING,
+		/**
+		 * the archive's sectors or container header are invalid
+		 */
+		CORRUPT,
+		/**
+		 * the crc of the container differs from the reference table
+		 */
+		CRC,
+		/**
+		 * the revision of the container differs from the reference table
+		 */
+		REVISION
+	}
+
+	@Value
+	public static class Mismatch
+	{
+		private final int index;
+		/**
+		 * archive id, or -1 for mismatches of the whole index
+		 */
+		private final int archive;
+		private final MismatchType type;
+		private final Integer expected;
+		private final Integer actual;
+		private final String detail;
+	}
+
+	/**
+	 * number of reference tables which were read
+	 */
+	private final int indexes;
+	/**
+	 * number of archives which were checked
+	 */
+	private final int archives;
+	/**
+	 * number of bytes which were checksummed
+	 */
+	private final long bytes;
+	/**
+	 * mismatches, ordered by index and archive
+	 */
+	private final List<Mismatch> mismatches;
+
+	public boolean isValid()
+	{
+		return mismatches.isEmpty();
+	}
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.pack;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An append only store of archive contents, addressed by the sha-256 of the
+ * contents. Each distinct archive is stored once, no matter how many
+ * indexes or cache revisions reference it.
+ * <p>
+ * The contents are appended to {@code objects.pack}, and for every object a
+ * record of its hash, offset and length is appended to {@code objects.idx},
+ * which is read into memory when the pack is opened. Objects are read
+ * through a memory mapping of the pack. Per revision manifests
+ * written by {@link PackStorage} are kept in the {@code manifests} folder.
+ * <p>
+ * Objects may be read and written from multiple threads.
+ */
+@Slf4j
+public class ContentPack implements Closeable
+{
+	static final String MANIFEST_EXTENSION = ".manifest";
+
+	private static final HashFunction HASH = Hashing.sha256();
+	static final int HASH_SIZE = 32;
+	// hash, offset, length
+	private static final int IDX_ENTRY_SIZE = HASH_SIZE + 8 + 4;
+
+	@Value
+	private static class Location
+	{
+		private final long offset;
+		private final int length;
+	}
+
+	private final File directory;
+	private final File manifests;
+	private final FileChannel pack;
+	private final FileChannel idx;
+	private final Map<HashCode, Location> objects = new ConcurrentHashMap<>();
+	/**
+	 * read only mapping of the pack, replaced with a larger one as the pack grows
+	 */
+	private volatile ByteBuffer mapped;
+	private long packLength;
+	private long idxLength;
+
+	public ContentPack(File directory) throws IOException
+	{
+		this.directory = directory;
+		this.manifests = new File(directory, "manifests");
+		if (!manifests.isDirectory() && !manifests.mkdirs())
+		{
+			throw new IOException("unable to create " + manifests);
+		}
+
+		pack = FileChannel.open(new File(directory, "objects.pack").toPath(),
+			StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		idx = FileChannel.open(new File(directory, "objects.idx").toPath(),
+			StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+		try
+		{
+			loadIndex();
+		}
+		catch (IOException ex)
+		{
+			close();
+			throw ex;
+		}
+	}
+
+	private void loadIndex() throws IOException
+	{
+		packLength = pack.size();
+		long length = idx.size() / IDX_ENTRY_SIZE * IDX_ENTRY_SIZE;
+		ByteBuffer buf = ByteBuffer.allocate(IDX_ENTRY_SIZE * 1024);
+		byte[] hash = new byte[HASH_SIZE];
+		long end = 0L;
+
+		for (long pos = 0L; pos < length; )
+		{
+			buf.clear();
+			buf.limit((int) Math.min(buf.capacity(), length - pos));
+			readFully(idx, buf, pos);
+			pos += buf.limit();
+			buf.flip();
+
+			while (buf.hasRemaining())
+			{
+				buf.get(hash);
+				long offset = buf.getLong();
+				int len = buf.getInt();
+				if (offset + len > packLength)
+				{
+					// written to the index but not the pack, such as after a crash. Later objects can't be valid either.
+					log.warn("Pack {} is truncated, ignoring objects past offset {}", directory, offset);
+					idxLength = end;
+					idx.truncate(end);
+					return;
+				}
+
+				objects.put(HashCode.fromBytes(hash.clone()), new Location(offset, len));
+				end += IDX_ENTRY_SIZE;
+			}
+		}
+
+		idxLength = end;
+		log.debug("Loaded {} objects from pack {} ({} bytes)", objects.size(), directory, packLength);
+	}
+
+	@Override
+	public synchronized void close() throws IOException
+	{
+		mapped = null;
+		try
+		{
+			pack.close();
+		}
+		finally
+		{
+			idx.close();
+		}
+	}
+
+	/**
+	 * Store contents in the pack if they are not already in it
+	 *
+	 * @param data contents
+	 * @return hash of the contents
+	 * @throws IOException
+	 */
+	public HashCode put(byte[] data) throws IOException
+	{
+		HashCode hash = HASH.hashBytes(data);
+		if (objects.containsKey(hash))
+		{
+			return hash;
+		}
+
+		synchronized (this)
+		{
+			if (objects.containsKey(hash))
+			{
+				return hash;
+			}
+
+			long offset = packLength;
+			writeFully(pack, ByteBuffer.wrap(data), offset);
+			packLength += data.length;
+
+			ByteBuffer entry = ByteBuffer.allocate(IDX_ENTRY_SIZE);
+			entry.put(hash.asBytes());
+			entry.putLong(offset);
+			entry.putInt(data.length);
+			entry.flip();
+			writeFully(idx, entry, idxLength);
+			idxLength += IDX_ENTRY_SIZE;
+
+			objects.put(hash, new Location(offset, data.length));
+		}
+		return hash;
+	}
+
+	/**
+	 * Read contents from the pack
+	 *
+	 * @param hash hash of the contents
+	 * @return the contents, or null if they are not in the pack
+	 * @throws IOException
+	 */
+	public byte[] get(HashCode hash) throws IOException
+	{
+		Location location = objects.get(hash);
+		if (location == null)
+		{
+			return null;
+		}
+
+		byte[] data = new byte[location.length];
+		long end = location.offset + location.length;
+		if (end > Integer.MAX_VALUE)
+		{
+			// beyond what can be mapped
+			readFully(pack, ByteBuffer.wrap(data), location.offset);
+			return data;
+		}
+
+		ByteBuffer map = map(end);
+		// the mapping is shared between threads, so use a private view of it
+		ByteBuffer view = map.duplicate();
+		view.position((int) location.offset);
+		view.get(data);
+		return data;
+	}
+
+	private ByteBuffer map(long length) throws IOException
+	{
+		ByteBuffer map = mapped;
+		if (map != null && map.capacity() >= length)
+		{
+			return map;
+		}
+
+		synchronized (this)
+		{
+			map = mapped;
+			if (map == null || map.capacity() < length)
+			{
+				map = pack.map(FileChannel.MapMode.READ_ONLY, 0L, Math.min(packLength, Integer.MAX_VALUE));
+				mapped = map;
+			}
+			return map;
+		}
+	}
+
+	public boolean contains(HashCode hash)
+	{
+		return objects.containsKey(hash);
+	}
+
+	/**
+	 * Flush the pack to disk, so that manifests written afterwards only
+	 * reference durable objects
+	 *
+	 * @throws IOException
+	 */
+	public synchronized void flush() throws IOException
+	{
+		pack.force(false);
+		idx.force(false);
+	}
+
+	/**
+	 * @return the number of objects in the pack
+	 */
+	public int getObjectCount()
+	{
+		return objects.size();
+	}
+
+	/**
+	 * @return the size of the pack in bytes
+	 */
+	public synchronized long getPackSize()
+	{
+		return packLength;
+	}
+
+	/**
+	 * @return the names of the revisions which have a manifest in this pack
+	 */
+	public List<String> getRevisions()
+	{
+		List<String> revisions = new ArrayList<>();
+		String[] names = manifests.list((dir, name) -> name.endsWith(MANIFEST_EXTENSION));
+		if (names != null)
+		{
+			for (String name : names)
+			{
+				revisions.add(name.substring(0, name.length() - MANIFEST_EXTENSION.length()));
+			}
+		}
+		revisions.sort(null);
+		return revisions;
+	}
+
+	File getManifest(String revision)
+	{
+		if (revision.isEmpty() || revision.indexOf('/') != -1 || revision.indexOf('\\') != -1 || revision.startsWith("."))
+		{
+			throw new IllegalArgumentException("invalid revision name: " + revision);
+		}
+		return new File(manifests, revision + MANIFEST_EXTENSION);
+	}
+
+	private static void readFully(FileChannel channel, ByteBuffer buf, long position) throws IOException
+	{
+		while (buf.hasRemaining())
+		{
+			int i = channel.read(buf, position);
+			if (i < 0)
+			{
+				throw new IOException("unexpected end of pack");
+			}
+			position += i;
+		}
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buf, long position) throws IOException
+	{
+		while (buf.hasRemaining())
+		{
+			position += channel.write(buf, position);
+		}
+	}
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.pack;
+
+import com.google.common.hash.HashCode;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+
+/**
+ * A storage for one revision of a cache, with the archive contents
+ * deduplicated in a {@link ContentPack} shared by all revisions. The
+ * revision itself is a manifest of the indexes and archives, which
+ * references the contents of each archive by hash. Keeping many revisions
+ * in one pack costs one copy of each distinct archive, plus a manifest per
+ * revision.
+ * <p>
+ * Archives may be loaded and stored from multiple threads, so revisions can
+ * be imported in parallel with {@link Store#copyTo(Store, java.util.concurrent.Executor)}.
+ * Closing the storage does not close the pack.
+ */
+@Slf4j
+public class PackStorage implements Storage
+{
+	private static final int MAGIC = 0x524c504d; // RLPM
+	private static final int VERSION = 1;
+
+	private static final int FLAG_NAMED = 1;
+	private static final int FLAG_SIZED = 2;
+
+	private final ContentPack pack;
+	private final File manifest;
+	private final Map<Long, HashCode> archives = new ConcurrentHashMap<>();
+
+	/**
+	 * @param pack pack to store the archive contents in
+	 * @param revision name of the revision, which is used as the name of its manifest
+	 */
+	public PackStorage(ContentPack pack, String revision)
+	{
+		this.pack = pack;
+		this.manifest = pack.getManifest(revision);
+	}
+
+	@Override
+	public void init(Store store) throws IOException
+	{
+		if (!manifest.exists())
+		{
+			return;
+		}
+
+		try (DataInputStream in = openManifest())
+		{
+			int count = in.readInt();
+			for (int i = 0; i < count; ++i)
+			{
+				store.addIndex(in.readInt());
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		archives.clear();
+	}
+
+	@Override
+	public void load(Store store) throws IOException
+	{
+		if (!manifest.exists())
+		{
+			return;
+		}
+
+		byte[] hash = new byte[ContentPack.HASH_SIZE];
+		try (DataInputStream in = openManifest())
+		{
+			int count = in.readInt();
+			in.skipBytes(count * 4);
+
+			for (int i = 0; i < count; ++i)
+			{
+				int id = in.readInt();
+				Index index = store.findIndex(id);
+				if (index == null)
+				{
+					index = store.addIndex(id);
+				}
+
+				index.setProtocol(in.readInt());
+				index.setRevision(in.readInt());
+				index.setCompression(in.readInt());
+				index.setCrc(in.readInt());
+				int flags = in.readInt();
+				index.setNamed((flags & FLAG_NAMED) != 0);
+				index.setSized((flags & FLAG_SIZED) != 0);
+
+				int archiveCount = in.readInt();
+				for (int j = 0; j < archiveCount; ++j)
+				{
+					Archive archive = index.addArchive(in.readInt());
+					archive.setNameHash(in.readInt());
+					archive.setRevision(in.readInt());
+					archive.setCrc(in.readInt());
+					archive.setCompression(in.readInt());
+					archive.setCompressedSize(in.readInt());
+					archive.setDecompressedSize(in.readInt());
+
+					int fileCount = in.readInt();
+					if (fileCount >= 0)
+					{
+						FileData[] fileData = new FileData[fileCount];
+						for (int k = 0; k < fileCount; ++k)
+						{
+							FileData fd = fileData[k] = new FileData();
+							fd.setId(in.readInt());
+							fd.setNameHash(in.readInt());
+						}
+						archive.setFileData(fileData);
+					}
+
+					if (in.readBoolean())
+					{
+						in.readFully(hash);
+						archives.put(key(id, archive.getArchiveId()), HashCode.fromBytes(hash.clone()));
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public void save(Store store) throws IOException
+	{
+		// the manifest must only reference objects which are on disk
+		pack.flush();
+
+		List<Index> indexes = new ArrayList<>(store.getIndexes());
+		indexes.sort(Comparator.comparingInt(Index::getId));
+
+		File tmp = new File(manifest.getPath() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp))))
+		{
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(indexes.size());
+			for (Index index : indexes)
+			{
+				out.writeInt(index.getId());
+			}
+
+			for (Index index : indexes)
+			{
+				out.writeInt(index.getId());
+				out.writeInt(index.getProtocol());
+				out.writeInt(index.getRevision());
+				out.writeInt(index.getCompression());
+				out.writeInt(index.getCrc());
+				out.writeInt((index.isNamed() ? FLAG_NAMED : 0) | (index.isSized() ? FLAG_SIZED : 0));
+
+				out.writeInt(index.getArchives().size());
+				for (Archive archive : index.getArchives())
+				{
+					out.writeInt(archive.getArchiveId());
+					out.writeInt(archive.getNameHash());
+					out.writeInt(archive.getRevision());
+					out.writeInt(archive.getCrc());
+					out.writeInt(archive.getCompression());
+					out.writeInt(archive.getCompressedSize());
+					out.writeInt(archive.getDecompressedSize());
+
+					FileData[] fileData = archive.getFileData();
+					out.writeInt(fileData == null ? -1 : fileData.length);
+					if (fileData != null)
+					{
+						for (FileData fd : fileData)
+						{
+							out.writeInt(fd.getId());
+							out.writeInt(fd.getNameHash());
+						}
+					}
+
+					HashCode hash = archives.get(key(index.getId(), archive.getArchiveId()));
+					out.writeBoolean(hash != null);
+					if (hash != null)
+					{
+						out.write(hash.asBytes());
+					}
+				}
+			}
+		}
+
+		Files.move(tmp.toPath(), manifest.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		log.debug("Saved manifest {} ({} objects in pack)", manifest, pack.getObjectCount());
+	}
+
+	@Override
+	public byte[] load(int index, int archive) throws IOException
+	{
+		HashCode hash = archives.get(key(index, archive));
+		if (hash == null)
+		{
+			return null;
+		}
+
+		byte[] data = pack.get(hash);
+		if (data == null)
+		{
+			throw new IOException("archive " + index + "/" + archive + " references " + hash + ", which is not in the pack");
+		}
+		return data;
+	}
+
+	@Override
+	public void store(int index, int archive, byte[] data) throws IOException
+	{
+		archives.put(key(index, archive), pack.put(data));
+	}
+
+	private DataInputStream openManifest() throws IOException
+	{
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(manifest)));
+		try
+		{
+			if (in.readInt() != MAGIC)
+			{
+				throw new IOException("invalid magic in " + manifest);
+			}
+
+			int version = in.readInt();
+			if (version != VERSION)
+			{
+				throw new IOException("unsupported version " + version + " in " + manifest);
+			}
+			return in;
+		}
+		catch (IOException ex)
+		{
+			in.close();
+			throw ex;
+		}
+	}
+
+	private static long key(int index, int archive)
+	{
+		return (long) index << 32 | archive;
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.patch;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.patch.CachePatch.ArchivePatch;
+import net.runelite.cache.fs.patch.CachePatch.IndexPatch;
+import net.runelite.cache.index.IndexData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates patches between two revisions of a cache
+ */
+public class CacheDiff
+{
+	private static final Logger logger = LoggerFactory.getLogger(CacheDiff.class);
+
+	/**
+	 * Compare two loaded stores. Archives are considered changed when their
+	 * crc or revision differ, and only the contents of changed archives are
+	 * read from the new store.
+	 *
+	 * @param from the old revision of the cache
+	 * @param to the new revision of the cache
+	 * @return a patch which updates {@code from} to {@code to}
+	 * @throws IOException
+	 */
+	public static CachePatch diff(Store from, Store to) throws IOException
+	{
+		for (Index index : from.getIndexes())
+		{
+			if (to.findIndex(index.getId()) == null)
+			{
+				throw new IllegalArgumentException("index " + index.getId() + " was removed, which can't be patched");
+			}
+		}
+
+		List<Index> indexes = new ArrayList<>(to.getIndexes());
+		indexes.sort(Comparator.comparingInt(Index::getId));
+
+		CachePatch patch = new CachePatch();
+		for (Index index : indexes)
+		{
+			Index base = from.findIndex(index.getId());
+
+			List<ArchivePatch> archives = new ArrayList<>();
+			for (Archive archive : index.getArchives())
+			{
+				Archive old = base == null ? null : base.getArchive(archive.getArchiveId());
+				if (old != null && old.getCrc() == archive.getCrc() && old.getRevision() == archive.getRevision())
+				{
+					continue;
+				}
+
+				byte[] contents = to.getStorage().loadArchive(archive);
+				if (contents == null)
+				{
+					throw new IOException("unable to read archive " + index.getId() + "/" + archive.getArchiveId());
+				}
+
+				archives.add(new ArchivePatch(archive.getArchiveId(), contents));
+			}
+
+			byte[] referenceTable = index.toIndexData().writeIndexData();
+			if (base != null && archives.isEmpty()
+				&& base.getCompression() == index.getCompression()
+				&& Arrays.equals(base.toIndexData().writeIndexData(), referenceTable))
+			{
+				continue;
+			}
+
+			logger.debug("Index {} has {} changed archives", index.getId(), archives.size());
+
+			patch.getIndexes().add(new IndexPatch(index.getId(), base == null ? null : base.getCrc(),
+				referenceTableContainer(to, index, referenceTable), archives));
+		}
+		return patch;
+	}
+
+	/**
+	 * Get the container of the reference table of an index. The container
+	 * stored in the cache is used as is when it matches the index, since it
+	 * may have been encoded differently than it would be here, and then the
+	 * patched cache would not have the same crc.
+	 *
+	 * @param store store of the index
+	 * @param index index
+	 * @param referenceTable encoded reference table of the index
+	 * @return the container
+	 * @throws IOException
+	 */
+	private static byte[] referenceTableContainer(Store store, Index index, byte[] referenceTable) throws IOException
+	{
+		byte[] stored = store.getStorage().loadReferenceTable(index.getId());
+		if (stored != null)
+		{
+			Container container = Container.decompress(stored, null);
+			if (container.crc == index.getCrc() && container.compression == index.getCompression())
+			{
+				IndexData data = new IndexData();
+				data.load(container.data);
+				if (Arrays.equals(data.writeIndexData(), referenceTable))
+				{
+					return stored;
+				}
+			}
+
+			logger.debug("Stored reference table of index {} is out of date", index.getId());
+		}
+
+		Container container = new Container(index.getCompression(), -1);
+		container.compress(referenceTable, null);
+		return container.data;
+	}
+}
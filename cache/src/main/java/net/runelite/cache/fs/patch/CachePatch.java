@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.patch;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * A patch between two revisions of a cache, created with
+ * {@link CacheDiff#diff} and applied with {@link CachePatcher#apply}. It
+ * holds the reference tables of the indexes which changed and the raw
+ * contents of the archives which were added or changed in them.
+ * <p>
+ * Patches are written as a header followed by each index:
+ * <pre>
+ * magic, version, index count
+ * index id, flags, base crc, reference table length, reference table
+ * archive count, then the id, contents length and contents of each archive
+ * </pre>
+ * Reference tables and archive contents are stored as their containers are
+ * in the cache, so a patched cache has the same crcs as the one the patch
+ * was made from.
+ */
+public class CachePatch
+{
+	private static final int MAGIC = 0x524c4350; // RLCP
+	private static final int VERSION = 2;
+
+	private static final int FLAG_HAS_BASE = 1;
+
+	@Value
+	public static class IndexPatch
+	{
+		private final int index;
+		/**
+		 * crc of the reference table the patch applies to, or null if the
+		 * index is new
+		 */
+		private final Integer baseCrc;
+		/**
+		 * container of the encoded {@link net.runelite.cache.index.IndexData}
+		 * of the index after the patch is applied, as stored in the cache
+		 */
+		private final byte[] referenceTable;
+		private final List<ArchivePatch> archives;
+	}
+
+	@Value
+	public static class ArchivePatch
+	{
+		private final int archive;
+		/**
+		 * archive container, as stored in the cache
+		 */
+		private final byte[] contents;
+	}
+
+	@Getter
+	private final List<IndexPatch> indexes = new ArrayList<>();
+
+	public boolean isEmpty()
+	{
+		return indexes.isEmpty();
+	}
+
+	/**
+	 * @return the number of archives with new contents in the patch
+	 */
+	public int getArchiveCount()
+	{
+		int count = 0;
+		for (IndexPatch index : indexes)
+		{
+			count += index.getArchives().size();
+		}
+		return count;
+	}
+
+	public void write(OutputStream os) throws IOException
+	{
+		DataOutputStream out = new DataOutputStream(os);
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(indexes.size());
+
+		for (IndexPatch index : indexes)
+		{
+			out.writeInt(index.getIndex());
+			out.writeInt(index.getBaseCrc() != null ? FLAG_HAS_BASE : 0);
+			out.writeInt(index.getBaseCrc() != null ? index.getBaseCrc() : 0);
+			out.writeInt(index.getReferenceTable().length);
+			out.write(index.getReferenceTable());
+
+			out.writeInt(index.getArchives().size());
+			for (ArchivePatch archive : index.getArchives())
+			{
+				out.writeInt(archive.getArchive());
+				out.writeInt(archive.getContents().length);
+				out.write(archive.getContents());
+			}
+		}
+
+		out.flush();
+	}
+
+	public static CachePatch read(InputStream is) throws IOException
+	{
+		DataInputStream in = new DataInputStream(is);
+		if (in.readInt() != MAGIC)
+		{
+			throw new IOException("invalid patch magic");
+		}
+
+		int version = in.readInt();
+		if (version != VERSION)
+		{
+			throw new IOException("unsupported patch version " + version);
+		}
+
+		CachePatch patch = new CachePatch();
+		int indexCount = in.readInt();
+		for (int i = 0; i < indexCount; ++i)
+		{
+			int id = in.readInt();
+			int flags = in.readInt();
+			int baseCrc = in.readInt();
+			byte[] referenceTable = readBytes(in);
+
+			int archiveCount = in.readInt();
+			List<ArchivePatch> archives = new ArrayList<>(archiveCount);
+			for (int j = 0; j < archiveCount; ++j)
+			{
+				int archive = in.readInt();
+				archives.add(new ArchivePatch(archive, readBytes(in)));
+			}
+
+			patch.indexes.add(new IndexPatch(id, (flags & FLAG_HAS_BASE) != 0 ? baseCrc : null, referenceTable, archives));
+		}
+		return patch;
+	}
+
+	private static byte[] readBytes(DataInputStream in) throws IOException
+	{
+		int length = in.readInt();
+		if (length < 0)
+		{
+			throw new IOException("invalid length " + length);
+		}
+
+		byte[] b = new byte[length];
+		in.readFully(b);
+		return b;
+	}
+}
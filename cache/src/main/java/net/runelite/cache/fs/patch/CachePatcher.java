@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.patch;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.patch.CachePatch.ArchivePatch;
+import net.runelite.cache.fs.patch.CachePatch.IndexPatch;
+import net.runelite.cache.index.ArchiveData;
+import net.runelite.cache.index.IndexData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Applies patches created by {@link CacheDiff} to a store in place
+ */
+public class CachePatcher
+{
+	private static final Logger logger = LoggerFactory.getLogger(CachePatcher.class);
+
+	/**
+	 * Apply a patch to a loaded store. Only the archives in the patch are
+	 * written, and only the indexes in the patch are saved. How much of an
+	 * index has to be rewritten to save it depends on the storage. The
+	 * reference tables are saved as they are in the patch, so the patched
+	 * store can have later patches applied to it.
+	 * <p>
+	 * The reference tables of the store are checked against the patch before
+	 * anything is written, so a patch for another revision of the cache is
+	 * rejected without modifying the store.
+	 *
+	 * @param patch patch to apply
+	 * @param store store to update
+	 * @throws IOException if the patch does not apply to the store
+	 */
+	public static void apply(CachePatch patch, Store store) throws IOException
+	{
+		for (IndexPatch indexPatch : patch.getIndexes())
+		{
+			Index index = store.findIndex(indexPatch.getIndex());
+			Integer baseCrc = indexPatch.getBaseCrc();
+			if (baseCrc == null ? index != null : index == null || index.getCrc() != baseCrc)
+			{
+				throw new IOException("patch does not apply to index " + indexPatch.getIndex() + ", expected crc "
+					+ baseCrc + " but was " + (index == null ? null : index.getCrc()));
+			}
+		}
+
+		for (IndexPatch indexPatch : patch.getIndexes())
+		{
+			Index index = store.findIndex(indexPatch.getIndex());
+			if (index == null)
+			{
+				index = store.addIndex(indexPatch.getIndex());
+			}
+
+			Container container = Container.decompress(indexPatch.getReferenceTable(), null);
+			IndexData data = new IndexData();
+			data.load(container.data);
+			applyReferenceTable(index, data);
+			index.setCompression(container.compression);
+			index.setCrc(container.crc);
+
+			for (ArchivePatch archivePatch : indexPatch.getArchives())
+			{
+				Archive archive = index.getArchive(archivePatch.getArchive());
+				if (archive == null)
+				{
+					throw new IOException("archive " + index.getId() + "/" + archivePatch.getArchive() + " is not in the reference table");
+				}
+
+				byte[] contents = archivePatch.getContents();
+				archive.setCompression(contents[0] & 0xFF);
+				store.getStorage().saveArchive(archive, contents);
+			}
+
+			store.getStorage().save(store, index, indexPatch.getReferenceTable());
+			logger.debug("Patched {} archives of index {}", indexPatch.getArchives().size(), index.getId());
+		}
+	}
+
+	private static void applyReferenceTable(Index index, IndexData data)
+	{
+		index.setProtocol(data.getProtocol());
+		index.setRevision(data.getRevision());
+		index.setNamed(data.isNamed());
+		index.setSized(data.isSized());
+
+		Set<Integer> ids = new HashSet<>();
+		for (ArchiveData ad : data.getArchives())
+		{
+			ids.add(ad.getId());
+		}
+
+		for (Archive archive : new ArrayList<>(index.getArchives()))
+		{
+			if (!ids.contains(archive.getArchiveId()))
+			{
+				index.removeArchive(archive);
+			}
+		}
+
+		// unchanged archives are updated in place, which keeps their compression
+		for (ArchiveData ad : data.getArchives())
+		{
+			Archive archive = index.getArchive(ad.getId());
+			if (archive == null)
+			{
+				archive = index.addArchive(ad.getId());
+			}
+
+			archive.setNameHash(ad.getNameHash());
+			archive.setCrc(ad.getCrc());
+			archive.setCompressedSize(ad.getCompressedSize());
+			archive.setDecompressedSize(ad.getDecompressedSize());
+			archive.setRevision(ad.getRevision());
+			archive.setFileData(ad.getFiles());
+		}
+	}
+}
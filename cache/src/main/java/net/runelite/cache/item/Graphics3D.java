@@ -60,6 +60,22 @@ class Graphics3D extends Rasterizer2D
 	int[] rasterClipY = new int[1024];
 	public int[] colorPalette;
 
+	// scratch buffers for Model, kept here so that models can be drawn from multiple threads
+	final boolean[] faceClipped = new boolean[6500];
+	final int[] modelViewportYs = new int[6500];
+	final int[] modelViewportXs = new int[6500];
+	final int[] modelViewportZs = new int[6500];
+	final int[] modelLocalX = new int[6500];
+	final int[] modelLocalY = new int[6500];
+	final int[] modelLocalZ = new int[6500];
+	final int[] distanceFaceCount = new int[6000];
+	final int[][] facesByDistance = new int[6000][512];
+	final int[] numOfPriority = new int[12];
+	final int[][] orderedFaces = new int[12][2000];
+	final int[] eq10 = new int[2000];
+	final int[] eq11 = new int[2000];
+	final int[] lt10 = new int[12];
+
 	public Graphics3D(RSTextureProvider textureProvider)
 	{
 		this.textureProvider = textureProvider;
@@ -125,6 +141,15 @@ class Graphics3D extends Rasterizer2D
 		colorPalette = JagexColor.createPalette(brightness);
 	}
 
+	/**
+	 * Use an existing palette, such as one from {@link JagexColor#createPalette(double)},
+	 * instead of building a new one. The palette is only read from.
+	 */
+	public final void setColorPalette(int[] colorPalette)
+	{
+		this.colorPalette = colorPalette;
+	}
+
 	final void rasterGouraud(int var0, int var1, int var2, int var3, int var4, int var5, int var6, int var7, int var8)
 	{
 		int var9 = var4 - var3;
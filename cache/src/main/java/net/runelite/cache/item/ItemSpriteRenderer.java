@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.item;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.providers.ItemProvider;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import net.runelite.cache.models.JagexColor;
+
+/**
+ * Renders many item sprites at once on an executor.
+ * <p>
+ * Unlike {@link ItemSpriteFactory#createSprite}, the color palette, texture
+ * pixels and lit item models are built once and shared between all of the
+ * sprites rendered by this renderer, including the noted, bought and
+ * placeholder templates. Each rendering thread gets its own rasterizer.
+ * <p>
+ * The model provider must return a new {@link net.runelite.cache.definitions.ModelDefinition}
+ * on each call, since item recolors and resizes are applied to it in place.
+ */
+public class ItemSpriteRenderer
+{
+	private final ItemProvider itemProvider;
+	private final ModelProvider modelProvider;
+	private final RSTextureProvider textureProvider;
+	private final int[] colorPalette;
+	private final Map<Integer, Optional<Model>> models = new ConcurrentHashMap<>();
+	private final Queue<Graphics3D> graphics = new ConcurrentLinkedQueue<>();
+
+	public ItemSpriteRenderer(ItemProvider itemProvider, ModelProvider modelProvider,
+		SpriteProvider spriteProvider, TextureProvider textureProvider)
+	{
+		this.itemProvider = itemProvider;
+		this.modelProvider = modelProvider;
+		this.textureProvider = new RSTextureProvider(textureProvider, spriteProvider);
+		this.textureProvider.brightness = JagexColor.BRIGHTNESS_MAX;
+		this.colorPalette = JagexColor.createPalette(JagexColor.BRIGHTNESS_MAX);
+	}
+
+	/**
+	 * Render a batch of sprites
+	 *
+	 * @param requests sprites to render
+	 * @param executor executor to render on
+	 * @return the sprites, in the same order as the requests. A sprite is null
+	 * if its item has no model.
+	 * @throws IOException
+	 */
+	public List<BufferedImage> render(List<ItemSpriteRequest> requests, Executor executor) throws IOException
+	{
+		BufferedImage[] sprites = new BufferedImage[requests.size()];
+		List<CompletableFuture<Void>> futures = new ArrayList<>(requests.size());
+		for (int i = 0; i < requests.size(); ++i)
+		{
+			final int idx = i;
+			final ItemSpriteRequest request = requests.get(i);
+			futures.add(CompletableFuture.runAsync(() ->
+			{
+				try
+				{
+					sprites[idx] = render(request);
+				}
+				catch (IOException ex)
+				{
+					throw new UncheckedIOException(ex);
+				}
+			}, executor));
+		}
+
+		try
+		{
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+		}
+		catch (CompletionException ex)
+		{
+			if (ex.getCause() instanceof UncheckedIOException)
+			{
+				throw ((UncheckedIOException) ex.getCause()).getCause();
+			}
+			throw ex;
+		}
+
+		List<BufferedImage> result = new ArrayList<>(sprites.length);
+		for (BufferedImage sprite : sprites)
+		{
+			result.add(sprite);
+		}
+		return result;
+	}
+
+	/**
+	 * Render a single sprite on the calling thread
+	 *
+	 * @param request
+	 * @return the sprite, or null if the item has no model
+	 * @throws IOException
+	 */
+	public BufferedImage render(ItemSpriteRequest request) throws IOException
+	{
+		Graphics3D g = graphics.poll();
+		if (g == null)
+		{
+			g = new Graphics3D(textureProvider);
+			g.setColorPalette(colorPalette);
+		}
+
+		try
+		{
+			SpritePixels spritePixels = ItemSpriteFactory.createSpritePixels(itemProvider, this::getModel, g,
+				request.getItemId(), request.getQuantity(), request.getBorder(), request.getShadowColor(), request.isNoted());
+			return spritePixels == null ? null : spritePixels.toBufferedImage();
+		}
+		finally
+		{
+			graphics.add(g);
+		}
+	}
+
+	/**
+	 * @return the number of lit item models held by this renderer
+	 */
+	public int getModelCount()
+	{
+		return models.size();
+	}
+
+	private Model getModel(ItemDefinition item) throws IOException
+	{
+		Optional<Model> model = models.get(item.id);
+		if (model != null)
+		{
+			return model.orElse(null);
+		}
+
+		Model litModel = ItemSpriteFactory.getModel(modelProvider, item);
+		if (litModel != null)
+		{
+			// compute the bounds now, drawing would otherwise write them while the model is shared
+			litModel.calculateBoundsCylinder();
+		}
+
+		model = models.putIfAbsent(item.id, Optional.ofNullable(litModel));
+		return model != null ? model.orElse(null) : litModel;
+	}
+}
@@ -26,20 +26,6 @@ package net.runelite.cache.item;
 
 class Model extends Renderable
 {
-	boolean[] faceClipped = new boolean[6500];
-	int[] modelViewportYs = new int[6500];
-	int[] modelViewportXs = new int[6500];
-	int[] modelViewportZs = new int[6500];
-	int[] modelLocalX = new int[6500];
-	int[] modelLocalY = new int[6500];
-	int[] modelLocalZ = new int[6500];
-	int[] distanceFaceCount = new int[6000];
-	int[][] facesByDistance = new int[6000][512];
-	int[] numOfPriority = new int[12];
-	int[][] orderedFaces = new int[12][2000];
-	int[] eq10 = new int[2000];
-	int[] eq11 = new int[2000];
-	int[] lt10 = new int[12];
 	static int[] Model_sine;
 	static int[] Model_cosine;
 	int verticesCount;
@@ -125,7 +111,14 @@ class Model extends Renderable
 
 	public final void projectAndDraw(Graphics3D graphics, int yzRotation, int xzRotation, int xyRotation, int orientation, int xOffset, int yOffset, int zOffset)
 	{
-		distanceFaceCount[0] = -1;
+		int[] modelViewportYs = graphics.modelViewportYs;
+		int[] modelViewportXs = graphics.modelViewportXs;
+		int[] modelViewportZs = graphics.modelViewportZs;
+		int[] modelLocalX = graphics.modelLocalX;
+		int[] modelLocalY = graphics.modelLocalY;
+		int[] modelLocalZ = graphics.modelLocalZ;
+
+		graphics.distanceFaceCount[0] = -1;
 		// (re?)Calculate magnitude as necessary
 		if (this.boundsType != 2 && this.boundsType != 1)
 		{
@@ -210,6 +203,18 @@ class Model extends Renderable
 
 	private void draw(Graphics3D graphics)
 	{
+		boolean[] faceClipped = graphics.faceClipped;
+		int[] modelViewportYs = graphics.modelViewportYs;
+		int[] modelViewportXs = graphics.modelViewportXs;
+		int[] modelViewportZs = graphics.modelViewportZs;
+		int[] distanceFaceCount = graphics.distanceFaceCount;
+		int[][] facesByDistance = graphics.facesByDistance;
+		int[] numOfPriority = graphics.numOfPriority;
+		int[][] orderedFaces = graphics.orderedFaces;
+		int[] eq10 = graphics.eq10;
+		int[] eq11 = graphics.eq11;
+		int[] lt10 = graphics.lt10;
+
 		if (this.diameter < 6000)
 		{
 			for (int var5 = 0; var5 < this.diameter; ++var5)
@@ -452,10 +457,15 @@ class Model extends Renderable
 
 	private void rasterFace(Graphics3D graphics, int face)
 	{
+		int[] modelViewportYs = graphics.modelViewportYs;
+		int[] modelViewportXs = graphics.modelViewportXs;
+		int[] modelLocalX = graphics.modelLocalX;
+		int[] modelLocalY = graphics.modelLocalY;
+		int[] modelLocalZ = graphics.modelLocalZ;
 		int var2 = this.indices1[face];
 		int var3 = this.indices2[face];
 		int var4 = this.indices3[face];
-		graphics.rasterClipEnable = faceClipped[face];
+		graphics.rasterClipEnable = graphics.faceClipped[face];
 		if (this.faceTransparencies == null)
 		{
 			graphics.rasterAlpha = 0;
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import lombok.Getter;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+
+/**
+ * Recycles the vertex, face and texture arrays of models decoded by a
+ * {@link ModelLoader}, for consumers which only need each model briefly.
+ * <p>
+ * Arrays are pooled in power of two sizes, so the arrays of a pooled model
+ * may be longer than its vertex, face and texture counts, and the contents
+ * past the counts are unspecified. A pool is not thread safe, each thread
+ * decoding models should have its own.
+ */
+public class ModelBufferPool
+{
+	private static final int MIN_BITS = 4;
+	// models have at most 65535 vertices or faces
+	private static final int MAX_BITS = 16;
+	private static final int BUCKETS = MAX_BITS - MIN_BITS + 1;
+	private static final int MAX_POOLED = 32;
+
+	private final ArrayDeque<int[]>[] ints = buckets();
+	private final ArrayDeque<short[]>[] shorts = buckets();
+	private final ArrayDeque<byte[]>[] bytes = buckets();
+
+	/**
+	 * The number of arrays taken from the pool
+	 */
+	@Getter
+	private long hits;
+
+	/**
+	 * The number of arrays which had to be allocated
+	 */
+	@Getter
+	private long misses;
+
+	public int[] ints(int length)
+	{
+		int bucket = bucket(length);
+		int[] array = bucket < 0 ? null : ints[bucket].poll();
+		if (array == null)
+		{
+			++misses;
+			return new int[bucket < 0 ? length : size(bucket)];
+		}
+
+		++hits;
+		Arrays.fill(array, 0, length, 0);
+		return array;
+	}
+
+	public short[] shorts(int length)
+	{
+		int bucket = bucket(length);
+		short[] array = bucket < 0 ? null : shorts[bucket].poll();
+		if (array == null)
+		{
+			++misses;
+			return new short[bucket < 0 ? length : size(bucket)];
+		}
+
+		++hits;
+		Arrays.fill(array, 0, length, (short) 0);
+		return array;
+	}
+
+	public byte[] bytes(int length)
+	{
+		int bucket = bucket(length);
+		byte[] array = bucket < 0 ? null : bytes[bucket].poll();
+		if (array == null)
+		{
+			++misses;
+			return new byte[bucket < 0 ? length : size(bucket)];
+		}
+
+		++hits;
+		Arrays.fill(array, 0, length, (byte) 0);
+		return array;
+	}
+
+	public void free(int[] array)
+	{
+		int bucket = pooledBucket(array.length);
+		if (bucket >= 0 && ints[bucket].size() < MAX_POOLED)
+		{
+			ints[bucket].push(array);
+		}
+	}
+
+	public void free(short[] array)
+	{
+		int bucket = pooledBucket(array.length);
+		if (bucket >= 0 && shorts[bucket].size() < MAX_POOLED)
+		{
+			shorts[bucket].push(array);
+		}
+	}
+
+	public void free(byte[] array)
+	{
+		int bucket = pooledBucket(array.length);
+		if (bucket >= 0 && bytes[bucket].size() < MAX_POOLED)
+		{
+			bytes[bucket].push(array);
+		}
+	}
+
+	/**
+	 * Return the arrays of a model to the pool. The model must not be used
+	 * afterwards.
+	 */
+	public void release(ModelDefinition model)
+	{
+		model.vertexX = recycle(model.vertexX);
+		model.vertexY = recycle(model.vertexY);
+		model.vertexZ = recycle(model.vertexZ);
+		model.faceIndices1 = recycle(model.faceIndices1);
+		model.faceIndices2 = recycle(model.faceIndices2);
+		model.faceIndices3 = recycle(model.faceIndices3);
+		model.faceTransparencies = recycle(model.faceTransparencies);
+		model.faceColors = recycle(model.faceColors);
+		model.faceRenderPriorities = recycle(model.faceRenderPriorities);
+		model.faceRenderTypes = recycle(model.faceRenderTypes);
+		model.texIndices1 = recycle(model.texIndices1);
+		model.texIndices2 = recycle(model.texIndices2);
+		model.texIndices3 = recycle(model.texIndices3);
+		model.faceTextures = recycle(model.faceTextures);
+		model.textureCoords = recycle(model.textureCoords);
+		model.textureRenderTypes = recycle(model.textureRenderTypes);
+		model.packedVertexGroups = recycle(model.packedVertexGroups);
+		model.packedTransparencyVertexGroups = recycle(model.packedTransparencyVertexGroups);
+	}
+
+	private int[] recycle(int[] array)
+	{
+		if (array != null)
+		{
+			free(array);
+		}
+		return null;
+	}
+
+	private short[] recycle(short[] array)
+	{
+		if (array != null)
+		{
+			free(array);
+		}
+		return null;
+	}
+
+	private byte[] recycle(byte[] array)
+	{
+		if (array != null)
+		{
+			free(array);
+		}
+		return null;
+	}
+
+	private static int bucket(int length)
+	{
+		int bits = Math.max(MIN_BITS, 32 - Integer.numberOfLeadingZeros(Math.max(length - 1, 0)));
+		return bits > MAX_BITS ? -1 : bits - MIN_BITS;
+	}
+
+	private static int pooledBucket(int length)
+	{
+		// only take back arrays which could have come from the pool
+		int bucket = bucket(length);
+		return bucket >= 0 && size(bucket) == length ? bucket : -1;
+	}
+
+	private static int size(int bucket)
+	{
+		return 1 << (bucket + MIN_BITS);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> ArrayDeque<T>[] buckets()
+	{
+		ArrayDeque<T>[] buckets = new ArrayDeque[BUCKETS];
+		for (int i = 0; i < BUCKETS; ++i)
+		{
+			buckets[i] = new ArrayDeque<>();
+		}
+		return buckets;
+	}
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+
+/**
+ * Decodes every model in the store across multiple workers. The calling
+ * thread reads the archives from storage and hands them to the workers
+ * through a bounded queue, and the workers decompress and decode them and
+ * pass the models on to a consumer.
+ */
+@Slf4j
+public class ModelPipeline
+{
+	private static final Work END = new Work(null, null);
+	/**
+	 * How long the reader waits on a full queue or on the workers before
+	 * checking whether a worker has failed
+	 */
+	private static final long POLL_INTERVAL_MS = 100;
+
+	private final Store store;
+
+	@Getter
+	@Setter
+	private int workers = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Whether to decode the models into arrays from a {@link ModelBufferPool}
+	 * per worker. Pooled models are only valid until the consumer returns,
+	 * and their arrays may be longer than their vertex and face counts.
+	 */
+	@Getter
+	@Setter
+	private boolean pooled;
+
+	public ModelPipeline(Store store)
+	{
+		this.store = store;
+	}
+
+	/**
+	 * Decode every model using a new thread pool
+	 *
+	 * @see #forEach(Executor, Consumer)
+	 */
+	public int forEach(Consumer<ModelDefinition> consumer) throws IOException
+	{
+		ExecutorService executor = Executors.newFixedThreadPool(workers);
+		try
+		{
+			return forEach(executor, consumer);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Decode every model, passing each to the consumer. The consumer is called
+	 * concurrently from the workers, in no particular order.
+	 *
+	 * @param executor executor to run the workers on. It must not run them on
+	 *                 the calling thread.
+	 * @param consumer
+	 * @return the number of models decoded
+	 * @throws IOException if reading an archive fails, or rethrown from a worker
+	 */
+	public int forEach(Executor executor, Consumer<ModelDefinition> consumer) throws IOException
+	{
+		Storage storage = store.getStorage();
+		Index index = store.getIndex(IndexType.MODELS);
+
+		BlockingQueue<Work> queue = new ArrayBlockingQueue<>(workers * 4);
+		CountDownLatch done = new CountDownLatch(workers);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		AtomicInteger count = new AtomicInteger();
+		AtomicInteger active = new AtomicInteger();
+
+		try
+		{
+			try
+			{
+				for (int i = 0; i < workers; ++i)
+				{
+					executor.execute(() -> work(queue, consumer, failure, count, active, done));
+				}
+
+				for (Archive archive : index.getArchives())
+				{
+					if (failure.get() != null)
+					{
+						break;
+					}
+
+					byte[] data = storage.loadArchive(archive);
+					if (data != null && !offer(queue, new Work(archive, data), failure))
+					{
+						break;
+					}
+				}
+			}
+			catch (RejectedExecutionException ex)
+			{
+				failure.compareAndSet(null, ex);
+			}
+			finally
+			{
+				finish(queue, failure, active, done);
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted decoding models");
+		}
+
+		Throwable ex = failure.get();
+		if (ex instanceof IOException)
+		{
+			throw (IOException) ex;
+		}
+		else if (ex instanceof RuntimeException)
+		{
+			throw (RuntimeException) ex;
+		}
+		else if (ex instanceof Error)
+		{
+			throw (Error) ex;
+		}
+		else if (ex != null)
+		{
+			throw new IOException(ex);
+		}
+
+		return count.get();
+	}
+
+	/**
+	 * Queue work for the workers, waiting for space in the queue until a worker fails
+	 *
+	 * @return false if a worker failed before the work could be queued
+	 */
+	private static boolean offer(BlockingQueue<Work> queue, Work work, AtomicReference<Throwable> failure) throws InterruptedException
+	{
+		while (!queue.offer(work, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS))
+		{
+			if (failure.get() != null)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Stop the workers and wait for them to exit. Workers which were interrupted, or
+	 * never started, do not drain the queue, so once a worker has failed the remaining
+	 * work is dropped instead of waiting for space, and only running workers are waited on.
+	 */
+	private void finish(BlockingQueue<Work> queue, AtomicReference<Throwable> failure, AtomicInteger active, CountDownLatch done)
+		throws InterruptedException
+	{
+		for (int i = 0; i < workers; ++i)
+		{
+			while (!queue.offer(END, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS))
+			{
+				if (failure.get() != null)
+				{
+					// work is skipped after a failure anyway
+					queue.removeIf(work -> work != END);
+				}
+			}
+		}
+
+		while (!done.await(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS))
+		{
+			if (failure.get() != null && active.get() == 0)
+			{
+				// a worker which starts after this only finds END in the queue
+				break;
+			}
+		}
+	}
+
+	private void work(BlockingQueue<Work> queue, Consumer<ModelDefinition> consumer, AtomicReference<Throwable> failure,
+		AtomicInteger count, AtomicInteger active, CountDownLatch done)
+	{
+		active.incrementAndGet();
+		ModelBufferPool pool = pooled ? new ModelBufferPool() : null;
+		ModelLoader loader = new ModelLoader(pool);
+		try
+		{
+			for (Work work = queue.take(); work != END; work = queue.take())
+			{
+				if (failure.get() != null)
+				{
+					continue;
+				}
+
+				Archive archive = work.archive;
+				try
+				{
+					byte[] contents = archive.decompress(work.data);
+					if (contents == null)
+					{
+						continue;
+					}
+
+					ModelDefinition model = loader.load(archive.getArchiveId(), contents);
+					try
+					{
+						consumer.accept(model);
+					}
+					finally
+					{
+						if (pool != null)
+						{
+							pool.release(model);
+						}
+					}
+					count.incrementAndGet();
+				}
+				catch (Exception | Error ex)
+				{
+					log.debug("error decoding model {}", archive.getArchiveId(), ex);
+					failure.compareAndSet(null, ex);
+				}
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			failure.compareAndSet(null, ex);
+			Thread.currentThread().interrupt();
+		}
+		finally
+		{
+			active.decrementAndGet();
+			done.countDown();
+		}
+	}
+
+	private static class Work
+	{
+		private final Archive archive;
+		private final byte[] data;
+
+		Work(Archive archive, byte[] data)
+		{
+			this.archive = archive;
+			this.data = data;
+		}
+	}
+}
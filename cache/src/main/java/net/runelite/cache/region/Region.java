@@ -24,6 +24,9 @@
  */
 package net.runelite.cache.region;
 
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import net.runelite.cache.definitions.LocationsDefinition;
@@ -127,6 +130,71 @@ public class Region
 		}
 	}
 
+	/**
+	 * Write the decoded terrain and locations of this region, in the format read by {@link #read(ByteBuffer)}
+	 */
+	void write(DataOutput out) throws IOException
+	{
+		for (int z = 0; z < Z; z++)
+		{
+			for (int x = 0; x < X; x++)
+			{
+				for (int y = 0; y < Y; y++)
+				{
+					out.writeInt(tileHeights[z][x][y]);
+					out.writeByte(tileSettings[z][x][y]);
+					out.writeShort(overlayIds[z][x][y]);
+					out.writeByte(overlayPaths[z][x][y]);
+					out.writeByte(overlayRotations[z][x][y]);
+					out.writeShort(underlayIds[z][x][y]);
+				}
+			}
+		}
+
+		out.writeInt(locations.size());
+		for (Location loc : locations)
+		{
+			Position pos = loc.getPosition();
+			out.writeInt(loc.getId());
+			out.writeByte(loc.getType());
+			out.writeByte(loc.getOrientation());
+			out.writeShort(pos.getX());
+			out.writeShort(pos.getY());
+			out.writeByte(pos.getZ());
+		}
+	}
+
+	void read(ByteBuffer in)
+	{
+		for (int z = 0; z < Z; z++)
+		{
+			for (int x = 0; x < X; x++)
+			{
+				for (int y = 0; y < Y; y++)
+				{
+					tileHeights[z][x][y] = in.getInt();
+					tileSettings[z][x][y] = in.get();
+					overlayIds[z][x][y] = in.getShort();
+					overlayPaths[z][x][y] = in.get();
+					overlayRotations[z][x][y] = in.get();
+					underlayIds[z][x][y] = in.getShort();
+				}
+			}
+		}
+
+		int count = in.getInt();
+		for (int i = 0; i < count; ++i)
+		{
+			int id = in.getInt();
+			int type = in.get() & 0xFF;
+			int orientation = in.get() & 0xFF;
+			int x = in.getShort() & 0xFFFF;
+			int y = in.getShort() & 0xFFFF;
+			int z = in.get() & 0xFF;
+			locations.add(new Location(id, type, orientation, new Position(x, y, z)));
+		}
+	}
+
 	public int getRegionID()
 	{
 		return regionID;
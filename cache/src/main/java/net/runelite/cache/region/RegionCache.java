@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.region;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.fs.Archive;
+
+/**
+ * An on disk cache of decoded regions. Each region is stored in its own
+ * file along with the crcs of the map and location archives it was
+ * decoded from, and is only returned if those still match.
+ */
+@Slf4j
+public class RegionCache
+{
+	private static final int MAGIC = 0x524c5247; // RLRG
+	private static final int VERSION = 1;
+
+	private final File directory;
+
+	public RegionCache(File directory)
+	{
+		this.directory = directory;
+		directory.mkdirs();
+	}
+
+	/**
+	 * Get a cached region
+	 *
+	 * @param regionId region id
+	 * @param map map archive of the region
+	 * @param land location archive of the region
+	 * @param hasLocations whether the region should have its locations loaded
+	 * @return the region, or null if it is not cached or is out of date
+	 */
+	public Region get(int regionId, Archive map, Archive land, boolean hasLocations)
+	{
+		File file = getFile(regionId);
+		if (!file.exists())
+		{
+			return null;
+		}
+
+		try
+		{
+			ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+			if (buf.getInt() != MAGIC || buf.getInt() != VERSION
+				|| buf.getInt() != regionId
+				|| buf.getInt() != map.getCrc()
+				|| buf.getInt() != land.getCrc()
+				|| (buf.get() != 0) != hasLocations)
+			{
+				return null;
+			}
+
+			Region region = new Region(regionId);
+			region.read(buf);
+			return region;
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			log.debug("unable to read cached region {}", regionId, ex);
+			return null;
+		}
+	}
+
+	public void put(Region region, Archive map, Archive land, boolean hasLocations) throws IOException
+	{
+		File file = getFile(region.getRegionID());
+		File tmp = new File(directory, file.getName() + ".tmp" + Thread.currentThread().getId());
+
+		try
+		{
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp))))
+			{
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(region.getRegionID());
+				out.writeInt(map.getCrc());
+				out.writeInt(land.getCrc());
+				out.writeByte(hasLocations ? 1 : 0);
+				region.write(out);
+			}
+
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException ex)
+		{
+			Files.deleteIfExists(tmp.toPath());
+			throw ex;
+		}
+	}
+
+	private File getFile(int regionId)
+	{
+		return new File(directory, regionId + ".region");
+	}
+}
@@ -25,9 +25,14 @@
 package net.runelite.cache.region;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.definitions.LocationsDefinition;
@@ -48,16 +53,28 @@ public class RegionLoader
 	private final Store store;
 	private final Index index;
 	private final KeyProvider keyProvider;
+	private final RegionCache regionCache;
 
 	private final Map<Integer, Region> regions = new HashMap<>();
 	private Region lowestX = null, lowestY = null;
 	private Region highestX = null, highestY = null;
 
 	public RegionLoader(Store store, KeyProvider keyProvider)
+	{
+		this(store, keyProvider, null);
+	}
+
+	/**
+	 * @param store store to load regions from
+	 * @param keyProvider xtea keys for the location archives
+	 * @param regionCache cache of previously decoded regions, or null
+	 */
+	public RegionLoader(Store store, KeyProvider keyProvider, RegionCache regionCache)
 	{
 		this.store = store;
 		index = store.getIndex(IndexType.MAPS);
 		this.keyProvider = keyProvider;
+		this.regionCache = regionCache;
 	}
 
 	public void loadRegions() throws IOException
@@ -80,7 +97,84 @@ public class RegionLoader
 		}
 	}
 
+	/**
+	 * Load all regions, decoding them on the given executor
+	 *
+	 * @param executor
+	 */
+	public void loadRegions(Executor executor)
+	{
+		if (!this.regions.isEmpty())
+		{
+			return;
+		}
+
+		List<CompletableFuture<Region>> futures = new ArrayList<>(MAX_REGION);
+		for (int i = 0; i < MAX_REGION; ++i)
+		{
+			final int regionId = i;
+			futures.add(CompletableFuture.supplyAsync(() ->
+			{
+				try
+				{
+					return readRegion(regionId);
+				}
+				catch (IOException ex)
+				{
+					log.debug("Can't decrypt region " + regionId, ex);
+					return null;
+				}
+			}, executor));
+		}
+
+		for (CompletableFuture<Region> future : futures)
+		{
+			Region region = future.join();
+			if (region != null)
+			{
+				regions.put(region.getRegionID(), region);
+			}
+		}
+	}
+
 	public Region loadRegionFromArchive(int i) throws IOException
+	{
+		Region region = readRegion(i);
+		if (region != null)
+		{
+			regions.put(i, region);
+		}
+		return region;
+	}
+
+	/**
+	 * Find the ids of the regions in the cache, without decoding them
+	 *
+	 * @return the region ids, in ascending order
+	 */
+	public int[] getRegionIds()
+	{
+		int[] ids = new int[MAX_REGION];
+		int count = 0;
+		for (int i = 0; i < MAX_REGION; ++i)
+		{
+			if (index.findArchiveByName("m" + (i >> 8) + "_" + (i & 0xFF)) != null)
+			{
+				ids[count++] = i;
+			}
+		}
+		return Arrays.copyOf(ids, count);
+	}
+
+	/**
+	 * Decode a region without adding it to the loaded regions. This may be
+	 * called from multiple threads.
+	 *
+	 * @param i region id
+	 * @return the region, or null if it is not in the cache
+	 * @throws IOException if the locations of the region can't be decrypted
+	 */
+	public Region readRegion(int i) throws IOException
 	{
 		int x = i >> 8;
 		int y = i & 0xFF;
@@ -96,6 +190,17 @@ public class RegionLoader
 			return null;
 		}
 
+		int[] keys = keyProvider.getKey(i);
+
+		if (regionCache != null)
+		{
+			Region region = regionCache.get(i, map, land, keys != null);
+			if (region != null)
+			{
+				return region;
+			}
+		}
+
 		byte[] data = map.decompress(storage.loadArchive(map));
 
 		MapDefinition mapDef = new MapLoader().load(x, y, data);
@@ -103,7 +208,6 @@ public class RegionLoader
 		Region region = new Region(i);
 		region.loadTerrain(mapDef);
 
-		int[] keys = keyProvider.getKey(i);
 		if (keys != null)
 		{
 			data = land.decompress(storage.loadArchive(land), keys);
@@ -111,7 +215,18 @@ public class RegionLoader
 			region.loadLocations(locDef);
 		}
 
-		regions.put(i, region);
+		if (regionCache != null)
+		{
+			try
+			{
+				regionCache.put(region, map, land, keys != null);
+			}
+			catch (IOException ex)
+			{
+				// the region decoded fine, it just won't be cached
+				log.warn("Unable to write region {} to the region cache", i, ex);
+			}
+		}
 
 		return region;
 	}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.region;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A read only view of a world grid file written by {@link WorldGridBuilder},
+ * which holds the height and collision flags of every tile of every region.
+ * <p>
+ * The file is a fixed size header, followed by a directory with a slot
+ * number for each of the 65536 possible region ids (or -1 if the region is
+ * not in the file), followed by the slots. A slot holds the height and
+ * flags of each tile of a region, ordered by plane, then x, then y. Any tile
+ * can be found by its world coordinate with two reads, so the file is
+ * memory mapped rather than read into memory.
+ */
+public class WorldGrid
+{
+	static final int MAGIC = 0x524c5747; // RLWG
+	static final int VERSION = 1;
+
+	// magic, version, region count, reserved
+	static final int HEADER_SIZE = 16;
+	static final int REGION_IDS = 1 << 16;
+	static final int DIRECTORY_SIZE = REGION_IDS * 4;
+	// height, flags
+	static final int TILE_SIZE = 8;
+	static final int SLOT_SIZE = Region.Z * Region.X * Region.Y * TILE_SIZE;
+	static final int SLOTS_OFFSET = HEADER_SIZE + DIRECTORY_SIZE;
+
+	private final ByteBuffer buffer;
+
+	WorldGrid(ByteBuffer buffer)
+	{
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Map a world grid file
+	 *
+	 * @param file
+	 * @return
+	 * @throws IOException
+	 */
+	public static WorldGrid open(File file) throws IOException
+	{
+		ByteBuffer buffer;
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r"))
+		{
+			long length = raf.length();
+			if (length < SLOTS_OFFSET || length > Integer.MAX_VALUE)
+			{
+				throw new IOException("invalid length for " + file + ": " + length);
+			}
+
+			buffer = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0L, length);
+		}
+
+		if (buffer.getInt(0) != MAGIC)
+		{
+			throw new IOException("invalid magic in " + file);
+		}
+
+		int version = buffer.getInt(4);
+		if (version != VERSION)
+		{
+			throw new IOException("unsupported version " + version + " in " + file);
+		}
+
+		if (SLOTS_OFFSET + (long) buffer.getInt(8) * SLOT_SIZE > buffer.capacity())
+		{
+			throw new IOException("truncated world grid " + file);
+		}
+
+		return new WorldGrid(buffer);
+	}
+
+	/**
+	 * @return the number of regions in the grid
+	 */
+	public int getRegionCount()
+	{
+		return buffer.getInt(8);
+	}
+
+	/**
+	 * @param regionId
+	 * @return true if the region is in the grid
+	 */
+	public boolean hasRegion(int regionId)
+	{
+		return regionId >= 0 && regionId < REGION_IDS && buffer.getInt(HEADER_SIZE + regionId * 4) >= 0;
+	}
+
+	/**
+	 * @param x world x
+	 * @param y world y
+	 * @return true if the tile is in a region of the grid
+	 */
+	public boolean contains(int x, int y)
+	{
+		return x >= 0 && y >= 0 && x < (1 << 14) && y < (1 << 14) && hasRegion(regionId(x, y));
+	}
+
+	/**
+	 * @param plane
+	 * @param x world x
+	 * @param y world y
+	 * @return the height of the tile, or 0 if it is not in the grid
+	 */
+	public int getHeight(int plane, int x, int y)
+	{
+		int offset = tileOffset(buffer, plane, x, y);
+		return offset < 0 ? 0 : buffer.getInt(offset);
+	}
+
+	/**
+	 * @param plane
+	 * @param x world x
+	 * @param y world y
+	 * @return the {@link CollisionFlags} of the tile, or
+	 * {@link CollisionFlags#BLOCK_MOVEMENT_FULL} if it is not in the grid
+	 */
+	public int getFlags(int plane, int x, int y)
+	{
+		int offset = tileOffset(buffer, plane, x, y);
+		return offset < 0 ? CollisionFlags.BLOCK_MOVEMENT_FULL : buffer.getInt(offset + 4);
+	}
+
+	/**
+	 * @param plane
+	 * @param x world x
+	 * @param y world y
+	 * @return true if the tile itself can be stood on, regardless of walls
+	 */
+	public boolean isWalkable(int plane, int x, int y)
+	{
+		return (getFlags(plane, x, y) & CollisionFlags.BLOCK_MOVEMENT_FULL) == 0;
+	}
+
+	static int regionId(int x, int y)
+	{
+		return (x >> 6) << 8 | (y >> 6);
+	}
+
+	/**
+	 * @return the offset of a tile in the grid, or -1 if it is not in the grid
+	 */
+	static int tileOffset(ByteBuffer buffer, int plane, int x, int y)
+	{
+		if (plane < 0 || plane >= Region.Z || x < 0 || y < 0 || x >= (1 << 14) || y >= (1 << 14))
+		{
+			return -1;
+		}
+
+		int slot = buffer.getInt(HEADER_SIZE + regionId(x, y) * 4);
+		if (slot < 0)
+		{
+			return -1;
+		}
+
+		return SLOTS_OFFSET + slot * SLOT_SIZE + (((plane * Region.X + (x & 63)) * Region.Y + (y & 63)) * TILE_SIZE);
+	}
+}
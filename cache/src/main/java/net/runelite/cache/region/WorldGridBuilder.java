@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.region;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.definitions.ObjectDefinition;
+import net.runelite.cache.definitions.providers.ObjectProvider;
+import static net.runelite.cache.region.CollisionFlags.*;
+import static net.runelite.cache.region.WorldGrid.*;
+
+/**
+ * Builds a {@link WorldGrid} file of the heights and collision flags of every
+ * tile. Regions are decoded and written in parallel, directly into a memory
+ * mapping of the file.
+ * <p>
+ * Collision flags are computed the same way as the client's collision maps:
+ * blocked tiles and floor decorations, walls, and the area covered by
+ * objects. Objects on bridges are moved down a plane. Objects near the edge
+ * of a region may flag tiles in the neighbouring regions, so flags are
+ * combined atomically.
+ */
+@Slf4j
+public class WorldGridBuilder
+{
+	private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+	private interface RegionSource
+	{
+		Region read(int regionId) throws IOException;
+	}
+
+	private final ObjectProvider objectProvider;
+
+	/**
+	 * @param objectProvider provider of object definitions, which must be
+	 * safe to use from multiple threads
+	 */
+	public WorldGridBuilder(ObjectProvider objectProvider)
+	{
+		this.objectProvider = objectProvider;
+	}
+
+	/**
+	 * Build a world grid of all of the regions of a cache. The regions are
+	 * decoded as they are written, and are not kept in the region loader.
+	 *
+	 * @param file file to write
+	 * @param regionLoader loader to decode regions with
+	 * @param executor executor to decode and write regions on
+	 * @throws IOException
+	 */
+	public void build(File file, RegionLoader regionLoader, Executor executor) throws IOException
+	{
+		build(file, regionLoader.getRegionIds(), regionLoader::readRegion, executor);
+	}
+
+	/**
+	 * Build a world grid of already decoded regions
+	 *
+	 * @param file file to write
+	 * @param regions regions to write
+	 * @param executor executor to write regions on
+	 * @throws IOException
+	 */
+	public void build(File file, Collection<Region> regions, Executor executor) throws IOException
+	{
+		Map<Integer, Region> byId = new HashMap<>();
+		for (Region region : regions)
+		{
+			byId.put(region.getRegionID(), region);
+		}
+
+		int[] ids = byId.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+		build(file, ids, byId::get, executor);
+	}
+
+	private void build(File file, int[] regionIds, RegionSource source, Executor executor) throws IOException
+	{
+		long length = SLOTS_OFFSET + (long) regionIds.length * SLOT_SIZE;
+		if (length > Integer.MAX_VALUE)
+		{
+			throw new IOException("too many regions: " + regionIds.length);
+		}
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			// clear any previous grid, the slots are expected to start zeroed
+			raf.setLength(0L);
+			raf.setLength(length);
+
+			MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0L, length);
+			buffer.putInt(0, MAGIC);
+			buffer.putInt(4, VERSION);
+			buffer.putInt(8, regionIds.length);
+			for (int i = 0; i < REGION_IDS; ++i)
+			{
+				buffer.putInt(HEADER_SIZE + i * 4, -1);
+			}
+			for (int slot = 0; slot < regionIds.length; ++slot)
+			{
+				buffer.putInt(HEADER_SIZE + regionIds[slot] * 4, slot);
+			}
+
+			List<CompletableFuture<Void>> futures = new ArrayList<>(regionIds.length);
+			for (int regionId : regionIds)
+			{
+				futures.add(CompletableFuture.runAsync(() ->
+				{
+					Region region;
+					try
+					{
+						region = source.read(regionId);
+					}
+					catch (IOException ex)
+					{
+						log.debug("Can't decrypt region " + regionId, ex);
+						region = null;
+					}
+
+					if (region != null)
+					{
+						writeRegion(buffer, region);
+					}
+					else
+					{
+						// drop the region from the directory, its slot is left unused
+						buffer.putInt(HEADER_SIZE + regionId * 4, -1);
+					}
+				}, executor));
+			}
+
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+			buffer.force();
+		}
+
+		log.info("Wrote world grid of {} regions to {} ({} bytes)", regionIds.length, file, length);
+	}
+
+	private void writeRegion(ByteBuffer buffer, Region region)
+	{
+		int baseX = region.getBaseX();
+		int baseY = region.getBaseY();
+
+		for (int z = 0; z < Region.Z; ++z)
+		{
+			for (int x = 0; x < Region.X; ++x)
+			{
+				for (int y = 0; y < Region.Y; ++y)
+				{
+					buffer.putInt(tileOffset(buffer, z, baseX + x, baseY + y), region.getTileHeight(z, x, y));
+
+					if ((region.getTileSetting(z, x, y) & 1) == 1)
+					{
+						addFlag(buffer, bridgePlane(region, z, x, y), baseX + x, baseY + y, BLOCK_MOVEMENT_FLOOR);
+					}
+				}
+			}
+		}
+
+		for (Location location : region.getLocations())
+		{
+			Position position = location.getPosition();
+			int plane = bridgePlane(region, position.getZ(), position.getX() - baseX, position.getY() - baseY);
+			if (plane < 0)
+			{
+				continue;
+			}
+
+			ObjectDefinition object = objectProvider.provide(location.getId());
+			if (object == null || object.getInteractType() == 0)
+			{
+				continue;
+			}
+
+			addObject(buffer, plane, position.getX(), position.getY(), location.getType(), location.getOrientation(), object);
+		}
+	}
+
+	/**
+	 * @return the plane to apply the collision of a tile to, which is one plane lower if the tile is under a bridge
+	 */
+	private static int bridgePlane(Region region, int z, int x, int y)
+	{
+		return (region.getTileSetting(1, x, y) & 2) == 2 ? z - 1 : z;
+	}
+
+	private static void addObject(ByteBuffer buffer, int plane, int x, int y, int type, int orientation, ObjectDefinition object)
+	{
+		boolean projectile = object.isBlocksProjectile();
+
+		if (type == 22)
+		{
+			// ground decoration
+			if (object.getInteractType() == 1)
+			{
+				addFlag(buffer, plane, x, y, BLOCK_MOVEMENT_FLOOR_DECORATION);
+			}
+		}
+		else if (type >= 0 && type <= 3)
+		{
+			addWall(buffer, plane, x, y, type, orientation, projectile);
+		}
+		else if (type >= 9)
+		{
+			// diagonal walls, scenery and roofs
+			int sizeX = object.getSizeX();
+			int sizeY = object.getSizeY();
+			if (orientation == 1 || orientation == 3)
+			{
+				sizeX = object.getSizeY();
+				sizeY = object.getSizeX();
+			}
+
+			int flag = BLOCK_MOVEMENT_OBJECT | (projectile ? BLOCK_LINE_OF_SIGHT_FULL : 0);
+			for (int dx = 0; dx < sizeX; ++dx)
+			{
+				for (int dy = 0; dy < sizeY; ++dy)
+				{
+					addFlag(buffer, plane, x + dx, y + dy, flag);
+				}
+			}
+		}
+		// wall decorations, types 4 to 8, have no collision
+	}
+
+	private static void addWall(ByteBuffer buffer, int plane, int x, int y, int type, int orientation, boolean projectile)
+	{
+		if (type == 0)
+		{
+			// straight wall
+			switch (orientation)
+			{
+				case 0:
+					addWallFlag(buffer, plane, x, y, BLOCK_MOVEMENT_WEST, projectile);
+					addWallFlag(buffer, plane, x - 1, y, BLOCK_MOVEMENT_EAST, projectile);
+					break;
+				case 1:
+					addWallFlag(buffer, plane, x, y, BLOCK_MOVEMENT_NORTH, projectile);
+					addWallFlag(buffer, plane, x, y + 1, BLOCK_MOVEMENT_SOUTH, projectile);
+					break;
+				case 2:
+					addWallFlag(buffer, plane, x, y, BLOCK_MOVEMENT_EAST, projectile);
+					addWallFlag(buffer, plane, x + 1, y, BLOCK_MOVEMENT_WEST, projectile);
+					break;
+				case 3:
+					addWallFlag(buffer, plane, x, y, BLOCK_MOVEMENT_SOUTH, projectile);
+					addWallFlag(buffer, plane, x, y - 1, BLOCK_MOVEMENT_NORTH, projectile);
+					break;
+			}
+		}
+		else if (type == 1 || type == 3)
+		{
+			// diagonal wall corner, or the corner of a wall
+			switch (orientation)
+			{
+				case 0:
+					addWallFlag(buffer, plane, x, y, BLOCK_MOVEMENT_NORTH_WEST, projectile);
+					addWallFlag(buffer, plane, x - 1, y + 1, BLOCK_MOVEMENT_SOUTH_EAST, projectile);
+					break;
+				case 1:
+					addWallFlag(buffer, plane, x, y, BLOCK_MOVEMENT_NORTH_EAST, projectile);
+					addWallFlag(buffer, plane, x + 1, y + 1, BLOCK_MOVEMENT_SOUTH_WEST, projectile);
+					break;
+				case 2:
+					addWallFlag(buffer, plane, x, y, BLOCK_MOVEMENT_SOUTH_EAST, projectile);
+					addWallFlag(buffer, plane, x + 1, y - 1, BLOCK_MOVEMENT_NORTH_WEST, projectile);
+					break;
+				case 3:
+					addWallFlag(buffer, plane, x, y, BLOCK_MOVEMENT_SOUTH_WEST, projectile);
+					addWallFlag(buffer, plane, x - 1, y - 1, BLOCK_MOVEMENT_NORTH_EAST, projectile);
+					break;
+			}
+		}
+		else if (type == 2)
+		{
+			// l shaped wall
+			switch (orientation)
+			{
+				case 0:
+					addWallFlag(buffer, plane, x, y, BLOCK_MOVEMENT_WEST | BLOCK_MOVEMENT_NORTH, projectile);
+					addWallFlag(buffer, plane, x - 1, y, BLOCK_MOVEMENT_EAST, projectile);
+					addWallFlag(buffer, plane, x, y + 1, BLOCK_MOVEMENT_SOUTH, projectile);
+					break;
+				case 1:
+					addWallFlag(buffer, plane, x, y, BLOCK_MOVEMENT_NORTH | BLOCK_MOVEMENT_EAST, projectile);
+					addWallFlag(buffer, plane, x, y + 1, BLOCK_MOVEMENT_SOUTH, projectile);
+					addWallFlag(buffer, plane, x + 1, y, BLOCK_MOVEMENT_WEST, projectile);
+					break;
+				case 2:
+					addWallFlag(buffer, plane, x, y, BLOCK_MOVEMENT_EAST | BLOCK_MOVEMENT_SOUTH, projectile);
+					addWallFlag(buffer, plane, x + 1, y, BLOCK_MOVEMENT_WEST, projectile);
+					addWallFlag(buffer, plane, x, y - 1, BLOCK_MOVEMENT_NORTH, projectile);
+					break;
+				case 3:
+					addWallFlag(buffer, plane, x, y, BLOCK_MOVEMENT_SOUTH | BLOCK_MOVEMENT_WEST, projectile);
+					addWallFlag(buffer, plane, x, y - 1, BLOCK_MOVEMENT_NORTH, projectile);
+					addWallFlag(buffer, plane, x - 1, y, BLOCK_MOVEMENT_EAST, projectile);
+					break;
+			}
+		}
+	}
+
+	private static void addWallFlag(ByteBuffer buffer, int plane, int x, int y, int flag, boolean projectile)
+	{
+		addFlag(buffer, plane, x, y, projectile ? flag | flag << LINE_OF_SIGHT_SHIFT : flag);
+	}
+
+	private static void addFlag(ByteBuffer buffer, int plane, int x, int y, int flag)
+	{
+		int offset = tileOffset(buffer, plane, x, y);
+		if (offset >= 0)
+		{
+			INT.getAndBitwiseOr(buffer, offset + 4, flag);
+		}
+	}
+}
@@ -0,0 +1,574 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.script.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.cache.definitions.ScriptDefinition;
+import net.runelite.cache.script.Opcodes;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Compiles scripts to JVM classes implementing {@link CompiledScript}.
+ * <p>
+ * The script stacks stay in the {@link ScriptState}, but the stack pointers
+ * and the script locals are held in JVM locals, and the core instructions
+ * are translated directly so the JVM can compile the script to native code.
+ * The stack pointers are written back to the state around calls to opcode
+ * handlers and other scripts.
+ */
+class ScriptCompiler
+{
+	private static final String PACKAGE = "net/runelite/cache/script/engine/generated/";
+
+	private static final String OBJECT = Type.getInternalName(Object.class);
+	private static final String STATE = Type.getInternalName(ScriptState.class);
+	private static final String ENGINE = Type.getInternalName(ScriptEngine.class);
+	private static final String HANDLER = Type.getInternalName(OpcodeHandler.class);
+	private static final String COMPILED_SCRIPT = Type.getInternalName(CompiledScript.class);
+	private static final String SCRIPT_EXCEPTION = Type.getInternalName(ScriptException.class);
+
+	private static final String ENGINE_DESC = Type.getDescriptor(ScriptEngine.class);
+	private static final String HANDLERS_DESC = Type.getDescriptor(OpcodeHandler[].class);
+	private static final String CONSTRUCTOR_DESC = "(" + ENGINE_DESC + HANDLERS_DESC + ")V";
+	private static final String EXECUTE_DESC = "(" + Type.getDescriptor(ScriptState.class) + ")V";
+	private static final String HANDLER_DESC = "(" + Type.getDescriptor(ScriptState.class) + "I)V";
+
+	// jvm local slots
+	private static final int THIS = 0;
+	private static final int STATE_LOCAL = 1;
+	private static final int INT_STACK = 2;
+	private static final int OBJECT_STACK = 3;
+	private static final int INT_STACK_SIZE = 4;
+	private static final int OBJECT_STACK_SIZE = 5;
+	private static final int FIRST_LOCAL = 6;
+
+	private final ScriptEngine engine;
+	private final GeneratedClassLoader classLoader = new GeneratedClassLoader(ScriptCompiler.class.getClassLoader());
+	private final AtomicInteger classCount = new AtomicInteger();
+
+	ScriptCompiler(ScriptEngine engine)
+	{
+		this.engine = engine;
+	}
+
+	CompiledScript compile(ScriptDefinition script)
+	{
+		List<OpcodeHandler> handlers = new ArrayList<>();
+		String name = PACKAGE + "Script" + script.getId() + "_" + classCount.incrementAndGet();
+		byte[] bytes = generate(script, name, handlers);
+
+		try
+		{
+			Class<?> clazz = classLoader.define(name.replace('/', '.'), bytes);
+			return (CompiledScript) clazz.getConstructor(ScriptEngine.class, OpcodeHandler[].class)
+				.newInstance(engine, handlers.toArray(new OpcodeHandler[0]));
+		}
+		catch (ReflectiveOperationException ex)
+		{
+			throw new ScriptException("unable to load compiled script " + script.getId(), ex);
+		}
+	}
+
+	/**
+	 * Generate the class for a script
+	 *
+	 * @param script script to compile
+	 * @param name internal name of the class
+	 * @param handlers filled with the opcode handlers the class uses
+	 * @return the class file
+	 */
+	byte[] generate(ScriptDefinition script, String name, List<OpcodeHandler> handlers)
+	{
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES)
+		{
+			@Override
+			protected String getCommonSuperClass(String type1, String type2)
+			{
+				// the only reference types held in locals are arrays, the state, and stack objects
+				return OBJECT;
+			}
+		};
+		cw.visit(V11, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, name, null, OBJECT, new String[]{COMPILED_SCRIPT});
+		cw.visitField(ACC_PRIVATE | ACC_FINAL, "engine", ENGINE_DESC, null, null).visitEnd();
+		cw.visitField(ACC_PRIVATE | ACC_FINAL, "handlers", HANDLERS_DESC, null, null).visitEnd();
+
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", CONSTRUCTOR_DESC, null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, THIS);
+		mv.visitMethodInsn(INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+		mv.visitVarInsn(ALOAD, THIS);
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitFieldInsn(PUTFIELD, name, "engine", ENGINE_DESC);
+		mv.visitVarInsn(ALOAD, THIS);
+		mv.visitVarInsn(ALOAD, 2);
+		mv.visitFieldInsn(PUTFIELD, name, "handlers", HANDLERS_DESC);
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		mv = cw.visitMethod(ACC_PUBLIC, "execute", EXECUTE_DESC, null, null);
+		mv.visitCode();
+		new MethodCompiler(script, name, mv, handlers).compile();
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
+	private class MethodCompiler
+	{
+		private final ScriptDefinition script;
+		private final String className;
+		private final MethodVisitor mv;
+		private final List<OpcodeHandler> handlers;
+		private final Map<Integer, Integer> handlerIndexes = new TreeMap<>();
+		private final Label[] labels;
+		private final int firstObjectLocal;
+
+		MethodCompiler(ScriptDefinition script, String className, MethodVisitor mv, List<OpcodeHandler> handlers)
+		{
+			this.script = script;
+			this.className = className;
+			this.mv = mv;
+			this.handlers = handlers;
+			this.labels = new Label[script.getInstructions().length + 1];
+			this.firstObjectLocal = FIRST_LOCAL + script.getLocalIntCount();
+		}
+
+		void compile()
+		{
+			int[] instructions = script.getInstructions();
+			int[] intOperands = script.getIntOperands();
+			String[] stringOperands = script.getStringOperands();
+
+			for (int i = 0; i < labels.length; ++i)
+			{
+				labels[i] = new Label();
+			}
+
+			prologue();
+
+			for (int pc = 0; pc < instructions.length; ++pc)
+			{
+				mv.visitLabel(labels[pc]);
+				instruction(pc, instructions[pc], intOperands[pc], stringOperands[pc]);
+			}
+
+			// falling off the end of the script returns
+			mv.visitLabel(labels[instructions.length]);
+			syncStacks();
+			mv.visitInsn(RETURN);
+		}
+
+		private void prologue()
+		{
+			mv.visitVarInsn(ALOAD, STATE_LOCAL);
+			mv.visitMethodInsn(INVOKEVIRTUAL, STATE, "getIntStack", "()[I", false);
+			mv.visitVarInsn(ASTORE, INT_STACK);
+			mv.visitVarInsn(ALOAD, STATE_LOCAL);
+			mv.visitMethodInsn(INVOKEVIRTUAL, STATE, "getObjectStack", "()[L" + OBJECT + ";", false);
+			mv.visitVarInsn(ASTORE, OBJECT_STACK);
+
+			// pop the arguments into the first locals
+			int intArgs = script.getIntArgCount();
+			int objectArgs = script.getObjArgCount();
+			loadStacks();
+			mv.visitIincInsn(INT_STACK_SIZE, -intArgs);
+			mv.visitIincInsn(OBJECT_STACK_SIZE, -objectArgs);
+
+			for (int i = 0; i < script.getLocalIntCount(); ++i)
+			{
+				if (i < intArgs)
+				{
+					mv.visitVarInsn(ALOAD, INT_STACK);
+					mv.visitVarInsn(ILOAD, INT_STACK_SIZE);
+					pushInt(i);
+					mv.visitInsn(IADD);
+					mv.visitInsn(IALOAD);
+				}
+				else
+				{
+					mv.visitInsn(ICONST_0);
+				}
+				mv.visitVarInsn(ISTORE, FIRST_LOCAL + i);
+			}
+
+			for (int i = 0; i < script.getLocalObjCount(); ++i)
+			{
+				if (i < objectArgs)
+				{
+					mv.visitVarInsn(ALOAD, OBJECT_STACK);
+					mv.visitVarInsn(ILOAD, OBJECT_STACK_SIZE);
+					pushInt(i);
+					mv.visitInsn(IADD);
+					mv.visitInsn(AALOAD);
+				}
+				else
+				{
+					mv.visitInsn(ACONST_NULL);
+				}
+				mv.visitVarInsn(ASTORE, firstObjectLocal + i);
+			}
+		}
+
+		private void instruction(int pc, int opcode, int operand, String stringOperand)
+		{
+			switch (opcode)
+			{
+				case Opcodes.ICONST:
+					mv.visitVarInsn(ALOAD, INT_STACK);
+					mv.visitVarInsn(ILOAD, INT_STACK_SIZE);
+					pushInt(operand);
+					mv.visitInsn(IASTORE);
+					mv.visitIincInsn(INT_STACK_SIZE, 1);
+					break;
+				case Opcodes.SCONST:
+				case Opcodes.PUSH_NULL:
+					mv.visitVarInsn(ALOAD, OBJECT_STACK);
+					mv.visitVarInsn(ILOAD, OBJECT_STACK_SIZE);
+					if (opcode == Opcodes.SCONST && stringOperand != null)
+					{
+						mv.visitLdcInsn(stringOperand);
+					}
+					else
+					{
+						mv.visitInsn(ACONST_NULL);
+					}
+					mv.visitInsn(AASTORE);
+					mv.visitIincInsn(OBJECT_STACK_SIZE, 1);
+					break;
+				case Opcodes.JUMP:
+					mv.visitJumpInsn(GOTO, target(pc, operand));
+					break;
+				case Opcodes.IF_ICMPNE:
+				case Opcodes.IF_ICMPEQ:
+				case Opcodes.IF_ICMPLT:
+				case Opcodes.IF_ICMPGT:
+				case Opcodes.IF_ICMPLE:
+				case Opcodes.IF_ICMPGE:
+					mv.visitIincInsn(INT_STACK_SIZE, -2);
+					mv.visitVarInsn(ALOAD, INT_STACK);
+					mv.visitVarInsn(ILOAD, INT_STACK_SIZE);
+					mv.visitInsn(IALOAD);
+					mv.visitVarInsn(ALOAD, INT_STACK);
+					mv.visitVarInsn(ILOAD, INT_STACK_SIZE);
+					mv.visitInsn(ICONST_1);
+					mv.visitInsn(IADD);
+					mv.visitInsn(IALOAD);
+					mv.visitJumpInsn(jvmComparison(opcode), target(pc, operand));
+					break;
+				case Opcodes.RETURN:
+					syncStacks();
+					mv.visitInsn(RETURN);
+					break;
+				case Opcodes.ILOAD:
+					mv.visitVarInsn(ALOAD, INT_STACK);
+					mv.visitVarInsn(ILOAD, INT_STACK_SIZE);
+					mv.visitVarInsn(ILOAD, intLocal(operand));
+					mv.visitInsn(IASTORE);
+					mv.visitIincInsn(INT_STACK_SIZE, 1);
+					break;
+				case Opcodes.ISTORE:
+					mv.visitIincInsn(INT_STACK_SIZE, -1);
+					mv.visitVarInsn(ALOAD, INT_STACK);
+					mv.visitVarInsn(ILOAD, INT_STACK_SIZE);
+					mv.visitInsn(IALOAD);
+					mv.visitVarInsn(ISTORE, intLocal(operand));
+					break;
+				case Opcodes.OLOAD:
+					mv.visitVarInsn(ALOAD, OBJECT_STACK);
+					mv.visitVarInsn(ILOAD, OBJECT_STACK_SIZE);
+					mv.visitVarInsn(ALOAD, objectLocal(operand));
+					mv.visitInsn(AASTORE);
+					mv.visitIincInsn(OBJECT_STACK_SIZE, 1);
+					break;
+				case Opcodes.OSTORE:
+					mv.visitIincInsn(OBJECT_STACK_SIZE, -1);
+					mv.visitVarInsn(ALOAD, OBJECT_STACK);
+					mv.visitVarInsn(ILOAD, OBJECT_STACK_SIZE);
+					mv.visitInsn(AALOAD);
+					mv.visitVarInsn(ASTORE, objectLocal(operand));
+					break;
+				case Opcodes.POP_INT:
+					mv.visitIincInsn(INT_STACK_SIZE, -1);
+					break;
+				case Opcodes.POP_OBJECT:
+					mv.visitIincInsn(OBJECT_STACK_SIZE, -1);
+					break;
+				case Opcodes.JOIN_STRING:
+					stateCall("joinStrings", operand);
+					break;
+				case Opcodes.DEFINE_ARRAY:
+					stateCall("defineArray", operand);
+					break;
+				case Opcodes.GET_ARRAY_INT:
+					stateCall("getArrayInt", operand);
+					break;
+				case Opcodes.SET_ARRAY_INT:
+					stateCall("setArrayInt", operand);
+					break;
+				case Opcodes.INVOKE:
+					syncStacks();
+					mv.visitVarInsn(ALOAD, THIS);
+					mv.visitFieldInsn(GETFIELD, className, "engine", ENGINE_DESC);
+					mv.visitVarInsn(ALOAD, STATE_LOCAL);
+					pushInt(operand);
+					mv.visitMethodInsn(INVOKEVIRTUAL, ENGINE, "invoke", HANDLER_DESC, false);
+					loadStacks();
+					break;
+				case Opcodes.SWITCH:
+					lookupSwitch(pc, operand);
+					break;
+				case Opcodes.ADD:
+				case Opcodes.SUB:
+				case Opcodes.MULTIPLY:
+				case Opcodes.DIV:
+				case Opcodes.MOD:
+				case Opcodes.AND:
+				case Opcodes.OR:
+					// is[isp - 2] = is[isp - 2] op is[isp - 1]
+					mv.visitIincInsn(INT_STACK_SIZE, -1);
+					mv.visitVarInsn(ALOAD, INT_STACK);
+					mv.visitVarInsn(ILOAD, INT_STACK_SIZE);
+					mv.visitInsn(ICONST_1);
+					mv.visitInsn(ISUB);
+					mv.visitInsn(DUP2);
+					mv.visitInsn(IALOAD);
+					mv.visitVarInsn(ALOAD, INT_STACK);
+					mv.visitVarInsn(ILOAD, INT_STACK_SIZE);
+					mv.visitInsn(IALOAD);
+					mv.visitInsn(jvmArithmetic(opcode));
+					mv.visitInsn(IASTORE);
+					break;
+				default:
+					handlerCall(pc, opcode, operand);
+					break;
+			}
+		}
+
+		private void lookupSwitch(int pc, int operand)
+		{
+			Map<Integer, Integer>[] switches = script.getSwitches();
+			if (switches == null || operand < 0 || operand >= switches.length)
+			{
+				throw new ScriptException("invalid switch " + operand + " in script " + script.getId());
+			}
+
+			// the jvm requires the keys to be sorted
+			Map<Integer, Integer> cases = new TreeMap<>(switches[operand]);
+			int[] keys = new int[cases.size()];
+			Label[] targets = new Label[cases.size()];
+			int i = 0;
+			for (Map.Entry<Integer, Integer> entry : cases.entrySet())
+			{
+				keys[i] = entry.getKey();
+				targets[i++] = target(pc, entry.getValue());
+			}
+
+			mv.visitIincInsn(INT_STACK_SIZE, -1);
+			mv.visitVarInsn(ALOAD, INT_STACK);
+			mv.visitVarInsn(ILOAD, INT_STACK_SIZE);
+			mv.visitInsn(IALOAD);
+			mv.visitLookupSwitchInsn(labels[pc + 1], keys, targets);
+		}
+
+		private void handlerCall(int pc, int opcode, int operand)
+		{
+			OpcodeHandler handler = engine.getHandler(opcode);
+			if (handler == null)
+			{
+				// this may be unreachable, so only fail if it is executed
+				mv.visitTypeInsn(NEW, SCRIPT_EXCEPTION);
+				mv.visitInsn(DUP);
+				mv.visitLdcInsn("unhandled opcode " + opcode + " in script " + script.getId() + " at " + pc);
+				mv.visitMethodInsn(INVOKESPECIAL, SCRIPT_EXCEPTION, "<init>", "(Ljava/lang/String;)V", false);
+				mv.visitInsn(ATHROW);
+				return;
+			}
+
+			Integer index = handlerIndexes.get(opcode);
+			if (index == null)
+			{
+				index = handlers.size();
+				handlers.add(handler);
+				handlerIndexes.put(opcode, index);
+			}
+
+			syncStacks();
+			mv.visitVarInsn(ALOAD, THIS);
+			mv.visitFieldInsn(GETFIELD, className, "handlers", HANDLERS_DESC);
+			pushInt(index);
+			mv.visitInsn(AALOAD);
+			mv.visitVarInsn(ALOAD, STATE_LOCAL);
+			pushInt(operand);
+			mv.visitMethodInsn(INVOKEINTERFACE, HANDLER, "execute", HANDLER_DESC, true);
+			loadStacks();
+		}
+
+		private void stateCall(String method, int operand)
+		{
+			syncStacks();
+			mv.visitVarInsn(ALOAD, STATE_LOCAL);
+			pushInt(operand);
+			mv.visitMethodInsn(INVOKEVIRTUAL, STATE, method, "(I)V", false);
+			loadStacks();
+		}
+
+		private void syncStacks()
+		{
+			mv.visitVarInsn(ALOAD, STATE_LOCAL);
+			mv.visitVarInsn(ILOAD, INT_STACK_SIZE);
+			mv.visitMethodInsn(INVOKEVIRTUAL, STATE, "setIntStackSize", "(I)V", false);
+			mv.visitVarInsn(ALOAD, STATE_LOCAL);
+			mv.visitVarInsn(ILOAD, OBJECT_STACK_SIZE);
+			mv.visitMethodInsn(INVOKEVIRTUAL, STATE, "setObjectStackSize", "(I)V", false);
+		}
+
+		private void loadStacks()
+		{
+			mv.visitVarInsn(ALOAD, STATE_LOCAL);
+			mv.visitMethodInsn(INVOKEVIRTUAL, STATE, "getIntStackSize", "()I", false);
+			mv.visitVarInsn(ISTORE, INT_STACK_SIZE);
+			mv.visitVarInsn(ALOAD, STATE_LOCAL);
+			mv.visitMethodInsn(INVOKEVIRTUAL, STATE, "getObjectStackSize", "()I", false);
+			mv.visitVarInsn(ISTORE, OBJECT_STACK_SIZE);
+		}
+
+		private Label target(int pc, int offset)
+		{
+			// jumps are relative to the instruction prior to the target
+			int target = pc + offset + 1;
+			if (target < 0 || target >= labels.length)
+			{
+				throw new ScriptException("jump out of bounds at " + pc + " in script " + script.getId());
+			}
+			return labels[target];
+		}
+
+		private int intLocal(int local)
+		{
+			if (local < 0 || local >= script.getLocalIntCount())
+			{
+				throw new ScriptException("invalid int local " + local + " in script " + script.getId());
+			}
+			return FIRST_LOCAL + local;
+		}
+
+		private int objectLocal(int local)
+		{
+			if (local < 0 || local >= script.getLocalObjCount())
+			{
+				throw new ScriptException("invalid object local " + local + " in script " + script.getId());
+			}
+			return firstObjectLocal + local;
+		}
+
+		private void pushInt(int value)
+		{
+			if (value >= -1 && value <= 5)
+			{
+				mv.visitInsn(ICONST_0 + value);
+			}
+			else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE)
+			{
+				mv.visitIntInsn(BIPUSH, value);
+			}
+			else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE)
+			{
+				mv.visitIntInsn(SIPUSH, value);
+			}
+			else
+			{
+				mv.visitLdcInsn(value);
+			}
+		}
+	}
+
+	private static int jvmComparison(int opcode)
+	{
+		switch (opcode)
+		{
+			case Opcodes.IF_ICMPNE:
+				return IF_ICMPNE;
+			case Opcodes.IF_ICMPEQ:
+				return IF_ICMPEQ;
+			case Opcodes.IF_ICMPLT:
+				return IF_ICMPLT;
+			case Opcodes.IF_ICMPGT:
+				return IF_ICMPGT;
+			case Opcodes.IF_ICMPLE:
+				return IF_ICMPLE;
+			case Opcodes.IF_ICMPGE:
+				return IF_ICMPGE;
+			default:
+				throw new IllegalArgumentException("not a comparison: " + opcode);
+		}
+	}
+
+	private static int jvmArithmetic(int opcode)
+	{
+		switch (opcode)
+		{
+			case Opcodes.ADD:
+				return IADD;
+			case Opcodes.SUB:
+				return ISUB;
+			case Opcodes.MULTIPLY:
+				return IMUL;
+			case Opcodes.DIV:
+				return IDIV;
+			case Opcodes.MOD:
+				return IREM;
+			case Opcodes.AND:
+				return IAND;
+			case Opcodes.OR:
+				return IOR;
+			default:
+				throw new IllegalArgumentException("not an arithmetic instruction: " + opcode);
+		}
+	}
+
+	private static class GeneratedClassLoader extends ClassLoader
+	{
+		GeneratedClassLoader(ClassLoader parent)
+		{
+			super(parent);
+		}
+
+		Class<?> define(String name, byte[] bytes)
+		{
+			return defineClass(name, bytes, 0, bytes.length);
+		}
+	}
+}
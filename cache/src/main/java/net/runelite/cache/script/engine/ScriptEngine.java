@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.script.engine;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.definitions.ScriptDefinition;
+import net.runelite.cache.definitions.providers.ScriptProvider;
+import static net.runelite.cache.script.Opcodes.*;
+
+/**
+ * Executes scripts outside of the client. Scripts start out interpreted by
+ * {@link ScriptInterpreter}, and once invoked more than the compile
+ * threshold they are compiled to JVM bytecode by {@link ScriptCompiler}.
+ * <p>
+ * The engine implements the control flow, local, array, and integer
+ * arithmetic instructions. Every other opcode must have an
+ * {@link OpcodeHandler} registered, see {@link StandardOpcodeHandlers}.
+ * Handlers must be registered before scripts are executed.
+ */
+@Slf4j
+public class ScriptEngine
+{
+	/**
+	 * The maximum depth of nested script invocations, the same as the client
+	 */
+	static final int MAX_DEPTH = 50;
+
+	private static final int[] CORE_OPCODES = {
+		ICONST, SCONST, JUMP, IF_ICMPNE, IF_ICMPEQ, IF_ICMPLT, IF_ICMPGT, RETURN, IF_ICMPLE, IF_ICMPGE,
+		ILOAD, ISTORE, OLOAD, OSTORE, JOIN_STRING, POP_INT, POP_OBJECT, INVOKE, DEFINE_ARRAY,
+		GET_ARRAY_INT, SET_ARRAY_INT, SWITCH, PUSH_NULL, ADD, SUB, MULTIPLY, DIV, MOD, AND, OR
+	};
+
+	private final ScriptProvider scriptProvider;
+	private final Map<Integer, ScriptEntry> scripts = new ConcurrentHashMap<>();
+	private final ScriptInterpreter interpreter = new ScriptInterpreter(this);
+	private final ScriptCompiler compiler = new ScriptCompiler(this);
+	private volatile OpcodeHandler[] handlers = new OpcodeHandler[0];
+
+	/**
+	 * The number of invocations after which a script is compiled. 0 compiles
+	 * scripts on their first invocation, and -1 never compiles them.
+	 */
+	@Getter
+	@Setter
+	private volatile int compileThreshold = 100;
+
+	public ScriptEngine(ScriptProvider scriptProvider)
+	{
+		this.scriptProvider = scriptProvider;
+	}
+
+	public synchronized void registerHandler(int opcode, OpcodeHandler handler)
+	{
+		if (isCoreOpcode(opcode))
+		{
+			throw new IllegalArgumentException("opcode " + opcode + " is implemented by the engine");
+		}
+
+		OpcodeHandler[] newHandlers = Arrays.copyOf(handlers, Math.max(handlers.length, opcode + 1));
+		newHandlers[opcode] = handler;
+		handlers = newHandlers;
+
+		// compiled scripts bind their handlers
+		for (ScriptEntry entry : scripts.values())
+		{
+			entry.reset();
+		}
+	}
+
+	OpcodeHandler getHandler(int opcode)
+	{
+		OpcodeHandler[] handlers = this.handlers;
+		return opcode >= 0 && opcode < handlers.length ? handlers[opcode] : null;
+	}
+
+	/**
+	 * Execute a script with a new state
+	 *
+	 * @param scriptId
+	 * @param args the arguments, Integers are pushed to the int stack and
+	 *             everything else to the object stack
+	 * @return the state, holding the values returned by the script
+	 */
+	public ScriptState execute(int scriptId, Object... args)
+	{
+		ScriptState state = new ScriptState();
+		execute(state, scriptId, args);
+		return state;
+	}
+
+	public void execute(ScriptState state, int scriptId, Object... args)
+	{
+		for (Object arg : args)
+		{
+			if (arg instanceof Integer)
+			{
+				state.pushInt((Integer) arg);
+			}
+			else
+			{
+				state.pushObject(arg);
+			}
+		}
+
+		invoke(state, scriptId);
+	}
+
+	/**
+	 * Invoke a script with its arguments already on the stacks. This is
+	 * public only so that compiled scripts can call it.
+	 */
+	public void invoke(ScriptState state, int scriptId)
+	{
+		ScriptEntry entry = getEntry(scriptId);
+		if (state.depth >= MAX_DEPTH)
+		{
+			throw new ScriptException("maximum script depth exceeded invoking script " + scriptId);
+		}
+
+		CompiledScript compiled = entry.compiled;
+		if (compiled == null && compileThreshold >= 0 && !entry.uncompilable
+			&& entry.invocations.incrementAndGet() > compileThreshold)
+		{
+			compiled = compile(entry);
+		}
+
+		++state.depth;
+		try
+		{
+			if (compiled != null)
+			{
+				compiled.execute(state);
+			}
+			else
+			{
+				interpreter.execute(entry.script, state);
+			}
+		}
+		catch (ScriptException ex)
+		{
+			throw ex;
+		}
+		catch (RuntimeException ex)
+		{
+			throw new ScriptException((compiled != null ? "error in compiled script " : "error in script ") + scriptId, ex);
+		}
+		finally
+		{
+			--state.depth;
+		}
+	}
+
+	/**
+	 * Compile a script now rather than waiting for it to become hot
+	 *
+	 * @param scriptId
+	 * @return true if the script was compiled
+	 */
+	public boolean compile(int scriptId)
+	{
+		return compile(getEntry(scriptId)) != null;
+	}
+
+	public boolean isCompiled(int scriptId)
+	{
+		ScriptEntry entry = scripts.get(scriptId);
+		return entry != null && entry.compiled != null;
+	}
+
+	private CompiledScript compile(ScriptEntry entry)
+	{
+		synchronized (entry)
+		{
+			if (entry.compiled == null && !entry.uncompilable)
+			{
+				try
+				{
+					entry.compiled = compiler.compile(entry.script);
+				}
+				catch (RuntimeException ex)
+				{
+					// eg. a method too large for the jvm, or invalid bytecode
+					log.debug("unable to compile script {}, it will stay interpreted", entry.script.getId(), ex);
+					entry.uncompilable = true;
+				}
+			}
+			return entry.compiled;
+		}
+	}
+
+	private ScriptEntry getEntry(int scriptId)
+	{
+		ScriptEntry entry = scripts.get(scriptId);
+		if (entry != null)
+		{
+			return entry;
+		}
+
+		ScriptDefinition script = scriptProvider.provide(scriptId);
+		if (script == null)
+		{
+			throw new ScriptException("no such script " + scriptId);
+		}
+
+		entry = new ScriptEntry(script);
+		ScriptEntry existing = scripts.putIfAbsent(scriptId, entry);
+		return existing != null ? existing : entry;
+	}
+
+	static boolean isCoreOpcode(int opcode)
+	{
+		for (int core : CORE_OPCODES)
+		{
+			if (core == opcode)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static class ScriptEntry
+	{
+		private final ScriptDefinition script;
+		private final AtomicInteger invocations = new AtomicInteger();
+		private volatile CompiledScript compiled;
+		private volatile boolean uncompilable;
+
+		ScriptEntry(ScriptDefinition script)
+		{
+			this.script = script;
+		}
+
+		synchronized void reset()
+		{
+			invocations.set(0);
+			compiled = null;
+			uncompilable = false;
+		}
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.script.engine;
+
+import java.util.Map;
+import net.runelite.cache.definitions.ScriptDefinition;
+import static net.runelite.cache.script.Opcodes.*;
+
+/**
+ * A straightforward interpreter for scripts. This is the reference
+ * implementation of the core instructions which {@link ScriptCompiler} must
+ * match.
+ */
+class ScriptInterpreter
+{
+	private final ScriptEngine engine;
+
+	ScriptInterpreter(ScriptEngine engine)
+	{
+		this.engine = engine;
+	}
+
+	void execute(ScriptDefinition script, ScriptState state)
+	{
+		int[] instructions = script.getInstructions();
+		int[] intOperands = script.getIntOperands();
+		String[] stringOperands = script.getStringOperands();
+		Map<Integer, Integer>[] switches = script.getSwitches();
+
+		int[] intLocals = new int[script.getLocalIntCount()];
+		Object[] objectLocals = new Object[script.getLocalObjCount()];
+
+		int intArgs = script.getIntArgCount();
+		int objectArgs = script.getObjArgCount();
+		state.setIntStackSize(state.getIntStackSize() - intArgs);
+		state.setObjectStackSize(state.getObjectStackSize() - objectArgs);
+		System.arraycopy(state.getIntStack(), state.getIntStackSize(), intLocals, 0, intArgs);
+		System.arraycopy(state.getObjectStack(), state.getObjectStackSize(), objectLocals, 0, objectArgs);
+
+		int pc = -1;
+		try
+		{
+			while (++pc < instructions.length)
+			{
+				int opcode = instructions[pc];
+				int operand = intOperands[pc];
+				switch (opcode)
+				{
+					case ICONST:
+						state.pushInt(operand);
+						break;
+					case SCONST:
+						state.pushObject(stringOperands[pc]);
+						break;
+					case JUMP:
+						pc += operand;
+						break;
+					case IF_ICMPNE:
+					case IF_ICMPEQ:
+					case IF_ICMPLT:
+					case IF_ICMPGT:
+					case IF_ICMPLE:
+					case IF_ICMPGE:
+					{
+						int b = state.popInt();
+						int a = state.popInt();
+						if (compare(opcode, a, b))
+						{
+							pc += operand;
+						}
+						break;
+					}
+					case RETURN:
+						return;
+					case ILOAD:
+						state.pushInt(intLocals[operand]);
+						break;
+					case ISTORE:
+						intLocals[operand] = state.popInt();
+						break;
+					case OLOAD:
+						state.pushObject(objectLocals[operand]);
+						break;
+					case OSTORE:
+						objectLocals[operand] = state.popObject();
+						break;
+					case JOIN_STRING:
+						state.joinStrings(operand);
+						break;
+					case POP_INT:
+						state.popInt();
+						break;
+					case POP_OBJECT:
+						state.popObject();
+						break;
+					case INVOKE:
+						engine.invoke(state, operand);
+						break;
+					case DEFINE_ARRAY:
+						state.defineArray(operand);
+						break;
+					case GET_ARRAY_INT:
+						state.getArrayInt(operand);
+						break;
+					case SET_ARRAY_INT:
+						state.setArrayInt(operand);
+						break;
+					case SWITCH:
+					{
+						Integer offset = switches[operand].get(state.popInt());
+						if (offset != null)
+						{
+							pc += offset;
+						}
+						break;
+					}
+					case PUSH_NULL:
+						state.pushObject(null);
+						break;
+					case ADD:
+					case SUB:
+					case MULTIPLY:
+					case DIV:
+					case MOD:
+					case AND:
+					case OR:
+					{
+						int b = state.popInt();
+						int a = state.popInt();
+						state.pushInt(arithmetic(opcode, a, b));
+						break;
+					}
+					default:
+					{
+						OpcodeHandler handler = engine.getHandler(opcode);
+						if (handler == null)
+						{
+							throw new ScriptException("unhandled opcode " + opcode + " in script " + script.getId() + " at " + pc);
+						}
+						handler.execute(state, operand);
+						break;
+					}
+				}
+			}
+		}
+		catch (ScriptException ex)
+		{
+			throw ex;
+		}
+		catch (RuntimeException ex)
+		{
+			throw new ScriptException("error in script " + script.getId() + " at " + pc, ex);
+		}
+	}
+
+	static boolean compare(int opcode, int a, int b)
+	{
+		switch (opcode)
+		{
+			case IF_ICMPNE:
+				return a != b;
+			case IF_ICMPEQ:
+				return a == b;
+			case IF_ICMPLT:
+				return a < b;
+			case IF_ICMPGT:
+				return a > b;
+			case IF_ICMPLE:
+				return a <= b;
+			case IF_ICMPGE:
+				return a >= b;
+			default:
+				throw new IllegalArgumentException("not a comparison: " + opcode);
+		}
+	}
+
+	static int arithmetic(int opcode, int a, int b)
+	{
+		switch (opcode)
+		{
+			case ADD:
+				return a + b;
+			case SUB:
+				return a - b;
+			case MULTIPLY:
+				return a * b;
+			case DIV:
+				return a / b;
+			case MOD:
+				return a % b;
+			case AND:
+				return a & b;
+			case OR:
+				return a | b;
+			default:
+				throw new IllegalArgumentException("not an arithmetic instruction: " + opcode);
+		}
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.script.engine;
+
+import java.util.Arrays;
+
+/**
+ * The state of a script execution: the int and object stacks shared by all
+ * scripts in the call chain, and the script arrays. Return values are left on
+ * the stacks when the outermost script returns.
+ * <p>
+ * A state must only be used by one thread at a time.
+ */
+public class ScriptState
+{
+	static final int STACK_SIZE = 1000;
+	static final int ARRAY_COUNT = 5;
+	static final int MAX_ARRAY_SIZE = 5000;
+
+	private final int[] intStack = new int[STACK_SIZE];
+	private final Object[] objectStack = new Object[STACK_SIZE];
+	private int intStackSize;
+	private int objectStackSize;
+
+	private final int[][] arrays = new int[ARRAY_COUNT][MAX_ARRAY_SIZE];
+	private final int[] arrayLengths = new int[ARRAY_COUNT];
+
+	int depth;
+
+	public int[] getIntStack()
+	{
+		return intStack;
+	}
+
+	public Object[] getObjectStack()
+	{
+		return objectStack;
+	}
+
+	public int getIntStackSize()
+	{
+		return intStackSize;
+	}
+
+	public void setIntStackSize(int intStackSize)
+	{
+		this.intStackSize = intStackSize;
+	}
+
+	public int getObjectStackSize()
+	{
+		return objectStackSize;
+	}
+
+	public void setObjectStackSize(int objectStackSize)
+	{
+		this.objectStackSize = objectStackSize;
+	}
+
+	public void pushInt(int value)
+	{
+		intStack[intStackSize++] = value;
+	}
+
+	public int popInt()
+	{
+		return intStack[--intStackSize];
+	}
+
+	public void pushObject(Object value)
+	{
+		objectStack[objectStackSize++] = value;
+	}
+
+	public Object popObject()
+	{
+		return objectStack[--objectStackSize];
+	}
+
+	public String popString()
+	{
+		return (String) objectStack[--objectStackSize];
+	}
+
+	/**
+	 * Empty the stacks, leaving the arrays intact
+	 */
+	public void clear()
+	{
+		Arrays.fill(objectStack, 0, objectStackSize, null);
+		intStackSize = 0;
+		objectStackSize = 0;
+	}
+
+	/**
+	 * Pop {@code count} strings and push their concatenation
+	 */
+	public void joinStrings(int count)
+	{
+		StringBuilder sb = new StringBuilder();
+		objectStackSize -= count;
+		for (int i = 0; i < count; ++i)
+		{
+			sb.append(objectStack[objectStackSize + i]);
+		}
+		objectStack[objectStackSize++] = sb.toString();
+	}
+
+	/**
+	 * Pop a length and (re)define an array
+	 *
+	 * @param operand the array id in the high 16 bits and its type char in the low 16 bits
+	 */
+	public void defineArray(int operand)
+	{
+		int arrayId = operand >> 16;
+		int type = operand & 0xFFFF;
+		int length = popInt();
+		if (length < 0 || length > MAX_ARRAY_SIZE)
+		{
+			throw new IllegalArgumentException("invalid array length " + length);
+		}
+
+		arrayLengths[arrayId] = length;
+		Arrays.fill(arrays[arrayId], 0, length, type == 'i' ? 0 : -1);
+	}
+
+	/**
+	 * Pop an index and push the value of the array at it
+	 */
+	public void getArrayInt(int arrayId)
+	{
+		int index = popInt();
+		checkArrayIndex(arrayId, index);
+		pushInt(arrays[arrayId][index]);
+	}
+
+	/**
+	 * Pop a value and an index and store the value in the array at the index
+	 */
+	public void setArrayInt(int arrayId)
+	{
+		int value = popInt();
+		int index = popInt();
+		checkArrayIndex(arrayId, index);
+		arrays[arrayId][index] = value;
+	}
+
+	private void checkArrayIndex(int arrayId, int index)
+	{
+		if (index < 0 || index >= arrayLengths[arrayId])
+		{
+			throw new ArrayIndexOutOfBoundsException("array index " + index + " out of bounds for array " + arrayId);
+		}
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.script.engine;
+
+import net.runelite.cache.definitions.EnumDefinition;
+import net.runelite.cache.definitions.providers.EnumProvider;
+import static net.runelite.cache.script.Opcodes.*;
+
+/**
+ * Handlers for the opcodes which depend only on their arguments, such as
+ * math and string manipulation, and for enum lookups. Opcodes which depend
+ * on client state, such as varps, must be provided by the user of the
+ * engine.
+ */
+public class StandardOpcodeHandlers
+{
+	private StandardOpcodeHandlers()
+	{
+	}
+
+	/**
+	 * Register the math and string handlers
+	 */
+	public static void register(ScriptEngine engine)
+	{
+		engine.registerHandler(INTERPOLATE, (state, op) ->
+		{
+			int x = state.popInt();
+			int x1 = state.popInt();
+			int x0 = state.popInt();
+			int y1 = state.popInt();
+			int y0 = state.popInt();
+			state.pushInt(y0 + (y1 - y0) * (x - x0) / (x1 - x0));
+		});
+		engine.registerHandler(ADDPERCENT, (state, op) ->
+		{
+			int percent = state.popInt();
+			int value = state.popInt();
+			state.pushInt(value + value * percent / 100);
+		});
+		engine.registerHandler(SETBIT, (state, op) ->
+		{
+			int bit = state.popInt();
+			state.pushInt(state.popInt() | 1 << bit);
+		});
+		engine.registerHandler(CLEARBIT, (state, op) ->
+		{
+			int bit = state.popInt();
+			state.pushInt(state.popInt() & ~(1 << bit));
+		});
+		engine.registerHandler(TESTBIT, (state, op) ->
+		{
+			int bit = state.popInt();
+			state.pushInt((state.popInt() & 1 << bit) != 0 ? 1 : 0);
+		});
+		engine.registerHandler(TOGGLEBIT, (state, op) ->
+		{
+			int bit = state.popInt();
+			state.pushInt(state.popInt() ^ 1 << bit);
+		});
+		engine.registerHandler(POW, (state, op) ->
+		{
+			int exponent = state.popInt();
+			int base = state.popInt();
+			state.pushInt(base == 0 ? 0 : (int) Math.pow(base, exponent));
+		});
+		engine.registerHandler(INVPOW, (state, op) ->
+		{
+			int exponent = state.popInt();
+			int base = state.popInt();
+			if (base == 0)
+			{
+				state.pushInt(0);
+			}
+			else if (exponent == 0)
+			{
+				state.pushInt(Integer.MAX_VALUE);
+			}
+			else
+			{
+				state.pushInt((int) Math.pow(base, 1.0 / exponent));
+			}
+		});
+		engine.registerHandler(SCALE, (state, op) ->
+		{
+			int c = state.popInt();
+			int b = state.popInt();
+			int a = state.popInt();
+			state.pushInt((int) ((long) a * c / b));
+		});
+		engine.registerHandler(BITCOUNT, (state, op) -> state.pushInt(Integer.bitCount(state.popInt())));
+
+		engine.registerHandler(APPEND_NUM, (state, op) ->
+		{
+			int num = state.popInt();
+			state.pushObject(state.popString() + num);
+		});
+		engine.registerHandler(APPEND, (state, op) ->
+		{
+			String b = state.popString();
+			String a = state.popString();
+			state.pushObject(a + b);
+		});
+		engine.registerHandler(APPEND_SIGNNUM, (state, op) ->
+		{
+			int num = state.popInt();
+			state.pushObject(state.popString() + (num >= 0 ? "+" : "") + num);
+		});
+		engine.registerHandler(APPEND_CHAR, (state, op) ->
+		{
+			int c = state.popInt();
+			state.pushObject(state.popString() + (char) c);
+		});
+		engine.registerHandler(LOWERCASE, (state, op) -> state.pushObject(state.popString().toLowerCase()));
+		engine.registerHandler(TOSTRING, (state, op) -> state.pushObject(Integer.toString(state.popInt())));
+		engine.registerHandler(COMPARE, (state, op) ->
+		{
+			String b = state.popString();
+			String a = state.popString();
+			state.pushInt(Integer.signum(a.compareTo(b)));
+		});
+		engine.registerHandler(STRING_LENGTH, (state, op) -> state.pushInt(state.popString().length()));
+		engine.registerHandler(SUBSTRING, (state, op) ->
+		{
+			int end = state.popInt();
+			int start = state.popInt();
+			state.pushObject(state.popString().substring(start, end));
+		});
+		engine.registerHandler(STRING_INDEXOF_CHAR, (state, op) ->
+		{
+			int c = state.popInt();
+			state.pushInt(state.popString().indexOf(c));
+		});
+		engine.registerHandler(STRING_INDEXOF_STRING, (state, op) ->
+		{
+			String b = state.popString();
+			String a = state.popString();
+			state.pushInt(a.indexOf(b));
+		});
+	}
+
+	/**
+	 * Register the enum lookup handlers
+	 */
+	public static void registerEnums(ScriptEngine engine, EnumProvider enumProvider)
+	{
+		engine.registerHandler(ENUM, (state, op) ->
+		{
+			int key = state.popInt();
+			int enumId = state.popInt();
+			int valueType = state.popInt();
+			state.popInt(); // key type
+
+			EnumDefinition enumDefinition = getEnum(enumProvider, enumId);
+			int index = indexOf(enumDefinition, key);
+			if (valueType == 's')
+			{
+				String[] values = enumDefinition.getStringVals();
+				state.pushObject(index != -1 && values != null ? values[index] : enumDefinition.getDefaultString());
+			}
+			else
+			{
+				int[] values = enumDefinition.getIntVals();
+				state.pushInt(index != -1 && values != null ? values[index] : enumDefinition.getDefaultInt());
+			}
+		});
+		engine.registerHandler(ENUM_GETOUTPUTCOUNT, (state, op) -> state.pushInt(getEnum(enumProvider, state.popInt()).getSize()));
+	}
+
+	private static EnumDefinition getEnum(EnumProvider enumProvider, int enumId)
+	{
+		EnumDefinition enumDefinition = enumProvider.provide(enumId);
+		if (enumDefinition == null)
+		{
+			throw new ScriptException("no such enum " + enumId);
+		}
+		return enumDefinition;
+	}
+
+	private static int indexOf(EnumDefinition enumDefinition, int key)
+	{
+		int[] keys = enumDefinition.getKeys();
+		if (keys != null)
+		{
+			for (int i = 0; i < enumDefinition.getSize(); ++i)
+			{
+				if (keys[i] == key)
+				{
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+}
@@ -30,11 +30,20 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.zip.DataFormatException;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
 
 public class GZip
 {
+	private static final int FHCRC = 2;
+	private static final int FEXTRA = 4;
+	private static final int FNAME = 8;
+	private static final int FCOMMENT = 16;
+
+	private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
 	public static byte[] compress(byte[] bytes) throws IOException
 	{
 		ByteArrayOutputStream bout = new ByteArrayOutputStream();
@@ -61,4 +70,87 @@ public class GZip
 
 		return os.toByteArray();
 	}
+
+	/**
+	 * Decompress gzip data directly from a slice of an array, reusing a per
+	 * thread {@link Inflater}
+	 *
+	 * @param bytes compressed data
+	 * @param off offset of the compressed data
+	 * @param len length of the compressed data
+	 * @param decompressedLength expected length of the decompressed data
+	 * @return
+	 * @throws IOException
+	 */
+	public static byte[] decompress(byte[] bytes, int off, int len, int decompressedLength) throws IOException
+	{
+		int end = off + len;
+		if (len < 18 || (bytes[off] & 0xFF) != 0x1f || (bytes[off + 1] & 0xFF) != 0x8b || bytes[off + 2] != 8)
+		{
+			throw new IOException("Not in GZIP format");
+		}
+
+		int flags = bytes[off + 3] & 0xFF;
+		int pos = off + 10;
+		if ((flags & FEXTRA) != 0)
+		{
+			pos += 2 + ((bytes[pos] & 0xFF) | (bytes[pos + 1] & 0xFF) << 8);
+		}
+		if ((flags & FNAME) != 0)
+		{
+			while (pos < end && bytes[pos++] != 0)
+			{
+			}
+		}
+		if ((flags & FCOMMENT) != 0)
+		{
+			while (pos < end && bytes[pos++] != 0)
+			{
+			}
+		}
+		if ((flags & FHCRC) != 0)
+		{
+			pos += 2;
+		}
+		if (pos > end)
+		{
+			throw new IOException("Truncated GZIP header");
+		}
+
+		byte[] out = new byte[decompressedLength];
+		Inflater inflater = INFLATER.get();
+		try
+		{
+			inflater.setInput(bytes, pos, end - pos);
+			int read = 0;
+			while (read < decompressedLength)
+			{
+				int n = inflater.inflate(out, read, decompressedLength - read);
+				if (n == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary()))
+				{
+					break;
+				}
+				read += n;
+			}
+			if (read == decompressedLength && !inflater.finished())
+			{
+				// the output is full but the end of the stream hasn't been read yet
+				read += inflater.inflate(new byte[1]);
+			}
+			if (read != decompressedLength || !inflater.finished())
+			{
+				throw new IOException("decompressed length mismatch, expected " + decompressedLength);
+			}
+		}
+		catch (DataFormatException ex)
+		{
+			throw new IOException(ex);
+		}
+		finally
+		{
+			inflater.reset();
+		}
+
+		return out;
+	}
 }
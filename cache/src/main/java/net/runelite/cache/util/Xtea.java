@@ -24,6 +24,7 @@
  */
 package net.runelite.cache.util;
 
+import java.util.Arrays;
 import net.runelite.cache.io.InputStream;
 import net.runelite.cache.io.OutputStream;
 
@@ -65,13 +66,26 @@ public class Xtea
 
 	public byte[] decrypt(byte[] data, int len)
 	{
-		InputStream in = new InputStream(data);
-		OutputStream out = new OutputStream(len);
+		byte[] out = Arrays.copyOf(data, data.length);
+		decrypt(out, 0, len);
+		return out;
+	}
+
+	/**
+	 * Decrypt data in place. Trailing bytes which do not fill a block are
+	 * left as is.
+	 *
+	 * @param data data to decrypt
+	 * @param off offset of the encrypted data
+	 * @param len length of the encrypted data
+	 */
+	public void decrypt(byte[] data, int off, int len)
+	{
 		int numBlocks = len / 8;
-		for (int block = 0; block < numBlocks; ++block)
+		for (int block = 0, pos = off; block < numBlocks; ++block, pos += 8)
 		{
-			int v0 = in.readInt();
-			int v1 = in.readInt();
+			int v0 = readInt(data, pos);
+			int v1 = readInt(data, pos + 4);
 			int sum = GOLDEN_RATIO * ROUNDS;
 			for (int i = 0; i < ROUNDS; ++i)
 			{
@@ -79,10 +93,24 @@ public class Xtea
 				sum -= GOLDEN_RATIO;
 				v0 -= (((v1 << 4) ^ (v1 >>> 5)) + v1) ^ (sum + key[sum & 3]);
 			}
-			out.writeInt(v0);
-			out.writeInt(v1);
+			writeInt(data, pos, v0);
+			writeInt(data, pos + 4, v1);
 		}
-		out.writeBytes(in.getRemaining());
-		return out.flip();
+	}
+
+	private static int readInt(byte[] data, int pos)
+	{
+		return ((data[pos] & 0xFF) << 24)
+			| ((data[pos + 1] & 0xFF) << 16)
+			| ((data[pos + 2] & 0xFF) << 8)
+			| (data[pos + 3] & 0xFF);
+	}
+
+	private static void writeInt(byte[] data, int pos, int value)
+	{
+		data[pos] = (byte) (value >> 24);
+		data[pos + 1] = (byte) (value >> 16);
+		data[pos + 2] = (byte) (value >> 8);
+		data[pos + 3] = (byte) value;
 	}
 }
@@ -27,7 +27,17 @@ package net.runelite.cache;
 
 import java.io.File;
 import java.io.IOException;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.io.OutputStream;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
@@ -62,4 +72,80 @@ public class ItemManagerTest
 		logger.info("Dumped to {}, java {}", dumpDir, javaDir);
 	}
 
+	@Test
+	public void testLazy() throws IOException
+	{
+		File base = folder.newFolder();
+		try (Store store = new Store(base))
+		{
+			Index index = store.addIndex(IndexType.CONFIGS.getNumber());
+			Archive archive = index.addArchive(ConfigType.ITEM.getId());
+
+			ArchiveFiles files = new ArchiveFiles();
+			FileData[] fileData = new FileData[100];
+			for (int i = 0; i < fileData.length; ++i)
+			{
+				OutputStream out = new OutputStream();
+				out.writeByte(1);
+				out.writeShort(i * 2);
+				out.writeByte(2);
+				out.writeString("Item " + i);
+				if (i == 1)
+				{
+					// noted version of item 0, using item 2 as the note template
+					out.writeByte(97);
+					out.writeShort(0);
+					out.writeByte(98);
+					out.writeShort(2);
+				}
+				out.writeByte(0);
+
+				FSFile file = new FSFile(i);
+				file.setContents(out.flip());
+				files.addFile(file);
+
+				fileData[i] = new FileData();
+				fileData[i].setId(i);
+			}
+			archive.setFileData(fileData);
+
+			Container container = new Container(archive.getCompression(), -1);
+			container.compress(files.saveContents(), null);
+			archive.setCrc(container.crc);
+			store.getStorage().saveArchive(archive, container.data);
+			store.save();
+		}
+
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			ItemManager eager = new ItemManager(store);
+			eager.load();
+			eager.link();
+
+			ItemManager lazy = new ItemManager(store);
+			lazy.loadLazy(10);
+			lazy.link();
+
+			assertEquals(0, lazy.getLazyItems().getCacheSize());
+			assertEquals(eager.getItem(50), lazy.getItem(50));
+			assertEquals(eager.getItem(50), lazy.getItem(50));
+			assertEquals(1, lazy.getLazyItems().getHits());
+			assertEquals(1, lazy.getLazyItems().getMisses());
+
+			ItemDefinition noted = lazy.getItem(1);
+			assertEquals(eager.getItem(1), noted);
+			assertEquals("Item 0", noted.name);
+			assertEquals(4, noted.inventoryModel);
+			assertNull(lazy.getItem(100));
+
+			for (int i = 0; i < 100; ++i)
+			{
+				assertEquals(eager.getItem(i), lazy.getItem(i));
+			}
+			assertEquals(10, lazy.getLazyItems().getCacheSize());
+			assertEquals(eager.getItems().size(), lazy.getItems().size());
+		}
+	}
 }
@@ -27,6 +27,8 @@ package net.runelite.cache;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.imageio.ImageIO;
 import net.runelite.cache.fs.Store;
 import net.runelite.cache.region.Region;
@@ -75,6 +77,37 @@ public class MapImageDumperTest
 		}
 	}
 
+	@Test
+	@Ignore
+	public void dumpTiles() throws IOException
+	{
+		File base = StoreLocation.LOCATION,
+			outDir = folder.newFolder();
+
+		ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			XteaKeyManager keyManager = new XteaKeyManager();
+			keyManager.loadKeys(null);
+
+			MapImageDumper dumper = new MapImageDumper(store, keyManager);
+			dumper.load();
+
+			MapTileDumper tileDumper = new MapTileDumper(dumper);
+			for (int i = 0; i < Region.Z; ++i)
+			{
+				tileDumper.dumpTiles(i, 4, outDir, executor);
+				logger.info("Wrote tiles for plane {} to {}", i, outDir);
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
 	@Test
 	@Ignore
 	public void dumpRegions() throws Exception
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import net.runelite.cache.definitions.MapDefinition;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.region.Region;
+import net.runelite.cache.region.RegionLoader;
+import net.runelite.cache.util.Djb2;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MapTileDumperTest
+{
+	private static final int LEVELS = 2;
+
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private final Set<String> drawn = ConcurrentHashMap.newKeySet();
+	private ExecutorService executor;
+	private Store store;
+	private File outDir;
+
+	@Before
+	public void before() throws IOException
+	{
+		executor = Executors.newFixedThreadPool(2);
+		store = new Store(folder.newFolder());
+		outDir = folder.newFolder();
+
+		Index configs = store.addIndex(IndexType.CONFIGS.getNumber());
+		for (ConfigType type : new ConfigType[]{ConfigType.UNDERLAY, ConfigType.OVERLAY, ConfigType.OBJECT, ConfigType.AREA})
+		{
+			saveConfig(configs.addArchive(type.getId()));
+		}
+
+		Index maps = store.addIndex(IndexType.MAPS.getNumber());
+		int id = 0;
+		for (int[] region : regions(true))
+		{
+			for (String prefix : new String[]{"m", "l"})
+			{
+				Archive archive = maps.addArchive(id++);
+				archive.setNameHash(Djb2.hash(prefix + region[0] + "_" + region[1]));
+				archive.setCrc(id);
+			}
+		}
+	}
+
+	@After
+	public void after() throws IOException
+	{
+		executor.shutdown();
+		store.close();
+	}
+
+	@Test
+	public void testUnchanged() throws IOException
+	{
+		dump(true);
+		assertEquals(17, drawn.size());
+
+		resetModified();
+		drawn.clear();
+		dump(true);
+
+		assertTrue(drawn.isEmpty());
+		assertTrue(modified().isEmpty());
+	}
+
+	@Test
+	public void testChangedRegion() throws IOException
+	{
+		dump(true);
+
+		resetModified();
+		drawn.clear();
+		store.getIndex(IndexType.MAPS).findArchiveByName("m51_51").setCrc(-1);
+		dump(true);
+
+		Set<String> expected = new HashSet<>();
+		for (int x = 50; x <= 52; ++x)
+		{
+			for (int y = 50; y <= 52; ++y)
+			{
+				expected.add(x + "_" + y);
+			}
+		}
+		assertEquals(expected, drawn);
+
+		for (int x = 50; x <= 52; ++x)
+		{
+			for (int y = 50; y <= 52; ++y)
+			{
+				for (int level = 0; level <= LEVELS; ++level)
+				{
+					expected.add(level + "/" + (x >> level) + "_" + (y >> level));
+				}
+			}
+		}
+		expected.removeIf(s -> s.indexOf('/') == -1);
+		assertEquals(expected, modified());
+	}
+
+	@Test
+	public void testRemovedRegion() throws IOException
+	{
+		dump(true);
+
+		resetModified();
+		drawn.clear();
+		dump(false);
+
+		// the neighbours of 53_53 are redrawn, 60_60 has none
+		assertEquals(new HashSet<>(Arrays.asList("52_52", "52_53", "53_52")), drawn);
+		assertEquals(new HashSet<>(Arrays.asList(
+			"0/52_52", "0/52_53", "0/53_52",
+			"1/26_26",
+			"2/13_13"
+		)), modified());
+
+		assertFalse(tileFile(0, 53, 53).exists());
+		assertFalse(tileFile(0, 60, 60).exists());
+		assertFalse(tileFile(1, 30, 30).exists());
+		assertFalse(tileFile(2, 15, 15).exists());
+
+		String manifest = new String(Files.readAllBytes(new File(outDir, "0/tiles.manifest").toPath()), StandardCharsets.UTF_8);
+		assertFalse(manifest.contains("53_53="));
+		assertFalse(manifest.contains("60_60="));
+		assertTrue(manifest.contains("52_52="));
+	}
+
+	private void dump(boolean all) throws IOException
+	{
+		RegionLoader regionLoader = new RegionLoader(store, null);
+		for (int[] region : regions(all))
+		{
+			MapDefinition map = new MapDefinition();
+			map.setRegionX(region[0]);
+			map.setRegionY(region[1]);
+			for (MapDefinition.Tile[][] plane : map.getTiles())
+			{
+				for (MapDefinition.Tile[] row : plane)
+				{
+					for (int i = 0; i < row.length; ++i)
+					{
+						row[i] = new MapDefinition.Tile();
+					}
+				}
+			}
+			regionLoader.loadRegion(region[0] << 8 | region[1], map, null);
+		}
+
+		MapImageDumper dumper = new MapImageDumper(store, regionLoader)
+		{
+			@Override
+			public BufferedImage drawTile(int regionX, int regionY, int z)
+			{
+				drawn.add(regionX + "_" + regionY);
+				return new BufferedImage(Region.X, Region.Y, BufferedImage.TYPE_INT_RGB);
+			}
+		};
+
+		MapTileDumper tileDumper = new MapTileDumper(dumper);
+		tileDumper.dumpTiles(0, LEVELS, outDir, executor, tileDumper.createInputs(store));
+	}
+
+	/**
+	 * A 4x4 block of regions from 50_50 to 53_53, and a lone region at 60_60. Without all, 53_53 and 60_60
+	 * are left out.
+	 */
+	private static List<int[]> regions(boolean all)
+	{
+		List<int[]> regions = new ArrayList<>();
+		for (int x = 50; x <= 53; ++x)
+		{
+			for (int y = 50; y <= 53; ++y)
+			{
+				if (all || x != 53 || y != 53)
+				{
+					regions.add(new int[]{x, y});
+				}
+			}
+		}
+		if (all)
+		{
+			regions.add(new int[]{60, 60});
+		}
+		return regions;
+	}
+
+	private void saveConfig(Archive archive) throws IOException
+	{
+		FSFile file = new FSFile(0);
+		file.setContents(new byte[]{0});
+		ArchiveFiles files = new ArchiveFiles();
+		files.addFile(file);
+
+		FileData fileData = new FileData();
+		fileData.setId(0);
+		archive.setFileData(new FileData[]{fileData});
+
+		Container container = new Container(archive.getCompression(), -1);
+		container.compress(files.saveContents(), null);
+		archive.setCrc(container.crc);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+
+	private File tileFile(int level, int x, int y)
+	{
+		return new File(outDir, "0/" + level + "/" + x + "_" + y + ".png");
+	}
+
+	private File[] tileFiles(int level)
+	{
+		File[] files = new File(outDir, "0/" + level).listFiles();
+		return files == null ? new File[0] : files;
+	}
+
+	private void resetModified()
+	{
+		for (int level = 0; level <= LEVELS; ++level)
+		{
+			for (File file : tileFiles(level))
+			{
+				assertTrue(file.setLastModified(0));
+			}
+		}
+	}
+
+	/**
+	 * @return the tiles written since {@link #resetModified()}, as level/x_y
+	 */
+	private Set<String> modified()
+	{
+		Set<String> modified = new HashSet<>();
+		for (int level = 0; level <= LEVELS; ++level)
+		{
+			for (File file : tileFiles(level))
+			{
+				if (file.lastModified() != 0)
+				{
+					modified.add(level + "/" + file.getName().replace(".png", ""));
+				}
+			}
+		}
+		return modified;
+	}
+}
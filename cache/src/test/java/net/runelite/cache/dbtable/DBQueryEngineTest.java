@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.dbtable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.runelite.cache.definitions.DBRowDefinition;
+import net.runelite.cache.definitions.DBTableIndex;
+import net.runelite.cache.util.BaseVarType;
+import net.runelite.cache.util.ScriptVarType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DBQueryEngineTest
+{
+	private static final int TABLE = 3;
+	private static final int ROWS = 500;
+
+	private DBQueryEngine engine;
+
+	@Before
+	public void before()
+	{
+		List<DBRowDefinition> rows = new ArrayList<>();
+		for (int i = 0; i < ROWS; ++i)
+		{
+			// row ids of the table are not contiguous
+			DBRowDefinition row = new DBRowDefinition(i * 2 + 1);
+			row.setTableId(TABLE);
+			row.setColumnTypes(new ScriptVarType[][]{
+				{ScriptVarType.INTEGER},
+				{ScriptVarType.STRING},
+				{ScriptVarType.INTEGER, ScriptVarType.INTEGER},
+				{ScriptVarType.INTEGER},
+			});
+			row.setColumnValues(new Object[][]{
+				{i % 10},
+				{"name" + i % 7},
+				{i % 3, i % 4, 100, i % 5},
+				{i % 2},
+			});
+			rows.add(row);
+		}
+
+		DBRowDefinition other = new DBRowDefinition(0);
+		other.setTableId(TABLE + 1);
+		other.setColumnTypes(new ScriptVarType[][]{{ScriptVarType.INTEGER}});
+		other.setColumnValues(new Object[][]{{1}});
+		rows.add(other);
+
+		List<DBTableIndex> indexes = new ArrayList<>();
+		indexes.add(index(rows, 0, BaseVarType.INTEGER));
+		indexes.add(index(rows, 1, BaseVarType.STRING));
+		indexes.add(index(rows, 2, BaseVarType.INTEGER, BaseVarType.INTEGER));
+		// column 3 is unindexed
+
+		engine = new DBQueryEngine(rows, indexes);
+	}
+
+	private static DBTableIndex index(List<DBRowDefinition> rows, int column, BaseVarType... types)
+	{
+		DBTableIndex index = new DBTableIndex(TABLE, column);
+		index.setTupleTypes(types);
+		List<Map<Object, List<Integer>>> tupleIndexes = new ArrayList<>();
+		for (int field = 0; field < types.length; ++field)
+		{
+			Map<Object, List<Integer>> map = new HashMap<>();
+			for (DBRowDefinition row : rows)
+			{
+				if (row.getTableId() != TABLE)
+				{
+					continue;
+				}
+
+				Object[] values = row.getColumnValues()[column];
+				for (int i = field; i < values.length; i += types.length)
+				{
+					List<Integer> ids = map.computeIfAbsent(values[i], k -> new ArrayList<>());
+					if (!ids.contains(row.getId()))
+					{
+						ids.add(row.getId());
+					}
+				}
+			}
+			tupleIndexes.add(map);
+		}
+		index.setTupleIndexes(tupleIndexes);
+		return index;
+	}
+
+	private static int[] expected(IntPredicate predicate)
+	{
+		return IntStream.range(0, ROWS)
+			.filter(predicate)
+			.map(i -> i * 2 + 1)
+			.toArray();
+	}
+
+	@Test
+	public void testTable()
+	{
+		assertEquals(ROWS, engine.query(TABLE).count());
+		assertEquals(1, engine.query(TABLE + 1).count());
+		assertEquals(0, engine.query(TABLE + 2).count());
+	}
+
+	@Test
+	public void testIntIndex()
+	{
+		assertArrayEquals(expected(i -> i % 10 == 4), engine.query(TABLE).where(0, 4).rowIds().toArray());
+		assertEquals(0, engine.query(TABLE).where(0, 42).count());
+	}
+
+	@Test
+	public void testStringIndex()
+	{
+		assertArrayEquals(expected(i -> i % 7 == 2), engine.query(TABLE).where(1, "name2").rowIds().toArray());
+		assertEquals(0, engine.query(TABLE).where(1, "missing").count());
+	}
+
+	@Test
+	public void testTupleFields()
+	{
+		// field 1 holds i % 4 in the first tuple and i % 5 in the second
+		assertArrayEquals(expected(i -> i % 4 == 3 || i % 5 == 3), engine.query(TABLE).where(2, 1, 3).rowIds().toArray());
+		assertEquals(ROWS, engine.query(TABLE).where(2, 0, 100).count());
+	}
+
+	@Test
+	public void testMultipleColumns()
+	{
+		int[] ids = engine.query(TABLE)
+			.where(0, 4)
+			.where(1, "name3")
+			.where(3, 0)
+			.rowIds()
+			.toArray();
+		assertArrayEquals(expected(i -> i % 10 == 4 && i % 7 == 3 && i % 2 == 0), ids);
+		assertEquals(ids[0], engine.query(TABLE).where(0, 4).where(1, "name3").first());
+	}
+
+	@Test
+	public void testUnindexed()
+	{
+		assertArrayEquals(expected(i -> i % 2 == 1), engine.query(TABLE).where(3, 1).rowIds().toArray());
+		assertEquals(0, engine.query(TABLE).where(3, "1").count());
+	}
+
+	@Test
+	public void testRows()
+	{
+		List<Integer> ids = engine.query(TABLE).where(1, "name0").rows()
+			.map(DBRowDefinition::getId)
+			.collect(Collectors.toList());
+		assertEquals(Arrays.stream(expected(i -> i % 7 == 0)).boxed().collect(Collectors.toList()), ids);
+		assertNull(engine.getRow(ROWS * 2 + 10));
+	}
+
+	@Test
+	public void testHighColumnIds()
+	{
+		List<DBTableIndex> indexes = new ArrayList<>();
+		for (int table = 1; table <= 2; ++table)
+		{
+			DBTableIndex index = new DBTableIndex(table, 0x8000);
+			index.setTupleTypes(new BaseVarType[]{BaseVarType.INTEGER});
+			Map<Object, List<Integer>> valueToRows = new HashMap<>();
+			valueToRows.put(table, new ArrayList<>(Arrays.asList(table)));
+			List<Map<Object, List<Integer>>> tupleIndexes = new ArrayList<>();
+			tupleIndexes.add(valueToRows);
+			index.setTupleIndexes(tupleIndexes);
+			indexes.add(index);
+		}
+
+		DBQueryEngine engine = new DBQueryEngine(new ArrayList<>(), indexes);
+		assertArrayEquals(new int[]{1}, engine.getIntIndex(1, 0x8000, 0).get(1));
+		assertArrayEquals(new int[]{2}, engine.getIntIndex(2, 0x8000, 0).get(2));
+		assertNull(engine.getIntIndex(3, 0x8000, 0));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTypeMismatch()
+	{
+		engine.query(TABLE).where(0, "4");
+	}
+}
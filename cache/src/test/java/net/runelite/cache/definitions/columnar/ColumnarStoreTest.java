@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions.columnar;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.NpcDefinition;
+import net.runelite.cache.definitions.ObjectDefinition;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ColumnarStoreTest
+{
+	@Test
+	public void testItems()
+	{
+		List<ItemDefinition> items = new ArrayList<>();
+		for (int i = 0; i < 100; i += 2)
+		{
+			ItemDefinition item = new ItemDefinition(i);
+			item.name = "Item " + (i % 10);
+			item.examine = i % 3 == 0 ? null : "It's an item.";
+			item.cost = i * 100;
+			item.members = i % 4 == 0;
+			item.isTradeable = i % 6 == 0;
+			item.inventoryModel = 1000 + i;
+			item.notedTemplate = i % 5 == 0 ? 799 : -1;
+			if (i % 8 == 0)
+			{
+				item.colorFind = new short[]{1, 2, (short) i};
+				item.colorReplace = new short[]{3, 4};
+				item.countCo = new int[]{2, 3, 0, 0, 0, 0, 0, 0, 0, 0};
+				item.countObj = new int[]{i + 1, i + 2, 0, 0, 0, 0, 0, 0, 0, 0};
+				item.options = new String[]{null, "Eat", null, null, "Drop"};
+				item.subops = new String[][]{null, {"One", "Two"}, null, null, null};
+				item.interfaceOptions = null;
+			}
+			if (i % 7 == 0)
+			{
+				Map<Integer, Object> params = new HashMap<>();
+				params.put(1, i);
+				params.put(2, "param");
+				item.params = params;
+			}
+			items.add(item);
+		}
+
+		ColumnarItemStore store = new ColumnarItemStore(items);
+		assertEquals(items.size(), store.size());
+		assertFalse(store.contains(1));
+		assertFalse(store.contains(-1));
+		assertFalse(store.contains(1000));
+		assertNull(store.get(1));
+		assertNull(store.provide(1));
+		assertEquals(items.size(), store.getIds().length);
+
+		for (ItemDefinition item : items)
+		{
+			ItemDefinition copy = store.provide(item.id);
+			assertNotSame(item, copy);
+			assertEquals(item, copy);
+
+			ColumnarItemStore.ItemView view = store.get(item.id);
+			assertEquals(item.id, view.getId());
+			assertEquals(item.name, view.getName());
+			assertEquals(item.examine, view.getExamine());
+			assertEquals(item.cost, view.getCost());
+			assertEquals(item.members, view.isMembers());
+			assertEquals(item.isTradeable, view.isTradeable());
+			assertEquals(item.notedTemplate, view.getNotedTemplate());
+			assertArrayEquals(item.colorFind, view.getColorFind());
+			assertArrayEquals(item.countObj, view.getCountObj());
+			assertArrayEquals(item.options, view.getOptions());
+			assertEquals(item.options[1], view.getOption(1));
+			assertEquals(item.params, view.getParams());
+			assertEquals(item, view.toDefinition());
+		}
+	}
+
+	@Test
+	public void testCopiesAreIndependent()
+	{
+		ItemDefinition item = new ItemDefinition(0);
+		item.colorFind = new short[]{1, 2, 3};
+		ItemDefinition other = new ItemDefinition(1);
+		other.colorFind = new short[]{1, 2, 3};
+
+		List<ItemDefinition> items = new ArrayList<>();
+		items.add(item);
+		items.add(other);
+		ColumnarItemStore store = new ColumnarItemStore(items);
+
+		// changes to the input or to decoded definitions don't reach the store
+		item.colorFind[0] = 10;
+		store.provide(1).colorFind[1] = 20;
+		store.get(0).getOptions()[2] = "Eat";
+
+		assertArrayEquals(new short[]{1, 2, 3}, store.get(0).getColorFind());
+		assertArrayEquals(new short[]{1, 2, 3}, store.get(1).getColorFind());
+		assertEquals("Take", store.get(1).getOption(2));
+	}
+
+	@Test
+	public void testObjects()
+	{
+		List<ObjectDefinition> objects = new ArrayList<>();
+		for (int i = 0; i < 50; ++i)
+		{
+			ObjectDefinition object = new ObjectDefinition();
+			object.setId(i * 3);
+			object.setName(i % 2 == 0 ? "Tree" : "Rock");
+			object.setObjectModels(new int[]{i, i + 1});
+			object.setObjectTypes(i % 3 == 0 ? new int[]{10, 22} : null);
+			object.setSizeX(1 + i % 3);
+			object.setSizeY(1 + i % 2);
+			object.setMapSceneID(i % 5 == 0 ? i : -1);
+			object.setShadow(i % 2 == 0);
+			object.setHollow(i % 3 == 0);
+			object.setABool2111(i % 4 == 0);
+			object.setDeferAnimChange(i % 5 == 0);
+			object.setActions(new String[]{"Chop down", null, null, null, null});
+			objects.add(object);
+		}
+
+		ColumnarObjectStore store = new ColumnarObjectStore(objects);
+		assertEquals(objects.size(), store.size());
+		for (ObjectDefinition object : objects)
+		{
+			assertEquals(object, store.provide(object.getId()));
+
+			ColumnarObjectStore.ObjectView view = store.get(object.getId());
+			assertEquals(object.getName(), view.getName());
+			assertEquals(object.getSizeX(), view.getSizeX());
+			assertEquals(object.isShadow(), view.isShadow());
+			assertEquals(object.isHollow(), view.isHollow());
+			assertEquals(object.isDeferAnimChange(), view.isDeferAnimChange());
+			assertArrayEquals(object.getObjectTypes(), view.getObjectTypes());
+			assertEquals("Chop down", view.getAction(0));
+		}
+	}
+
+	@Test
+	public void testNpcs()
+	{
+		List<NpcDefinition> npcs = new ArrayList<>();
+		for (int i = 0; i < 20; ++i)
+		{
+			NpcDefinition npc = new NpcDefinition(i);
+			npc.name = "Man";
+			npc.size = 1 + i % 2;
+			npc.combatLevel = i;
+			npc.models = new int[]{i};
+			npc.stats = new int[]{i, i, i, i, i, i};
+			npc.isFollower = i % 2 == 0;
+			npcs.add(npc);
+		}
+
+		ColumnarNpcStore store = new ColumnarNpcStore(npcs);
+		for (NpcDefinition npc : npcs)
+		{
+			assertEquals(npc, store.provide(npc.id));
+			assertEquals(npc.size, store.get(npc.id).getSize());
+			assertTrue(store.get(npc.id).isMinimapVisible());
+		}
+	}
+}
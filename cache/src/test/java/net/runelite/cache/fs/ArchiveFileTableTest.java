@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.util.Arrays;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.io.OutputStream;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class ArchiveFileTableTest
+{
+	@Test
+	public void testSingleChunk()
+	{
+		ArchiveFiles files = new ArchiveFiles();
+		FileData[] fileData = new FileData[10];
+		for (int i = 0; i < fileData.length; ++i)
+		{
+			FSFile file = new FSFile(i * 3);
+			file.setContents(("file " + i).getBytes());
+			files.addFile(file);
+
+			fileData[i] = new FileData();
+			fileData[i].setId(i * 3);
+		}
+
+		ArchiveFileTable table = new ArchiveFileTable(fileData, files.saveContents());
+		assertEquals(10, table.getFileCount());
+		for (FSFile file : files.getFiles())
+		{
+			assertArrayEquals(file.getContents(), table.getContents(file.getFileId()));
+		}
+		assertFalse(table.contains(1));
+		assertNull(table.getContents(1));
+	}
+
+	@Test
+	public void testSingleFile()
+	{
+		FileData[] fileData = new FileData[]{new FileData()};
+		fileData[0].setId(7);
+
+		ArchiveFileTable table = new ArchiveFileTable(fileData, new byte[]{1, 2, 3});
+		assertArrayEquals(new byte[]{1, 2, 3}, table.getContents(7));
+	}
+
+	@Test
+	public void testMultipleChunks()
+	{
+		byte[][] contents = {
+			{1, 2, 3, 4, 5},
+			{6, 7},
+			{},
+		};
+		// split every file into 2 chunks
+		int[][] splits = {{2, 3}, {1, 1}, {0, 0}};
+
+		FileData[] fileData = new FileData[contents.length];
+		for (int i = 0; i < contents.length; ++i)
+		{
+			fileData[i] = new FileData();
+			fileData[i].setId(i);
+		}
+
+		OutputStream out = new OutputStream();
+		int[] pos = new int[contents.length];
+		for (int chunk = 0; chunk < 2; ++chunk)
+		{
+			for (int file = 0; file < contents.length; ++file)
+			{
+				out.writeBytes(Arrays.copyOfRange(contents[file], pos[file], pos[file] + splits[file][chunk]));
+				pos[file] += splits[file][chunk];
+			}
+		}
+		for (int chunk = 0; chunk < 2; ++chunk)
+		{
+			int prev = 0;
+			for (int file = 0; file < contents.length; ++file)
+			{
+				out.writeInt(splits[file][chunk] - prev);
+				prev = splits[file][chunk];
+			}
+		}
+		out.writeByte(2);
+		byte[] data = out.flip();
+
+		ArchiveFiles files = new ArchiveFiles();
+		for (int i = 0; i < contents.length; ++i)
+		{
+			files.addFile(new FSFile(i));
+		}
+		files.loadContents(data);
+
+		ArchiveFileTable table = new ArchiveFileTable(fileData, data);
+		for (int i = 0; i < contents.length; ++i)
+		{
+			assertArrayEquals(contents[i], files.findFile(i).getContents());
+			assertArrayEquals(contents[i], table.getContents(i));
+		}
+	}
+}
@@ -26,8 +26,11 @@ package net.runelite.cache.fs;
 
 import java.io.IOException;
 import java.util.Random;
+import static net.runelite.cache.fs.jagex.CompressionType.BZ2;
 import static net.runelite.cache.fs.jagex.CompressionType.GZ;
+import static net.runelite.cache.fs.jagex.CompressionType.NONE;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import org.junit.Test;
 
 public class ContainerTest
@@ -52,4 +55,33 @@ public class ContainerTest
 		assertArrayEquals(data, container.data);
 	}
 
+	@Test
+	public void testDecompressSlice() throws IOException
+	{
+		int[] keys = new int[]
+		{
+			4, 8, 15, 16
+		};
+		Random random = new Random(42L);
+		byte[] data = new byte[1024];
+		random.nextBytes(data);
+
+		for (int compression : new int[]{NONE, BZ2, GZ})
+		{
+			Container container = new Container(compression, 42);
+			container.compress(data, keys);
+			byte[] compressedData = container.data;
+
+			byte[] padded = new byte[compressedData.length + 16];
+			System.arraycopy(compressedData, 0, padded, 8, compressedData.length);
+			byte[] copy = padded.clone();
+
+			Container decompressed = Container.decompress(padded, 8, compressedData.length, keys);
+			assertArrayEquals(data, decompressed.data);
+			assertEquals(container.crc, decompressed.crc);
+			assertEquals(42, decompressed.revision);
+			// the input must not be decrypted in place
+			assertArrayEquals(copy, padded);
+		}
+	}
 }
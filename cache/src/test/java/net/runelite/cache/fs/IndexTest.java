@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.util.Djb2;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class IndexTest
+{
+	@Test
+	public void testFindArchiveByName()
+	{
+		Index index = new Index(5);
+		for (int i = 0; i < 100; ++i)
+		{
+			Archive archive = index.addArchive(i);
+			archive.setNameHash(Djb2.hash("m" + i + "_" + i));
+		}
+
+		Archive archive = index.getArchive(42);
+		assertSame(archive, index.findArchiveByName("m42_42"));
+		assertNull(index.findArchiveByName("l42_42"));
+
+		archive.setNameHash(Djb2.hash("l42_42"));
+		assertNull(index.findArchiveByName("m42_42"));
+		assertSame(archive, index.findArchiveByName("l42_42"));
+
+		index.removeArchive(archive);
+		assertNull(index.findArchiveByName("l42_42"));
+
+		Archive added = index.addArchive(100);
+		added.setNameHash(Djb2.hash("l42_42"));
+		assertSame(added, index.findArchiveByName("l42_42"));
+	}
+
+	@Test
+	public void testFindFileByName()
+	{
+		Index index = new Index(0);
+		Archive archive = index.addArchive(0);
+
+		FileData[] files = new FileData[10];
+		for (int i = 0; i < files.length; ++i)
+		{
+			files[i] = new FileData();
+			files[i].setId(i);
+			files[i].setNameHash(Djb2.hash("file" + i));
+		}
+		archive.setFileData(files);
+
+		assertSame(files[7], archive.findFileByName("file7"));
+		assertNull(archive.findFileByName("file10"));
+	}
+}
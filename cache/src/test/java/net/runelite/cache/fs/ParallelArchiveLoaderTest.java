@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
+import static org.junit.Assert.assertEquals;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ParallelArchiveLoaderTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(ParallelArchiveLoaderTest.class);
+
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testVisitOrder() throws IOException
+	{
+		File file = folder.newFolder();
+		try (Store store = new Store(new DiskStorage(file)))
+		{
+			for (int i = 0; i < 2; ++i)
+			{
+				Index index = store.addIndex(i);
+				for (int j = 0; j < 50; ++j)
+				{
+					Archive archive = index.addArchive(j);
+					archive.setCompression(CompressionType.GZ);
+					FileData fileData = new FileData();
+					archive.setFileData(new FileData[]{fileData});
+
+					Container container = new Container(archive.getCompression(), -1);
+					container.compress(("archive " + i + "/" + j).getBytes(), null);
+					archive.setCrc(container.crc);
+					store.getStorage().saveArchive(archive, container.data);
+				}
+			}
+			store.save();
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try (Store store = new Store(new DiskStorage(file, true)))
+		{
+			store.load();
+
+			List<String> visited = new ArrayList<>();
+			new ParallelArchiveLoader(store, executor, 8).visitAll((archive, files) ->
+			{
+				FSFile f = files.getFiles().iterator().next();
+				visited.add(new String(f.getContents()));
+			});
+
+			assertEquals(100, visited.size());
+			for (int i = 0; i < 2; ++i)
+			{
+				for (int j = 0; j < 50; ++j)
+				{
+					assertEquals("archive " + i + "/" + j, visited.get(i * 50 + j));
+				}
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@Ignore
+	public void benchmark() throws IOException
+	{
+		try (Store store = new Store(new DiskStorage(StoreLocation.LOCATION, true)))
+		{
+			store.load();
+
+			int cpus = Runtime.getRuntime().availableProcessors();
+			for (int threads = 1; threads <= cpus; threads <<= 1)
+			{
+				ExecutorService executor = Executors.newFixedThreadPool(threads);
+				try
+				{
+					AtomicLong bytes = new AtomicLong();
+					long start = System.nanoTime();
+					for (Index index : store.getIndexes())
+					{
+						if (index.getId() == IndexType.MAPS.getNumber()) // encrypted
+						{
+							continue;
+						}
+
+						new ParallelArchiveLoader(store, executor, threads * 4).visit(index, (archive, files) ->
+						{
+							for (FSFile f : files.getFiles())
+							{
+								bytes.addAndGet(f.getSize());
+							}
+						});
+					}
+					long end = System.nanoTime();
+
+					logger.info("{} threads: loaded {} bytes in {}ms", threads, bytes.get(), (end - start) / 1_000_000L);
+				}
+				finally
+				{
+					executor.shutdown();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+public class ParallelBatchesTest
+{
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@After
+	public void after()
+	{
+		executor.shutdown();
+	}
+
+	@Test
+	public void testSubmit() throws IOException
+	{
+		AtomicIntegerArray visits = new AtomicIntegerArray(1000);
+		ParallelBatches batches = new ParallelBatches(executor, 64);
+		batches.submit(1000, (start, end) ->
+		{
+			for (int i = start; i < end; ++i)
+			{
+				visits.incrementAndGet(i);
+			}
+		});
+		batches.submit(0, (start, end) -> fail());
+		batches.join();
+
+		for (int i = 0; i < visits.length(); ++i)
+		{
+			assertEquals(1, visits.get(i));
+		}
+	}
+
+	@Test
+	public void testException()
+	{
+		ParallelBatches batches = new ParallelBatches(executor, 10);
+		batches.submit(100, (start, end) ->
+		{
+			if (start == 50)
+			{
+				throw new IOException("test");
+			}
+		});
+
+		try
+		{
+			batches.join();
+			fail();
+		}
+		catch (IOException ex)
+		{
+			assertEquals("test", ex.getMessage());
+		}
+	}
+}
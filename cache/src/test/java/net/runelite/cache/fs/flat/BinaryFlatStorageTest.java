@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.flat;
+
+import java.io.File;
+import java.nio.file.Files;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
+import org.junit.Rule;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.rules.TemporaryFolder;
+
+public class BinaryFlatStorageTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testRoundTrip() throws Exception
+	{
+		File diskDir = folder.newFolder();
+		try (Store store = new Store(new DiskStorage(diskDir)))
+		{
+			for (int i = 0; i < 3; ++i)
+			{
+				Index index = store.addIndex(i);
+				index.setRevision(i * 7);
+				for (int j = 0; j < 10; ++j)
+				{
+					Archive archive = index.addArchive(j * 3);
+					archive.setNameHash(j * 31);
+					archive.setRevision(i + j);
+
+					FileData[] fileData = new FileData[j + 1];
+					for (int k = 0; k < fileData.length; ++k)
+					{
+						fileData[k] = new FileData();
+						fileData[k].setId(k);
+						fileData[k].setNameHash(k * 17);
+					}
+					archive.setFileData(fileData);
+
+					Container container = new Container(archive.getCompression(), archive.getRevision());
+					container.compress(("archive " + i + "/" + j).getBytes(), null);
+					archive.setCrc(container.crc);
+					store.getStorage().saveArchive(archive, container.data);
+				}
+			}
+			store.save();
+		}
+
+		File binDir = folder.newFolder();
+		try (Store disk = new Store(new DiskStorage(diskDir));
+			Store bin = new Store(new BinaryFlatStorage(binDir)))
+		{
+			disk.load();
+			disk.copyTo(bin);
+		}
+
+		File flatDir = folder.newFolder();
+		try (Store bin = new Store(new BinaryFlatStorage(binDir));
+			Store flat = new Store(new FlatStorage(flatDir)))
+		{
+			bin.load();
+			bin.copyTo(flat);
+		}
+
+		File binDir2 = folder.newFolder();
+		try (Store flat = new Store(new FlatStorage(flatDir));
+			Store bin = new Store(new BinaryFlatStorage(binDir2)))
+		{
+			flat.load();
+			flat.copyTo(bin);
+		}
+
+		for (int i = 0; i < 3; ++i)
+		{
+			String name = i + BinaryFlatStorage.EXTENSION;
+			assertArrayEquals(Files.readAllBytes(new File(binDir, name).toPath()), Files.readAllBytes(new File(binDir2, name).toPath()));
+		}
+
+		try (Store disk = new Store(new DiskStorage(diskDir));
+			Store bin = new Store(new BinaryFlatStorage(binDir2)))
+		{
+			disk.load();
+			bin.load();
+			assertEquals(disk, bin);
+
+			for (Index index : disk.getIndexes())
+			{
+				for (Archive archive : index.getArchives())
+				{
+					Archive binArchive = bin.findIndex(index.getId()).getArchive(archive.getArchiveId());
+					assertEquals(archive.getCrc(), binArchive.getCrc());
+					assertEquals(archive.getFileData().length, binArchive.getFileData().length);
+					assertArrayEquals(disk.getStorage().loadArchive(archive), bin.getStorage().loadArchive(binArchive));
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.jagex;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.VerificationReport.Mismatch;
+import net.runelite.cache.fs.jagex.VerificationReport.MismatchType;
+import net.runelite.cache.index.FileData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.rules.TemporaryFolder;
+
+public class CacheVerifierTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private ExecutorService executor;
+	private File cache;
+
+	@Before
+	public void before() throws Exception
+	{
+		executor = Executors.newFixedThreadPool(2);
+		cache = folder.newFolder();
+
+		Random random = new Random(42L);
+		try (Store store = new Store(new DiskStorage(cache)))
+		{
+			for (int i = 0; i < 2; ++i)
+			{
+				Index index = store.addIndex(i);
+				// archive ids above 0xFFFF need protocol 7
+				index.setProtocol(7);
+				for (int j = 0; j < 20; ++j)
+				{
+					// spread the larger archives over multiple sectors, and use the long sector header for one
+					byte[] data = new byte[random.nextInt(j < 10 ? 100 : 3000)];
+					random.nextBytes(data);
+					addArchive(store, index, j == 19 ? 70000 : j, j, data);
+				}
+			}
+			store.save();
+		}
+	}
+
+	@After
+	public void after()
+	{
+		executor.shutdown();
+	}
+
+	private static void addArchive(Store store, Index index, int id, int revision, byte[] data) throws Exception
+	{
+		Archive archive = index.addArchive(id);
+		archive.setRevision(revision);
+		FileData[] fileData = new FileData[1];
+		fileData[0] = new FileData();
+		archive.setFileData(fileData);
+
+		Container container = new Container(archive.getCompression(), revision);
+		container.compress(data, null);
+		archive.setCrc(container.crc);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+
+	@Test
+	public void testValid() throws Exception
+	{
+		for (boolean memoryMapped : new boolean[]{true, false})
+		{
+			try (DiskStorage storage = new DiskStorage(cache, memoryMapped))
+			{
+				VerificationReport report = new CacheVerifier(storage).verify(executor);
+				assertTrue(report.getMismatches().toString(), report.isValid());
+				assertEquals(2, report.getIndexes());
+				assertEquals(40, report.getArchives());
+				assertTrue(report.getBytes() > 0);
+			}
+		}
+	}
+
+	@Test
+	public void testMismatches() throws Exception
+	{
+		try (Store store = new Store(new DiskStorage(cache)))
+		{
+			store.load();
+			Index index = store.findIndex(1);
+			index.getArchive(1).setCrc(index.getArchive(1).getCrc() + 1);
+			index.getArchive(2).setRevision(99);
+
+			// in the reference table, but never written
+			Archive archive = index.addArchive(100);
+			FileData[] fileData = new FileData[1];
+			fileData[0] = new FileData();
+			archive.setFileData(fileData);
+
+			store.save();
+		}
+
+		// point the first sector of archive 1/4 at another archive
+		int sector;
+		try (IndexFile indexFile = new IndexFile(1, new File(cache, "main_file_cache.idx1")))
+		{
+			sector = indexFile.read(4).getSector();
+		}
+		try (RandomAccessFile dat = new RandomAccessFile(new File(cache, "main_file_cache.dat2"), "rw"))
+		{
+			dat.seek(520L * sector + 1);
+			dat.write(5);
+		}
+
+		try (DiskStorage storage = new DiskStorage(cache, true))
+		{
+			VerificationReport report = new CacheVerifier(storage).verify(executor);
+			assertFalse(report.isValid());
+			assertEquals(41, report.getArchives());
+
+			assertEquals(4, report.getMismatches().size());
+			assertMismatch(report.getMismatches().get(0), 1, 1, MismatchType.CRC);
+			assertMismatch(report.getMismatches().get(1), 1, 2, MismatchType.REVISION);
+			assertMismatch(report.getMismatches().get(2), 1, 4, MismatchType.CORRUPT);
+			assertMismatch(report.getMismatches().get(3), 1, 100, MismatchType.MISSING);
+
+			Mismatch revision = report.getMismatches().get(1);
+			assertEquals(99, (int) revision.getExpected());
+			assertEquals(2, (int) revision.getActual());
+		}
+	}
+
+	@Test
+	public void testMissingReferenceTable() throws Exception
+	{
+		// drop the reference table of index 1
+		try (IndexFile index255 = new IndexFile(255, new File(cache, "main_file_cache.idx255")))
+		{
+			index255.write(new IndexEntry(index255, 1, 0, 0));
+		}
+
+		try (DiskStorage storage = new DiskStorage(cache, true))
+		{
+			VerificationReport report = new CacheVerifier(storage).verify(executor);
+			assertEquals(20, report.getArchives());
+			assertEquals(1, report.getMismatches().size());
+			assertMismatch(report.getMismatches().get(0), 1, -1, MismatchType.REFERENCE_TABLE);
+		}
+	}
+
+	private static void assertMismatch(Mismatch mismatch, int index, int archive, MismatchType type)
+	{
+		assertEquals(index, mismatch.getIndex());
+		assertEquals(archive, mismatch.getArchive());
+		assertEquals(type, mismatch.getType());
+	}
+}
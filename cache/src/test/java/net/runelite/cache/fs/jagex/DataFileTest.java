@@ -167,4 +167,126 @@ public class DataFileTest
 		Assert.assertEquals("testtesttesttest1", str);
 		Assert.assertEquals(42, res2.revision);
 	}
+
+	@Test
+	public void testMemoryMapped() throws IOException
+	{
+		byte[] b = new byte[4096];
+		for (int i = 0; i < b.length; ++i)
+		{
+			b[i] = (byte) i;
+		}
+
+		File file = folder.newFile();
+		DataFile df = new DataFile(file, true);
+
+		Container container = new Container(CompressionType.NONE, 0);
+		container.compress(b, null);
+		DataFileWriteResult res = df.write(42, 3, container.data);
+
+		byte[] compressedData = df.read(42, 3, res.sector, res.compressedLength);
+		Assert.assertArrayEquals(b, Container.decompress(compressedData, null).data);
+
+		// grow the file after it has been mapped
+		container = new Container(CompressionType.NONE, 0);
+		container.compress("test".getBytes(), null);
+		DataFileWriteResult res2 = df.write(42, 0x1FFFF, container.data);
+
+		compressedData = df.read(42, 0x1FFFF, res2.sector, res2.compressedLength);
+		Assert.assertEquals("test", new String(Container.decompress(compressedData, null).data));
+
+		Assert.assertNull(df.read(41, 3, res.sector, res.compressedLength));
+		df.close();
+	}
+
+	@Test
+	public void testReuseSectors() throws IOException
+	{
+		byte[] b = new byte[2000];
+		for (int i = 0; i < b.length; ++i)
+		{
+			b[i] = (byte) i;
+		}
+
+		File file = folder.newFile();
+		DataFile df = new DataFile(file);
+		df.setReuseSectors(true);
+
+		DataFileWriteResult res = df.write(42, 3, b);
+		df.write(42, 4, "test".getBytes());
+		long length = file.length();
+
+		Assert.assertEquals(4, df.free(42, 3, res.sector, res.compressedLength));
+		Assert.assertEquals(4, df.getFreeSectorCount());
+
+		b[0] = 1;
+		DataFileWriteResult res2 = df.write(42, 3, b);
+		Assert.assertEquals(res.sector, res2.sector);
+		Assert.assertEquals(length, file.length());
+		Assert.assertEquals(0, df.getFreeSectorCount());
+		Assert.assertArrayEquals(b, df.read(42, 3, res2.sector, res2.compressedLength));
+
+		// a partly reused chain continues at the end of the file
+		df.free(42, 4, 5, 4);
+		byte[] b2 = new byte[1000];
+		DataFileWriteResult res3 = df.write(42, 5, b2);
+		Assert.assertEquals(5, res3.sector);
+		Assert.assertArrayEquals(b2, df.read(42, 5, res3.sector, res3.compressedLength));
+		Assert.assertArrayEquals(b, df.read(42, 3, res2.sector, res2.compressedLength));
+
+		// freeing with the wrong archive does nothing
+		Assert.assertEquals(0, df.free(42, 4, res2.sector, res2.compressedLength));
+		df.close();
+	}
+
+	@Test
+	public void testConcurrentWrite() throws Exception
+	{
+		File file = folder.newFile();
+		DataFile df = new DataFile(file);
+
+		int count = 64;
+		DataFileWriteResult[] results = new DataFileWriteResult[count];
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; ++t)
+		{
+			int thread = t;
+			threads[t] = new Thread(() ->
+			{
+				try
+				{
+					for (int i = thread; i < count; i += threads.length)
+					{
+						results[i] = df.write(1, i, data(i));
+					}
+				}
+				catch (IOException ex)
+				{
+					throw new RuntimeException(ex);
+				}
+			});
+			threads[t].start();
+		}
+
+		for (Thread thread : threads)
+		{
+			thread.join();
+		}
+
+		for (int i = 0; i < count; ++i)
+		{
+			Assert.assertArrayEquals(data(i), df.read(1, i, results[i].sector, results[i].compressedLength));
+		}
+		df.close();
+	}
+
+	private static byte[] data(int i)
+	{
+		byte[] b = new byte[100 + i * 37];
+		for (int j = 0; j < b.length; ++j)
+		{
+			b[j] = (byte) (i ^ j);
+		}
+		return b;
+	}
 }
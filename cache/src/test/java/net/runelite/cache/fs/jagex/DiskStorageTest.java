@@ -25,6 +25,8 @@
 package net.runelite.cache.fs.jagex;
 
 import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
@@ -101,4 +103,138 @@ public class DiskStorageTest
 		}
 	}
 
+	@Test
+	public void testReuseAfterReopen() throws Exception
+	{
+		File file = folder.newFolder();
+		File dat = new File(file, "main_file_cache.dat2");
+		DiskStorage storage = new DiskStorage(file);
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < 10; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				FileData[] fileData = new FileData[1];
+				fileData[0] = new FileData();
+				archive.setFileData(fileData);
+
+				Container container = new Container(archive.getCompression(), -1);
+				container.compress(new byte[1000 + i], null);
+				archive.setCrc(container.crc);
+				storage.saveArchive(archive, container.data);
+			}
+			store.save();
+
+			// supersede the archives written above without reusing their sectors
+			for (Archive archive : index.getArchives())
+			{
+				storage.saveArchive(archive, storage.loadArchive(archive));
+			}
+			store.save();
+		}
+
+		long length = dat.length();
+		for (int run = 0; run < 3; ++run)
+		{
+			storage = new DiskStorage(file);
+			storage.setReuseSectors(true);
+			try (Store store = new Store(storage))
+			{
+				assertTrue(storage.getData().getFreeSectorCount() > 0);
+
+				store.load();
+				for (Archive archive : store.findIndex(0).getArchives())
+				{
+					storage.saveArchive(archive, storage.loadArchive(archive));
+				}
+				store.save();
+			}
+			assertEquals(length, dat.length());
+		}
+
+		try (Store store = new Store(new DiskStorage(file)))
+		{
+			store.load();
+			for (Archive archive : store.findIndex(0).getArchives())
+			{
+				byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
+				assertEquals(1000 + archive.getArchiveId(), data.length);
+			}
+		}
+	}
+
+	@Test
+	public void testReuseAndCompact() throws Exception
+	{
+		File file = folder.newFolder();
+		File dat = new File(file, "main_file_cache.dat2");
+		DiskStorage storage = new DiskStorage(file);
+		storage.setReuseSectors(true);
+		try (Store store = new Store(storage))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < 10; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				FileData[] fileData = new FileData[1];
+				fileData[0] = new FileData();
+				archive.setFileData(fileData);
+
+				Container container = new Container(archive.getCompression(), -1);
+				container.compress(("test" + i).getBytes(), null);
+				archive.setCrc(container.crc);
+				storage.saveArchive(archive, container.data);
+			}
+			store.save();
+			store.save();
+
+			// the index data alternates between the sectors of the last two saves
+			long length = dat.length();
+			store.save();
+			store.save();
+			assertEquals(length, dat.length());
+		}
+
+		// grow the cache with superseded archives
+		storage = new DiskStorage(file);
+		try (Store store = new Store(storage))
+		{
+			store.load();
+			Archive archive = store.findIndex(0).getArchive(3);
+			byte[] data = storage.loadArchive(archive);
+			for (int i = 0; i < 5; ++i)
+			{
+				storage.saveArchive(archive, data);
+			}
+			store.save();
+		}
+
+		File compacted = folder.newFolder();
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try (DiskStorage from = new DiskStorage(file))
+		{
+			from.compact(compacted, executor);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+
+		assertTrue(new File(compacted, "main_file_cache.dat2").length() < dat.length());
+
+		try (Store store = new Store(new DiskStorage(file));
+			Store store2 = new Store(new DiskStorage(compacted)))
+		{
+			store.load();
+			store2.load();
+			assertEquals(store, store2);
+
+			for (Archive archive : store.findIndex(0).getArchives())
+			{
+				Archive archive2 = store2.findIndex(0).getArchive(archive.getArchiveId());
+				assertArrayEquals(store.getStorage().loadArchive(archive), store2.getStorage().loadArchive(archive2));
+			}
+		}
+	}
 }
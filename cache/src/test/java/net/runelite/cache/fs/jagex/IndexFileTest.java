@@ -47,4 +47,25 @@ public class IndexFileTest
 		IndexEntry entry2 = index.read(7);
 		Assert.assertEquals(entry, entry2);
 	}
+
+	@Test
+	public void testMappedPastEnd() throws IOException
+	{
+		File file = folder.newFile();
+		try (IndexFile index = new IndexFile(5, file, true))
+		{
+			Assert.assertNull(index.read(7));
+			Assert.assertNull(index.read(7));
+
+			IndexEntry entry = new IndexEntry(index, 3, 8, 9);
+			index.write(entry);
+			Assert.assertEquals(entry, index.read(3));
+			Assert.assertNull(index.read(7));
+
+			// the file has grown since the last mapping
+			IndexEntry entry2 = new IndexEntry(index, 7, 10, 11);
+			index.write(entry2);
+			Assert.assertEquals(entry2, index.read(7));
+		}
+	}
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.pack;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.rules.TemporaryFolder;
+
+public class PackStorageTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private ExecutorService executor;
+	private File base;
+	private File updated;
+
+	@Before
+	public void before() throws Exception
+	{
+		executor = Executors.newFixedThreadPool(2);
+
+		base = folder.newFolder();
+		try (Store store = new Store(new DiskStorage(base)))
+		{
+			for (int i = 0; i < 3; ++i)
+			{
+				Index index = store.addIndex(i);
+				for (int j = 0; j < 30; ++j)
+				{
+					// index 2 is a copy of index 0
+					saveArchive(store, index.addArchive(j), "archive " + (i % 2) + "/" + j);
+				}
+			}
+			store.save();
+		}
+
+		updated = folder.newFolder();
+		for (File file : base.listFiles())
+		{
+			Files.copy(file.toPath(), new File(updated, file.getName()).toPath());
+		}
+
+		try (Store store = new Store(new DiskStorage(updated)))
+		{
+			store.load();
+			saveArchive(store, store.findIndex(1).getArchive(4), "changed 1/4");
+			saveArchive(store, store.findIndex(1).addArchive(30), "added 1/30");
+			store.save();
+		}
+	}
+
+	@After
+	public void after()
+	{
+		executor.shutdown();
+	}
+
+	private static void saveArchive(Store store, Archive archive, String contents) throws IOException
+	{
+		FileData[] fileData = new FileData[1];
+		fileData[0] = new FileData();
+		archive.setFileData(fileData);
+
+		Container container = new Container(archive.getCompression(), -1);
+		container.compress(contents.getBytes(), null);
+		archive.setCrc(container.crc);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+
+	private static void importCache(File cache, ContentPack pack, String revision, ExecutorService executor) throws IOException
+	{
+		try (Store from = new Store(new DiskStorage(cache, true));
+			Store to = new Store(new PackStorage(pack, revision)))
+		{
+			from.load();
+			from.copyTo(to, executor);
+		}
+	}
+
+	@Test
+	public void testImport() throws Exception
+	{
+		File packDir = folder.newFolder();
+		try (ContentPack pack = new ContentPack(packDir))
+		{
+			importCache(base, pack, "r1", executor);
+			assertEquals(60, pack.getObjectCount());
+
+			importCache(updated, pack, "r2", executor);
+			assertEquals(62, pack.getObjectCount());
+		}
+
+		try (ContentPack pack = new ContentPack(packDir))
+		{
+			assertEquals(62, pack.getObjectCount());
+			assertEquals(Arrays.asList("r1", "r2"), pack.getRevisions());
+
+			assertRevision(pack, "r1", base);
+			assertRevision(pack, "r2", updated);
+		}
+	}
+
+	@Test
+	public void testTruncatedIndex() throws Exception
+	{
+		File packDir = folder.newFolder();
+		try (ContentPack pack = new ContentPack(packDir))
+		{
+			importCache(base, pack, "r1", executor);
+		}
+
+		// an object which was indexed but never made it to the pack
+		File idx = new File(packDir, "objects.idx");
+		long length = idx.length();
+		try (RandomAccessFile raf = new RandomAccessFile(idx, "rw"))
+		{
+			raf.seek(length);
+			raf.write(new byte[32]);
+			raf.writeLong(new File(packDir, "objects.pack").length());
+			raf.writeInt(100);
+		}
+
+		try (ContentPack pack = new ContentPack(packDir))
+		{
+			assertEquals(60, pack.getObjectCount());
+			assertEquals(length, idx.length());
+			assertRevision(pack, "r1", base);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidRevision() throws Exception
+	{
+		try (ContentPack pack = new ContentPack(folder.newFolder()))
+		{
+			new PackStorage(pack, "../r1");
+		}
+	}
+
+	private static void assertRevision(ContentPack pack, String revision, File cache) throws IOException
+	{
+		try (Store expected = new Store(new DiskStorage(cache));
+			Store store = new Store(new PackStorage(pack, revision)))
+		{
+			expected.load();
+			store.load();
+			assertEquals(expected, store);
+
+			for (Index index : expected.getIndexes())
+			{
+				Index index2 = store.findIndex(index.getId());
+				assertEquals(index.getCrc(), index2.getCrc());
+				for (Archive archive : index.getArchives())
+				{
+					Archive archive2 = index2.getArchive(archive.getArchiveId());
+					assertEquals(archive.getCrc(), archive2.getCrc());
+					assertEquals(archive.getFileData().length, archive2.getFileData().length);
+					assertArrayEquals(expected.getStorage().loadArchive(archive), store.getStorage().loadArchive(archive2));
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.patch;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.flat.FlatStorage;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.rules.TemporaryFolder;
+
+public class CachePatchTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private File base;
+	private File updated;
+
+	@Before
+	public void before() throws Exception
+	{
+		base = folder.newFolder();
+		try (Store store = new Store(new DiskStorage(base)))
+		{
+			for (int i = 0; i < 2; ++i)
+			{
+				Index index = store.addIndex(i);
+				for (int j = 0; j < 20; ++j)
+				{
+					saveArchive(store, index.addArchive(j), j, "archive " + i + "/" + j);
+				}
+			}
+			store.save();
+		}
+
+		updated = folder.newFolder();
+		copy(base, updated);
+		try (Store store = new Store(new DiskStorage(updated)))
+		{
+			store.load();
+
+			Index index = store.findIndex(1);
+			saveArchive(store, index.getArchive(3), 1, "changed 3");
+			saveArchive(store, index.getArchive(7), 8, "changed 7");
+			index.removeArchive(index.getArchive(10));
+			saveArchive(store, index.addArchive(50), 0, "added 50");
+			index.setRevision(2);
+
+			saveArchive(store, store.addIndex(2).addArchive(0), 0, "new index");
+			store.save();
+		}
+	}
+
+	private static void saveArchive(Store store, Archive archive, int revision, String contents) throws IOException
+	{
+		FileData[] fileData = new FileData[1];
+		fileData[0] = new FileData();
+		archive.setFileData(fileData);
+		archive.setRevision(revision);
+
+		Container container = new Container(archive.getCompression(), revision);
+		container.compress(contents.getBytes(), null);
+		archive.setCrc(container.crc);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+
+	private static void copy(File from, File to) throws IOException
+	{
+		for (File file : from.listFiles())
+		{
+			Files.copy(file.toPath(), new File(to, file.getName()).toPath());
+		}
+	}
+
+	/**
+	 * Rewrite the reference tables of a cache with a gzip header which is not
+	 * written here, like the caches written by the client, so that encoding
+	 * the reference tables again changes their crcs
+	 */
+	private static void rewriteReferenceTables(File dir) throws IOException
+	{
+		try (DiskStorage storage = new DiskStorage(dir);
+			Store store = new Store(storage))
+		{
+			for (Index index : store.getIndexes())
+			{
+				Container container = new Container(CompressionType.GZ, -1);
+				container.compress(Container.decompress(storage.readIndex(index.getId()), null).data, null);
+				// gzip modification time, after the container header and decompressed length
+				container.data[9 + 4] = 1;
+				storage.store(255, index.getId(), container.data);
+			}
+		}
+	}
+
+	private CachePatch diff() throws IOException
+	{
+		return diff(base, updated);
+	}
+
+	private static CachePatch diff(File fromDir, File toDir) throws IOException
+	{
+		try (Store from = new Store(new DiskStorage(fromDir));
+			Store to = new Store(new DiskStorage(toDir)))
+		{
+			from.load();
+			to.load();
+			return CacheDiff.diff(from, to);
+		}
+	}
+
+	@Test
+	public void testDiff() throws Exception
+	{
+		CachePatch patch = diff();
+
+		// index 0 is unchanged
+		assertEquals(2, patch.getIndexes().size());
+		assertEquals(1, patch.getIndexes().get(0).getIndex());
+		assertEquals(2, patch.getIndexes().get(1).getIndex());
+		assertNotNull(patch.getIndexes().get(0).getBaseCrc());
+		assertNull(patch.getIndexes().get(1).getBaseCrc());
+		assertEquals(4, patch.getArchiveCount());
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		patch.write(out);
+		CachePatch read = CachePatch.read(new ByteArrayInputStream(out.toByteArray()));
+		assertEquals(patch.getIndexes(), read.getIndexes());
+
+		try (Store store = new Store(new DiskStorage(updated)))
+		{
+			store.load();
+			assertTrue(CacheDiff.diff(store, store).isEmpty());
+		}
+	}
+
+	@Test
+	public void testApplyDisk() throws Exception
+	{
+		CachePatch patch = diff();
+
+		File target = folder.newFolder();
+		copy(base, target);
+		try (Store store = new Store(new DiskStorage(target)))
+		{
+			store.load();
+			CachePatcher.apply(patch, store);
+		}
+
+		assertPatched(new DiskStorage(target));
+
+		// the patch was made against the old revision
+		try (Store store = new Store(new DiskStorage(target)))
+		{
+			store.load();
+			try
+			{
+				CachePatcher.apply(patch, store);
+				fail();
+			}
+			catch (IOException ex)
+			{
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void testApplyChained() throws Exception
+	{
+		File updated2 = folder.newFolder();
+		copy(updated, updated2);
+		try (Store store = new Store(new DiskStorage(updated2)))
+		{
+			store.load();
+			saveArchive(store, store.findIndex(0).getArchive(5), 3, "changed 5");
+			saveArchive(store, store.findIndex(1).getArchive(3), 2, "changed 3 again");
+			store.save();
+		}
+
+		for (File dir : new File[]{base, updated, updated2})
+		{
+			rewriteReferenceTables(dir);
+		}
+
+		File mirror = folder.newFolder();
+		copy(base, mirror);
+		for (CachePatch patch : new CachePatch[]{diff(base, updated), diff(updated, updated2)})
+		{
+			try (Store store = new Store(new DiskStorage(mirror)))
+			{
+				store.load();
+				CachePatcher.apply(patch, store);
+			}
+		}
+
+		try (Store expected = new Store(new DiskStorage(updated2));
+			Store store = new Store(new DiskStorage(mirror)))
+		{
+			expected.load();
+			store.load();
+			assertEquals(expected, store);
+			for (Index index : expected.getIndexes())
+			{
+				assertEquals(index.getCrc(), store.findIndex(index.getId()).getCrc());
+			}
+		}
+	}
+
+	@Test
+	public void testApplyFlat() throws Exception
+	{
+		CachePatch patch = diff();
+
+		File target = folder.newFolder();
+		try (Store disk = new Store(new DiskStorage(base));
+			Store flat = new Store(new FlatStorage(target)))
+		{
+			disk.load();
+			disk.copyTo(flat);
+		}
+
+		File index0 = new File(target, "0.flatcache");
+		long modified = index0.lastModified();
+		index0.setLastModified(modified - 10_000L);
+
+		try (Store store = new Store(new FlatStorage(target)))
+		{
+			store.load();
+			CachePatcher.apply(patch, store);
+		}
+
+		// only the patched indexes are rewritten
+		assertEquals(modified - 10_000L, index0.lastModified());
+		assertPatched(new FlatStorage(target));
+	}
+
+	private void assertPatched(Storage storage) throws IOException
+	{
+		try (Store expected = new Store(new DiskStorage(updated));
+			Store store = new Store(storage))
+		{
+			expected.load();
+			store.load();
+			assertEquals(expected, store);
+			assertNull(store.findIndex(1).getArchive(10));
+
+			for (Index index : expected.getIndexes())
+			{
+				Index patched = store.findIndex(index.getId());
+				assertEquals(index.getRevision(), patched.getRevision());
+				for (Archive archive : index.getArchives())
+				{
+					Archive archive2 = patched.getArchive(archive.getArchiveId());
+					assertEquals(archive.getCrc(), archive2.getCrc());
+					assertArrayEquals(expected.getStorage().loadArchive(archive), store.getStorage().loadArchive(archive2));
+				}
+			}
+
+			assertTrue(CacheDiff.diff(store, expected).isEmpty());
+		}
+	}
+}
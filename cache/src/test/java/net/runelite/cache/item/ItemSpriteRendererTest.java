@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.item;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.TextureDefinition;
+import net.runelite.cache.definitions.providers.ItemProvider;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ItemSpriteRendererTest
+{
+	private static final int ITEMS = 50;
+	private static final int NO_MODEL = ITEMS;
+
+	@Test
+	public void testRender() throws Exception
+	{
+		Map<Integer, ItemDefinition> items = new HashMap<>();
+		for (int i = 0; i < ITEMS; ++i)
+		{
+			ItemDefinition item = new ItemDefinition(i);
+			item.inventoryModel = i % 5;
+			item.xan2d = i * 40;
+			item.yan2d = i * 70 % 2048;
+			item.zoom2d = 1500 + i * 10;
+			if (i % 2 == 1)
+			{
+				// noted version of the previous item
+				item.notedTemplate = 799;
+				item.notedID = i - 1;
+			}
+			items.put(i, item);
+		}
+
+		ItemDefinition missing = new ItemDefinition(NO_MODEL);
+		missing.inventoryModel = -1;
+		items.put(NO_MODEL, missing);
+
+		ItemProvider itemProvider = items::get;
+		ModelProvider modelProvider = modelId -> modelId < 0 ? null : pyramid(modelId);
+		TextureProvider textureProvider = () -> new TextureDefinition[0];
+
+		List<ItemSpriteRequest> requests = new ArrayList<>();
+		for (int i = 0; i <= ITEMS; ++i)
+		{
+			requests.add(new ItemSpriteRequest(i, 1, i % 3, i % 2 == 0 ? 0x302020 : 0, false));
+		}
+
+		ItemSpriteRenderer renderer = new ItemSpriteRenderer(itemProvider, modelProvider, null, textureProvider);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<BufferedImage> sprites;
+		try
+		{
+			sprites = renderer.render(requests, executor);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+
+		assertEquals(requests.size(), sprites.size());
+		assertNull(sprites.get(NO_MODEL));
+		assertEquals(ITEMS, renderer.getModelCount() - 1);
+
+		for (int i = 0; i < ITEMS; ++i)
+		{
+			ItemSpriteRequest request = requests.get(i);
+			BufferedImage expected = ItemSpriteFactory.createSprite(itemProvider, modelProvider, null, textureProvider,
+				request.getItemId(), request.getQuantity(), request.getBorder(), request.getShadowColor(), request.isNoted());
+			BufferedImage actual = sprites.get(i);
+
+			assertNotNull(actual);
+			assertTrue(Arrays.stream(pixels(actual)).anyMatch(rgb -> rgb != 0));
+			assertArrayEquals(pixels(expected), pixels(actual));
+		}
+	}
+
+	private static ModelDefinition pyramid(int size)
+	{
+		int s = 40 + size * 10;
+		ModelDefinition def = new ModelDefinition();
+		def.vertexCount = 5;
+		def.vertexX = new int[]{-s, s, s, -s, 0};
+		def.vertexY = new int[]{0, 0, 0, 0, -2 * s};
+		def.vertexZ = new int[]{-s, -s, s, s, 0};
+		def.faceCount = 6;
+		def.faceIndices1 = new int[]{0, 1, 2, 3, 0, 0};
+		def.faceIndices2 = new int[]{1, 2, 3, 0, 2, 3};
+		def.faceIndices3 = new int[]{4, 4, 4, 4, 1, 2};
+		def.faceColors = new short[]{(short) 0x1234, (short) 0x2345, (short) 0x3456, (short) 0x4567, (short) 0x5678, (short) 0x6789};
+		return def;
+	}
+
+	private static int[] pixels(BufferedImage image)
+	{
+		return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+	}
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.models;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.io.OutputStream;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ModelPipelineTest
+{
+	private static final int MODELS = 200;
+
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private final Random random = new Random(42L);
+
+	@Test
+	public void testForEach() throws IOException
+	{
+		File dir = folder.newFolder();
+		Map<Integer, Long> expected = new ConcurrentHashMap<>();
+		try (Store store = new Store(dir))
+		{
+			Index index = store.addIndex(IndexType.MODELS.getNumber());
+			ModelLoader loader = new ModelLoader();
+			for (int i = 0; i < MODELS; ++i)
+			{
+				byte[] model = model(4 + random.nextInt(300), 4 + random.nextInt(500));
+				save(store, index.addArchive(i), model);
+				expected.put(i, checksum(loader.load(i, model)));
+			}
+			store.save();
+		}
+
+		for (boolean pooled : new boolean[]{false, true})
+		{
+			Map<Integer, Long> actual = new ConcurrentHashMap<>();
+			try (Store store = new Store(dir))
+			{
+				store.load();
+
+				ModelPipeline pipeline = new ModelPipeline(store);
+				pipeline.setWorkers(4);
+				pipeline.setPooled(pooled);
+				int count = pipeline.forEach(model -> actual.put(model.id, checksum(model)));
+				assertEquals(MODELS, count);
+			}
+			assertEquals(expected, actual);
+		}
+	}
+
+	@Test
+	public void testFailure() throws IOException
+	{
+		File dir = folder.newFolder();
+		try (Store store = new Store(dir))
+		{
+			Index index = store.addIndex(IndexType.MODELS.getNumber());
+			for (int i = 0; i < MODELS; ++i)
+			{
+				save(store, index.addArchive(i), model(10, 10));
+			}
+			store.save();
+
+			ModelPipeline pipeline = new ModelPipeline(store);
+			pipeline.setWorkers(3);
+			pipeline.forEach(model ->
+			{
+				if (model.id == 50)
+				{
+					throw new IllegalStateException("test");
+				}
+			});
+			fail();
+		}
+		catch (IllegalStateException ex)
+		{
+			assertEquals("test", ex.getMessage());
+		}
+	}
+
+	@Test(timeout = 30_000L)
+	public void testShutdownNow() throws Exception
+	{
+		File dir = folder.newFolder();
+		try (Store store = new Store(dir))
+		{
+			Index index = store.addIndex(IndexType.MODELS.getNumber());
+			for (int i = 0; i < MODELS; ++i)
+			{
+				save(store, index.addArchive(i), model(10, 10));
+			}
+			store.save();
+
+			// the workers are interrupted while the queue is full, and exit without draining it
+			ExecutorService executor = Executors.newFixedThreadPool(2);
+			CountDownLatch started = new CountDownLatch(1);
+			Thread shutdown = new Thread(() ->
+			{
+				try
+				{
+					started.await();
+				}
+				catch (InterruptedException ex)
+				{
+					return;
+				}
+				executor.shutdownNow();
+			});
+			shutdown.start();
+
+			ModelPipeline pipeline = new ModelPipeline(store);
+			pipeline.setWorkers(2);
+			pipeline.forEach(executor, model ->
+			{
+				started.countDown();
+				try
+				{
+					Thread.sleep(10_000L);
+				}
+				catch (InterruptedException ex)
+				{
+					Thread.currentThread().interrupt();
+				}
+			});
+			fail();
+		}
+		catch (IOException ex)
+		{
+			assertTrue(ex.getCause() instanceof InterruptedException);
+		}
+	}
+
+	@Test
+	public void testPool()
+	{
+		ModelBufferPool pool = new ModelBufferPool();
+		ModelLoader loader = new ModelLoader(pool);
+		byte[] data = model(100, 150);
+
+		ModelDefinition model = loader.load(0, data);
+		long checksum = checksum(model);
+		int[][] vertices = {model.vertexX, model.vertexY, model.vertexZ};
+		assertTrue(model.vertexX.length >= model.vertexCount);
+		pool.release(model);
+
+		model = loader.load(0, data);
+		// the same size arrays are reused, though not necessarily for the same axis
+		int[] vertexX = model.vertexX;
+		assertTrue(Arrays.stream(vertices).anyMatch(v -> v == vertexX));
+		assertEquals(checksum, checksum(model));
+		assertTrue(pool.getHits() > 0);
+	}
+
+	private static long checksum(ModelDefinition model)
+	{
+		long checksum = model.vertexCount * 31L + model.faceCount;
+		for (int i = 0; i < model.vertexCount; ++i)
+		{
+			checksum = checksum * 31 + model.vertexX[i];
+			checksum = checksum * 31 + model.vertexY[i];
+			checksum = checksum * 31 + model.vertexZ[i];
+			checksum = checksum * 31 + model.vertexNormals[i].x;
+		}
+		for (int i = 0; i < model.faceCount; ++i)
+		{
+			checksum = checksum * 31 + model.faceIndices1[i];
+			checksum = checksum * 31 + model.faceIndices2[i];
+			checksum = checksum * 31 + model.faceIndices3[i];
+			checksum = checksum * 31 + model.faceColors[i];
+		}
+		return checksum;
+	}
+
+	private static void save(Store store, Archive archive, byte[] contents) throws IOException
+	{
+		FileData fileData = new FileData();
+		archive.setFileData(new FileData[]{fileData});
+		archive.setCompression(CompressionType.GZ);
+
+		Container container = new Container(CompressionType.GZ, -1);
+		container.compress(contents, null);
+		archive.setCrc(container.crc);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+
+	/**
+	 * Encode a model with random vertices and faces in the original model format
+	 */
+	private byte[] model(int vertexCount, int faceCount)
+	{
+		OutputStream faces = new OutputStream();
+		int previous = 0;
+		for (int i = 0; i < faceCount; ++i)
+		{
+			// compression type 1, three vertices each relative to the previous
+			int a = random.nextInt(vertexCount);
+			int b = random.nextInt(vertexCount);
+			int c = random.nextInt(vertexCount);
+			writeShortSmart(faces, a - previous);
+			writeShortSmart(faces, b - a);
+			writeShortSmart(faces, c - b);
+			previous = c;
+		}
+
+		OutputStream[] vertices = {new OutputStream(), new OutputStream(), new OutputStream()};
+		for (OutputStream axis : vertices)
+		{
+			int last = 0;
+			for (int i = 0; i < vertexCount; ++i)
+			{
+				int value = random.nextInt(512) - 256;
+				writeShortSmart(axis, value - last);
+				last = value;
+			}
+		}
+
+		byte[] faceData = faces.flip();
+		byte[][] vertexData = {vertices[0].flip(), vertices[1].flip(), vertices[2].flip()};
+
+		OutputStream out = new OutputStream();
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			out.writeByte(7); // x, y, and z deltas present
+		}
+		for (int i = 0; i < faceCount; ++i)
+		{
+			out.writeByte(1);
+		}
+		out.writeBytes(faceData);
+		for (int i = 0; i < faceCount; ++i)
+		{
+			out.writeShort(random.nextInt(0x10000));
+		}
+		for (byte[] axis : vertexData)
+		{
+			out.writeBytes(axis);
+		}
+
+		out.writeShort(vertexCount);
+		out.writeShort(faceCount);
+		out.writeByte(0); // texture count
+		out.writeByte(0); // textured
+		out.writeByte(0); // priority
+		out.writeByte(0); // transparencies
+		out.writeByte(0); // transparency groups
+		out.writeByte(0); // vertex groups
+		for (byte[] axis : vertexData)
+		{
+			out.writeShort(axis.length);
+		}
+		out.writeShort(faceData.length);
+		return out.flip();
+	}
+
+	private static void writeShortSmart(OutputStream out, int value)
+	{
+		if (value >= -64 && value < 64)
+		{
+			out.writeByte(value + 64);
+		}
+		else
+		{
+			out.writeShort(value + 0xC000);
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.region;
+
+import java.io.File;
+import java.io.IOException;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.definitions.LocationsDefinition;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.util.Djb2;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RegionCacheTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testRoundTrip() throws IOException
+	{
+		RegionCache cache = new RegionCache(folder.newFolder());
+
+		Index index = new Index(5);
+		Archive map = index.addArchive(0);
+		map.setCrc(1234);
+		Archive land = index.addArchive(1);
+		land.setCrc(5678);
+
+		LocationsDefinition locs = new LocationsDefinition();
+		locs.getLocations().add(new Location(1337, 10, 2, new Position(3, 4, 1)));
+
+		Region region = new Region(12850);
+		region.loadLocations(locs);
+		cache.put(region, map, land, true);
+
+		Region cached = cache.get(12850, map, land, true);
+		assertNotNull(cached);
+		assertEquals(region.getBaseX(), cached.getBaseX());
+		assertEquals(region.getLocations(), cached.getLocations());
+
+		assertNull(cache.get(12850, map, land, false));
+
+		land.setCrc(0);
+		assertNull(cache.get(12850, map, land, true));
+	}
+
+	@Test
+	public void testFailedWrite() throws IOException
+	{
+		File dir = folder.newFolder();
+		RegionCache cache = new RegionCache(dir);
+
+		// a non empty directory in place of the region file makes the move fail
+		File blocked = new File(dir, "12850.region");
+		assertTrue(new File(blocked, "file").mkdirs());
+
+		Index index = new Index(5);
+		Archive map = index.addArchive(0);
+		Archive land = index.addArchive(1);
+
+		try
+		{
+			cache.put(new Region(12850), map, land, false);
+			fail();
+		}
+		catch (IOException ex)
+		{
+			// expected
+		}
+
+		assertArrayEquals(new String[]{"12850.region"}, dir.list());
+	}
+
+	@Test
+	public void testLoaderKeepsRegionOnFailedWrite() throws IOException
+	{
+		File dir = folder.newFolder();
+		assertTrue(new File(dir, "12850.region/file").mkdirs());
+
+		try (Store store = new Store(folder.newFolder()))
+		{
+			Index index = store.addIndex(IndexType.MAPS.getNumber());
+			// every tile is a single 0 attribute
+			addArchive(store, index, 0, "m50_50", new byte[Region.Z * Region.X * Region.Y * 2]);
+			addArchive(store, index, 1, "l50_50", new byte[0]);
+
+			RegionLoader loader = new RegionLoader(store, region -> null, new RegionCache(dir));
+			Region region = loader.readRegion(12850);
+			assertNotNull(region);
+			assertEquals(12850, region.getRegionID());
+		}
+
+		assertArrayEquals(new String[]{"12850.region"}, dir.list());
+	}
+
+	private static void addArchive(Store store, Index index, int id, String name, byte[] data) throws IOException
+	{
+		Archive archive = index.addArchive(id);
+		archive.setNameHash(Djb2.hash(name));
+
+		Container container = new Container(archive.getCompression(), -1);
+		container.compress(data, null);
+		archive.setCrc(container.crc);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+}
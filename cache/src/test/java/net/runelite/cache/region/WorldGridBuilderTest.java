@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.region;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.definitions.LocationsDefinition;
+import net.runelite.cache.definitions.MapDefinition;
+import net.runelite.cache.definitions.ObjectDefinition;
+import static net.runelite.cache.region.CollisionFlags.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import org.junit.rules.TemporaryFolder;
+
+public class WorldGridBuilderTest
+{
+	private static final int WALL = 1;
+	private static final int BOULDER = 2;
+	private static final int WALKABLE_ROCK = 3;
+	private static final int FLOWERS = 4;
+
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	private final Map<Integer, ObjectDefinition> objects = new HashMap<>();
+	private ExecutorService executor;
+
+	@Before
+	public void before()
+	{
+		executor = Executors.newFixedThreadPool(2);
+
+		objects.put(WALL, object(WALL, 1, 1, 2, true));
+		objects.put(BOULDER, object(BOULDER, 2, 3, 2, false));
+		objects.put(WALKABLE_ROCK, object(WALKABLE_ROCK, 1, 1, 0, true));
+		objects.put(FLOWERS, object(FLOWERS, 1, 1, 1, false));
+	}
+
+	@After
+	public void after()
+	{
+		executor.shutdown();
+	}
+
+	private static ObjectDefinition object(int id, int sizeX, int sizeY, int interactType, boolean blocksProjectile)
+	{
+		ObjectDefinition def = new ObjectDefinition();
+		def.setId(id);
+		def.setSizeX(sizeX);
+		def.setSizeY(sizeY);
+		def.setInteractType(interactType);
+		def.setBlocksProjectile(blocksProjectile);
+		return def;
+	}
+
+	private static Region region(int regionX, int regionY, Location... locations)
+	{
+		MapDefinition map = new MapDefinition();
+		MapDefinition.Tile[][][] tiles = map.getTiles();
+		for (int z = 0; z < Region.Z; ++z)
+		{
+			for (int x = 0; x < Region.X; ++x)
+			{
+				for (int y = 0; y < Region.Y; ++y)
+				{
+					MapDefinition.Tile tile = tiles[z][x][y] = new MapDefinition.Tile();
+					tile.height = x + y;
+				}
+			}
+		}
+
+		// a blocked tile, and a bridge over (10, 10)
+		tiles[0][5][5].settings = 1;
+		tiles[1][10][10].settings = 2;
+
+		Region region = new Region(regionX, regionY);
+		region.loadTerrain(map);
+
+		LocationsDefinition locs = new LocationsDefinition();
+		locs.getLocations().addAll(Arrays.asList(locations));
+		region.loadLocations(locs);
+		return region;
+	}
+
+	@Test
+	public void testBuild() throws Exception
+	{
+		Region region = region(50, 50,
+			// straight wall on the west side of (20, 20)
+			new Location(WALL, 0, 0, new Position(20, 20, 0)),
+			// rotated 2x3 object on the east edge of the region
+			new Location(BOULDER, 10, 1, new Position(62, 30, 0)),
+			new Location(WALKABLE_ROCK, 10, 0, new Position(30, 30, 0)),
+			new Location(FLOWERS, 22, 0, new Position(31, 31, 0)),
+			// on the bridge
+			new Location(BOULDER, 10, 0, new Position(10, 10, 1)));
+		Region east = region(51, 50);
+
+		File file = folder.newFile();
+		new WorldGridBuilder(objects::get).build(file, Arrays.asList(region, east), executor);
+
+		WorldGrid grid = WorldGrid.open(file);
+		assertEquals(2, grid.getRegionCount());
+		assertTrue(grid.hasRegion(region.getRegionID()));
+		assertTrue(grid.hasRegion(east.getRegionID()));
+
+		int baseX = region.getBaseX();
+		int baseY = region.getBaseY();
+
+		for (int z = 0; z < Region.Z; ++z)
+		{
+			assertEquals(region.getTileHeight(z, 7, 9), grid.getHeight(z, baseX + 7, baseY + 9));
+			assertEquals(east.getTileHeight(z, 63, 0), grid.getHeight(z, baseX + 64 + 63, baseY));
+		}
+
+		assertEquals(BLOCK_MOVEMENT_FLOOR, grid.getFlags(0, baseX + 5, baseY + 5));
+		assertFalse(grid.isWalkable(0, baseX + 5, baseY + 5));
+		assertTrue(grid.isWalkable(0, baseX + 6, baseY + 5));
+
+		int west = BLOCK_MOVEMENT_WEST | BLOCK_MOVEMENT_WEST << LINE_OF_SIGHT_SHIFT;
+		int eastFlag = BLOCK_MOVEMENT_EAST | BLOCK_MOVEMENT_EAST << LINE_OF_SIGHT_SHIFT;
+		assertEquals(west, grid.getFlags(0, baseX + 20, baseY + 20));
+		assertEquals(eastFlag, grid.getFlags(0, baseX + 19, baseY + 20));
+		assertTrue(grid.isWalkable(0, baseX + 20, baseY + 20));
+
+		// rotated, so 3 wide and 2 high, crossing into the east region
+		for (int x = 62; x < 65; ++x)
+		{
+			for (int y = 30; y < 32; ++y)
+			{
+				assertEquals(BLOCK_MOVEMENT_OBJECT, grid.getFlags(0, baseX + x, baseY + y));
+			}
+		}
+		assertEquals(0, grid.getFlags(0, baseX + 65, baseY + 30));
+		assertEquals(0, grid.getFlags(0, baseX + 62, baseY + 32));
+
+		assertEquals(0, grid.getFlags(0, baseX + 30, baseY + 30));
+		assertEquals(BLOCK_MOVEMENT_FLOOR_DECORATION, grid.getFlags(0, baseX + 31, baseY + 31));
+
+		// objects on the bridge are moved down a plane
+		assertEquals(BLOCK_MOVEMENT_OBJECT, grid.getFlags(0, baseX + 10, baseY + 10));
+		assertEquals(0, grid.getFlags(1, baseX + 10, baseY + 10));
+
+		// outside of the grid
+		assertFalse(grid.contains(baseX - 1, baseY));
+		assertFalse(grid.isWalkable(0, baseX - 1, baseY));
+		assertEquals(0, grid.getHeight(0, baseX - 1, baseY));
+	}
+}
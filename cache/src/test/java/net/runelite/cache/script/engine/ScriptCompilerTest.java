@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.script.engine;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.definitions.ScriptDefinition;
+import net.runelite.cache.definitions.loaders.ScriptLoader;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ScriptCompilerTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(ScriptCompilerTest.class);
+
+	@Test
+	@Ignore
+	public void testCompileAll() throws IOException
+	{
+		Map<Integer, ScriptDefinition> scripts = new HashMap<>();
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			Storage storage = store.getStorage();
+			Index index = store.getIndex(IndexType.CLIENTSCRIPT);
+			ScriptLoader loader = new ScriptLoader();
+
+			for (Archive archive : index.getArchives())
+			{
+				byte[] contents = archive.decompress(storage.loadArchive(archive));
+				if (contents != null)
+				{
+					scripts.put(archive.getArchiveId(), loader.load(archive.getArchiveId(), contents));
+				}
+			}
+		}
+
+		ScriptEngine engine = new ScriptEngine(scripts::get);
+		StandardOpcodeHandlers.register(engine);
+
+		long start = System.nanoTime();
+		int compiled = 0;
+		for (int id : scripts.keySet())
+		{
+			if (engine.compile(id))
+			{
+				++compiled;
+			}
+			else
+			{
+				logger.warn("Unable to compile script {}", id);
+			}
+		}
+
+		logger.info("Compiled {}/{} scripts in {}ms", compiled, scripts.size(), (System.nanoTime() - start) / 1_000_000);
+	}
+}
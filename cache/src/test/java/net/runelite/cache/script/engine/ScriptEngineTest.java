@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.script.engine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import net.runelite.cache.definitions.EnumDefinition;
+import net.runelite.cache.definitions.ScriptDefinition;
+import net.runelite.cache.script.Instructions;
+import net.runelite.cache.script.Opcodes;
+import net.runelite.cache.script.assembler.Assembler;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class ScriptEngineTest
+{
+	private static final String[] SCRIPTS = {
+		"fib.rs2asm",
+		"sum.rs2asm",
+		"switch.rs2asm",
+		"strings.rs2asm",
+		"array.rs2asm",
+		"varp.rs2asm",
+		"enum.rs2asm",
+		"unhandled.rs2asm",
+		"recurse.rs2asm"
+	};
+
+	@Parameter
+	public int compileThreshold;
+
+	@Parameters(name = "threshold {0}")
+	public static Object[] thresholds()
+	{
+		// interpreted only, compiled immediately, and compiled part way through
+		return new Object[]{-1, 0, 5};
+	}
+
+	private final Map<Integer, ScriptDefinition> scripts = new HashMap<>();
+	private final Map<Integer, Integer> varps = new HashMap<>();
+	private ScriptEngine engine;
+
+	@Before
+	public void before() throws IOException
+	{
+		Instructions instructions = new Instructions();
+		instructions.init();
+		Assembler assembler = new Assembler(instructions);
+
+		for (String name : SCRIPTS)
+		{
+			try (InputStream in = ScriptEngineTest.class.getResourceAsStream(name))
+			{
+				ScriptDefinition script = assembler.assemble(in);
+				scripts.put(script.getId(), script);
+			}
+		}
+
+		EnumDefinition names = new EnumDefinition();
+		names.setId(42);
+		names.setSize(2);
+		names.setKeys(new int[]{1, 2});
+		names.setStringVals(new String[]{"one", "two"});
+
+		EnumDefinition squares = new EnumDefinition();
+		squares.setId(43);
+		squares.setSize(2);
+		squares.setKeys(new int[]{1, 2});
+		squares.setIntVals(new int[]{1, 4});
+		squares.setDefaultInt(-1);
+
+		Map<Integer, EnumDefinition> enums = Map.of(42, names, 43, squares);
+
+		engine = new ScriptEngine(scripts::get);
+		engine.setCompileThreshold(compileThreshold);
+		StandardOpcodeHandlers.register(engine);
+		StandardOpcodeHandlers.registerEnums(engine, enums::get);
+		engine.registerHandler(Opcodes.GET_VARP, (state, varp) -> state.pushInt(varps.getOrDefault(varp, 0)));
+	}
+
+	@Test
+	public void testInvoke()
+	{
+		for (int i = 0; i < 10; ++i)
+		{
+			assertEquals(55, engine.execute(1, 10).popInt());
+		}
+		assertEquals(compileThreshold >= 0, engine.isCompiled(1));
+	}
+
+	@Test
+	public void testLoop()
+	{
+		for (int i = 0; i < 10; ++i)
+		{
+			ScriptState state = engine.execute(2, 100 + i);
+			assertEquals((100 + i) * (99 + i) / 2, state.popInt());
+			assertEquals(0, state.getIntStackSize());
+		}
+	}
+
+	@Test
+	public void testSwitch()
+	{
+		int[] expected = {-1, 10, 20, -1, -1, 10, -1};
+		for (int i = 0; i < expected.length; ++i)
+		{
+			assertEquals(expected[i], engine.execute(3, i).popInt());
+		}
+	}
+
+	@Test
+	public void testStrings()
+	{
+		ScriptState state = engine.execute(4, 5, "world");
+		assertEquals(5, state.popInt());
+		assertEquals("n=5", state.popString());
+		assertEquals("Hello, world!", state.popString());
+		assertEquals(0, state.getObjectStackSize());
+	}
+
+	@Test
+	public void testArrays()
+	{
+		for (int i = 2; i < 20; ++i)
+		{
+			assertEquals((i - 1) * (i - 1) + (i - 2) * (i - 2), engine.execute(5, i).popInt());
+		}
+	}
+
+	@Test
+	public void testHandler()
+	{
+		varps.put(5, 4);
+		varps.put(7, 2);
+		for (int i = 0; i < 10; ++i)
+		{
+			assertEquals(14, engine.execute(6).popInt());
+		}
+	}
+
+	@Test
+	public void testEnum()
+	{
+		ScriptState state = engine.execute(7, 2);
+		assertEquals(4, state.popInt());
+		assertEquals("two", state.popString());
+
+		state = engine.execute(7, 3);
+		assertEquals(-1, state.popInt());
+		assertEquals("null", state.popString());
+	}
+
+	@Test
+	public void testUnhandledOpcode()
+	{
+		// the unhandled opcode is only an error when it is reached
+		for (int i = 0; i < 10; ++i)
+		{
+			assertEquals(1, engine.execute(8, 0).popInt());
+		}
+
+		try
+		{
+			engine.execute(8, 1);
+			fail();
+		}
+		catch (ScriptException ex)
+		{
+			assertTrue(ex.getMessage().contains("unhandled opcode " + Opcodes.MES));
+		}
+	}
+
+	@Test
+	public void testMaxDepth()
+	{
+		try
+		{
+			engine.execute(9);
+			fail();
+		}
+		catch (ScriptException ex)
+		{
+			assertTrue(ex.getMessage().contains("depth"));
+		}
+	}
+
+	@Test
+	public void testHandlerError()
+	{
+		engine.registerHandler(Opcodes.GET_VARP, (state, varp) ->
+		{
+			throw new IllegalStateException();
+		});
+
+		try
+		{
+			engine.execute(6);
+			fail();
+		}
+		catch (ScriptException ex)
+		{
+			String message = compileThreshold == 0 ? "error in compiled script 6" : "error in script 6";
+			assertTrue(ex.getMessage(), ex.getMessage().startsWith(message));
+			assertTrue(ex.getCause() instanceof IllegalStateException);
+		}
+	}
+
+	@Test
+	public void testRegisterInvalidates()
+	{
+		engine.execute(6);
+		engine.registerHandler(Opcodes.GET_VARP, (state, varp) -> state.pushInt(varp));
+		assertFalse(engine.isCompiled(6));
+		assertEquals(22, engine.execute(6).popInt());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testRegisterCoreOpcode()
+	{
+		engine.registerHandler(Opcodes.ADD, (state, op) ->
+		{
+		});
+	}
+
+	@Test
+	public void testRuntimeError()
+	{
+		// fib with no argument underflows the stack
+		try
+		{
+			engine.execute(1);
+			fail();
+		}
+		catch (ScriptException ex)
+		{
+			assertTrue(ex.getCause() instanceof ArrayIndexOutOfBoundsException);
+		}
+	}
+}
@@ -24,11 +24,18 @@
  */
 package net.runelite.client.callback;
 
+import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BooleanSupplier;
 import javax.inject.Singleton;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 
@@ -36,15 +43,146 @@ import net.runelite.api.Client;
 @Slf4j
 public class ClientThread
 {
-	private final ConcurrentLinkedQueue<BooleanSupplier> invokes = new ConcurrentLinkedQueue<>();
-	private final ConcurrentLinkedQueue<BooleanSupplier> invokesAtTickEnd = new ConcurrentLinkedQueue<>();
+	/**
+	 * Time per cycle after which {@link Priority#LOW} invokes are deferred to the next cycle
+	 */
+	private static final long LOW_PRIORITY_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+	/**
+	 * Times an invoke may return false before it is retried less often
+	 */
+	private static final int BACKOFF_THRESHOLD = 8;
+	private static final int MAX_BACKOFF_CYCLES = 32;
+
+	public enum Priority
+	{
+		/**
+		 * Run before other invokes
+		 */
+		HIGH,
+		/**
+		 * The default, run every cycle
+		 */
+		NORMAL,
+		/**
+		 * Bulk work such as loading images. Only runs until the cycle's time budget is used up,
+		 * with the remainder deferred to the next cycle.
+		 */
+		LOW,
+	}
+
+	/**
+	 * Metrics of the invokes of a priority
+	 */
+	@Value
+	public static class QueueStats
+	{
+		private final Priority priority;
+		/**
+		 * Number of invokes currently waiting to run
+		 */
+		private final int queued;
+		/**
+		 * Number of invokes which have completed
+		 */
+		private final long completed;
+		/**
+		 * Number of times invokes were deferred to a later cycle, either because one returned false
+		 * or the time budget of a cycle was used up, which is counted once per cycle
+		 */
+		private final long deferred;
+		/**
+		 * Mean time from queueing an invoke to its first run
+		 */
+		private final long meanWaitNanos;
+		/**
+		 * Max time from queueing an invoke to its first run
+		 */
+		private final long maxWaitNanos;
+	}
+
+	private static class Task
+	{
+		private final BooleanSupplier supplier;
+		private final long queued = System.nanoTime();
+		private boolean started;
+		private int failures;
+		private int nextCycle;
+
+		Task(BooleanSupplier supplier)
+		{
+			this.supplier = supplier;
+		}
+
+		@Override
+		public String toString()
+		{
+			return supplier.toString();
+		}
+	}
+
+	private static class TaskQueue
+	{
+		private final Priority priority;
+		private final ConcurrentLinkedQueue<Task> tasks = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger size = new AtomicInteger();
+		private final LongAdder completed = new LongAdder();
+		private final LongAdder deferred = new LongAdder();
+		private final LongAdder started = new LongAdder();
+		private final LongAdder totalWait = new LongAdder();
+		private final AtomicLong maxWait = new AtomicLong();
+
+		TaskQueue(Priority priority)
+		{
+			this.priority = priority;
+		}
+
+		void add(Task task)
+		{
+			size.incrementAndGet();
+			tasks.add(task);
+		}
+
+		void recordWait(long wait)
+		{
+			started.increment();
+			totalWait.add(wait);
+
+			long max = maxWait.get();
+			while (wait > max && !maxWait.compareAndSet(max, wait))
+			{
+				max = maxWait.get();
+			}
+		}
+
+		QueueStats getStats()
+		{
+			final long started = this.started.sum();
+			return new QueueStats(priority, size.get(), completed.sum(), deferred.sum(),
+				started == 0 ? 0 : totalWait.sum() / started, maxWait.get());
+		}
+	}
+
+	private final TaskQueue[] invokes = {
+		new TaskQueue(Priority.HIGH),
+		new TaskQueue(Priority.NORMAL),
+		new TaskQueue(Priority.LOW),
+	};
+	private final TaskQueue invokesAtTickEnd = new TaskQueue(Priority.NORMAL);
+
+	// only accessed from the client thread
+	private int cycle;
 
 	@Inject
 	private Client client;
 
 	public void invoke(Runnable r)
 	{
-		invoke(() ->
+		invoke(Priority.NORMAL, r);
+	}
+
+	public void invoke(Priority priority, Runnable r)
+	{
+		invoke(priority, () ->
 		{
 			r.run();
 			return true;
@@ -56,17 +194,30 @@ public class ClientThread
 	 * If r returns false, r will be ran again, at a later point
 	 */
 	public void invoke(BooleanSupplier r)
+	{
+		invoke(Priority.NORMAL, r);
+	}
+
+	/**
+	 * Will run r on the game thread, at an unspecified point in the future.
+	 * If r returns false, r will be ran again, at a later point. If r keeps returning false,
+	 * it is retried less often.
+	 */
+	public void invoke(Priority priority, BooleanSupplier r)
 	{
 		if (client.isClientThread())
 		{
 			if (!r.getAsBoolean())
 			{
-				invokes.add(r);
+				final Task task = new Task(r);
+				task.started = true;
+				task.failures = 1;
+				invokes[priority.ordinal()].add(task);
 			}
 			return;
 		}
 
-		invokeLater(r);
+		invokeLater(priority, r);
 	}
 
 	/**
@@ -75,7 +226,12 @@ public class ClientThread
 	 */
 	public void invokeLater(Runnable r)
 	{
-		invokeLater(() ->
+		invokeLater(Priority.NORMAL, r);
+	}
+
+	public void invokeLater(Priority priority, Runnable r)
+	{
+		invokeLater(priority, () ->
 		{
 			r.run();
 			return true;
@@ -84,39 +240,84 @@ public class ClientThread
 
 	public void invokeLater(BooleanSupplier r)
 	{
-		invokes.add(r);
+		invokeLater(Priority.NORMAL, r);
+	}
+
+	public void invokeLater(Priority priority, BooleanSupplier r)
+	{
+		invokes[priority.ordinal()].add(new Task(r));
 	}
 
 	public void invokeAtTickEnd(Runnable r)
 	{
-		invokesAtTickEnd.add(() ->
+		invokesAtTickEnd.add(new Task(() ->
 		{
 			r.run();
 			return true;
-		});
+		}));
+	}
+
+	/**
+	 * Get the queue depth and latency metrics of each priority
+	 */
+	public List<QueueStats> getQueueStats()
+	{
+		final ImmutableList.Builder<QueueStats> builder = ImmutableList.builder();
+		for (TaskQueue queue : invokes)
+		{
+			builder.add(queue.getStats());
+		}
+		return builder.build();
 	}
 
 	void invoke()
 	{
-		invokeList(invokes);
+		assert client.isClientThread();
+		++cycle;
+
+		final long deadline = System.nanoTime() + LOW_PRIORITY_BUDGET_NANOS;
+		for (TaskQueue queue : invokes)
+		{
+			invokeList(queue, queue.priority == Priority.LOW ? deadline : Long.MAX_VALUE);
+		}
 	}
 
 	void invokeTickEnd()
 	{
-		invokeList(invokesAtTickEnd);
+		assert client.isClientThread();
+		invokeList(invokesAtTickEnd, Long.MAX_VALUE);
 	}
 
-	private void invokeList(ConcurrentLinkedQueue<BooleanSupplier> invokes)
+	private void invokeList(TaskQueue queue, long deadline)
 	{
-		assert client.isClientThread();
-		Iterator<BooleanSupplier> ir = invokes.iterator();
+		boolean ran = false;
+		Iterator<Task> ir = queue.tasks.iterator();
 		while (ir.hasNext())
 		{
-			BooleanSupplier r = ir.next();
+			Task task = ir.next();
+			if (task.nextCycle - cycle > 0)
+			{
+				continue;
+			}
+
+			// always make some progress, even if the budget has been used up by other priorities
+			if (ran && deadline != Long.MAX_VALUE && System.nanoTime() - deadline > 0)
+			{
+				// the remaining invokes wait for the next cycle without being visited
+				queue.deferred.increment();
+				break;
+			}
+
+			if (!task.started)
+			{
+				task.started = true;
+				queue.recordWait(System.nanoTime() - task.queued);
+			}
+
 			boolean remove = true;
 			try
 			{
-				remove = r.getAsBoolean();
+				remove = task.supplier.getAsBoolean();
 			}
 			catch (ThreadDeath d)
 			{
@@ -126,13 +327,22 @@ public class ClientThread
 			{
 				log.error("Exception in invoke", e);
 			}
+			ran = true;
+
 			if (remove)
 			{
 				ir.remove();
+				queue.size.decrementAndGet();
+				queue.completed.increment();
 			}
 			else
 			{
-				log.trace("Deferring task {}", r);
+				queue.deferred.increment();
+				if (++task.failures > BACKOFF_THRESHOLD)
+				{
+					task.nextCycle = cycle + Math.min(1 << Math.min(task.failures - BACKOFF_THRESHOLD, 5), MAX_BACKOFF_CYCLES);
+				}
+				log.trace("Deferring task {}", task);
 			}
 		}
 	}
@@ -26,8 +26,12 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Iterables;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -35,12 +39,31 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
@@ -48,13 +71,23 @@ import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
 
 @Slf4j
-@RequiredArgsConstructor
 @ThreadSafe
 public class EventBus
 {
 	private static final Marker DEDUPLICATE = MarkerFactory.getMarker("DEDUPLICATE");
 
+	private static final int ASYNC_THREADS = 2;
+	// events queued for a single async subscriber before further events are dropped
+	private static final int ASYNC_QUEUE_CAPACITY = 4096;
+	// events delivered to an async subscriber before yielding the worker to other subscribers
+	private static final int ASYNC_BATCH_SIZE = 64;
+
+	private static final Subscriber[] EMPTY = new Subscriber[0];
+	private static final Comparator<Subscriber> SUBSCRIBER_ORDER = Comparator.comparingDouble(Subscriber::getPriority).reversed()
+		.thenComparing(s -> s.object.getClass().getName());
+
 	@Value
+	@AllArgsConstructor(access = AccessLevel.PACKAGE)
 	public static class Subscriber
 	{
 		private final Object object;
@@ -62,6 +95,21 @@ public class EventBus
 		private final float priority;
 		@EqualsAndHashCode.Exclude
 		private final Consumer<Object> lambda;
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		@Getter(AccessLevel.NONE)
+		private final AsyncQueue queue;
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		private final SubscriberStats stats = new SubscriberStats();
+
+		/**
+		 * Whether events are delivered to this subscriber on the worker pool, see {@link Subscribe#async()}
+		 */
+		public boolean isAsync()
+		{
+			return queue != null;
+		}
 
 		void invoke(final Object arg) throws Exception
 		{
@@ -77,9 +125,21 @@ public class EventBus
 	}
 
 	private final Consumer<Throwable> exceptionHandler;
+	private final Executor asyncExecutor;
 
+	/**
+	 * Subscribers of each event class, sorted in the order they are invoked. The map and
+	 * arrays are never modified once published, changes replace the whole map instead.
+	 */
 	@Nonnull
-	private ImmutableMultimap<Class<?>, Subscriber> subscribers = ImmutableMultimap.of();
+	private volatile ImmutableMap<Class<?>, Subscriber[]> subscribers = ImmutableMap.of();
+
+	/**
+	 * Whether to record the time taken and memory allocated by each subscriber into its {@link SubscriberStats}
+	 */
+	@Getter
+	@Setter
+	private volatile boolean profiling;
 
 	/**
 	 * Instantiates EventBus with default exception handler
@@ -89,6 +149,26 @@ public class EventBus
 		this((e) -> log.warn(DEDUPLICATE, "Uncaught exception in event subscriber", e));
 	}
 
+	/**
+	 * Instantiates EventBus delivering to async subscribers on a shared worker pool
+	 *
+	 * @param exceptionHandler handler for exceptions thrown by subscribers
+	 */
+	public EventBus(Consumer<Throwable> exceptionHandler)
+	{
+		this(exceptionHandler, r -> AsyncPool.EXECUTOR.execute(r));
+	}
+
+	/**
+	 * @param exceptionHandler handler for exceptions thrown by subscribers
+	 * @param asyncExecutor executor to deliver events to async subscribers on
+	 */
+	public EventBus(Consumer<Throwable> exceptionHandler, Executor asyncExecutor)
+	{
+		this.exceptionHandler = exceptionHandler;
+		this.asyncExecutor = asyncExecutor;
+	}
+
 	/**
 	 * Registers subscriber to EventBus. All methods in subscriber and it's parent classes are checked for
 	 * {@link Subscribe} annotation and then added to map of subscriptions.
@@ -96,88 +176,103 @@ public class EventBus
 	 * @param object subscriber to register
 	 * @throws IllegalArgumentException in case subscriber method name is wrong (correct format is 'on' + EventName
 	 */
-	public synchronized void register(@Nonnull final Object object)
+	public void register(@Nonnull final Object object)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
+		registerAll(Collections.singletonList(object));
+	}
 
-		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
+	/**
+	 * Registers many subscribers at once, such as when switching profiles. This is equivalent to registering
+	 * each of them in turn, but only rebuilds the subscriptions once. If any subscriber is invalid, none of
+	 * them are registered.
+	 *
+	 * @param objects subscribers to register
+	 * @throws IllegalArgumentException in case a subscriber method is invalid
+	 * @see #register(Object)
+	 */
+	public synchronized void registerAll(@Nonnull final Collection<?> objects)
+	{
+		final ListMultimap<Class<?>, Subscriber> added = ArrayListMultimap.create();
+
+		for (final Object object : objects)
 		{
-			for (final Method method : clazz.getDeclaredMethods())
+			for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 			{
-				final Subscribe sub = method.getAnnotation(Subscribe.class);
-
-				if (sub == null)
+				for (final Method method : clazz.getDeclaredMethods())
 				{
-					continue;
-				}
+					final Subscribe sub = method.getAnnotation(Subscribe.class);
+
+					if (sub == null)
+					{
+						continue;
+					}
 
-				Preconditions.checkArgument(method.getReturnType() == Void.TYPE, "@Subscribed method \"" + method + "\" cannot return a value");
-				Preconditions.checkArgument(method.getParameterCount() == 1, "@Subscribed method \"" + method + "\" must take exactly 1 argument");
-				Preconditions.checkArgument(!Modifier.isStatic(method.getModifiers()), "@Subscribed method \"" + method + "\" cannot be static");
+					Preconditions.checkArgument(method.getReturnType() == Void.TYPE, "@Subscribed method \"" + method + "\" cannot return a value");
+					Preconditions.checkArgument(method.getParameterCount() == 1, "@Subscribed method \"" + method + "\" must take exactly 1 argument");
+					Preconditions.checkArgument(!Modifier.isStatic(method.getModifiers()), "@Subscribed method \"" + method + "\" cannot be static");
 
-				final Class<?> parameterClazz = method.getParameterTypes()[0];
+					final Class<?> parameterClazz = method.getParameterTypes()[0];
 
-				Preconditions.checkArgument(!parameterClazz.isPrimitive(), "@Subscribed method \"" + method + "\" cannot subscribe to primitives");
-				Preconditions.checkArgument((parameterClazz.getModifiers() & (Modifier.ABSTRACT | Modifier.INTERFACE)) == 0, "@Subscribed method \"" + method + "\" cannot subscribe to polymorphic classes");
+					Preconditions.checkArgument(!parameterClazz.isPrimitive(), "@Subscribed method \"" + method + "\" cannot subscribe to primitives");
+					Preconditions.checkArgument((parameterClazz.getModifiers() & (Modifier.ABSTRACT | Modifier.INTERFACE)) == 0, "@Subscribed method \"" + method + "\" cannot subscribe to polymorphic classes");
 
-				for (Class<?> psc = parameterClazz.getSuperclass(); psc != null; psc = psc.getSuperclass())
-				{
-					if (subscribers.containsKey(psc))
+					for (Class<?> psc = parameterClazz.getSuperclass(); psc != null; psc = psc.getSuperclass())
 					{
-						throw new IllegalArgumentException("@Subscribed method \"" + method + "\" cannot subscribe to class which inherits from subscribed class \"" + psc + "\"");
+						// as with registering one at a time, also check the subscribers added earlier in this batch
+						if (subscribers.containsKey(psc) || added.containsKey(psc))
+						{
+							throw new IllegalArgumentException("@Subscribed method \"" + method + "\" cannot subscribe to class which inherits from subscribed class \"" + psc + "\"");
+						}
 					}
-				}
 
-				final String preferredName = "on" + parameterClazz.getSimpleName();
-				Preconditions.checkArgument(method.getName().equals(preferredName), "Subscribed method " + method + " should be named " + preferredName);
+					final String preferredName = "on" + parameterClazz.getSimpleName();
+					Preconditions.checkArgument(method.getName().equals(preferredName), "Subscribed method " + method + " should be named " + preferredName);
 
-				method.setAccessible(true);
-				Consumer<Object> lambda = null;
+					method.setAccessible(true);
+					Consumer<Object> lambda = null;
 
-				try
-				{
-					final MethodHandles.Lookup caller = ReflectUtil.privateLookupIn(clazz);
-					final MethodType subscription = MethodType.methodType(void.class, parameterClazz);
-					final MethodHandle target = caller.findVirtual(clazz, method.getName(), subscription);
-					final CallSite site = LambdaMetafactory.metafactory(
-						caller,
-						"accept",
-						MethodType.methodType(Consumer.class, clazz),
-						subscription.changeParameterType(0, Object.class),
-						target,
-						subscription);
-
-					final MethodHandle factory = site.getTarget();
-					lambda = (Consumer<Object>) factory.bindTo(object).invokeExact();
-				}
-				catch (Throwable e)
-				{
-					log.warn("Unable to create lambda for method {}", method, e);
-				}
+					try
+					{
+						final MethodHandles.Lookup caller = ReflectUtil.privateLookupIn(clazz);
+						final MethodType subscription = MethodType.methodType(void.class, parameterClazz);
+						final MethodHandle target = caller.findVirtual(clazz, method.getName(), subscription);
+						final CallSite site = LambdaMetafactory.metafactory(
+							caller,
+							"accept",
+							MethodType.methodType(Consumer.class, clazz),
+							subscription.changeParameterType(0, Object.class),
+							target,
+							subscription);
 
-				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda);
-				builder.put(parameterClazz, subscriber);
-				log.debug("Registering {} - {}", parameterClazz, subscriber);
+						final MethodHandle factory = site.getTarget();
+						lambda = (Consumer<Object>) factory.bindTo(object).invokeExact();
+					}
+					catch (Throwable e)
+					{
+						log.warn("Unable to create lambda for method {}", method, e);
+					}
+
+					final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda, sub.async() ? new AsyncQueue() : null);
+					if (subscriber.queue != null)
+					{
+						subscriber.queue.subscriber = subscriber;
+					}
+					added.put(parameterClazz, subscriber);
+					log.debug("Registering {} - {}", parameterClazz, subscriber);
+				}
 			}
 		}
 
-		subscribers = builder.build();
+		add(added);
 	}
 
 	public synchronized <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
-
-		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn);
-		builder.put(clazz, sub);
+		final Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn, null);
 
-		subscribers = builder.build();
+		final ListMultimap<Class<?>, Subscriber> added = ArrayListMultimap.create();
+		added.put(clazz, sub);
+		add(added);
 
 		return sub;
 	}
@@ -189,10 +284,20 @@ public class EventBus
 	 */
 	public synchronized void unregister(@Nonnull final Object object)
 	{
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> e.getValue().getObject() != object
-		));
+		removeIf(s -> s.getObject() == object);
+	}
+
+	/**
+	 * Unregisters all subscribed methods from each of the provided subscriber objects,
+	 * only rebuilding the subscriptions once.
+	 *
+	 * @param objects objects to unsubscribe from
+	 */
+	public synchronized void unregisterAll(@Nonnull final Collection<?> objects)
+	{
+		final Set<Object> removed = Sets.newIdentityHashSet();
+		removed.addAll(objects);
+		removeIf(s -> removed.contains(s.getObject()));
 	}
 
 	public synchronized void unregister(Subscriber sub)
@@ -202,10 +307,7 @@ public class EventBus
 			return;
 		}
 
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> sub != e.getValue()
-		));
+		removeIf(s -> s == sub);
 	}
 
 	/**
@@ -216,8 +318,26 @@ public class EventBus
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		final Subscriber[] subs = subscribers.get(event.getClass());
+		if (subs == null)
+		{
+			return;
+		}
+
+		if (profiling)
 		{
+			postProfiled(subs, event);
+			return;
+		}
+
+		for (final Subscriber subscriber : subs)
+		{
+			if (subscriber.queue != null)
+			{
+				subscriber.queue.offer(event);
+				continue;
+			}
+
 			try
 			{
 				subscriber.invoke(event);
@@ -228,4 +348,237 @@ public class EventBus
 			}
 		}
 	}
+
+	private void postProfiled(final Subscriber[] subs, final Object event)
+	{
+		for (final Subscriber subscriber : subs)
+		{
+			if (subscriber.queue != null)
+			{
+				// profiled on the worker instead
+				subscriber.queue.offer(event);
+				continue;
+			}
+
+			invokeProfiled(subscriber, event);
+		}
+	}
+
+	private void invokeProfiled(final Subscriber subscriber, final Object event)
+	{
+		final long allocated = SubscriberStats.currentThreadAllocatedBytes();
+		final long start = System.nanoTime();
+
+		try
+		{
+			subscriber.invoke(event);
+		}
+		catch (Exception e)
+		{
+			exceptionHandler.accept(e);
+		}
+
+		final long nanos = System.nanoTime() - start;
+		final long bytes = allocated == -1L ? 0L : SubscriberStats.currentThreadAllocatedBytes() - allocated;
+		subscriber.getStats().record(nanos, bytes);
+	}
+
+	/**
+	 * Get the current subscribers of each event class, in the order they are invoked
+	 *
+	 * @return subscribers by event class
+	 */
+	public ImmutableListMultimap<Class<?>, Subscriber> getSubscribers()
+	{
+		final ImmutableListMultimap.Builder<Class<?>, Subscriber> builder = ImmutableListMultimap.builder();
+		for (Map.Entry<Class<?>, Subscriber[]> entry : subscribers.entrySet())
+		{
+			builder.putAll(entry.getKey(), entry.getValue());
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Merge new subscribers into the subscriptions. Only the arrays of the event classes which
+	 * gained subscribers are rebuilt, new subscribers are ordered after existing subscribers
+	 * with the same priority and class name.
+	 */
+	private void add(ListMultimap<Class<?>, Subscriber> added)
+	{
+		if (added.isEmpty())
+		{
+			return;
+		}
+
+		final Map<Class<?>, Subscriber[]> map = new HashMap<>(subscribers);
+		for (Map.Entry<Class<?>, Collection<Subscriber>> entry : added.asMap().entrySet())
+		{
+			final Subscriber[] existing = map.getOrDefault(entry.getKey(), EMPTY);
+			final Subscriber[] merged = Arrays.copyOf(existing, existing.length + entry.getValue().size());
+
+			int i = existing.length;
+			for (Subscriber subscriber : entry.getValue())
+			{
+				merged[i++] = subscriber;
+			}
+
+			// stable, so the relative order of existing subscribers is kept
+			Arrays.sort(merged, SUBSCRIBER_ORDER);
+			map.put(entry.getKey(), merged);
+		}
+
+		subscribers = ImmutableMap.copyOf(map);
+	}
+
+	private void removeIf(Predicate<Subscriber> filter)
+	{
+		final ImmutableMap.Builder<Class<?>, Subscriber[]> builder = ImmutableMap.builderWithExpectedSize(subscribers.size());
+		boolean changed = false;
+
+		for (Map.Entry<Class<?>, Subscriber[]> entry : subscribers.entrySet())
+		{
+			final Subscriber[] subs = entry.getValue();
+			Subscriber[] kept = subs;
+			int count = 0;
+
+			for (int i = 0; i < subs.length; ++i)
+			{
+				if (filter.test(subs[i]))
+				{
+					if (subs[i].queue != null)
+					{
+						subs[i].queue.cancel();
+					}
+
+					if (kept == subs)
+					{
+						kept = new Subscriber[subs.length - 1];
+						System.arraycopy(subs, 0, kept, 0, i);
+					}
+				}
+				else if (kept != subs)
+				{
+					kept[count++] = subs[i];
+				}
+				else
+				{
+					++count;
+				}
+			}
+
+			if (kept != subs)
+			{
+				changed = true;
+				kept = Arrays.copyOf(kept, count);
+			}
+
+			if (kept.length > 0)
+			{
+				builder.put(entry.getKey(), kept);
+			}
+		}
+
+		if (changed)
+		{
+			subscribers = builder.build();
+		}
+	}
+
+	/**
+	 * Events waiting to be delivered to an async subscriber. At most one worker drains the queue
+	 * at a time, which keeps the events for a subscriber in order.
+	 */
+	private final class AsyncQueue implements Runnable
+	{
+		private final Queue<Object> events = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger size = new AtomicInteger();
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+		private volatile boolean cancelled;
+		// set once before the subscriber is published
+		private Subscriber subscriber;
+
+		void offer(Object event)
+		{
+			if (size.incrementAndGet() > ASYNC_QUEUE_CAPACITY)
+			{
+				size.decrementAndGet();
+				log.warn(DEDUPLICATE, "Dropping {} for async subscriber {}, which is falling behind", event.getClass().getSimpleName(), subscriber);
+				return;
+			}
+
+			events.add(event);
+			schedule();
+		}
+
+		void cancel()
+		{
+			cancelled = true;
+			events.clear();
+		}
+
+		private void schedule()
+		{
+			if (cancelled || !scheduled.compareAndSet(false, true))
+			{
+				return;
+			}
+
+			try
+			{
+				asyncExecutor.execute(this);
+			}
+			catch (RejectedExecutionException e)
+			{
+				scheduled.set(false);
+				exceptionHandler.accept(e);
+			}
+		}
+
+		@Override
+		public void run()
+		{
+			try
+			{
+				Object event;
+				for (int i = 0; i < ASYNC_BATCH_SIZE && !cancelled && (event = events.poll()) != null; ++i)
+				{
+					size.decrementAndGet();
+
+					if (profiling)
+					{
+						invokeProfiled(subscriber, event);
+						continue;
+					}
+
+					try
+					{
+						subscriber.invoke(event);
+					}
+					catch (Exception e)
+					{
+						exceptionHandler.accept(e);
+					}
+				}
+			}
+			finally
+			{
+				scheduled.set(false);
+			}
+
+			// events may have been added after the last poll, but before the flag was cleared
+			if (!events.isEmpty())
+			{
+				schedule();
+			}
+		}
+	}
+
+	// holder so that the threads are only started once an async subscriber receives an event
+	private static class AsyncPool
+	{
+		private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(ASYNC_THREADS, new ThreadFactoryBuilder()
+			.setNameFormat("EventBus async %d")
+			.setDaemon(true)
+			.build());
+	}
 }
@@ -43,4 +43,14 @@ public @interface Subscribe
 	 * @return
 	 */
 	float priority() default 0;
+
+	/**
+	 * Whether to deliver events to this subscriber on the event bus' worker pool instead of the posting
+	 * thread. Events are still delivered to the subscriber one at a time in the order they were posted,
+	 * but may run concurrently with other subscribers. Async subscribers must not access the client
+	 * except by invoking onto the client thread, and are meant for subscribers which only do I/O or
+	 * bookkeeping.
+	 * @return
+	 */
+	boolean async() default false;
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timing and allocation statistics of a single {@link EventBus.Subscriber}, recorded while
+ * {@link EventBus#setProfiling(boolean) profiling} is enabled. Recording is lock free and
+ * may happen from any thread. Call durations are additionally kept in a histogram of
+ * power of two buckets, from which percentiles can be estimated.
+ */
+public class SubscriberStats
+{
+	private static final int BUCKETS = 64;
+
+	private final LongAdder calls = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+	private final LongAdder allocatedBytes = new LongAdder();
+	private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+	void record(long nanos, long bytes)
+	{
+		calls.increment();
+		totalNanos.add(nanos);
+		if (bytes > 0)
+		{
+			allocatedBytes.add(bytes);
+		}
+		histogram.incrementAndGet(bucket(nanos));
+
+		long max = maxNanos.get();
+		while (nanos > max && !maxNanos.compareAndSet(max, nanos))
+		{
+			max = maxNanos.get();
+		}
+	}
+
+	public long getCalls()
+	{
+		return calls.sum();
+	}
+
+	public long getTotalNanos()
+	{
+		return totalNanos.sum();
+	}
+
+	public long getMaxNanos()
+	{
+		return maxNanos.get();
+	}
+
+	/**
+	 * Bytes allocated by the subscriber, or 0 if the JVM does not support measuring thread allocations
+	 */
+	public long getAllocatedBytes()
+	{
+		return allocatedBytes.sum();
+	}
+
+	public long getMeanNanos()
+	{
+		long calls = getCalls();
+		return calls == 0 ? 0 : getTotalNanos() / calls;
+	}
+
+	/**
+	 * Estimate a percentile of the call duration. The result is the upper bound of the
+	 * histogram bucket the percentile falls in, so it is at most twice the real value.
+	 *
+	 * @param percentile percentile, from 0 to 1
+	 * @return estimated duration in nanoseconds
+	 */
+	public long getPercentileNanos(double percentile)
+	{
+		long[] counts = new long[BUCKETS];
+		long total = 0;
+		for (int i = 0; i < BUCKETS; ++i)
+		{
+			counts[i] = histogram.get(i);
+			total += counts[i];
+		}
+
+		long rank = (long) Math.ceil(total * percentile);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; ++i)
+		{
+			seen += counts[i];
+			if (counts[i] > 0 && seen >= rank)
+			{
+				return i == 0 ? 0 : i == BUCKETS - 1 ? getMaxNanos() : Math.min(1L << i, getMaxNanos());
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Clear the statistics. Calls recorded concurrently with a reset may be partially kept.
+	 */
+	public void reset()
+	{
+		calls.reset();
+		totalNanos.reset();
+		maxNanos.set(0);
+		allocatedBytes.reset();
+		for (int i = 0; i < BUCKETS; ++i)
+		{
+			histogram.set(i, 0);
+		}
+	}
+
+	private static int bucket(long nanos)
+	{
+		// bucket i holds durations in [2^(i-1), 2^i)
+		return nanos <= 0 ? 0 : Math.min(BUCKETS - Long.numberOfLeadingZeros(nanos), BUCKETS - 1);
+	}
+
+	/**
+	 * Bytes allocated so far by the current thread, or -1 if not supported
+	 */
+	static long currentThreadAllocatedBytes()
+	{
+		final com.sun.management.ThreadMXBean threadMXBean = ThreadAllocation.THREAD_MX_BEAN;
+		return threadMXBean != null ? threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1L;
+	}
+
+	// holder so that the management classes are only loaded once profiling is used
+	private static class ThreadAllocation
+	{
+		private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+
+		private static com.sun.management.ThreadMXBean threadMXBean()
+		{
+			try
+			{
+				final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+				if (threadMXBean instanceof com.sun.management.ThreadMXBean)
+				{
+					final com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+					if (sunThreadMXBean.isThreadAllocatedMemorySupported())
+					{
+						sunThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+						return sunThreadMXBean;
+					}
+				}
+			}
+			catch (LinkageError | UnsupportedOperationException e)
+			{
+				// no java.management/jdk.management in this runtime
+			}
+			return null;
+		}
+	}
+}
@@ -126,27 +126,25 @@ public class PluginManager
 		loadDefaultPluginConfiguration(null);
 		SwingUtilities.invokeLater(() ->
 		{
+			final List<Plugin> toStop = new ArrayList<>();
+			final List<Plugin> toStart = new ArrayList<>();
 			for (Plugin plugin : getPlugins())
 			{
-				try
+				if (isPluginEnabled(plugin) != activePlugins.contains(plugin))
 				{
-					if (isPluginEnabled(plugin) != activePlugins.contains(plugin))
+					if (activePlugins.contains(plugin))
 					{
-						if (activePlugins.contains(plugin))
-						{
-							stopPlugin(plugin);
-						}
-						else
-						{
-							startPlugin(plugin);
-						}
+						toStop.add(plugin);
+					}
+					else
+					{
+						toStart.add(plugin);
 					}
-				}
-				catch (PluginInstantiationException e)
-				{
-					log.error("Error during starting/stopping plugin {}", plugin.getClass().getSimpleName(), e);
 				}
 			}
+
+			stopPlugins(toStop);
+			startPlugins(toStart);
 		});
 	}
 
@@ -409,19 +407,7 @@ public class PluginManager
 			return false;
 		}
 
-		List<Plugin> conflicts = conflictsForPlugin(plugin);
-		for (Plugin conflict : conflicts)
-		{
-			if (isPluginEnabled(conflict))
-			{
-				setPluginEnabled(conflict, false);
-			}
-			if (activePlugins.contains(conflict))
-			{
-				stopPlugin(conflict);
-			}
-		}
-
+		stopConflicts(plugin);
 		activePlugins.add(plugin);
 
 		try
@@ -454,6 +440,87 @@ public class PluginManager
 		return true;
 	}
 
+	/**
+	 * Starts many plugins at once, such as after switching profiles. Unlike {@link #startPlugin(Plugin)}
+	 * the plugins are registered to the event bus together after all of them have started up,
+	 * and plugins which fail to start are logged rather than thrown.
+	 *
+	 * @param plugins plugins to start
+	 */
+	public void startPlugins(Collection<Plugin> plugins)
+	{
+		// plugins always start in the EDT
+		assert SwingUtilities.isEventDispatchThread();
+
+		final List<Plugin> started = new ArrayList<>();
+		for (Plugin plugin : plugins)
+		{
+			if (activePlugins.contains(plugin) || !isPluginEnabled(plugin))
+			{
+				continue;
+			}
+
+			try
+			{
+				stopConflicts(plugin);
+				activePlugins.add(plugin);
+
+				plugin.startUp();
+
+				log.debug("Plugin {} is now running", plugin.getClass().getSimpleName());
+				if (sceneTileManager != null)
+				{
+					final GameEventManager gameEventManager = this.sceneTileManager.get();
+					if (gameEventManager != null)
+					{
+						gameEventManager.simulateGameEvents(plugin);
+					}
+				}
+
+				started.add(plugin);
+			}
+			catch (ThreadDeath e)
+			{
+				throw e;
+			}
+			catch (Throwable ex)
+			{
+				log.error("Error during starting plugin {}", plugin.getClass().getSimpleName(), ex);
+			}
+		}
+
+		// a later plugin may have stopped an earlier one it conflicts with
+		started.removeIf(plugin -> !activePlugins.contains(plugin));
+
+		try
+		{
+			eventBus.registerAll(started);
+		}
+		catch (IllegalArgumentException ex)
+		{
+			// register individually so a single invalid subscriber doesn't affect the other plugins
+			for (Iterator<Plugin> it = started.iterator(); it.hasNext(); )
+			{
+				final Plugin plugin = it.next();
+				try
+				{
+					eventBus.register(plugin);
+				}
+				catch (IllegalArgumentException e)
+				{
+					log.error("Error during starting plugin {}", plugin.getClass().getSimpleName(), e);
+					it.remove();
+				}
+			}
+		}
+
+		for (Plugin plugin : started)
+		{
+			schedule(plugin);
+			eventBus.post(new PluginChanged(plugin, true));
+		}
+	}
+
 	public boolean stopPlugin(Plugin plugin) throws PluginInstantiationException
 	{
 		// plugins always stop in the EDT
@@ -482,6 +549,62 @@ public class PluginManager
 		return true;
 	}
 
+	/**
+	 * Stops many plugins at once, such as after switching profiles. Unlike {@link #stopPlugin(Plugin)}
+	 * the plugins are unregistered from the event bus together before any of them are shut down,
+	 * and plugins which fail to shut down are logged rather than thrown.
+	 *
+	 * @param plugins plugins to stop
+	 */
+	public void stopPlugins(Collection<Plugin> plugins)
+	{
+		// plugins always stop in the EDT
+		assert SwingUtilities.isEventDispatchThread();
+
+		final List<Plugin> stopped = new ArrayList<>();
+		for (Plugin plugin : plugins)
+		{
+			if (activePlugins.remove(plugin))
+			{
+				unschedule(plugin);
+				stopped.add(plugin);
+			}
+		}
+
+		eventBus.unregisterAll(stopped);
+
+		for (Plugin plugin : stopped)
+		{
+			try
+			{
+				plugin.shutDown();
+
+				log.debug("Plugin {} is now stopped", plugin.getClass().getSimpleName());
+				eventBus.post(new PluginChanged(plugin, false));
+			}
+			catch (Exception ex)
+			{
+				log.error("Error during stopping plugin {}", plugin.getClass().getSimpleName(), ex);
+			}
+		}
+	}
+
+	private void stopConflicts(Plugin plugin) throws PluginInstantiationException
+	{
+		List<Plugin> conflicts = conflictsForPlugin(plugin);
+		for (Plugin conflict : conflicts)
+		{
+			if (isPluginEnabled(conflict))
+			{
+				setPluginEnabled(conflict, false);
+			}
+			if (activePlugins.contains(conflict))
+			{
+				stopPlugin(conflict);
+			}
+		}
+	}
+
 	public void setPluginEnabled(Plugin plugin, boolean enabled)
 	{
 		final PluginDescriptor pluginDescriptor = plugin.getClass().getAnnotation(PluginDescriptor.class);
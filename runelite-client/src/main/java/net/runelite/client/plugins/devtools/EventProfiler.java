@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.awt.FlowLayout;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.swing.JButton;
+import javax.swing.JFileChooser;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.SubscriberStats;
+
+/**
+ * Shows the time taken and memory allocated by each event subscriber, and the backlog of
+ * client thread invokes. Subscribers are only profiled while this window is open.
+ */
+@Slf4j
+class EventProfiler extends DevToolsFrame
+{
+	private final EventBus eventBus;
+	private final ClientThread clientThread;
+	private final JLabel clientThreadLabel = new JLabel();
+	private final EventProfilerTableModel model = new EventProfilerTableModel();
+	private final Timer refreshTimer = new Timer(1000, e -> refresh());
+
+	private Runnable jfrHook;
+
+	@Inject
+	EventProfiler(EventBus eventBus, ClientThread clientThread)
+	{
+		this.eventBus = eventBus;
+		this.clientThread = clientThread;
+
+		setTitle("RuneLite Event Profiler");
+		setLayout(new BorderLayout());
+
+		final JTable table = new JTable(model);
+		table.setAutoCreateRowSorter(true);
+		table.getColumnModel().getColumn(1).setPreferredWidth(300);
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(900, 500));
+		add(scrollPane, BorderLayout.CENTER);
+
+		final JPanel buttons = new JPanel();
+		buttons.setLayout(new FlowLayout());
+		buttons.add(clientThreadLabel);
+
+		final JButton resetBtn = new JButton("Reset");
+		resetBtn.addActionListener(e ->
+		{
+			for (EventBus.Subscriber subscriber : eventBus.getSubscribers().values())
+			{
+				subscriber.getStats().reset();
+			}
+			refresh();
+		});
+		buttons.add(resetBtn);
+
+		final JButton exportBtn = new JButton("Export CSV");
+		exportBtn.addActionListener(e -> exportCsv());
+		buttons.add(exportBtn);
+
+		add(buttons, BorderLayout.SOUTH);
+
+		pack();
+	}
+
+	@Override
+	public void open()
+	{
+		eventBus.setProfiling(true);
+
+		try
+		{
+			jfrHook = SubscriberStatisticsEvent.register(eventBus);
+		}
+		catch (LinkageError e)
+		{
+			log.debug("JFR is not supported", e);
+		}
+
+		refresh();
+		refreshTimer.start();
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		super.close();
+		refreshTimer.stop();
+
+		if (jfrHook != null)
+		{
+			SubscriberStatisticsEvent.unregister(jfrHook);
+			jfrHook = null;
+		}
+
+		eventBus.setProfiling(false);
+	}
+
+	private void refresh()
+	{
+		model.setSubscribers(new ArrayList<>(eventBus.getSubscribers().entries()));
+
+		final StringBuilder sb = new StringBuilder("Client thread invokes queued (wait mean/max):");
+		for (ClientThread.QueueStats stats : clientThread.getQueueStats())
+		{
+			sb.append(' ').append(stats.getPriority()).append(' ').append(stats.getQueued())
+				.append(" (").append(stats.getMeanWaitNanos() / 1_000L).append('/').append(stats.getMaxWaitNanos() / 1_000L).append("us)");
+		}
+		clientThreadLabel.setText(sb.toString());
+	}
+
+	private void exportCsv()
+	{
+		final JFileChooser fileChooser = new JFileChooser();
+		fileChooser.setDialogTitle("Event profile export");
+		fileChooser.addChoosableFileFilter(new FileNameExtensionFilter("CSV", "csv"));
+		fileChooser.setAcceptAllFileFilterUsed(false);
+		fileChooser.setCurrentDirectory(RuneLite.RUNELITE_DIR);
+		fileChooser.setSelectedFile(new File(RuneLite.RUNELITE_DIR, "event-profile-" + System.currentTimeMillis() + ".csv"));
+		if (fileChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION)
+		{
+			return;
+		}
+
+		final File file = fileChooser.getSelectedFile();
+		try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))
+		{
+			writeCsv(writer);
+			log.info("Exported event profile to {}", file);
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to export event profile", ex);
+		}
+	}
+
+	private void writeCsv(Writer writer) throws IOException
+	{
+		writer.write("event,subscriber,priority,calls,total_ns,mean_ns,p50_ns,p99_ns,max_ns,allocated_bytes\n");
+		for (Map.Entry<Class<?>, EventBus.Subscriber> entry : model.getSubscribers())
+		{
+			final EventBus.Subscriber subscriber = entry.getValue();
+			final SubscriberStats stats = subscriber.getStats();
+			writer.write(entry.getKey().getName() + ","
+				+ EventProfilerTableModel.subscriberName(subscriber) + ","
+				+ subscriber.getPriority() + ","
+				+ stats.getCalls() + ","
+				+ stats.getTotalNanos() + ","
+				+ stats.getMeanNanos() + ","
+				+ stats.getPercentileNanos(.5) + ","
+				+ stats.getPercentileNanos(.99) + ","
+				+ stats.getMaxNanos() + ","
+				+ stats.getAllocatedBytes() + "\n");
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.swing.table.AbstractTableModel;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.SubscriberStats;
+
+class EventProfilerTableModel extends AbstractTableModel
+{
+	private static final String[] COLUMNS = {"Event", "Subscriber", "Calls", "Total (ms)", "Mean (us)", "p99 (us)", "Max (us)", "Allocated (KiB)"};
+
+	private static final int COL_EVENT = 0;
+	private static final int COL_SUBSCRIBER = 1;
+	private static final int COL_CALLS = 2;
+	private static final int COL_TOTAL = 3;
+	private static final int COL_MEAN = 4;
+	private static final int COL_P99 = 5;
+	private static final int COL_MAX = 6;
+	private static final int COL_ALLOCATED = 7;
+
+	private List<Map.Entry<Class<?>, EventBus.Subscriber>> rows = new ArrayList<>();
+
+	void setSubscribers(List<Map.Entry<Class<?>, EventBus.Subscriber>> subscribers)
+	{
+		rows = subscribers;
+		fireTableDataChanged();
+	}
+
+	List<Map.Entry<Class<?>, EventBus.Subscriber>> getSubscribers()
+	{
+		return rows;
+	}
+
+	@Override
+	public String getColumnName(int col)
+	{
+		return COLUMNS[col];
+	}
+
+	@Override
+	public Class<?> getColumnClass(int col)
+	{
+		return col == COL_EVENT || col == COL_SUBSCRIBER ? String.class : Long.class;
+	}
+
+	@Override
+	public int getColumnCount()
+	{
+		return COLUMNS.length;
+	}
+
+	@Override
+	public int getRowCount()
+	{
+		return rows.size();
+	}
+
+	@Override
+	public Object getValueAt(int rowIndex, int columnIndex)
+	{
+		final Map.Entry<Class<?>, EventBus.Subscriber> row = rows.get(rowIndex);
+		final SubscriberStats stats = row.getValue().getStats();
+		switch (columnIndex)
+		{
+			case COL_EVENT:
+				return row.getKey().getSimpleName();
+			case COL_SUBSCRIBER:
+				return subscriberName(row.getValue());
+			case COL_CALLS:
+				return stats.getCalls();
+			case COL_TOTAL:
+				return stats.getTotalNanos() / 1_000_000L;
+			case COL_MEAN:
+				return stats.getMeanNanos() / 1_000L;
+			case COL_P99:
+				return stats.getPercentileNanos(.99) / 1_000L;
+			case COL_MAX:
+				return stats.getMaxNanos() / 1_000L;
+			case COL_ALLOCATED:
+				return stats.getAllocatedBytes() / 1024L;
+			default:
+				return null;
+		}
+	}
+
+	static String subscriberName(EventBus.Subscriber subscriber)
+	{
+		final Method method = subscriber.getMethod();
+		if (method == null)
+		{
+			// registered with a lambda
+			return subscriber.getObject().getClass().getName();
+		}
+		return method.getDeclaringClass().getName() + "." + method.getName();
+	}
+}
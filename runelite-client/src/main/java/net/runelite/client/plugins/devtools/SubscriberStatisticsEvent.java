@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.util.Map;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.SubscriberStats;
+
+@Name("net.runelite.SubscriberStatistics")
+@Label("Event Subscriber Statistics")
+@Category({"RuneLite", "Event Bus"})
+@Description("Cumulative statistics of an event subscriber, recorded while the event profiler is open")
+@Period("1 s")
+@StackTrace(false)
+class SubscriberStatisticsEvent extends Event
+{
+	@Label("Event Class")
+	Class<?> eventClass;
+
+	@Label("Subscriber")
+	String subscriber;
+
+	@Label("Calls")
+	long calls;
+
+	@Label("Total Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long totalTime;
+
+	@Label("Max Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long maxTime;
+
+	@Label("Allocated")
+	@DataAmount
+	long allocated;
+
+	/**
+	 * Start emitting the statistics of every subscriber of the event bus to any running flight recordings.
+	 * This throws a {@link LinkageError} if the runtime does not include JFR.
+	 *
+	 * @param eventBus event bus to emit the subscribers of
+	 * @return hook to pass to {@link #unregister(Runnable)}
+	 */
+	static Runnable register(EventBus eventBus)
+	{
+		final Runnable hook = () ->
+		{
+			for (Map.Entry<Class<?>, EventBus.Subscriber> entry : eventBus.getSubscribers().entries())
+			{
+				final SubscriberStats stats = entry.getValue().getStats();
+				final SubscriberStatisticsEvent event = new SubscriberStatisticsEvent();
+				event.eventClass = entry.getKey();
+				event.subscriber = EventProfilerTableModel.subscriberName(entry.getValue());
+				event.calls = stats.getCalls();
+				event.totalTime = stats.getTotalNanos();
+				event.maxTime = stats.getMaxNanos();
+				event.allocated = stats.getAllocatedBytes();
+				event.commit();
+			}
+		};
+		FlightRecorder.addPeriodicEvent(SubscriberStatisticsEvent.class, hook);
+		return hook;
+	}
+
+	static void unregister(Runnable hook)
+	{
+		FlightRecorder.removePeriodicEvent(hook);
+	}
+}
@@ -31,6 +31,7 @@ import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
+import java.util.Objects;
 import lombok.AccessLevel;
 import lombok.Getter;
 import net.runelite.api.Experience;
@@ -78,6 +79,15 @@ class XpInfoBoxOverlay extends OverlayPanel
 		iconXpSplitPanel.setBorder(XP_AND_ICON_COMPONENT_BORDER);
 		iconXpSplitPanel.setBackgroundColor(null);
 		addMenuEntry(RUNELITE_OVERLAY_CONFIG, OPTION_CONFIGURE, "XP Tracker overlay");
+		setRetained(true);
+	}
+
+	@Override
+	public long getRenderVersion()
+	{
+		// the snapshot includes the formatted times, so this changes as they tick
+		return Objects.hash(super.getRenderVersion(), plugin.getSkillSnapshot(skill),
+			config.onScreenDisplayMode(), config.onScreenDisplayModeBottom());
 	}
 
 	@Override
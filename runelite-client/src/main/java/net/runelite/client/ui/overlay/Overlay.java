@@ -30,6 +30,7 @@ import java.awt.Point;
 import java.awt.Rectangle;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import javax.annotation.Nullable;
 import lombok.AccessLevel;
@@ -92,6 +93,27 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	@Setter(AccessLevel.PROTECTED)
 	private boolean snappable = true;
 
+	/**
+	 * Whether this overlay is rendered in retained mode. Retained overlays are rendered into an
+	 * image only when their {@link #getRenderVersion() render version}, font or preferred size
+	 * changes, and the image is drawn each frame instead of calling {@link #render(java.awt.Graphics2D)}.
+	 * <p>
+	 * Retained overlays must only draw within the dimension they return from render, and must
+	 * change their render version whenever their output would change. This is ignored for
+	 * {@link OverlayPosition#DYNAMIC dynamic} and {@link OverlayPosition#TOOLTIP tooltip} overlays,
+	 * whose output follows the scene or the mouse.
+	 */
+	@Setter(AccessLevel.PROTECTED)
+	private boolean retained;
+
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final AtomicInteger dirtyCount = new AtomicInteger();
+
+	@Getter(AccessLevel.PACKAGE)
+	@Setter(AccessLevel.PACKAGE)
+	private RetainedImage retainedImage;
+
 	protected Overlay()
 	{
 		plugin = null;
@@ -201,6 +223,27 @@ public abstract class Overlay implements LayoutableRenderableEntity
 		drawHooks.add(component);
 	}
 
+	/**
+	 * Mark a retained overlay as needing to be rendered again on the next frame. This may be called
+	 * from any thread.
+	 */
+	public void markDirty()
+	{
+		dirtyCount.incrementAndGet();
+	}
+
+	/**
+	 * Version of the output of a retained overlay. The overlay is rendered again when this changes.
+	 * This changes each time {@link #markDirty()} is called, and overlays which can cheaply derive
+	 * a version from their state may override it instead.
+	 *
+	 * @return render version
+	 */
+	public long getRenderVersion()
+	{
+		return dirtyCount.get();
+	}
+
 	public void onMouseOver()
 	{
 	}
@@ -67,6 +67,12 @@ public abstract class OverlayPanel extends Overlay
 		setResizable(true);
 	}
 
+	public void setPreferredColor(Color preferredColor)
+	{
+		this.preferredColor = preferredColor;
+		markDirty();
+	}
+
 	@Override
 	public Dimension render(final Graphics2D graphics)
 	{
@@ -26,10 +26,12 @@ package net.runelite.client.ui.overlay;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.primitives.Ints;
+import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Composite;
 import java.awt.Cursor;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.Point;
@@ -38,6 +40,7 @@ import java.awt.RenderingHints;
 import java.awt.Stroke;
 import java.awt.event.MouseEvent;
 import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -81,6 +84,8 @@ public class OverlayRenderer extends MouseAdapter
 	private static final int BORDER_TOP = BORDER + 15;
 	private static final int PADDING = 2;
 	private static final int OVERLAY_RESIZE_TOLERANCE = 5;
+	// retained overlay images are sized in multiples of this, to avoid reallocating them on small size changes
+	private static final int RETAINED_IMAGE_GRANULARITY = 64;
 	private static final Dimension SNAP_CORNER_SIZE = new Dimension(80, 80);
 	private static final Color SNAP_CORNER_COLOR = new Color(0, 255, 255, 50);
 	private static final Color SNAP_CORNER_ACTIVE_COLOR = new Color(0, 255, 0, 100);
@@ -325,7 +330,7 @@ public class OverlayRenderer extends MouseAdapter
 				bounds.setSize(overlay.getPreferredSize());
 			}
 
-			safeRender(overlay, graphics, location);
+			final boolean modified = safeRender(overlay, graphics, location);
 
 			// Adjust snap corner based on where the overlay was drawn
 			if (snapCorner != null && bounds.width + bounds.height > 0)
@@ -334,15 +339,18 @@ public class OverlayRenderer extends MouseAdapter
 			}
 
 			// Restore graphics2d properties prior to drawing bounds
-			graphics.setTransform(transform);
-			graphics.setStroke(stroke);
-			graphics.setComposite(composite);
-			graphics.setPaint(paint);
-			graphics.setRenderingHints(renderingHints);
-			graphics.setBackground(background);
-			if (!graphics.getClip().equals(clip))
+			if (modified)
 			{
-				graphics.setClip(clip);
+				graphics.setTransform(transform);
+				graphics.setStroke(stroke);
+				graphics.setComposite(composite);
+				graphics.setPaint(paint);
+				graphics.setRenderingHints(renderingHints);
+				graphics.setBackground(background);
+				if (!graphics.getClip().equals(clip))
+				{
+					graphics.setClip(clip);
+				}
 			}
 
 			if (!bounds.isEmpty())
@@ -707,26 +715,23 @@ public class OverlayRenderer extends MouseAdapter
 		}
 	}
 
-	private void safeRender(Overlay overlay, Graphics2D graphics, Point point)
+	/**
+	 * Render an overlay at the given point
+	 *
+	 * @return whether the graphics properties may have been modified
+	 */
+	private boolean safeRender(Overlay overlay, Graphics2D graphics, Point point)
 	{
-		final OverlayPosition position = overlay.getPosition();
+		final Font font = getFont(overlay.getPosition());
+		overlay.getBounds().setLocation(point);
 
-		// Set font based on configuration
-		if (position == OverlayPosition.DYNAMIC || position == OverlayPosition.DETACHED)
+		if (overlay.isRetained() && canRetain(overlay))
 		{
-			graphics.setFont(runeLiteConfig.fontType().getFont());
-		}
-		else if (position == OverlayPosition.TOOLTIP)
-		{
-			graphics.setFont(runeLiteConfig.tooltipFontType().getFont());
-		}
-		else
-		{
-			graphics.setFont(runeLiteConfig.interfaceFontType().getFont());
+			return retainedRender(overlay, graphics, point, font);
 		}
 
+		graphics.setFont(font);
 		graphics.translate(point.x, point.y);
-		overlay.getBounds().setLocation(point);
 
 		final Dimension overlayDimension;
 		try
@@ -736,11 +741,129 @@ public class OverlayRenderer extends MouseAdapter
 		catch (Exception ex)
 		{
 			log.warn(DEDUPLICATE, "Error during overlay rendering", ex);
-			return;
+			return true;
 		}
 
 		final Dimension dimension = MoreObjects.firstNonNull(overlayDimension, new Dimension());
 		overlay.getBounds().setSize(dimension);
+		return true;
+	}
+
+	private Font getFont(OverlayPosition position)
+	{
+		// Set font based on configuration
+		if (position == OverlayPosition.DYNAMIC || position == OverlayPosition.DETACHED)
+		{
+			return runeLiteConfig.fontType().getFont();
+		}
+		else if (position == OverlayPosition.TOOLTIP)
+		{
+			return runeLiteConfig.tooltipFontType().getFont();
+		}
+		else
+		{
+			return runeLiteConfig.interfaceFontType().getFont();
+		}
+	}
+
+	/**
+	 * Whether an overlay can be rendered in retained mode. Dynamic and tooltip overlays draw
+	 * relative to the scene or the mouse, including the dynamic overlays under widgets, so
+	 * their output changes every frame.
+	 */
+	static boolean canRetain(Overlay overlay)
+	{
+		final OverlayPosition position = overlay.getPosition();
+		return position != OverlayPosition.DYNAMIC && position != OverlayPosition.TOOLTIP;
+	}
+
+	/**
+	 * Draw the image of a retained overlay, rendering it again first if it has changed.
+	 * Drawing the image does not modify the graphics properties.
+	 */
+	static boolean retainedRender(Overlay overlay, Graphics2D graphics, Point point, Font font)
+	{
+		final long version = overlay.getRenderVersion();
+		final Dimension preferredSize = overlay.getPreferredSize();
+
+		RetainedImage retained = overlay.getRetainedImage();
+		if (retained == null || !retained.isValid(version, font, preferredSize))
+		{
+			retained = renderRetained(overlay, graphics, font, version, preferredSize, retained);
+			overlay.setRetainedImage(retained);
+			if (retained == null)
+			{
+				overlay.getBounds().setSize(0, 0);
+				return false;
+			}
+		}
+
+		final Dimension dimension = retained.dimension;
+		graphics.drawImage(retained.image,
+			point.x, point.y, point.x + dimension.width, point.y + dimension.height,
+			0, 0, dimension.width, dimension.height,
+			null);
+		overlay.getBounds().setSize(dimension);
+		return false;
+	}
+
+	private static RetainedImage renderRetained(Overlay overlay, Graphics2D graphics, Font font, long version, Dimension preferredSize, RetainedImage previous)
+	{
+		BufferedImage image = previous != null ? previous.image : null;
+		int width = preferredSize != null ? preferredSize.width : 0;
+		int height = preferredSize != null ? preferredSize.height : 0;
+
+		// render again if the output grows beyond the image, as it is reallocated with the new size
+		for (int attempt = 0; ; ++attempt)
+		{
+			if (image == null || image.getWidth() < width || image.getHeight() < height)
+			{
+				image = new BufferedImage(
+					retainedImageSize(Math.max(width, image != null ? image.getWidth() : 0)),
+					retainedImageSize(Math.max(height, image != null ? image.getHeight() : 0)),
+					BufferedImage.TYPE_INT_ARGB);
+			}
+
+			final Graphics2D g = image.createGraphics();
+			final Dimension overlayDimension;
+			try
+			{
+				g.setComposite(AlphaComposite.Clear);
+				g.fillRect(0, 0, image.getWidth(), image.getHeight());
+				g.setComposite(AlphaComposite.SrcOver);
+				g.setRenderingHints(graphics.getRenderingHints());
+				g.setFont(font);
+				g.setColor(graphics.getColor());
+				g.setClip(0, 0, image.getWidth(), image.getHeight());
+
+				overlayDimension = overlay.render(g);
+			}
+			catch (Exception ex)
+			{
+				log.warn(DEDUPLICATE, "Error during overlay rendering", ex);
+				return null;
+			}
+			finally
+			{
+				g.dispose();
+			}
+
+			final Dimension dimension = MoreObjects.firstNonNull(overlayDimension, new Dimension());
+			final boolean fits = dimension.width <= image.getWidth() && dimension.height <= image.getHeight();
+			if (fits || attempt > 0)
+			{
+				final Dimension clamped = new Dimension(Math.min(dimension.width, image.getWidth()), Math.min(dimension.height, image.getHeight()));
+				return new RetainedImage(image, clamped, version, font, preferredSize == null ? null : new Dimension(preferredSize), !fits);
+			}
+
+			width = dimension.width;
+			height = dimension.height;
+		}
+	}
+
+	private static int retainedImageSize(int size)
+	{
+		return Math.max(RETAINED_IMAGE_GRANULARITY, (size + RETAINED_IMAGE_GRANULARITY - 1) / RETAINED_IMAGE_GRANULARITY * RETAINED_IMAGE_GRANULARITY);
 	}
 
 	private OverlayPosition getCorrectedOverlayPosition(final Overlay overlay)
@@ -32,8 +32,10 @@ import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
 import lombok.Getter;
 import lombok.NonNull;
@@ -76,6 +78,8 @@ public class InfoBoxOverlay extends OverlayPanel
 	@Getter
 	private final List<InfoBox> infoBoxes = new CopyOnWriteArrayList<>();
 
+	// the components of the last render, for handling mouse over between renders
+	private List<InfoBoxComponent> components = Collections.emptyList();
 	private InfoBoxComponent hoveredComponent;
 
 	InfoBoxOverlay(
@@ -97,6 +101,7 @@ public class InfoBoxOverlay extends OverlayPanel
 		setPosition(OverlayPosition.TOP_LEFT);
 		setClearChildren(false);
 		setDragTargetable(true);
+		setRetained(true);
 
 		panelComponent.setWrap(true);
 		panelComponent.setBackgroundColor(null);
@@ -111,16 +116,35 @@ public class InfoBoxOverlay extends OverlayPanel
 	}
 
 	@Override
-	public Dimension render(Graphics2D graphics)
+	public long getRenderVersion()
 	{
-		final boolean menuOpen = client.isMenuOpen();
-		if (!menuOpen)
+		long version = Objects.hash(super.getRenderVersion(), orientation, config.infoBoxSize(),
+			config.infoboxFontType(), config.infoBoxTextOutline(), config.overlayBackgroundColor());
+		for (InfoBox box : infoBoxes)
 		{
-			hoveredComponent = null;
+			int hash;
+			try
+			{
+				hash = box.render()
+					? Objects.hash(System.identityHashCode(box), box.getText(), box.getTextColor(), box.getScaledImage())
+					: 0;
+			}
+			catch (Exception ex)
+			{
+				// logged when the overlay is rendered
+				hash = -1;
+			}
+			version = version * 31 + hash;
 		}
+		return version;
+	}
 
+	@Override
+	public Dimension render(Graphics2D graphics)
+	{
 		if (infoBoxes.isEmpty())
 		{
+			components = Collections.emptyList();
 			return null;
 		}
 
@@ -169,35 +193,42 @@ public class InfoBoxOverlay extends OverlayPanel
 
 		final Dimension dimension = super.render(graphics);
 
+		final List<InfoBoxComponent> rendered = new ArrayList<>(panelComponent.getChildren().size());
+		for (final LayoutableRenderableEntity child : panelComponent.getChildren())
+		{
+			rendered.add((InfoBoxComponent) child);
+		}
+		components = rendered;
+
+		panelComponent.getChildren().clear();
+		return dimension;
+	}
+
+	@Override
+	public void onMouseOver()
+	{
 		// Handle tooltips
 		final Point mouse = new Point(client.getMouseCanvasPosition().getX(), client.getMouseCanvasPosition().getY());
 
-		for (final LayoutableRenderableEntity child : panelComponent.getChildren())
+		hoveredComponent = null;
+		for (final InfoBoxComponent component : components)
 		{
-			final InfoBoxComponent component = (InfoBoxComponent) child;
-
 			// Create intersection rectangle
 			final Rectangle intersectionRectangle = new Rectangle(component.getBounds());
 			intersectionRectangle.translate(getBounds().x, getBounds().y);
 
 			if (intersectionRectangle.contains(mouse))
 			{
-				final String tooltip = component.getTooltip();
+				final String tooltip = component.getInfoBox().getTooltip();
 				if (!Strings.isNullOrEmpty(tooltip))
 				{
 					tooltipManager.add(new Tooltip(tooltip));
 				}
 
-				if (!menuOpen)
-				{
-					hoveredComponent = component;
-				}
+				hoveredComponent = component;
 				break;
 			}
 		}
-
-		panelComponent.getChildren().clear();
-		return dimension;
 	}
 
 	@Override
@@ -24,6 +24,7 @@
  */
 package net.runelite.client.util;
 
+import java.util.Collection;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import javax.inject.Inject;
@@ -48,12 +49,24 @@ public class DeferredEventBus extends EventBus
 		eventBus.register(object);
 	}
 
+	@Override
+	public void registerAll(Collection<?> objects)
+	{
+		eventBus.registerAll(objects);
+	}
+
 	@Override
 	public void unregister(Object object)
 	{
 		eventBus.unregister(object);
 	}
 
+	@Override
+	public void unregisterAll(Collection<?> objects)
+	{
+		eventBus.unregisterAll(objects);
+	}
+
 	@Override
 	public void post(Object object)
 	{
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.callback;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.runelite.api.Client;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClientThreadTest
+{
+	@Mock
+	@Bind
+	private Client client;
+
+	@Inject
+	private ClientThread clientThread;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		lenient().when(client.isClientThread()).thenReturn(true);
+	}
+
+	@Test
+	public void testPriority()
+	{
+		List<String> order = new ArrayList<>();
+		clientThread.invokeLater(ClientThread.Priority.LOW, () -> order.add("low"));
+		clientThread.invokeLater(() -> order.add("normal"));
+		clientThread.invokeLater(ClientThread.Priority.HIGH, () -> order.add("high"));
+
+		clientThread.invoke();
+		assertEquals(Arrays.asList("high", "normal", "low"), order);
+
+		ClientThread.QueueStats stats = clientThread.getQueueStats().get(ClientThread.Priority.LOW.ordinal());
+		assertEquals(0, stats.getQueued());
+		assertEquals(1, stats.getCompleted());
+	}
+
+	@Test
+	public void testInvokeOnClientThread()
+	{
+		List<String> order = new ArrayList<>();
+		clientThread.invoke(ClientThread.Priority.LOW, () -> order.add("now"));
+		assertEquals(Arrays.asList("now"), order);
+	}
+
+	@Test
+	public void testLowPriorityBudget()
+	{
+		int[] ran = new int[1];
+		for (int i = 0; i < 10; ++i)
+		{
+			clientThread.invokeLater(ClientThread.Priority.LOW, () ->
+			{
+				try
+				{
+					Thread.sleep(1);
+				}
+				catch (InterruptedException e)
+				{
+					throw new RuntimeException(e);
+				}
+				++ran[0];
+			});
+		}
+
+		clientThread.invoke();
+		assertTrue(ran[0] >= 1 && ran[0] < 10);
+		assertEquals(1, clientThread.getQueueStats().get(ClientThread.Priority.LOW.ordinal()).getDeferred());
+
+		for (int i = 0; i < 10; ++i)
+		{
+			clientThread.invoke();
+		}
+		assertEquals(10, ran[0]);
+		assertEquals(0, clientThread.getQueueStats().get(ClientThread.Priority.LOW.ordinal()).getQueued());
+	}
+
+	@Test
+	public void testBackoff()
+	{
+		int[] calls = new int[1];
+		clientThread.invokeLater(() ->
+		{
+			++calls[0];
+			return false;
+		});
+
+		for (int i = 0; i < 20; ++i)
+		{
+			clientThread.invoke();
+		}
+
+		// every cycle for the first 8 attempts, then on cycles 9, 11 and 15
+		assertEquals(11, calls[0]);
+
+		ClientThread.QueueStats stats = clientThread.getQueueStats().get(ClientThread.Priority.NORMAL.ordinal());
+		assertEquals(1, stats.getQueued());
+		assertEquals(11, stats.getDeferred());
+	}
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+public class EventBusTest
+{
+	private static final List<String> calls = new ArrayList<>();
+
+	public static class TestEvent
+	{
+	}
+
+	public static class OtherEvent
+	{
+	}
+
+	public static class LowSubscriber
+	{
+		@Subscribe(priority = -1)
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add("low");
+		}
+	}
+
+	public static class HighSubscriber
+	{
+		@Subscribe(priority = 1)
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add("high");
+		}
+
+		@Subscribe
+		public void onOtherEvent(OtherEvent event)
+		{
+			calls.add("other");
+		}
+	}
+
+	public static class AsyncSubscriber
+	{
+		private final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+		private final CountDownLatch latch;
+		private volatile Thread thread;
+
+		AsyncSubscriber(int count)
+		{
+			latch = new CountDownLatch(count);
+		}
+
+		@Subscribe(async = true)
+		public void onAsyncEvent(AsyncEvent event)
+		{
+			thread = Thread.currentThread();
+			received.add(event.id);
+			latch.countDown();
+		}
+	}
+
+	public static class AsyncEvent
+	{
+		private final int id;
+
+		AsyncEvent(int id)
+		{
+			this.id = id;
+		}
+	}
+
+	public static class InvalidSubscriber
+	{
+		@Subscribe
+		public void onSomething(TestEvent event)
+		{
+		}
+	}
+
+	public static class ChildEvent extends TestEvent
+	{
+	}
+
+	public static class ChildSubscriber
+	{
+		@Subscribe
+		public void onChildEvent(ChildEvent event)
+		{
+			calls.add("child");
+		}
+	}
+
+	@Test
+	public void testPriority()
+	{
+		calls.clear();
+
+		EventBus eventBus = new EventBus();
+		eventBus.register(new LowSubscriber());
+		eventBus.register(new HighSubscriber());
+		eventBus.register(TestEvent.class, e -> calls.add("lambda"), 0);
+
+		eventBus.post(new TestEvent());
+		assertEquals(Arrays.asList("high", "lambda", "low"), calls);
+	}
+
+	@Test
+	public void testRegisterAll()
+	{
+		calls.clear();
+
+		LowSubscriber low = new LowSubscriber();
+		HighSubscriber high = new HighSubscriber();
+
+		EventBus eventBus = new EventBus();
+		eventBus.registerAll(Arrays.asList(low, high));
+
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+		assertEquals(Arrays.asList("high", "low", "other"), calls);
+
+		calls.clear();
+		eventBus.unregisterAll(Arrays.asList(high));
+
+		eventBus.post(new TestEvent());
+		eventBus.post(new OtherEvent());
+		assertEquals(Arrays.asList("low"), calls);
+
+		calls.clear();
+		eventBus.unregister(low);
+
+		eventBus.post(new TestEvent());
+		assertTrue(calls.isEmpty());
+	}
+
+	@Test
+	public void testRegisterAllInvalid()
+	{
+		calls.clear();
+
+		EventBus eventBus = new EventBus();
+		try
+		{
+			eventBus.registerAll(Arrays.asList(new LowSubscriber(), new InvalidSubscriber()));
+			fail();
+		}
+		catch (IllegalArgumentException ex)
+		{
+			// expected
+		}
+
+		eventBus.post(new TestEvent());
+		assertTrue(calls.isEmpty());
+	}
+
+	@Test
+	public void testRegisterAllSubclassEvent()
+	{
+		calls.clear();
+
+		EventBus eventBus = new EventBus();
+		try
+		{
+			// rejected like registering them one at a time
+			eventBus.registerAll(Arrays.asList(new LowSubscriber(), new ChildSubscriber()));
+			fail();
+		}
+		catch (IllegalArgumentException ex)
+		{
+			// expected
+		}
+
+		eventBus.post(new TestEvent());
+		eventBus.post(new ChildEvent());
+		assertTrue(calls.isEmpty());
+	}
+
+	@Test
+	public void testUnregisterSubscriber()
+	{
+		calls.clear();
+
+		EventBus eventBus = new EventBus();
+		EventBus.Subscriber first = eventBus.register(TestEvent.class, e -> calls.add("first"), 0);
+		eventBus.register(TestEvent.class, e -> calls.add("second"), 0);
+		eventBus.unregister(first);
+
+		eventBus.post(new TestEvent());
+		assertEquals(Arrays.asList("second"), calls);
+	}
+
+	@Test
+	public void testException()
+	{
+		List<Throwable> exceptions = new ArrayList<>();
+		EventBus eventBus = new EventBus(exceptions::add);
+		eventBus.register(TestEvent.class, e ->
+		{
+			throw new IllegalStateException();
+		}, 1);
+		eventBus.register(TestEvent.class, e -> calls.add("after"), 0);
+
+		calls.clear();
+		eventBus.post(new TestEvent());
+		assertEquals(1, exceptions.size());
+		assertEquals(Arrays.asList("after"), calls);
+	}
+
+	@Test
+	public void testProfiling()
+	{
+		calls.clear();
+
+		EventBus eventBus = new EventBus();
+		EventBus.Subscriber subscriber = eventBus.register(TestEvent.class, e -> calls.add("profiled"), 0);
+
+		eventBus.post(new TestEvent());
+		assertEquals(0, subscriber.getStats().getCalls());
+
+		eventBus.setProfiling(true);
+		eventBus.post(new TestEvent());
+		eventBus.post(new TestEvent());
+		eventBus.setProfiling(false);
+
+		SubscriberStats stats = subscriber.getStats();
+		assertEquals(2, stats.getCalls());
+		assertEquals(3, calls.size());
+		assertTrue(stats.getTotalNanos() >= stats.getMaxNanos());
+		assertTrue(stats.getPercentileNanos(.99) <= stats.getMaxNanos());
+
+		stats.reset();
+		assertEquals(0, stats.getCalls());
+		assertEquals(0, stats.getMaxNanos());
+	}
+
+	@Test
+	public void testAsync() throws InterruptedException
+	{
+		List<Throwable> exceptions = Collections.synchronizedList(new ArrayList<>());
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try
+		{
+			EventBus eventBus = new EventBus(exceptions::add, executor);
+			AsyncSubscriber first = new AsyncSubscriber(1000);
+			AsyncSubscriber second = new AsyncSubscriber(1000);
+			eventBus.registerAll(Arrays.asList(first, second));
+
+			List<Integer> expected = new ArrayList<>();
+			for (int i = 0; i < 1000; ++i)
+			{
+				eventBus.post(new AsyncEvent(i));
+				expected.add(i);
+			}
+
+			assertTrue(first.latch.await(10, TimeUnit.SECONDS));
+			assertTrue(second.latch.await(10, TimeUnit.SECONDS));
+			assertEquals(expected, first.received);
+			assertEquals(expected, second.received);
+			assertNotEquals(Thread.currentThread(), first.thread);
+			assertTrue(exceptions.isEmpty());
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testAsyncUnregister() throws InterruptedException
+	{
+		List<Runnable> tasks = new ArrayList<>();
+		EventBus eventBus = new EventBus(e -> fail(e.toString()), tasks::add);
+		AsyncSubscriber subscriber = new AsyncSubscriber(1);
+		eventBus.register(subscriber);
+
+		eventBus.post(new AsyncEvent(1));
+		eventBus.post(new AsyncEvent(2));
+		assertEquals(1, tasks.size());
+		assertTrue(subscriber.received.isEmpty());
+
+		eventBus.unregister(subscriber);
+		tasks.get(0).run();
+		assertTrue(subscriber.received.isEmpty());
+	}
+}
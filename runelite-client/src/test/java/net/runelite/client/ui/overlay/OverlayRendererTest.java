@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OverlayRendererTest
+{
+	private static final Font FONT = new Font(Font.DIALOG, Font.PLAIN, 12);
+
+	private static class TestOverlay extends Overlay
+	{
+		int renders;
+		Dimension size = new Dimension(20, 10);
+
+		TestOverlay()
+		{
+			setPosition(OverlayPosition.TOP_LEFT);
+			setRetained(true);
+		}
+
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			++renders;
+			graphics.setColor(Color.RED);
+			graphics.fillRect(0, 0, size.width, size.height);
+			return new Dimension(size);
+		}
+	}
+
+	private BufferedImage canvas;
+	private TestOverlay overlay;
+
+	@Before
+	public void before()
+	{
+		canvas = new BufferedImage(300, 300, BufferedImage.TYPE_INT_ARGB);
+		overlay = new TestOverlay();
+	}
+
+	@Test
+	public void testReuse()
+	{
+		assertFalse(frame(FONT));
+		assertFalse(frame(FONT));
+		assertEquals(1, overlay.renders);
+		assertEquals(new Dimension(20, 10), overlay.getBounds().getSize());
+
+		// the cached image is drawn at the location of the overlay
+		canvas = new BufferedImage(300, 300, BufferedImage.TYPE_INT_ARGB);
+		frame(FONT);
+		assertEquals(Color.RED.getRGB(), canvas.getRGB(10, 10));
+		assertEquals(Color.RED.getRGB(), canvas.getRGB(29, 19));
+		assertEquals(0, canvas.getRGB(30, 20));
+
+		overlay.markDirty();
+		frame(FONT);
+		frame(FONT);
+		assertEquals(2, overlay.renders);
+	}
+
+	@Test
+	public void testFontAndPreferredSize()
+	{
+		frame(FONT);
+		frame(FONT.deriveFont(Font.BOLD));
+		assertEquals(2, overlay.renders);
+
+		// the image is reallocated to the preferred size before rendering
+		overlay.setPreferredSize(new Dimension(100, 50));
+		frame(FONT);
+		assertEquals(3, overlay.renders);
+		assertEquals(128, overlay.getRetainedImage().image.getWidth());
+
+		// an equal preferred size reuses the image
+		overlay.setPreferredSize(new Dimension(100, 50));
+		frame(FONT);
+		assertEquals(3, overlay.renders);
+	}
+
+	@Test
+	public void testGrow()
+	{
+		frame(FONT);
+		assertEquals(1, overlay.renders);
+
+		// the output no longer fits in the image, so it is rendered again into a larger one
+		overlay.size = new Dimension(100, 70);
+		overlay.markDirty();
+		frame(FONT);
+		assertEquals(3, overlay.renders);
+		assertFalse(overlay.getRetainedImage().clipped);
+		assertEquals(new Dimension(100, 70), overlay.getBounds().getSize());
+
+		frame(FONT);
+		assertEquals(3, overlay.renders);
+	}
+
+	@Test
+	public void testClipped()
+	{
+		TestOverlay growing = new TestOverlay()
+		{
+			@Override
+			public Dimension render(Graphics2D graphics)
+			{
+				super.render(graphics);
+				// larger than the image it was rendered into
+				return new Dimension(renders * 200, 10);
+			}
+		};
+		overlay = growing;
+
+		frame(FONT);
+		assertEquals(2, overlay.renders);
+		RetainedImage retained = overlay.getRetainedImage();
+		assertTrue(retained.clipped);
+		assertEquals(retained.image.getWidth(), overlay.getBounds().width);
+
+		// clipped output is rendered again every frame
+		frame(FONT);
+		assertEquals(4, overlay.renders);
+	}
+
+	@Test
+	public void testCanRetain()
+	{
+		assertTrue(OverlayRenderer.canRetain(overlay));
+
+		overlay.setPosition(OverlayPosition.DYNAMIC);
+		assertFalse(OverlayRenderer.canRetain(overlay));
+
+		overlay.setPosition(OverlayPosition.TOOLTIP);
+		assertFalse(OverlayRenderer.canRetain(overlay));
+	}
+
+	private boolean frame(Font font)
+	{
+		Graphics2D graphics = canvas.createGraphics();
+		try
+		{
+			return OverlayRenderer.retainedRender(overlay, graphics, new Point(10, 10), font);
+		}
+		finally
+		{
+			graphics.dispose();
+		}
+	}
+}